@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import net.runelite.cache.definitions.DBRowDefinition;
+
+/**
+ * A query over the rows of a DB table, created by {@link DBQueryManager#query(int)}.
+ * <p>
+ * A row matches a condition on a column if the value at the tuple index of any of the column's
+ * fields matches, the same as the client's {@code db_find}. Rows without a value for the column use
+ * the table's default.
+ */
+public class DBQuery
+{
+	private final DBQueryManager manager;
+	private final DBQueryManager.Table table;
+	private final List<Condition> conditions = new ArrayList<>();
+
+	DBQuery(DBQueryManager manager, DBQueryManager.Table table)
+	{
+		this.manager = manager;
+		this.table = table;
+	}
+
+	/**
+	 * Only match rows with a value in the first tuple index of a column.
+	 */
+	public DBQuery where(int column, Object value)
+	{
+		return where(column, 0, value);
+	}
+
+	/**
+	 * Only match rows with a value in a column.
+	 *
+	 * @param column The column id.
+	 * @param tupleIndex The index of the value in the column's tuple.
+	 * @param value The value, an {@link Integer} or {@link String} depending on the column type.
+	 */
+	public DBQuery where(int column, int tupleIndex, Object value)
+	{
+		table.checkColumn(column, tupleIndex);
+		conditions.add(new Condition(column, tupleIndex, Objects.requireNonNull(value), null));
+		return this;
+	}
+
+	/**
+	 * Only match rows with a value in a column which passes a predicate. These are never answered
+	 * from an index, so scan the column unless another condition narrows the rows first.
+	 */
+	public DBQuery where(int column, int tupleIndex, Predicate<Object> predicate)
+	{
+		table.checkColumn(column, tupleIndex);
+		conditions.add(new Condition(column, tupleIndex, null, Objects.requireNonNull(predicate)));
+		return this;
+	}
+
+	/**
+	 * Runs the query.
+	 *
+	 * @return The ids of the matching rows, in ascending order.
+	 */
+	public int[] rows()
+	{
+		int[] candidates = null;
+		List<Condition> remaining = new ArrayList<>();
+
+		for (Condition condition : conditions)
+		{
+			int[] matched = condition.value == null ? null
+				: manager.lookup(table, condition.column, condition.tupleIndex, condition.value);
+			if (matched == null)
+			{
+				remaining.add(condition);
+			}
+			else
+			{
+				candidates = candidates == null ? matched : intersect(candidates, matched);
+			}
+		}
+
+		// with nothing narrowing the rows down, scanning the columns beats decoding each row
+		boolean scan = candidates == null;
+		if (scan)
+		{
+			candidates = table.rowIds;
+		}
+
+		int[] result = new int[candidates.length];
+		int count = 0;
+
+		for (int rowId : candidates)
+		{
+			int row = table.indexOf(rowId);
+			if (row < 0)
+			{
+				continue;
+			}
+
+			boolean match = true;
+			for (Condition condition : remaining)
+			{
+				if (!test(condition, rowId, row, scan))
+				{
+					match = false;
+					break;
+				}
+			}
+
+			if (match)
+			{
+				result[count++] = rowId;
+			}
+		}
+
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Runs the query and projects the matching rows onto some columns.
+	 *
+	 * @param columns The column ids to project.
+	 * @return For each matching row in ascending id order, the values of each requested column, which
+	 * are the column's fields one after the other as in {@link DBRowDefinition#getColumnValues()}.
+	 */
+	public List<Object[][]> select(int... columns)
+	{
+		int[] rowIds = rows();
+		List<Object[][]> result = new ArrayList<>(rowIds.length);
+
+		for (int rowId : rowIds)
+		{
+			DBRowDefinition row = manager.getRow(rowId);
+			Object[][] values = new Object[columns.length][];
+			for (int i = 0; i < columns.length; ++i)
+			{
+				values[i] = manager.getColumnValues(table, row, columns[i]);
+			}
+			result.add(values);
+		}
+
+		return result;
+	}
+
+	private boolean test(Condition condition, int rowId, int row, boolean scan)
+	{
+		if (scan || table.hasColumn(condition.column, condition.tupleIndex))
+		{
+			DBQueryManager.Column column = manager.getColumn(table, condition.column, condition.tupleIndex);
+			return condition.predicate == null ? column.contains(row, condition.value) : column.anyMatch(row, condition.predicate);
+		}
+
+		// only a few rows are left, so decode just those rather than the whole column
+		Object[] values = manager.getColumnValues(table, manager.getRow(rowId), condition.column);
+		int stride = table.definition.getTypes()[condition.column].length;
+		for (int i = condition.tupleIndex; i < values.length; i += stride)
+		{
+			if (condition.predicate == null ? condition.value.equals(values[i]) : condition.predicate.test(values[i]))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int[] intersect(int[] a, int[] b)
+	{
+		int[] result = new int[Math.min(a.length, b.length)];
+		int count = 0;
+		for (int i = 0, j = 0; i < a.length && j < b.length; )
+		{
+			if (a[i] < b[j])
+			{
+				++i;
+			}
+			else if (a[i] > b[j])
+			{
+				++j;
+			}
+			else
+			{
+				result[count++] = a[i];
+				++i;
+				++j;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	private static final class Condition
+	{
+		private final int column;
+		private final int tupleIndex;
+		private final Object value;
+		private final Predicate<Object> predicate;
+
+		private Condition(int column, int tupleIndex, Object value, Predicate<Object> predicate)
+		{
+			this.column = column;
+			this.tupleIndex = tupleIndex;
+			this.value = value;
+			this.predicate = predicate;
+		}
+	}
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.definitions.loaders.DBRowLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+
+/**
+ * Answers queries over the DB tables, see {@link #query(int)}.
+ * <p>
+ * Rows are kept encoded until a query needs them. Equality conditions on a column with a
+ * {@link DBTableIndex} are answered from the index, and other conditions scan a columnar copy
+ * of the column, which is built the first time a scan needs it.
+ */
+public class DBQueryManager
+{
+	private final Store store;
+	private final DBRowLoader rowLoader = new DBRowLoader();
+	private final Map<Integer, DBTableDefinition> tableDefinitions = new HashMap<>();
+	private final Map<Integer, DBTableIndex> indexes = new HashMap<>();
+	private final Map<Integer, byte[]> rowData = new HashMap<>();
+	private final Map<Integer, DBRowDefinition> rows = new HashMap<>();
+	private final Map<Integer, Table> tables = new HashMap<>();
+
+	public DBQueryManager(Store store)
+	{
+		this.store = store;
+	}
+
+	public void load() throws IOException
+	{
+		DBTableManager tableManager = new DBTableManager(store);
+		tableManager.load();
+		tableManager.getTables().forEach(this::addTable);
+
+		DBTableIndexManager indexManager = new DBTableIndexManager(store);
+		indexManager.load();
+		indexManager.getIndexes().forEach(this::addIndex);
+
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.DBROW.getId());
+
+		// just in case the loader is being run on a cache that doesn't have them
+		if (archive == null)
+		{
+			return;
+		}
+
+		byte[] archiveData = storage.loadArchive(archive);
+		ArchiveFiles files = archive.getFiles(archiveData);
+
+		for (FSFile f : files.getFiles())
+		{
+			addRow(f.getFileId(), f.getContents());
+		}
+	}
+
+	void addTable(DBTableDefinition table)
+	{
+		tableDefinitions.put(table.getId(), table);
+	}
+
+	void addIndex(DBTableIndex index)
+	{
+		indexes.put(index.getTableId() << 16 | index.getColumnId() + 1, index);
+	}
+
+	void addRow(int rowId, byte[] data)
+	{
+		rowData.put(rowId, data);
+	}
+
+	/**
+	 * Starts a query over the rows of a table.
+	 *
+	 * @param tableId The table to query.
+	 * @return A query matching every row of the table, narrowed with {@link DBQuery#where}.
+	 * @throws IllegalArgumentException If the table does not exist.
+	 */
+	public DBQuery query(int tableId)
+	{
+		return new DBQuery(this, getTable(tableId));
+	}
+
+	/**
+	 * Gets a row, decoding it if no query has needed it yet.
+	 *
+	 * @param rowId The row id to lookup.
+	 * @return The row, or null if it does not exist.
+	 */
+	public DBRowDefinition getRow(int rowId)
+	{
+		DBRowDefinition row = rows.get(rowId);
+		if (row == null)
+		{
+			byte[] data = rowData.get(rowId);
+			if (data == null)
+			{
+				return null;
+			}
+
+			row = rowLoader.load(rowId, data);
+			rows.put(rowId, row);
+		}
+		return row;
+	}
+
+	Table getTable(int tableId)
+	{
+		Table table = tables.get(tableId);
+		if (table == null)
+		{
+			DBTableDefinition definition = tableDefinitions.get(tableId);
+			if (definition == null)
+			{
+				throw new IllegalArgumentException("No such table " + tableId);
+			}
+
+			table = new Table(definition, findRows(tableId));
+			tables.put(tableId, table);
+		}
+		return table;
+	}
+
+	private int[] findRows(int tableId)
+	{
+		DBTableIndex master = indexes.get(tableId << 16);
+		if (master != null)
+		{
+			return master.getTupleIndexes().stream()
+				.flatMap(tuple -> tuple.values().stream())
+				.flatMap(List::stream)
+				.mapToInt(Integer::intValue)
+				.filter(rowData::containsKey)
+				.sorted()
+				.distinct()
+				.toArray();
+		}
+
+		// without a master index every row has to be decoded to find which table it is in
+		return rowData.keySet().stream()
+			.mapToInt(Integer::intValue)
+			.filter(rowId -> getRow(rowId).getTableId() == tableId)
+			.sorted()
+			.toArray();
+	}
+
+	/**
+	 * Looks up the rows with a value in a column using the column's index.
+	 *
+	 * @return The sorted row ids, or null if the column is not indexed or the index can't answer
+	 * for the value.
+	 */
+	int[] lookup(Table table, int column, int tupleIndex, Object value)
+	{
+		DBTableIndex index = indexes.get(table.definition.getId() << 16 | column + 1);
+		if (index == null || tupleIndex >= index.getTupleIndexes().size())
+		{
+			return null;
+		}
+
+		// the index only has rows which store the column themselves, not rows using the default
+		if (isDefault(table, column, tupleIndex, value))
+		{
+			return null;
+		}
+
+		List<Integer> rowIds = index.getTupleIndexes().get(tupleIndex).get(toKey(index.getTupleTypes()[tupleIndex], value));
+		if (rowIds == null)
+		{
+			return new int[0];
+		}
+
+		return rowIds.stream()
+			.mapToInt(Integer::intValue)
+			.sorted()
+			.distinct()
+			.toArray();
+	}
+
+	private static boolean isDefault(Table table, int column, int tupleIndex, Object value)
+	{
+		Object[] defaults = table.definition.getDefaultColumnValues();
+		if (defaults == null || column >= defaults.length || defaults[column] == null)
+		{
+			return false;
+		}
+
+		Object[] values = (Object[]) defaults[column];
+		int stride = table.definition.getTypes()[column].length;
+		for (int i = tupleIndex; i < values.length; i += stride)
+		{
+			if (value.equals(values[i]))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Object toKey(BaseVarType type, Object value)
+	{
+		if (value instanceof Number)
+		{
+			if (type == BaseVarType.INTEGER)
+			{
+				return ((Number) value).intValue();
+			}
+			if (type == BaseVarType.LONG)
+			{
+				return ((Number) value).longValue();
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the values of a column of a row, falling back to the table's default for the column.
+	 *
+	 * @return The values of each field of the column, one after the other.
+	 */
+	Object[] getColumnValues(Table table, DBRowDefinition row, int column)
+	{
+		table.checkColumn(column, 0);
+
+		Object[][] values = row.getColumnValues();
+		if (values != null && column < values.length && values[column] != null)
+		{
+			return values[column];
+		}
+
+		Object[] defaults = table.definition.getDefaultColumnValues();
+		if (defaults != null && column < defaults.length && defaults[column] != null)
+		{
+			return (Object[]) defaults[column];
+		}
+
+		return new Object[0];
+	}
+
+	Column getColumn(Table table, int column, int tupleIndex)
+	{
+		table.checkColumn(column, tupleIndex);
+
+		int key = column << 8 | tupleIndex;
+		Column col = table.columns.get(key);
+		if (col == null)
+		{
+			col = buildColumn(table, column, tupleIndex);
+			table.columns.put(key, col);
+		}
+		return col;
+	}
+
+	private Column buildColumn(Table table, int column, int tupleIndex)
+	{
+		int stride = table.definition.getTypes()[column].length;
+		boolean string = table.definition.getTypes()[column][tupleIndex] == ScriptVarType.STRING;
+		int[] rowIds = table.rowIds;
+
+		Object[][] rowValues = new Object[rowIds.length][];
+		int[] offsets = new int[rowIds.length + 1];
+		for (int i = 0; i < rowIds.length; ++i)
+		{
+			rowValues[i] = getColumnValues(table, getRow(rowIds[i]), column);
+			offsets[i + 1] = offsets[i] + rowValues[i].length / stride;
+		}
+
+		int[] ints = string ? null : new int[offsets[rowIds.length]];
+		String[] strings = string ? new String[offsets[rowIds.length]] : null;
+		for (int i = 0; i < rowIds.length; ++i)
+		{
+			for (int j = offsets[i], k = tupleIndex; j < offsets[i + 1]; ++j, k += stride)
+			{
+				if (string)
+				{
+					strings[j] = (String) rowValues[i][k];
+				}
+				else
+				{
+					ints[j] = (Integer) rowValues[i][k];
+				}
+			}
+		}
+
+		return new Column(offsets, ints, strings);
+	}
+
+	static final class Table
+	{
+		final DBTableDefinition definition;
+		/**
+		 * The ids of the rows in the table, in ascending order. Columns store their values in this order.
+		 */
+		final int[] rowIds;
+		private final Map<Integer, Column> columns = new HashMap<>();
+
+		private Table(DBTableDefinition definition, int[] rowIds)
+		{
+			this.definition = definition;
+			this.rowIds = rowIds;
+		}
+
+		int indexOf(int rowId)
+		{
+			return Arrays.binarySearch(rowIds, rowId);
+		}
+
+		boolean hasColumn(int column, int tupleIndex)
+		{
+			return columns.containsKey(column << 8 | tupleIndex);
+		}
+
+		void checkColumn(int column, int tupleIndex)
+		{
+			ScriptVarType[][] types = definition.getTypes();
+			if (column < 0 || types == null || column >= types.length || types[column] == null)
+			{
+				throw new IllegalArgumentException("Table " + definition.getId() + " has no column " + column);
+			}
+			if (tupleIndex < 0 || tupleIndex >= types[column].length)
+			{
+				throw new IllegalArgumentException("Column " + column + " of table " + definition.getId() + " has no tuple index " + tupleIndex);
+			}
+		}
+	}
+
+	/**
+	 * One tuple value of a column, for every row of a table. The values of the i-th row of the
+	 * table are at {@code offsets[i]} up to {@code offsets[i + 1]} of either {@code ints} or
+	 * {@code strings}, depending on the type of the column.
+	 */
+	static final class Column
+	{
+		private final int[] offsets;
+		private final int[] ints;
+		private final String[] strings;
+
+		private Column(int[] offsets, int[] ints, String[] strings)
+		{
+			this.offsets = offsets;
+			this.ints = ints;
+			this.strings = strings;
+		}
+
+		boolean contains(int row, Object value)
+		{
+			if (ints != null)
+			{
+				if (!(value instanceof Integer))
+				{
+					return false;
+				}
+
+				int v = (Integer) value;
+				for (int i = offsets[row]; i < offsets[row + 1]; ++i)
+				{
+					if (ints[i] == v)
+					{
+						return true;
+					}
+				}
+				return false;
+			}
+
+			for (int i = offsets[row]; i < offsets[row + 1]; ++i)
+			{
+				if (strings[i].equals(value))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		boolean anyMatch(int row, Predicate<Object> predicate)
+		{
+			for (int i = offsets[row]; i < offsets[row + 1]; ++i)
+			{
+				if (predicate.test(ints != null ? (Object) ints[i] : strings[i]))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -15,7 +15,13 @@ public class ModelDefinition
 	public int[] vertexX;
 	public int[] vertexY;
 	public int[] vertexZ;
-	public transient VertexNormal[] vertexNormals;
+	/**
+	 * Summed normals of the smooth shaded faces around each vertex, computed by {@link #computeNormals()}
+	 */
+	public transient int[] vertexNormalX;
+	public transient int[] vertexNormalY;
+	public transient int[] vertexNormalZ;
+	public transient int[] vertexNormalMagnitude;
 
 	public int faceCount;
 	public int[] faceIndices1;
@@ -25,14 +31,23 @@ public class ModelDefinition
 	public short[] faceColors;
 	public byte[] faceRenderPriorities;
 	public byte[] faceRenderTypes;
-	public transient FaceNormal[] faceNormals;
+	/**
+	 * Normals of the flat shaded faces, computed by {@link #computeNormals()}. Null if there are none.
+	 */
+	public transient int[] faceNormalX;
+	public transient int[] faceNormalY;
+	public transient int[] faceNormalZ;
 
 	public int numTextureFaces;
 	public short[] texIndices1;
 	public short[] texIndices2;
 	public short[] texIndices3;
-	public transient float[][] faceTextureUCoordinates;
-	public transient float[][] faceTextureVCoordinates;
+	/**
+	 * Texture coordinates of each face's three vertices, at {@code face * 3 + vertex}, computed by
+	 * {@link #computeTextureUVCoordinates()}. Null if the model is untextured.
+	 */
+	public transient float[] faceTextureUCoordinates;
+	public transient float[] faceTextureVCoordinates;
 	public short[] texturePrimaryColors;
 	public short[] faceTextures;
 	public byte[] faceZOffsets;
@@ -58,20 +73,17 @@ public class ModelDefinition
 
 	public void computeNormals()
 	{
-		if (this.vertexNormals != null)
+		if (this.vertexNormalX != null)
 		{
 			return;
 		}
 
-		this.vertexNormals = new VertexNormal[this.vertexCount];
+		final int[] normalX = new int[this.vertexCount];
+		final int[] normalY = new int[this.vertexCount];
+		final int[] normalZ = new int[this.vertexCount];
+		final int[] magnitude = new int[this.vertexCount];
 
-		int var1;
-		for (var1 = 0; var1 < this.vertexCount; ++var1)
-		{
-			this.vertexNormals[var1] = new VertexNormal();
-		}
-
-		for (var1 = 0; var1 < this.faceCount; ++var1)
+		for (int var1 = 0; var1 < this.faceCount; ++var1)
 		{
 			int vertexA = this.faceIndices1[var1];
 			int vertexB = this.faceIndices2[var1];
@@ -119,49 +131,109 @@ public class ModelDefinition
 
 			if (var15 == 0)
 			{
-				VertexNormal var16 = this.vertexNormals[vertexA];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
-
-				var16 = this.vertexNormals[vertexB];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
-
-				var16 = this.vertexNormals[vertexC];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
+				normalX[vertexA] += var11;
+				normalY[vertexA] += var12;
+				normalZ[vertexA] += var13;
+				++magnitude[vertexA];
+
+				normalX[vertexB] += var11;
+				normalY[vertexB] += var12;
+				normalZ[vertexB] += var13;
+				++magnitude[vertexB];
+
+				normalX[vertexC] += var11;
+				normalY[vertexC] += var12;
+				normalZ[vertexC] += var13;
+				++magnitude[vertexC];
 			}
 			else if (var15 == 1)
 			{
-				if (this.faceNormals == null)
+				if (this.faceNormalX == null)
 				{
-					this.faceNormals = new FaceNormal[this.faceCount];
+					this.faceNormalX = new int[this.faceCount];
+					this.faceNormalY = new int[this.faceCount];
+					this.faceNormalZ = new int[this.faceCount];
 				}
 
-				FaceNormal var17 = this.faceNormals[var1] = new FaceNormal();
-				var17.x = var11;
-				var17.y = var12;
-				var17.z = var13;
+				this.faceNormalX[var1] = var11;
+				this.faceNormalY[var1] = var12;
+				this.faceNormalZ[var1] = var13;
 			}
 		}
+
+		this.vertexNormalX = normalX;
+		this.vertexNormalY = normalY;
+		this.vertexNormalZ = normalZ;
+		this.vertexNormalMagnitude = magnitude;
 	}
 
-	public void computeTextureUVCoordinates()
+	/**
+	 * Copies the vertex normals out of {@link #vertexNormalX}, {@link #vertexNormalY}, {@link #vertexNormalZ}
+	 * and {@link #vertexNormalMagnitude}. Changes to the returned normals are not written back to the model.
+	 *
+	 * @return the vertex normals, or null if {@link #computeNormals()} hasn't been called
+	 * @deprecated read the vertex normal arrays directly
+	 */
+	@Deprecated
+	public VertexNormal[] getVertexNormals()
 	{
-		this.faceTextureUCoordinates = new float[faceCount][];
-		this.faceTextureVCoordinates = new float[faceCount][];
+		if (vertexNormalX == null)
+		{
+			return null;
+		}
+
+		VertexNormal[] normals = new VertexNormal[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			VertexNormal normal = normals[i] = new VertexNormal();
+			normal.x = vertexNormalX[i];
+			normal.y = vertexNormalY[i];
+			normal.z = vertexNormalZ[i];
+			normal.magnitude = vertexNormalMagnitude[i];
+		}
+		return normals;
+	}
 
-		if (faceTextures == null)
+	/**
+	 * Copies the face normals out of {@link #faceNormalX}, {@link #faceNormalY} and {@link #faceNormalZ}.
+	 * Only flat shaded faces have a normal, the others are null. Changes to the returned normals are not
+	 * written back to the model.
+	 *
+	 * @return the face normals, or null if there are no flat shaded faces or {@link #computeNormals()} hasn't been called
+	 * @deprecated read the face normal arrays directly
+	 */
+	@Deprecated
+	public FaceNormal[] getFaceNormals()
+	{
+		if (faceNormalX == null)
+		{
+			return null;
+		}
+
+		FaceNormal[] normals = new FaceNormal[faceCount];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			if (faceRenderTypes != null && faceRenderTypes[i] == 1)
+			{
+				FaceNormal normal = normals[i] = new FaceNormal();
+				normal.x = faceNormalX[i];
+				normal.y = faceNormalY[i];
+				normal.z = faceNormalZ[i];
+			}
+		}
+		return normals;
+	}
+
+	public void computeTextureUVCoordinates()
+	{
+		if (faceTextures == null || faceTextureUCoordinates != null)
 		{
 			return;
 		}
 
+		final float[] faceU = new float[faceCount * 3];
+		final float[] faceV = new float[faceCount * 3];
+
 		for (int i = 0; i < faceCount; i++)
 		{
 			if (faceTextures[i] == -1)
@@ -277,9 +349,16 @@ public class ModelDefinition
 				v2 = 1f;
 			}
 
-			this.faceTextureUCoordinates[i] = new float[]{u0, u1, u2};
-			this.faceTextureVCoordinates[i] = new float[]{v0, v1, v2};
+			faceU[i * 3] = u0;
+			faceU[i * 3 + 1] = u1;
+			faceU[i * 3 + 2] = u2;
+			faceV[i * 3] = v0;
+			faceV[i * 3 + 1] = v1;
+			faceV[i * 3 + 2] = v2;
 		}
+
+		this.faceTextureUCoordinates = faceU;
+		this.faceTextureVCoordinates = faceV;
 	}
 
 	public void computeAnimationTables()
@@ -300,19 +379,20 @@ public class ModelDefinition
 				}
 			}
 
-			this.vertexGroups = new int[numGroups + 1][];
+			int[][] groups = new int[numGroups + 1][];
 
 			for (var3 = 0; var3 <= numGroups; ++var3)
 			{
-				this.vertexGroups[var3] = new int[groupCounts[var3]];
+				groups[var3] = new int[groupCounts[var3]];
 				groupCounts[var3] = 0;
 			}
 
-			for (var3 = 0; var3 < this.vertexCount; this.vertexGroups[var4][groupCounts[var4]++] = var3++)
+			for (var3 = 0; var3 < this.vertexCount; groups[var4][groupCounts[var4]++] = var3++)
 			{
 				var4 = this.packedVertexGroups[var3];
 			}
 
+			this.vertexGroups = groups;
 			this.packedVertexGroups = null;
 		}
 
@@ -350,6 +430,8 @@ public class ModelDefinition
 
 	public void animate(int type, int[] frameMap, int dx, int dy, int dz)
 	{
+		computeAnimationTables();
+
 		if (origVX == null)
 		{
 			origVX = Arrays.copyOf(vertexX, vertexX.length);
@@ -572,11 +654,59 @@ public class ModelDefinition
 
 	private void reset()
 	{
-		vertexNormals = null;
-		faceNormals = null;
+		vertexNormalX = vertexNormalY = vertexNormalZ = vertexNormalMagnitude = null;
+		faceNormalX = faceNormalY = faceNormalZ = null;
 		faceTextureUCoordinates = faceTextureVCoordinates = null;
 	}
 
+	/**
+	 * Copy this model so that the copy can be resized, recolored and retextured without
+	 * changing this one. Arrays which those don't modify, and computed normals, are shared.
+	 */
+	public ModelDefinition copy()
+	{
+		ModelDefinition copy = new ModelDefinition();
+		copy.id = id;
+		copy.vertexCount = vertexCount;
+		copy.vertexX = vertexX == null ? null : vertexX.clone();
+		copy.vertexY = vertexY == null ? null : vertexY.clone();
+		copy.vertexZ = vertexZ == null ? null : vertexZ.clone();
+		copy.vertexNormalX = vertexNormalX;
+		copy.vertexNormalY = vertexNormalY;
+		copy.vertexNormalZ = vertexNormalZ;
+		copy.vertexNormalMagnitude = vertexNormalMagnitude;
+		copy.faceCount = faceCount;
+		copy.faceIndices1 = faceIndices1;
+		copy.faceIndices2 = faceIndices2;
+		copy.faceIndices3 = faceIndices3;
+		copy.faceTransparencies = faceTransparencies;
+		copy.faceColors = faceColors == null ? null : faceColors.clone();
+		copy.faceRenderPriorities = faceRenderPriorities;
+		copy.faceRenderTypes = faceRenderTypes;
+		copy.faceNormalX = faceNormalX;
+		copy.faceNormalY = faceNormalY;
+		copy.faceNormalZ = faceNormalZ;
+		copy.numTextureFaces = numTextureFaces;
+		copy.texIndices1 = texIndices1;
+		copy.texIndices2 = texIndices2;
+		copy.texIndices3 = texIndices3;
+		copy.faceTextureUCoordinates = faceTextureUCoordinates;
+		copy.faceTextureVCoordinates = faceTextureVCoordinates;
+		copy.texturePrimaryColors = texturePrimaryColors;
+		copy.faceTextures = faceTextures == null ? null : faceTextures.clone();
+		copy.faceZOffsets = faceZOffsets;
+		copy.textureCoords = textureCoords;
+		copy.textureRenderTypes = textureRenderTypes;
+		copy.packedVertexGroups = packedVertexGroups;
+		copy.packedTransparencyVertexGroups = packedTransparencyVertexGroups;
+		copy.priority = priority;
+		copy.vertexGroups = vertexGroups;
+		copy.animayaGroups = animayaGroups;
+		copy.animayaScales = animayaScales;
+		copy.maxPriority = maxPriority;
+		return copy;
+	}
+
 	public void resize(int var1, int var2, int var3)
 	{
 		for (int var4 = 0; var4 < this.vertexCount; ++var4)
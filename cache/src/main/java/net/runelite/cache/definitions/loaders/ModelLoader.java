@@ -27,10 +27,6 @@ public class ModelLoader
 			decodeOldFormat(def, b);
 		}
 
-		def.computeNormals();
-		def.computeTextureUVCoordinates();
-		def.computeAnimationTables();
-
 		return def;
 	}
 
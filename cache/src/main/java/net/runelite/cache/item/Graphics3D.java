@@ -59,6 +59,8 @@ class Graphics3D extends Rasterizer2D
 	int Rasterizer3D_clipMidY2;
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
+	// scratch space for drawing models, reused by every model drawn with this rasterizer
+	final ModelBuffers modelBuffers = new ModelBuffers();
 
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
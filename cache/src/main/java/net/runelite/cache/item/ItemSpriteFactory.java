@@ -26,195 +26,27 @@ package net.runelite.cache.item;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.definitions.providers.ModelProvider;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.definitions.providers.TextureProvider;
-import net.runelite.cache.models.FaceNormal;
-import net.runelite.cache.models.JagexColor;
-import net.runelite.cache.models.VertexNormal;
 
 public class ItemSpriteFactory
 {
+	/**
+	 * Render a single item icon. To render many icons, reuse an {@link ItemSpriteRenderer}.
+	 */
 	public static BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-			itemId, quantity, border, shadowColor, noted);
-		return spritePixels == null ? null : spritePixels.toBufferedImage();
+		return new ItemSpriteRenderer(itemProvider, modelProvider, spriteProvider, textureProvider)
+			.render(itemId, quantity, border, shadowColor, noted);
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
-		int itemId, int quantity, int border, int shadowColor,
-		boolean noted) throws IOException
-	{
-		ItemDefinition item = itemProvider.provide(itemId);
-
-		if (quantity > 1 && item.countObj != null)
-		{
-			int stackItemID = -1;
-
-			for (int i = 0; i < 10; ++i)
-			{
-				if (quantity >= item.countCo[i] && item.countCo[i] != 0)
-				{
-					stackItemID = item.countObj[i];
-				}
-			}
-
-			if (stackItemID != -1)
-			{
-				item = itemProvider.provide(stackItemID);
-			}
-		}
-
-		Model itemModel = getModel(modelProvider, item);
-		if (itemModel == null)
-		{
-			return null;
-		}
-
-		SpritePixels auxSpritePixels = null;
-		if (item.notedTemplate != -1)
-		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.notedID, 10, 1, 0, true);
-			if (auxSpritePixels == null)
-			{
-				return null;
-			}
-		}
-		else if (item.boughtTemplateId != -1)
-		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.boughtId, quantity, border, 0, false);
-			if (auxSpritePixels == null)
-			{
-				return null;
-			}
-		}
-		else if (item.placeholderTemplateId != -1)
-		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.placeholderId, quantity, 0, 0, false);
-			if (auxSpritePixels == null)
-			{
-				return null;
-			}
-		}
-
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
-		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
-		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
-		graphics.reset();
-		graphics.setRasterClipping();
-		graphics.setOffset(16, 16);
-		graphics.rasterGouraudLowRes = false;
-		if (item.placeholderTemplateId != -1)
-		{
-			auxSpritePixels.drawAtOn(graphics, 0, 0);
-		}
-
-		int zoom2d = item.zoom2d;
-		if (noted)
-		{
-			zoom2d = (int) ((double) zoom2d * 1.5D);
-		}
-		else if (border == 2)
-		{
-			zoom2d = (int) ((double) zoom2d * 1.04D);
-		}
-
-		int var17 = zoom2d * Graphics3D.SINE[item.xan2d] >> 16;
-		int var18 = zoom2d * Graphics3D.COSINE[item.xan2d] >> 16;
-
-		itemModel.calculateBoundsCylinder();
-		itemModel.projectAndDraw(graphics, 0,
-			item.yan2d,
-			item.zan2d,
-			item.xan2d,
-			item.xOffset2d,
-			itemModel.modelHeight / 2 + var17 + item.yOffset2d,
-			var18 + item.yOffset2d);
-		if (item.boughtTemplateId != -1)
-		{
-			auxSpritePixels.drawAtOn(graphics, 0, 0);
-		}
-
-		if (border >= 1)
-		{
-			spritePixels.drawBorder(1);
-		}
-
-		if (border >= 2)
-		{
-			spritePixels.drawBorder(0xffffff);
-		}
-
-		if (shadowColor != 0)
-		{
-			spritePixels.drawShadow(shadowColor);
-		}
-
-		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
-		if (item.notedTemplate != -1)
-		{
-			auxSpritePixels.drawAtOn(graphics, 0, 0);
-		}
-
-		graphics.setRasterBuffer(graphics.graphicsPixels,
-			graphics.graphicsPixelsWidth,
-			graphics.graphicsPixelsHeight);
-
-		graphics.setRasterClipping();
-		graphics.rasterGouraudLowRes = true;
-		return spritePixels;
-	}
-
-	private static Model getModel(ModelProvider modelProvider, ItemDefinition item) throws IOException
-	{
-		Model itemModel;
-		ModelDefinition inventoryModel = modelProvider.provide(item.inventoryModel);
-		if (inventoryModel == null)
-		{
-			return null;
-		}
-
-		if (item.resizeX != 128 || item.resizeY != 128 || item.resizeZ != 128)
-		{
-			inventoryModel.resize(item.resizeX, item.resizeY, item.resizeZ);
-		}
-
-		if (item.colorFind != null)
-		{
-			for (int i = 0; i < item.colorFind.length; ++i)
-			{
-				inventoryModel.recolor(item.colorFind[i], item.colorReplace[i]);
-			}
-		}
-
-		if (item.textureFind != null)
-		{
-			for (int i = 0; i < item.textureFind.length; ++i)
-			{
-				inventoryModel.retexture(item.textureFind[i], item.textureReplace[i]);
-			}
-		}
-
-		itemModel = light(inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
-		return itemModel;
-	}
-
-	private static Model light(ModelDefinition def, int ambient, int contrast, int x, int y, int z)
+	static Model light(ModelDefinition def, int ambient, int contrast, int x, int y, int z)
 	{
 		def.computeNormals();
 		int somethingMagnitude = (int) Math.sqrt((double) (z * z + x * x + y * y));
@@ -324,17 +156,15 @@ public class ItemSpriteFactory
 				faceType = 2;
 			}
 
-			VertexNormal vertexNormal;
+			int vertexIdx;
 			int tmp;
-			FaceNormal faceNormal;
 			if (faceTexture == -1)
 			{
 				if (faceType != 0)
 				{
 					if (faceType == 1)
 					{
-						faceNormal = def.faceNormals[faceIdx];
-						tmp = (y * faceNormal.y + z * faceNormal.z + x * faceNormal.x) / (var7 / 2 + var7) + ambient;
+						tmp = (y * def.faceNormalY[faceIdx] + z * def.faceNormalZ[faceIdx] + x * def.faceNormalX[faceIdx]) / (var7 / 2 + var7) + ambient;
 						litModel.faceColors1[faceIdx] = method2608(def.faceColors[faceIdx] & '\uffff', tmp);
 						litModel.faceColors3[faceIdx] = -1;
 					}
@@ -351,17 +181,17 @@ public class ItemSpriteFactory
 				else
 				{
 					int var15 = def.faceColors[faceIdx] & '\uffff';
-					vertexNormal = def.vertexNormals[def.faceIndices1[faceIdx]];
+					vertexIdx = def.faceIndices1[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalY[vertexIdx] + z * def.vertexNormalZ[vertexIdx] + x * def.vertexNormalX[vertexIdx]) / (var7 * def.vertexNormalMagnitude[vertexIdx]) + ambient;
 					litModel.faceColors1[faceIdx] = method2608(var15, tmp);
-					vertexNormal = def.vertexNormals[def.faceIndices2[faceIdx]];
+					vertexIdx = def.faceIndices2[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalY[vertexIdx] + z * def.vertexNormalZ[vertexIdx] + x * def.vertexNormalX[vertexIdx]) / (var7 * def.vertexNormalMagnitude[vertexIdx]) + ambient;
 					litModel.faceColors2[faceIdx] = method2608(var15, tmp);
-					vertexNormal = def.vertexNormals[def.faceIndices3[faceIdx]];
+					vertexIdx = def.faceIndices3[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalY[vertexIdx] + z * def.vertexNormalZ[vertexIdx] + x * def.vertexNormalX[vertexIdx]) / (var7 * def.vertexNormalMagnitude[vertexIdx]) + ambient;
 					litModel.faceColors3[faceIdx] = method2608(var15, tmp);
 				}
 			}
@@ -369,8 +199,7 @@ public class ItemSpriteFactory
 			{
 				if (faceType == 1)
 				{
-					faceNormal = def.faceNormals[faceIdx];
-					tmp = (y * faceNormal.y + z * faceNormal.z + x * faceNormal.x) / (var7 / 2 + var7) + ambient;
+					tmp = (y * def.faceNormalY[faceIdx] + z * def.faceNormalZ[faceIdx] + x * def.faceNormalX[faceIdx]) / (var7 / 2 + var7) + ambient;
 					litModel.faceColors1[faceIdx] = bound2to126(tmp);
 					litModel.faceColors3[faceIdx] = -1;
 				}
@@ -381,17 +210,17 @@ public class ItemSpriteFactory
 			}
 			else
 			{
-				vertexNormal = def.vertexNormals[def.faceIndices1[faceIdx]];
+				vertexIdx = def.faceIndices1[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalY[vertexIdx] + z * def.vertexNormalZ[vertexIdx] + x * def.vertexNormalX[vertexIdx]) / (var7 * def.vertexNormalMagnitude[vertexIdx]) + ambient;
 				litModel.faceColors1[faceIdx] = bound2to126(tmp);
-				vertexNormal = def.vertexNormals[def.faceIndices2[faceIdx]];
+				vertexIdx = def.faceIndices2[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalY[vertexIdx] + z * def.vertexNormalZ[vertexIdx] + x * def.vertexNormalX[vertexIdx]) / (var7 * def.vertexNormalMagnitude[vertexIdx]) + ambient;
 				litModel.faceColors2[faceIdx] = bound2to126(tmp);
-				vertexNormal = def.vertexNormals[def.faceIndices3[faceIdx]];
+				vertexIdx = def.faceIndices3[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalY[vertexIdx] + z * def.vertexNormalZ[vertexIdx] + x * def.vertexNormalX[vertexIdx]) / (var7 * def.vertexNormalMagnitude[vertexIdx]) + ambient;
 				litModel.faceColors3[faceIdx] = bound2to126(tmp);
 			}
 		}
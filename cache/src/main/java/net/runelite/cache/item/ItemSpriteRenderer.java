@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.models.JagexColor;
+
+/**
+ * Renders item icons, sharing the color palette, textures and decoded models between icons.
+ * Each icon being rendered takes a rasterizer from a pool, so icons can be rendered in parallel.
+ */
+@Slf4j
+public class ItemSpriteRenderer
+{
+	public static final int WIDTH = 36;
+	public static final int HEIGHT = 32;
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final int[] colorPalette;
+	// models as loaded, with normals computed. These are copied before being modified for an item.
+	private final Map<Integer, ModelDefinition> models = new ConcurrentHashMap<>();
+	private final Queue<Graphics3D> rasterizers = new ConcurrentLinkedQueue<>();
+
+	public ItemSpriteRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.textureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+		this.colorPalette = JagexColor.createPalette(JagexColor.BRIGHTNESS_MAX);
+	}
+
+	public BufferedImage render(int itemId, int quantity, int border, int shadowColor, boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = renderPixels(itemId, quantity, border, shadowColor, noted);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	/**
+	 * Render the icons of many items in parallel into one image, in rows of {@code columns} icons
+	 * of {@link #WIDTH} by {@link #HEIGHT}. The icon of {@code itemIds[i]} is at column
+	 * {@code i % columns} of row {@code i / columns}. Items which fail to render are left blank.
+	 */
+	public BufferedImage renderAtlas(int[] itemIds, int quantity, int border, int shadowColor, int columns)
+	{
+		int rows = (itemIds.length + columns - 1) / columns;
+		int atlasWidth = columns * WIDTH;
+		int[] atlas = new int[atlasWidth * Math.max(rows, 1) * HEIGHT];
+
+		IntStream.range(0, itemIds.length).parallel().forEach(i ->
+		{
+			SpritePixels spritePixels;
+			try
+			{
+				spritePixels = renderPixels(itemIds[i], quantity, border, shadowColor, false);
+			}
+			catch (IOException | RuntimeException ex)
+			{
+				log.warn("error rendering item {}", itemIds[i], ex);
+				return;
+			}
+
+			if (spritePixels == null)
+			{
+				return;
+			}
+
+			int offset = (i / columns) * HEIGHT * atlasWidth + (i % columns) * WIDTH;
+			int[] pixels = spritePixels.pixels;
+			for (int y = 0; y < HEIGHT; ++y)
+			{
+				for (int x = 0; x < WIDTH; ++x)
+				{
+					int pixel = pixels[y * WIDTH + x];
+					if (pixel != 0)
+					{
+						atlas[offset + y * atlasWidth + x] = pixel | 0xff000000;
+					}
+				}
+			}
+		});
+
+		BufferedImage img = new BufferedImage(atlasWidth, Math.max(rows, 1) * HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		img.setRGB(0, 0, img.getWidth(), img.getHeight(), atlas, 0, atlasWidth);
+		return img;
+	}
+
+	SpritePixels renderPixels(int itemId, int quantity, int border, int shadowColor, boolean noted) throws IOException
+	{
+		ItemDefinition item = itemProvider.provide(itemId);
+
+		if (quantity > 1 && item.countObj != null)
+		{
+			int stackItemID = -1;
+
+			for (int i = 0; i < 10; ++i)
+			{
+				if (quantity >= item.countCo[i] && item.countCo[i] != 0)
+				{
+					stackItemID = item.countObj[i];
+				}
+			}
+
+			if (stackItemID != -1)
+			{
+				item = itemProvider.provide(stackItemID);
+			}
+		}
+
+		Model itemModel = getModel(item);
+		if (itemModel == null)
+		{
+			return null;
+		}
+
+		SpritePixels auxSpritePixels = null;
+		if (item.notedTemplate != -1)
+		{
+			auxSpritePixels = renderPixels(item.notedID, 10, 1, 0, true);
+			if (auxSpritePixels == null)
+			{
+				return null;
+			}
+		}
+		else if (item.boughtTemplateId != -1)
+		{
+			auxSpritePixels = renderPixels(item.boughtId, quantity, border, 0, false);
+			if (auxSpritePixels == null)
+			{
+				return null;
+			}
+		}
+		else if (item.placeholderTemplateId != -1)
+		{
+			auxSpritePixels = renderPixels(item.placeholderId, quantity, 0, 0, false);
+			if (auxSpritePixels == null)
+			{
+				return null;
+			}
+		}
+
+		SpritePixels spritePixels = new SpritePixels(WIDTH, HEIGHT);
+		Graphics3D graphics = rasterizers.poll();
+		if (graphics == null)
+		{
+			graphics = new Graphics3D(textureProvider);
+			graphics.colorPalette = colorPalette;
+		}
+
+		graphics.setRasterBuffer(spritePixels.pixels, WIDTH, HEIGHT);
+		graphics.reset();
+		graphics.setRasterClipping();
+		graphics.setOffset(16, 16);
+		graphics.rasterGouraudLowRes = false;
+		if (item.placeholderTemplateId != -1)
+		{
+			auxSpritePixels.drawAtOn(graphics, 0, 0);
+		}
+
+		int zoom2d = item.zoom2d;
+		if (noted)
+		{
+			zoom2d = (int) ((double) zoom2d * 1.5D);
+		}
+		else if (border == 2)
+		{
+			zoom2d = (int) ((double) zoom2d * 1.04D);
+		}
+
+		int var17 = zoom2d * Graphics3D.SINE[item.xan2d] >> 16;
+		int var18 = zoom2d * Graphics3D.COSINE[item.xan2d] >> 16;
+
+		itemModel.calculateBoundsCylinder();
+		itemModel.projectAndDraw(graphics, 0,
+			item.yan2d,
+			item.zan2d,
+			item.xan2d,
+			item.xOffset2d,
+			itemModel.modelHeight / 2 + var17 + item.yOffset2d,
+			var18 + item.yOffset2d);
+		if (item.boughtTemplateId != -1)
+		{
+			auxSpritePixels.drawAtOn(graphics, 0, 0);
+		}
+
+		if (border >= 1)
+		{
+			spritePixels.drawBorder(1);
+		}
+
+		if (border >= 2)
+		{
+			spritePixels.drawBorder(0xffffff);
+		}
+
+		if (shadowColor != 0)
+		{
+			spritePixels.drawShadow(shadowColor);
+		}
+
+		graphics.setRasterBuffer(spritePixels.pixels, WIDTH, HEIGHT);
+		if (item.notedTemplate != -1)
+		{
+			auxSpritePixels.drawAtOn(graphics, 0, 0);
+		}
+
+		graphics.rasterGouraudLowRes = true;
+		rasterizers.add(graphics);
+		return spritePixels;
+	}
+
+	private Model getModel(ItemDefinition item) throws IOException
+	{
+		ModelDefinition model = models.get(item.inventoryModel);
+		if (model == null)
+		{
+			model = modelProvider.provide(item.inventoryModel);
+			if (model == null)
+			{
+				return null;
+			}
+
+			// most items are not resized, and share these
+			model.computeNormals();
+			ModelDefinition existing = models.putIfAbsent(item.inventoryModel, model);
+			if (existing != null)
+			{
+				model = existing;
+			}
+		}
+
+		ModelDefinition inventoryModel = model.copy();
+		if (item.resizeX != 128 || item.resizeY != 128 || item.resizeZ != 128)
+		{
+			inventoryModel.resize(item.resizeX, item.resizeY, item.resizeZ);
+		}
+
+		if (item.colorFind != null)
+		{
+			for (int i = 0; i < item.colorFind.length; ++i)
+			{
+				inventoryModel.recolor(item.colorFind[i], item.colorReplace[i]);
+			}
+		}
+
+		if (item.textureFind != null)
+		{
+			for (int i = 0; i < item.textureFind.length; ++i)
+			{
+				inventoryModel.retexture(item.textureFind[i], item.textureReplace[i]);
+			}
+		}
+
+		return ItemSpriteFactory.light(inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
+	}
+}
@@ -1,5 +1,10 @@
 package net.runelite.cache.models;
 
+/**
+ * @deprecated normals are stored in {@link net.runelite.cache.definitions.ModelDefinition#faceNormalX} and the
+ * other face normal arrays; {@link net.runelite.cache.definitions.ModelDefinition#getFaceNormals()} copies them out
+ */
+@Deprecated
 public class FaceNormal
 {
 	public int x;
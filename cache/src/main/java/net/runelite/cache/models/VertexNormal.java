@@ -1,5 +1,10 @@
 package net.runelite.cache.models;
 
+/**
+ * @deprecated normals are stored in {@link net.runelite.cache.definitions.ModelDefinition#vertexNormalX} and the
+ * other vertex normal arrays; {@link net.runelite.cache.definitions.ModelDefinition#getVertexNormals()} copies them out
+ */
+@Deprecated
 public class VertexNormal
 {
 	public int x;
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DBQueryManagerTest
+{
+	private static final int TABLE = 5;
+	private static final int OTHER_TABLE = 6;
+
+	private DBQueryManager manager;
+
+	@Before
+	public void before()
+	{
+		manager = new DBQueryManager(null);
+
+		// column 0 = id, column 1 = name, column 2 = (skill, level) pairs
+		DBTableDefinition table = new DBTableDefinition(TABLE);
+		table.setTypes(new ScriptVarType[][]{
+			{ScriptVarType.INTEGER},
+			{ScriptVarType.STRING},
+			{ScriptVarType.STAT, ScriptVarType.INTEGER},
+		});
+		table.setDefaultColumnValues(new Object[]{null, new Object[]{"unnamed"}, null});
+		manager.addTable(table);
+
+		DBTableDefinition other = new DBTableDefinition(OTHER_TABLE);
+		other.setTypes(new ScriptVarType[][]{{ScriptVarType.INTEGER}});
+		manager.addTable(other);
+
+		manager.addRow(10, row(TABLE, new Object[]{7}, new Object[]{"bronze"}, new Object[]{0, 1}));
+		manager.addRow(11, row(TABLE, new Object[]{8}, new Object[]{"iron"}, new Object[]{0, 10, 2, 5}));
+		manager.addRow(12, row(TABLE, new Object[]{7}, null, new Object[]{2, 10}));
+		manager.addRow(13, row(TABLE, new Object[]{9}, new Object[]{"steel"}, new Object[]{}));
+		manager.addRow(20, row(OTHER_TABLE, new Object[]{7}));
+
+		manager.addIndex(index(TABLE, -1, BaseVarType.INTEGER, Collections.singletonMap(0, Arrays.asList(10, 11, 12, 13))));
+		manager.addIndex(index(TABLE, 0, BaseVarType.INTEGER, Map.of(7, Arrays.asList(12, 10), 8, List.of(11), 9, List.of(13))));
+		// row 12 has no name of its own, so it is not in the index of the names
+		manager.addIndex(index(TABLE, 1, BaseVarType.STRING, Map.of("bronze", List.of(10), "iron", List.of(11), "steel", List.of(13))));
+	}
+
+	@Test
+	public void testIndexedLookup()
+	{
+		assertArrayEquals(new int[]{10, 12}, manager.query(TABLE).where(0, 7).rows());
+		assertArrayEquals(new int[]{}, manager.query(TABLE).where(0, 100).rows());
+		assertArrayEquals(new int[]{20}, manager.query(OTHER_TABLE).where(0, 7).rows());
+	}
+
+	@Test
+	public void testScan()
+	{
+		assertArrayEquals(new int[]{10, 11, 12, 13}, manager.query(TABLE).rows());
+		assertArrayEquals(new int[]{11}, manager.query(TABLE).where(1, "iron").rows());
+		// rows without the column match its default
+		assertArrayEquals(new int[]{12}, manager.query(TABLE).where(1, "unnamed").rows());
+		// any field of the column can match
+		assertArrayEquals(new int[]{11, 12}, manager.query(TABLE).where(2, 0, 2).rows());
+		assertArrayEquals(new int[]{11, 12}, manager.query(TABLE).where(2, 1, (Object level) -> (Integer) level >= 10).rows());
+	}
+
+	@Test
+	public void testIndexAndScanAgree()
+	{
+		for (int value = 6; value <= 10; ++value)
+		{
+			final int v = value;
+			assertArrayEquals(manager.query(TABLE).where(0, 0, (Object id) -> id.equals(v)).rows(),
+				manager.query(TABLE).where(0, value).rows());
+		}
+
+		for (String name : new String[]{"bronze", "iron", "steel", "unnamed", "mithril"})
+		{
+			assertArrayEquals(name, manager.query(TABLE).where(1, 0, (Object n) -> n.equals(name)).rows(),
+				manager.query(TABLE).where(1, name).rows());
+		}
+	}
+
+	@Test
+	public void testCombined()
+	{
+		assertArrayEquals(new int[]{12}, manager.query(TABLE).where(0, 7).where(2, 0, 2).rows());
+		assertArrayEquals(new int[]{}, manager.query(TABLE).where(0, 8).where(1, "bronze").rows());
+	}
+
+	@Test
+	public void testSelect()
+	{
+		List<Object[][]> result = manager.query(TABLE).where(0, 7).select(1, 2);
+		assertEquals(2, result.size());
+		assertArrayEquals(new Object[]{"bronze"}, result.get(0)[0]);
+		assertArrayEquals(new Object[]{0, 1}, result.get(0)[1]);
+		assertArrayEquals(new Object[]{"unnamed"}, result.get(1)[0]);
+		assertArrayEquals(new Object[]{2, 10}, result.get(1)[1]);
+	}
+
+	@Test
+	public void testOnlyNeededRowsDecoded()
+	{
+		// a row which fails to decode is never touched by indexed queries which do not match it
+		manager.addRow(13, new byte[]{3, 3});
+
+		assertEquals(1, manager.query(TABLE).where(0, 7).where(1, "bronze").select(1).size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownColumn()
+	{
+		manager.query(TABLE).where(3, 0);
+	}
+
+	private static byte[] row(int tableId, Object[]... columns)
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(4);
+		out.writeByte(tableId);
+
+		out.writeByte(3);
+		out.writeByte(columns.length);
+		for (int column = 0; column < columns.length; ++column)
+		{
+			if (columns[column] == null)
+			{
+				continue;
+			}
+
+			int tupleSize = column == 2 ? 2 : 1;
+			out.writeByte(column);
+			out.writeByte(tupleSize);
+			for (int i = 0; i < tupleSize; ++i)
+			{
+				out.writeByte(columns[column].length > i && columns[column][i] instanceof String ? ScriptVarType.STRING.getId() : ScriptVarType.INTEGER.getId());
+			}
+			out.writeByte(columns[column].length / tupleSize);
+			for (Object value : columns[column])
+			{
+				if (value instanceof String)
+				{
+					out.writeString((String) value);
+				}
+				else
+				{
+					out.writeInt((Integer) value);
+				}
+			}
+		}
+		out.writeByte(255);
+
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	private static DBTableIndex index(int tableId, int columnId, BaseVarType type, Map<Object, List<Integer>> values)
+	{
+		DBTableIndex index = new DBTableIndex(tableId, columnId);
+		index.setTupleTypes(new BaseVarType[]{type});
+		List<Map<Object, List<Integer>>> tuples = new ArrayList<>();
+		tuples.add(new HashMap<>(values));
+		index.setTupleIndexes(tuples);
+		return index;
+	}
+}
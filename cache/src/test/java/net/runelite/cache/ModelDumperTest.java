@@ -29,6 +29,10 @@ package net.runelite.cache;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
@@ -76,4 +80,53 @@ public class ModelDumperTest
 
 		logger.info("Dumped {} models to {}", count, modelDir);
 	}
+
+	@Test
+	@Ignore
+	public void benchmarkDecode() throws IOException
+	{
+		List<byte[]> models = new ArrayList<>();
+
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			Storage storage = store.getStorage();
+			Index index = store.getIndex(IndexType.MODELS);
+
+			for (Archive archive : index.getArchives())
+			{
+				models.add(archive.decompress(storage.loadArchive(archive)));
+			}
+		}
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		ModelLoader loader = new ModelLoader();
+
+		for (int round = 0; round < 5; ++round)
+		{
+			for (boolean derived : new boolean[]{false, true})
+			{
+				long bytes = threads.getThreadAllocatedBytes(thread);
+				long start = System.nanoTime();
+
+				for (int i = 0; i < models.size(); ++i)
+				{
+					ModelDefinition def = loader.load(i, models.get(i));
+					if (derived)
+					{
+						def.computeNormals();
+						def.computeTextureUVCoordinates();
+					}
+				}
+
+				long elapsed = System.nanoTime() - start;
+				bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+				logger.info("{} models{}: {} ms, {} models/s, {} bytes allocated per model",
+					models.size(), derived ? " with normals and uvs" : "", elapsed / 1_000_000,
+					models.size() * 1_000_000_000L / elapsed, bytes / models.size());
+			}
+		}
+	}
 }
@@ -35,7 +35,6 @@ import net.runelite.cache.SpriteManager;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.TextureManager;
 import net.runelite.cache.definitions.ItemDefinition;
-import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.definitions.providers.ModelProvider;
 import net.runelite.cache.fs.Archive;
@@ -69,25 +68,7 @@ public class ItemSpriteFactoryTest
 			itemManager.load();
 			itemManager.link();
 
-			ModelProvider modelProvider = new ModelProvider()
-			{
-				@Override
-				public ModelDefinition provide(int modelId) throws IOException
-				{
-					Index models = store.getIndex(IndexType.MODELS);
-					Archive archive = models.getArchive(modelId);
-
-					byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
-					ModelDefinition inventoryModel = new ModelLoader().load(modelId, data);
-					return inventoryModel;
-				}
-			};
-
-			SpriteManager spriteManager = new SpriteManager(store);
-			spriteManager.load();
-
-			TextureManager textureManager = new TextureManager(store);
-			textureManager.load();
+			ItemSpriteRenderer renderer = createRenderer(store, itemManager);
 
 			for (ItemDefinition itemDef : itemManager.getItems())
 			{
@@ -98,8 +79,7 @@ public class ItemSpriteFactoryTest
 
 				try
 				{
-					BufferedImage sprite = ItemSpriteFactory.createSprite(itemManager, modelProvider, spriteManager, textureManager,
-						itemDef.id, 1, 1, 3153952, false);
+					BufferedImage sprite = renderer.render(itemDef.id, 1, 1, 3153952, false);
 
 					File out = new File(outDir, itemDef.id + ".png");
 					BufferedImage img = sprite;
@@ -112,8 +92,104 @@ public class ItemSpriteFactoryTest
 					log.warn("error dumping item {}", itemDef.id, ex);
 				}
 			}
+
+			int[] itemIds = namedItems(itemManager);
+			BufferedImage atlas = renderer.renderAtlas(itemIds, 1, 1, 3153952, 64);
+			ImageIO.write(atlas, "PNG", new File(outDir, "atlas.png"));
 		}
 
 		log.info("Dumped {} item images to {}", count, outDir);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			ItemManager itemManager = new ItemManager(store);
+			itemManager.load();
+			itemManager.link();
+
+			SpriteManager spriteManager = new SpriteManager(store);
+			spriteManager.load();
+
+			TextureManager textureManager = new TextureManager(store);
+			textureManager.load();
+
+			int[] itemIds = namedItems(itemManager);
+			ModelProvider modelProvider = modelProvider(store);
+
+			long start = System.nanoTime();
+			for (int itemId : itemIds)
+			{
+				try
+				{
+					ItemSpriteFactory.createSprite(itemManager, modelProvider, spriteManager, textureManager,
+						itemId, 1, 1, 3153952, false);
+				}
+				catch (Exception ex)
+				{
+					// counted in the other runs as a blank icon too
+				}
+			}
+			long factory = System.nanoTime() - start;
+
+			ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemManager, modelProvider, spriteManager, textureManager);
+			start = System.nanoTime();
+			for (int itemId : itemIds)
+			{
+				try
+				{
+					renderer.render(itemId, 1, 1, 3153952, false);
+				}
+				catch (Exception ex)
+				{
+					// as above
+				}
+			}
+			long serial = System.nanoTime() - start;
+
+			renderer = new ItemSpriteRenderer(itemManager, modelProvider, spriteManager, textureManager);
+			start = System.nanoTime();
+			renderer.renderAtlas(itemIds, 1, 1, 3153952, 64);
+			long atlas = System.nanoTime() - start;
+
+			log.info("{} items: factory {}ms, renderer {}ms, parallel atlas {}ms", itemIds.length,
+				factory / 1_000_000, serial / 1_000_000, atlas / 1_000_000);
+		}
+	}
+
+	private static ItemSpriteRenderer createRenderer(Store store, ItemManager itemManager) throws IOException
+	{
+		SpriteManager spriteManager = new SpriteManager(store);
+		spriteManager.load();
+
+		TextureManager textureManager = new TextureManager(store);
+		textureManager.load();
+
+		return new ItemSpriteRenderer(itemManager, modelProvider(store), spriteManager, textureManager);
+	}
+
+	private static ModelProvider modelProvider(Store store)
+	{
+		return modelId ->
+		{
+			Index models = store.getIndex(IndexType.MODELS);
+			Archive archive = models.getArchive(modelId);
+
+			byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+			return new ModelLoader().load(modelId, data);
+		};
+	}
+
+	private static int[] namedItems(ItemManager itemManager)
+	{
+		return itemManager.getItems().stream()
+			.filter(itemDef -> itemDef.name != null && !itemDef.name.equalsIgnoreCase("null"))
+			.mapToInt(itemDef -> itemDef.id)
+			.toArray();
+	}
+}
@@ -69,6 +69,8 @@ public class Perspective
 
 	private static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
 
+	private static final ThreadLocal<ClickboxScratch> CLICKBOX_SCRATCH = ThreadLocal.withInitial(ClickboxScratch::new);
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -291,69 +293,9 @@ public class Perspective
 
 	private static void modelToCanvasCpu(Client client, int end, int x3dCenter, int y3dCenter, int z3dCenter, int rotate, float[] x3d, float[] y3d, float[] z3d, int[] x2d, int[] y2d)
 	{
-		final int
-			cameraPitch = client.getCameraPitch(),
-			cameraYaw = client.getCameraYaw();
-
-		final float
-			pitchSin = SINF[cameraPitch],
-			pitchCos = COSF[cameraPitch],
-			yawSin = SINF[cameraYaw],
-			yawCos = COSF[cameraYaw],
-			rotateSin = SINF[rotate],
-			rotateCos = COSF[rotate];
-
-		final int
-			cx = x3dCenter - client.getCameraX(),
-			cy = y3dCenter - client.getCameraY(),
-			cz = z3dCenter - client.getCameraZ(),
-
-			viewportXMiddle = client.getViewportWidth() / 2,
-			viewportYMiddle = client.getViewportHeight() / 2,
-			viewportXOffset = client.getViewportXOffset(),
-			viewportYOffset = client.getViewportYOffset(),
-
-			zoom3d = client.getScale();
-
-		for (int i = 0; i < end; i++)
-		{
-			float x = x3d[i];
-			float y = y3d[i];
-			float z = z3d[i];
-
-			if (rotate != 0)
-			{
-				float x0 = x;
-				x = x0 * rotateCos + y * rotateSin;
-				y = y * rotateCos - x0 * rotateSin;
-			}
-
-			x += cx;
-			y += cy;
-			z += cz;
-
-			final float
-				x1 = x * yawCos + y * yawSin,
-				y1 = y * yawCos - x * yawSin,
-				y2 = z * pitchCos - y1 * pitchSin,
-				z1 = y1 * pitchCos + z * pitchSin;
-
-			int viewX, viewY;
-
-			if (z1 < 50)
-			{
-				viewX = Integer.MIN_VALUE;
-				viewY = Integer.MIN_VALUE;
-			}
-			else
-			{
-				viewX = (int) (viewportXMiddle + x1 * zoom3d / z1) + viewportXOffset;
-				viewY = (int) (viewportYMiddle + y2 * zoom3d / z1) + viewportYOffset;
-			}
-
-			x2d[i] = viewX;
-			y2d[i] = viewY;
-		}
+		final CpuCamera camera = CLICKBOX_SCRATCH.get().camera;
+		camera.load(client);
+		camera.project(end, x3dCenter, y3dCenter, z3dCenter, rotate, x3d, y3d, z3d, x2d, y2d);
 	}
 
 	/**
@@ -812,7 +754,41 @@ public class Perspective
 			return null;
 		}
 
-		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
+		final ClickboxScratch scratch = CLICKBOX_SCRATCH.get();
+		scratch.camera.load(client);
+		return calculateClickbox(scratch, model, orientation, x, y, z);
+	}
+
+	/**
+	 * You don't want this. Use {@link TileObject#getClickbox()} instead.
+	 * <p>
+	 * Batch version of {@link #getClickbox(Client, Model, int, int, int, int)}. The camera is
+	 * only read once for the whole batch, and the projection buffers are shared between models.
+	 * @param client       the game client
+	 * @param count        the number of models to calculate clickboxes for
+	 * @param models       the models, null entries produce a null clickbox
+	 * @param orientations the orientation of each model (0-2048, where 0 is north)
+	 * @param x            x coord of each model in local space
+	 * @param y            y coord of each model in local space
+	 * @param z            z coord of each model in local space
+	 * @param out          array the clickable area of each model is written to
+	 */
+	@ApiStatus.Internal
+	public static void getClickboxes(@Nonnull Client client, int count, Model[] models, int[] orientations, int[] x, int[] y, int[] z, Shape[] out)
+	{
+		final ClickboxScratch scratch = CLICKBOX_SCRATCH.get();
+		scratch.camera.load(client);
+
+		for (int i = 0; i < count; i++)
+		{
+			final Model model = models[i];
+			out[i] = model == null ? null : calculateClickbox(scratch, model, orientations[i], x[i], y[i], z[i]);
+		}
+	}
+
+	private static Shape calculateClickbox(ClickboxScratch scratch, Model model, int orientation, int x, int y, int z)
+	{
+		SimplePolygon bounds = calculateAABB(scratch, model, orientation, x, y, z);
 
 		if (bounds == null)
 		{
@@ -824,7 +800,7 @@ public class Perspective
 			return bounds;
 		}
 
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z);
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(scratch, model, orientation, x, y, z);
 		if (bounds2d == null)
 		{
 			return null;
@@ -838,7 +814,7 @@ public class Perspective
 		return bounds2d;
 	}
 
-	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static SimplePolygon calculateAABB(ClickboxScratch scratch, Model m, int jauOrient, int x, int y, int z)
 	{
 		AABB aabb = m.getAABB(jauOrient);
 
@@ -858,35 +834,37 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		float[] xa = new float[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		float[] ya = new float[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		float[] za = new float[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
+		final float[] xa = scratch.aabbX;
+		final float[] ya = scratch.aabbY;
+		final float[] za = scratch.aabbZ;
+
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
 
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		final int[] x2d = scratch.aabbX2d;
+		final int[] y2d = scratch.aabbY2d;
 
-		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
+		scratch.camera.project(8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
+		// convexHull compacts the arrays in place, which is fine since they are rewritten on every call
 		return Jarvis.convexHull(x2d, y2d);
 	}
 
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static Shapes<SimplePolygon> calculate2DBounds(ClickboxScratch scratch, Model m, int jauOrient, int x, int y, int z)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		final int vertexCount = m.getVerticesCount();
+		scratch.ensureVertexCapacity(vertexCount);
+
+		final int[] x2d = scratch.x2d;
+		final int[] y2d = scratch.y2d;
 		final int[] faceColors3 = m.getFaceColors3();
 
-		Perspective.modelToCanvasCpu(client,
-			m.getVerticesCount(),
+		scratch.camera.project(
+			vertexCount,
 			x, y, z,
 			jauOrient,
 			m.getVerticesX(), m.getVerticesZ(), m.getVerticesY(),
@@ -894,78 +872,185 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[] indices1 = m.getFaceIndices1();
+		final int[] indices2 = m.getFaceIndices2();
+		final int[] indices3 = m.getFaceIndices3();
 
-		int vpX1 = client.getViewportXOffset();
-		int vpY1 = client.getViewportXOffset();
-		int vpX2 = vpX1 + client.getViewportWidth();
-		int vpY2 = vpY1 + client.getViewportHeight();
+		final CpuCamera camera = scratch.camera;
+		final int vpX1 = camera.viewportXOffset;
+		final int vpY1 = camera.viewportXOffset;
+		final int vpX2 = vpX1 + camera.viewportWidth;
+		final int vpY2 = vpY1 + camera.viewportHeight;
 
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getFaceCount());
+		final List<RectangleUnion.Rectangle> rects = scratch.rects;
+		final int faceCount = m.getFaceCount();
 
-		nextTri:
-		for (int tri = 0; tri < m.getFaceCount(); tri++)
+		for (int tri = 0; tri < faceCount; tri++)
 		{
 			if (faceColors3[tri] == -2)
 			{
 				continue;
 			}
 
-			int
-				minX = Integer.MAX_VALUE,
-				minY = Integer.MAX_VALUE,
-				maxX = Integer.MIN_VALUE,
-				maxY = Integer.MIN_VALUE;
-
-			for (int[] vertex : tris)
-			{
-				final int idx = vertex[tri];
-				final int xs = x2d[idx];
-				final int ys = y2d[idx];
+			final int a = indices1[tri];
+			final int b = indices2[tri];
+			final int c = indices3[tri];
 
-				if (xs == Integer.MIN_VALUE || ys == Integer.MIN_VALUE)
-				{
-					continue nextTri;
-				}
+			final int
+				xa = x2d[a], ya = y2d[a],
+				xb = x2d[b], yb = y2d[b],
+				xc = x2d[c], yc = y2d[c];
 
-				if (xs < minX)
-				{
-					minX = xs;
-				}
-				if (xs > maxX)
-				{
-					maxX = xs;
-				}
-				if (ys < minY)
-				{
-					minY = ys;
-				}
-				if (ys > maxY)
-				{
-					maxY = ys;
-				}
+			if (xa == Integer.MIN_VALUE || ya == Integer.MIN_VALUE
+				|| xb == Integer.MIN_VALUE || yb == Integer.MIN_VALUE
+				|| xc == Integer.MIN_VALUE || yc == Integer.MIN_VALUE)
+			{
+				continue;
 			}
 
-			minX -= radius;
-			minY -= radius;
-			maxX += radius;
-			maxY += radius;
+			final int
+				minX = Math.min(xa, Math.min(xb, xc)) - radius,
+				minY = Math.min(ya, Math.min(yb, yc)) - radius,
+				maxX = Math.max(xa, Math.max(xb, xc)) + radius,
+				maxY = Math.max(ya, Math.max(yb, yc)) + radius;
 
 			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
 			{
 				continue;
 			}
 
-			RectangleUnion.Rectangle r = new RectangleUnion.Rectangle(minX, minY, maxX, maxY);
+			rects.add(new RectangleUnion.Rectangle(minX, minY, maxX, maxY));
+		}
+
+		try
+		{
+			return RectangleUnion.union(rects);
+		}
+		finally
+		{
+			rects.clear();
+		}
+	}
+
+	/**
+	 * Per-thread buffers reused between clickbox calculations, so that projecting a model
+	 * does not allocate anything proportional to its vertex or face count.
+	 */
+	private static final class ClickboxScratch
+	{
+		private final CpuCamera camera = new CpuCamera();
+
+		private final float[] aabbX = new float[8];
+		private final float[] aabbY = new float[8];
+		private final float[] aabbZ = new float[8];
+		private final int[] aabbX2d = new int[8];
+		private final int[] aabbY2d = new int[8];
+
+		private int[] x2d = new int[0];
+		private int[] y2d = new int[0];
+
+		private final List<RectangleUnion.Rectangle> rects = new ArrayList<>();
+
+		private void ensureVertexCapacity(int count)
+		{
+			if (x2d.length < count)
+			{
+				// round up so models of a similar size don't cause repeated growth
+				int size = Math.max(count, x2d.length + (x2d.length >> 1));
+				x2d = new int[size];
+				y2d = new int[size];
+			}
+		}
+	}
+
+	/**
+	 * A snapshot of the cpu camera, so that projecting many points or models only reads
+	 * the camera from the client once.
+	 */
+	private static final class CpuCamera
+	{
+		private float pitchSin, pitchCos, yawSin, yawCos;
+		private int cameraX, cameraY, cameraZ;
+		private int viewportWidth, viewportHeight, viewportXOffset, viewportYOffset;
+		private int zoom3d;
+
+		private void load(Client client)
+		{
+			final int
+				cameraPitch = client.getCameraPitch(),
+				cameraYaw = client.getCameraYaw();
+
+			pitchSin = SINF[cameraPitch];
+			pitchCos = COSF[cameraPitch];
+			yawSin = SINF[cameraYaw];
+			yawCos = COSF[cameraYaw];
+
+			cameraX = client.getCameraX();
+			cameraY = client.getCameraY();
+			cameraZ = client.getCameraZ();
 
-			rects.add(r);
+			viewportWidth = client.getViewportWidth();
+			viewportHeight = client.getViewportHeight();
+			viewportXOffset = client.getViewportXOffset();
+			viewportYOffset = client.getViewportYOffset();
+
+			zoom3d = client.getScale();
 		}
 
-		return RectangleUnion.union(rects);
+		private void project(int end, int x3dCenter, int y3dCenter, int z3dCenter, int rotate, float[] x3d, float[] y3d, float[] z3d, int[] x2d, int[] y2d)
+		{
+			final float
+				rotateSin = SINF[rotate],
+				rotateCos = COSF[rotate];
+
+			final int
+				cx = x3dCenter - cameraX,
+				cy = y3dCenter - cameraY,
+				cz = z3dCenter - cameraZ,
+
+				viewportXMiddle = viewportWidth / 2,
+				viewportYMiddle = viewportHeight / 2;
+
+			for (int i = 0; i < end; i++)
+			{
+				float x = x3d[i];
+				float y = y3d[i];
+				float z = z3d[i];
+
+				if (rotate != 0)
+				{
+					float x0 = x;
+					x = x0 * rotateCos + y * rotateSin;
+					y = y * rotateCos - x0 * rotateSin;
+				}
+
+				x += cx;
+				y += cy;
+				z += cz;
+
+				final float
+					x1 = x * yawCos + y * yawSin,
+					y1 = y * yawCos - x * yawSin,
+					y2 = z * pitchCos - y1 * pitchSin,
+					z1 = y1 * pitchCos + z * pitchSin;
+
+				int viewX, viewY;
+
+				if (z1 < 50)
+				{
+					viewX = Integer.MIN_VALUE;
+					viewY = Integer.MIN_VALUE;
+				}
+				else
+				{
+					viewX = (int) (viewportXMiddle + x1 * zoom3d / z1) + viewportXOffset;
+					viewY = (int) (viewportYMiddle + y2 * zoom3d / z1) + viewportYOffset;
+				}
+
+				x2d[i] = viewX;
+				y2d[i] = viewY;
+			}
+		}
 	}
 
 	/**
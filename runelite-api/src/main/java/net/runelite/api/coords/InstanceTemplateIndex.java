@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import static net.runelite.api.Constants.CHUNK_SIZE;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+
+/**
+ * A reverse index of the instance template chunks of a scene, from template chunk to the
+ * instance chunks which use it.
+ * <p>
+ * Looking up the occurrences of a tile with {@link WorldPoint#toLocalInstance(WorldView, WorldPoint)}
+ * scans every template chunk of the scene. An index built once per scene load instead finds
+ * them with a single hash lookup, which matters when translating many points at once.
+ * <p>
+ * Coordinates are returned in the packed format of {@link WorldPoint#fromCoord(int)} by the
+ * allocation-free lookups.
+ */
+public final class InstanceTemplateIndex
+{
+	private static final int EMPTY = -1;
+
+	private static final InstanceTemplateIndex NON_INSTANCE = new InstanceTemplateIndex();
+
+	private final boolean instance;
+	private final int baseX;
+	private final int baseY;
+
+	/**
+	 * Open addressed hash table of template chunk keys, and the ranges of {@link #chunks}
+	 * holding the instance chunks for each
+	 */
+	private final int[] keys;
+	private final int[] starts;
+	private final int[] counts;
+
+	/**
+	 * Instance chunks, packed as rotation << 24 | z << 16 | x << 8 | y
+	 */
+	private final int[] chunks;
+
+	private InstanceTemplateIndex()
+	{
+		instance = false;
+		baseX = baseY = 0;
+		keys = starts = counts = chunks = new int[0];
+	}
+
+	/**
+	 * Builds an index of instance template chunks
+	 *
+	 * @param instanceTemplateChunks the template chunks, in the format of {@link WorldView#getInstanceTemplateChunks()}
+	 * @param baseX the base x coordinate of the scene
+	 * @param baseY the base y coordinate of the scene
+	 */
+	public InstanceTemplateIndex(int[][][] instanceTemplateChunks, int baseX, int baseY)
+	{
+		this.instance = true;
+		this.baseX = baseX;
+		this.baseY = baseY;
+
+		int total = 0;
+		for (int[][] plane : instanceTemplateChunks)
+		{
+			for (int[] column : plane)
+			{
+				total += column.length;
+			}
+		}
+
+		int capacity = Integer.highestOneBit(Math.max(total, 1)) << 2;
+		keys = new int[capacity];
+		starts = new int[capacity];
+		counts = new int[capacity];
+		chunks = new int[total];
+		Arrays.fill(keys, EMPTY);
+
+		// count the instance chunks of each template chunk
+		for (int[][] plane : instanceTemplateChunks)
+		{
+			for (int[] column : plane)
+			{
+				for (int chunkData : column)
+				{
+					++counts[insert(key(chunkData))];
+				}
+			}
+		}
+
+		int start = 0;
+		for (int i = 0; i < capacity; ++i)
+		{
+			starts[i] = start;
+			start += counts[i];
+			counts[i] = 0;
+		}
+
+		// fill in scan order, so lookups return chunks in the same order as WorldPoint.toLocalInstance
+		for (int z = 0; z < instanceTemplateChunks.length; ++z)
+		{
+			for (int x = 0; x < instanceTemplateChunks[z].length; ++x)
+			{
+				for (int y = 0; y < instanceTemplateChunks[z][x].length; ++y)
+				{
+					int chunkData = instanceTemplateChunks[z][x][y];
+					int slot = insert(key(chunkData));
+					int rotation = chunkData >> 1 & 0x3;
+					chunks[starts[slot] + counts[slot]++] = rotation << 24 | z << 16 | x << 8 | y;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Builds an index of the instance template chunks of a world view. If the world view is
+	 * not an instance, points translate to themselves.
+	 */
+	public static InstanceTemplateIndex of(WorldView wv)
+	{
+		return wv.isInstance() ? new InstanceTemplateIndex(wv.getInstanceTemplateChunks(), wv.getBaseX(), wv.getBaseY()) : NON_INSTANCE;
+	}
+
+	/**
+	 * Builds an index of the instance template chunks of a scene. If the scene is not an
+	 * instance, points translate to themselves.
+	 */
+	public static InstanceTemplateIndex of(Scene scene)
+	{
+		return scene.isInstance() ? new InstanceTemplateIndex(scene.getInstanceTemplateChunks(), scene.getBaseX(), scene.getBaseY()) : NON_INSTANCE;
+	}
+
+	/**
+	 * Counts the occurrences of a template tile in the instance.
+	 */
+	public int count(int x, int y, int plane)
+	{
+		if (!instance)
+		{
+			return 1;
+		}
+
+		int slot = find(x, y, plane);
+		return slot == -1 ? 0 : counts[slot];
+	}
+
+	/**
+	 * Gets the occurrences of a template tile in the instance, without allocating.
+	 *
+	 * @param x template x coordinate
+	 * @param y template y coordinate
+	 * @param plane template plane
+	 * @param out array to write the packed coordinates to
+	 * @param offset offset into out to start writing at
+	 * @return the number of occurrences, which may be more than were written if out is too small
+	 */
+	public int toLocalInstance(int x, int y, int plane, int[] out, int offset)
+	{
+		if (!instance)
+		{
+			if (offset < out.length)
+			{
+				out[offset] = pack(x, y, plane);
+			}
+			return 1;
+		}
+
+		int slot = find(x, y, plane);
+		if (slot == -1)
+		{
+			return 0;
+		}
+
+		int count = counts[slot];
+		int end = Math.min(count, out.length - offset);
+		for (int i = 0; i < end; ++i)
+		{
+			out[offset + i] = translate(chunks[starts[slot] + i], x, y);
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the occurrences of a tile on the scene, accounting for instances.
+	 *
+	 * @see WorldPoint#toLocalInstance(WorldView, WorldPoint)
+	 */
+	public Collection<WorldPoint> toLocalInstance(WorldPoint worldPoint)
+	{
+		if (!instance)
+		{
+			return Collections.singleton(worldPoint);
+		}
+
+		int slot = find(worldPoint.getX(), worldPoint.getY(), worldPoint.getPlane());
+		if (slot == -1)
+		{
+			return Collections.emptyList();
+		}
+
+		List<WorldPoint> worldPoints = new ArrayList<>(counts[slot]);
+		addLocalInstance(slot, worldPoint, worldPoints);
+		return worldPoints;
+	}
+
+	/**
+	 * Gets the occurrences of many tiles on the scene, accounting for instances. The occurrences
+	 * are returned in the order of the given points.
+	 */
+	public List<WorldPoint> toLocalInstance(Collection<WorldPoint> worldPoints)
+	{
+		if (!instance)
+		{
+			return new ArrayList<>(worldPoints);
+		}
+
+		List<WorldPoint> localPoints = new ArrayList<>(worldPoints.size());
+		for (WorldPoint worldPoint : worldPoints)
+		{
+			int slot = find(worldPoint.getX(), worldPoint.getY(), worldPoint.getPlane());
+			if (slot != -1)
+			{
+				addLocalInstance(slot, worldPoint, localPoints);
+			}
+		}
+		return localPoints;
+	}
+
+	private void addLocalInstance(int slot, WorldPoint worldPoint, List<WorldPoint> out)
+	{
+		for (int i = starts[slot], end = i + counts[slot]; i < end; ++i)
+		{
+			out.add(WorldPoint.fromCoord(translate(chunks[i], worldPoint.getX(), worldPoint.getY())));
+		}
+	}
+
+	private int translate(int chunk, int x, int y)
+	{
+		int rotation = chunk >>> 24;
+		int z = chunk >> 16 & 0xFF;
+		int px = baseX + (chunk >> 8 & 0xFF) * CHUNK_SIZE + (x & (CHUNK_SIZE - 1));
+		int py = baseY + (chunk & 0xFF) * CHUNK_SIZE + (y & (CHUNK_SIZE - 1));
+
+		// rotate the coordinates in the chunk according to the chunk rotation
+		int chunkX = px & ~(CHUNK_SIZE - 1);
+		int chunkY = py & ~(CHUNK_SIZE - 1);
+		int localX = px & (CHUNK_SIZE - 1);
+		int localY = py & (CHUNK_SIZE - 1);
+		switch (rotation)
+		{
+			case 1:
+				return pack(chunkX + localY, chunkY + (CHUNK_SIZE - 1 - localX), z);
+			case 2:
+				return pack(chunkX + (CHUNK_SIZE - 1 - localX), chunkY + (CHUNK_SIZE - 1 - localY), z);
+			case 3:
+				return pack(chunkX + (CHUNK_SIZE - 1 - localY), chunkY + localX, z);
+			default:
+				return pack(px, py, z);
+		}
+	}
+
+	private int find(int x, int y, int plane)
+	{
+		if (x < 0 || y < 0 || plane < 0 || plane > 3)
+		{
+			return -1;
+		}
+
+		int chunkX = x / CHUNK_SIZE;
+		int chunkY = y / CHUNK_SIZE;
+		if (chunkX > 0x3FF || chunkY > 0x7FF)
+		{
+			return -1;
+		}
+
+		return lookup(plane << 21 | chunkX << 11 | chunkY);
+	}
+
+	/**
+	 * Finds the slot of a key in the hash table, claiming an empty slot for it if it is not present
+	 */
+	private int insert(int key)
+	{
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (keys[slot] != key)
+		{
+			if (keys[slot] == EMPTY)
+			{
+				keys[slot] = key;
+				break;
+			}
+			slot = slot + 1 & mask;
+		}
+		return slot;
+	}
+
+	private int lookup(int key)
+	{
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (keys[slot] != key)
+		{
+			if (keys[slot] == EMPTY)
+			{
+				return -1;
+			}
+			slot = slot + 1 & mask;
+		}
+		return slot;
+	}
+
+	private static int key(int chunkData)
+	{
+		int templateChunkY = chunkData >> 3 & 0x7FF;
+		int templateChunkX = chunkData >> 14 & 0x3FF;
+		int plane = chunkData >> 24 & 0x3;
+		return plane << 21 | templateChunkX << 11 | templateChunkY;
+	}
+
+	private static int hash(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ h >>> 16;
+	}
+
+	private static int pack(int x, int y, int plane)
+	{
+		return plane << 28 | x << 14 | y;
+	}
+}
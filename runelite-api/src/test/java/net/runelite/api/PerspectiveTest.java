@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class PerspectiveTest
+{
+	private static final int MODELS = 64;
+
+	@Test
+	public void testBatchMatchesSingle()
+	{
+		Client client = client();
+		Random random = new Random(26);
+
+		Model[] models = new Model[MODELS];
+		int[] orientations = new int[MODELS];
+		int[] xs = new int[MODELS];
+		int[] ys = new int[MODELS];
+		int[] zs = new int[MODELS];
+		for (int i = 0; i < MODELS; i++)
+		{
+			models[i] = model(random, 8 + random.nextInt(400), 4 + random.nextInt(600), i % 7 == 0);
+			orientations[i] = random.nextInt(2048);
+			xs[i] = 6400 + random.nextInt(1024) - 512;
+			ys[i] = 6400 + random.nextInt(1024);
+			zs[i] = 0;
+		}
+
+		Shape[] batch = new Shape[MODELS];
+		Perspective.getClickboxes(client, MODELS, models, orientations, xs, ys, zs, batch);
+
+		for (int i = 0; i < MODELS; i++)
+		{
+			Shape single = Perspective.getClickbox(client, models[i], orientations[i], xs[i], ys[i], zs[i]);
+			assertEquals(path(single), path(batch[i]));
+		}
+	}
+
+	@Test
+	public void testScratchReuse()
+	{
+		Client client = client();
+		Random random = new Random(27);
+		Model small = model(random, 12, 8, false);
+		Model large = model(random, 2000, 3000, false);
+
+		Shape before = Perspective.getClickbox(client, small, 0, 6400, 6600, 0);
+		assertNotNull(before);
+		Perspective.getClickbox(client, large, 512, 6400, 6600, 0);
+		Shape after = Perspective.getClickbox(client, small, 0, 6400, 6600, 0);
+
+		// growing and reusing the scratch buffers must not leak state into later calls
+		assertEquals(path(before), path(after));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		Client client = client();
+		Random random = new Random(28);
+
+		Model[] models = new Model[MODELS];
+		int[] orientations = new int[MODELS];
+		int[] xs = new int[MODELS];
+		int[] ys = new int[MODELS];
+		int[] zs = new int[MODELS];
+		for (int i = 0; i < MODELS; i++)
+		{
+			models[i] = model(random, 600, 1000, false);
+			xs[i] = 6400 + random.nextInt(1024) - 512;
+			ys[i] = 6400 + random.nextInt(1024);
+		}
+
+		Shape[] out = new Shape[MODELS];
+		for (int iteration = 0; iteration < 5; iteration++)
+		{
+			long start = System.nanoTime();
+			for (int frame = 0; frame < 100; frame++)
+			{
+				for (int i = 0; i < MODELS; i++)
+				{
+					out[i] = Perspective.getClickbox(client, models[i], orientations[i], xs[i], ys[i], zs[i]);
+				}
+			}
+			long single = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int frame = 0; frame < 100; frame++)
+			{
+				Perspective.getClickboxes(client, MODELS, models, orientations, xs, ys, zs, out);
+			}
+			long batch = System.nanoTime() - start;
+
+			log.info("single: {}us/frame batch: {}us/frame", single / 100_000, batch / 100_000);
+		}
+	}
+
+	@Test
+	public void testMatchesPreviousClickbox()
+	{
+		Client client = client();
+		Random random = new Random(3);
+		Model hull = model(random, 6, 4, false);
+		Model box = model(random, 6, 4, true);
+
+		// outlines computed by the clickbox calculation from before the projection buffers were reused
+		assertArrayEquals(new int[]{
+			417, 78, 417, 111, 385, 111, 385, 157, 342, 157, 342, 56, 385, 56, 385, 78, 417, 78
+		}, vertices(Perspective.getClickbox(client, hull, 300, 6400, 6600, 0)));
+		assertArrayEquals(new int[]{
+			335, 23, 327, 68, 336, 180, 435, 180, 444, 68, 436, 23, 335, 23
+		}, vertices(Perspective.getClickbox(client, box, 0, 6400, 6600, 0)));
+	}
+
+	private static int[] vertices(Shape shape)
+	{
+		assertNotNull(shape);
+
+		List<Integer> vertices = new ArrayList<>();
+		float[] coords = new float[6];
+		for (PathIterator it = shape.getPathIterator(null); !it.isDone(); it.next())
+		{
+			if (it.currentSegment(coords) != PathIterator.SEG_CLOSE)
+			{
+				vertices.add((int) coords[0]);
+				vertices.add((int) coords[1]);
+			}
+		}
+		return vertices.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static List<String> path(Shape shape)
+	{
+		if (shape == null)
+		{
+			return null;
+		}
+
+		List<String> segments = new ArrayList<>();
+		float[] coords = new float[6];
+		for (PathIterator it = shape.getPathIterator(null); !it.isDone(); it.next())
+		{
+			int type = it.currentSegment(coords);
+			segments.add(type + Arrays.toString(coords));
+		}
+		return segments;
+	}
+
+	private static Client client()
+	{
+		return (Client) Proxy.newProxyInstance(PerspectiveTest.class.getClassLoader(), new Class[]{Client.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "isGpu":
+					return false;
+				case "getCameraPitch":
+					return 256;
+				case "getCameraYaw":
+					return 0;
+				case "getCameraX":
+					return 6400;
+				case "getCameraY":
+					return 5400;
+				case "getCameraZ":
+					return -800;
+				case "getViewportWidth":
+					return 765;
+				case "getViewportHeight":
+					return 503;
+				case "getViewportXOffset":
+				case "getViewportYOffset":
+					return 4;
+				case "getScale":
+					return 512;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	private static Model model(Random random, int vertexCount, int faceCount, boolean useBoundingBox)
+	{
+		float[] verticesX = new float[vertexCount];
+		float[] verticesY = new float[vertexCount];
+		float[] verticesZ = new float[vertexCount];
+		for (int i = 0; i < vertexCount; i++)
+		{
+			verticesX[i] = random.nextInt(256) - 128;
+			verticesY[i] = -random.nextInt(300);
+			verticesZ[i] = random.nextInt(256) - 128;
+		}
+
+		int[] indices1 = new int[faceCount];
+		int[] indices2 = new int[faceCount];
+		int[] indices3 = new int[faceCount];
+		int[] colors3 = new int[faceCount];
+		for (int i = 0; i < faceCount; i++)
+		{
+			indices1[i] = random.nextInt(vertexCount);
+			indices2[i] = random.nextInt(vertexCount);
+			indices3[i] = random.nextInt(vertexCount);
+			colors3[i] = random.nextInt(16) == 0 ? -2 : 0;
+		}
+
+		AABB aabb = (AABB) Proxy.newProxyInstance(PerspectiveTest.class.getClassLoader(), new Class[]{AABB.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getCenterX":
+				case "getCenterZ":
+					return 0;
+				case "getCenterY":
+					return -150;
+				case "getExtremeX":
+				case "getExtremeZ":
+					return 128;
+				case "getExtremeY":
+					return 150;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+
+		return (Model) Proxy.newProxyInstance(PerspectiveTest.class.getClassLoader(), new Class[]{Model.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getVerticesCount":
+					return vertexCount;
+				case "getVerticesX":
+					return verticesX;
+				case "getVerticesY":
+					return verticesY;
+				case "getVerticesZ":
+					return verticesZ;
+				case "getFaceCount":
+					return faceCount;
+				case "getFaceIndices1":
+					return indices1;
+				case "getFaceIndices2":
+					return indices2;
+				case "getFaceIndices3":
+					return indices3;
+				case "getFaceColors3":
+					return colors3;
+				case "getAABB":
+					return aabb;
+				case "useBoundingBox":
+					return useBoundingBox;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import static net.runelite.api.Constants.CHUNK_SIZE;
+import net.runelite.api.Scene;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class InstanceTemplateIndexTest
+{
+	private static final int BASE_X = 6400;
+	private static final int BASE_Y = 4416;
+
+	@Test
+	public void testMatchesWorldPoint()
+	{
+		Random random = new Random(42);
+		for (int iteration = 0; iteration < 8; ++iteration)
+		{
+			// draw the template chunks from a small pool so that templates are reused
+			int[] pool = new int[12];
+			for (int i = 0; i < pool.length; ++i)
+			{
+				pool[i] = chunkData(400 + random.nextInt(8), 400 + random.nextInt(8), random.nextInt(4), 0);
+			}
+
+			int[][][] chunks = new int[4][13][13];
+			for (int z = 0; z < 4; ++z)
+			{
+				for (int x = 0; x < 13; ++x)
+				{
+					for (int y = 0; y < 13; ++y)
+					{
+						chunks[z][x][y] = random.nextInt(10) == 0 ? -1 : pool[random.nextInt(pool.length)] | random.nextInt(4) << 1;
+					}
+				}
+			}
+
+			Scene scene = scene(chunks);
+			InstanceTemplateIndex index = InstanceTemplateIndex.of(scene);
+			int[] packed = new int[4 * 13 * 13];
+			List<WorldPoint> templatePoints = new ArrayList<>();
+			List<WorldPoint> expectedBulk = new ArrayList<>();
+			for (int plane = 0; plane < 4; ++plane)
+			{
+				// cover the pool and the tiles just outside of it
+				for (int x = 400 * CHUNK_SIZE - 1; x <= 408 * CHUNK_SIZE; ++x)
+				{
+					for (int y = 400 * CHUNK_SIZE - 1; y <= 408 * CHUNK_SIZE; ++y)
+					{
+						WorldPoint templatePoint = new WorldPoint(x, y, plane);
+						Collection<WorldPoint> expected = WorldPoint.toLocalInstance(scene, templatePoint);
+						assertEquals(expected, index.toLocalInstance(templatePoint));
+						assertEquals(expected.size(), index.count(x, y, plane));
+
+						int count = index.toLocalInstance(x, y, plane, packed, 0);
+						assertEquals(expected.size(), count);
+						List<WorldPoint> unpacked = new ArrayList<>();
+						for (int i = 0; i < count; ++i)
+						{
+							unpacked.add(WorldPoint.fromCoord(packed[i]));
+						}
+						assertEquals(expected, unpacked);
+
+						if ((x + y) % 7 == 0)
+						{
+							templatePoints.add(templatePoint);
+							expectedBulk.addAll(expected);
+						}
+					}
+				}
+			}
+
+			assertEquals(expectedBulk, index.toLocalInstance(templatePoints));
+		}
+	}
+
+	@Test
+	public void testNonInstance()
+	{
+		Scene scene = (Scene) Proxy.newProxyInstance(Scene.class.getClassLoader(), new Class<?>[]{Scene.class},
+			(proxy, method, args) -> method.getName().equals("isInstance") ? false : null);
+		InstanceTemplateIndex index = InstanceTemplateIndex.of(scene);
+
+		WorldPoint point = new WorldPoint(3222, 3218, 0);
+		assertEquals(List.of(point), new ArrayList<>(index.toLocalInstance(point)));
+		assertEquals(List.of(point), index.toLocalInstance(List.of(point)));
+		assertEquals(1, index.count(3222, 3218, 0));
+
+		int[] packed = new int[1];
+		assertEquals(1, index.toLocalInstance(3222, 3218, 0, packed, 0));
+		assertEquals(point, WorldPoint.fromCoord(packed[0]));
+	}
+
+	@Test
+	public void testOutputTooSmall()
+	{
+		int template = chunkData(401, 402, 0, 0);
+		int[][][] chunks = new int[4][13][13];
+		for (int[][] plane : chunks)
+		{
+			for (int[] column : plane)
+			{
+				Arrays.fill(column, -1);
+			}
+		}
+		chunks[0][1][1] = template;
+		chunks[0][5][7] = template | 1 << 1;
+		chunks[2][3][3] = template | 2 << 1;
+
+		InstanceTemplateIndex index = new InstanceTemplateIndex(chunks, BASE_X, BASE_Y);
+		int x = 401 * CHUNK_SIZE + 2;
+		int y = 402 * CHUNK_SIZE + 5;
+
+		int[] packed = {-1, -1, -1};
+		assertEquals(3, index.toLocalInstance(x, y, 0, packed, 1));
+		assertArrayEquals(new int[]{
+			-1,
+			pack(BASE_X + CHUNK_SIZE + 2, BASE_Y + CHUNK_SIZE + 5, 0),
+			// rotated once: (x, y) -> (y, 7 - x)
+			pack(BASE_X + 5 * CHUNK_SIZE + 5, BASE_Y + 7 * CHUNK_SIZE + 5, 0),
+		}, packed);
+		assertEquals(0, index.toLocalInstance(x, y, 1, packed, 0));
+	}
+
+	private static int chunkData(int chunkX, int chunkY, int plane, int rotation)
+	{
+		return plane << 24 | chunkX << 14 | chunkY << 3 | rotation << 1;
+	}
+
+	private static int pack(int x, int y, int plane)
+	{
+		return plane << 28 | x << 14 | y;
+	}
+
+	private static Scene scene(int[][][] chunks)
+	{
+		return (Scene) Proxy.newProxyInstance(Scene.class.getClassLoader(), new Class<?>[]{Scene.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "isInstance":
+					return true;
+				case "getInstanceTemplateChunks":
+					return chunks;
+				case "getBaseX":
+					return BASE_X;
+				case "getBaseY":
+					return BASE_Y;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+}
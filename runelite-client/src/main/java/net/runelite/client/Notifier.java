@@ -42,6 +42,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Named;
@@ -468,24 +469,32 @@ public class Notifier
 		float volume = notification.getVolume() / 100f;
 		float gainDB = (float) Math.log10(volume) * 20;
 
+		CompletableFuture<Void> playback;
 		try
 		{
 			if (notification.getSoundName() != null)
 			{
-				audioPlayer.play(new File(NOTIFICATIONS_DIR, notification.getSoundName()), gainDB);
+				playback = audioPlayer.playAsync(new File(NOTIFICATIONS_DIR, notification.getSoundName()), gainDB);
 			}
 			else if (NOTIFICATION_FILE.exists())
 			{
-				audioPlayer.play(NOTIFICATION_FILE, gainDB);
+				playback = audioPlayer.playAsync(NOTIFICATION_FILE, gainDB);
 			}
 			else
 			{
-				audioPlayer.play(Notifier.class, "notification.wav", gainDB);
+				playback = audioPlayer.playAsync(Notifier.class, "notification.wav", gainDB);
 			}
 		}
 		catch (Exception e)
 		{
 			log.warn("Unable to play notification sound", e);
+			return;
 		}
+
+		playback.exceptionally(e ->
+		{
+			log.warn("Unable to play notification sound", e);
+			return null;
+		});
 	}
 }
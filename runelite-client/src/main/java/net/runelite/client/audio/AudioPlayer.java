@@ -24,48 +24,124 @@
  */
 package net.runelite.client.audio;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javax.inject.Inject;
 import javax.inject.Singleton;
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.DataLine;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.Line;
-import javax.sound.sampled.LineEvent;
 import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
 import javax.sound.sampled.UnsupportedAudioFileException;
-import lombok.extern.slf4j.Slf4j;
+import lombok.Value;
 
 /**
  * General audio playback manager.
  * Not all audio formats are supported. Refer to {@link javax.sound.sampled.AudioFileFormat.Type} for a list of
  * formats supported by the sound system.
+ * <p>
+ * Sounds played from files and resources are decoded once to 16-bit PCM and cached. Gain is applied in software,
+ * and playback goes through a small pool of output lines which are kept open between sounds, so sounds played in
+ * quick succession neither decode again nor open a new line. Sounds played while every line is busy are dropped.
+ * <p>
+ * Playback is asynchronous. The play methods throw if no line is free, and the playAsync methods instead report
+ * this, and any failure while playing, through the returned future.
  */
 @Singleton
-@Slf4j
 public class AudioPlayer
 {
-	// We RETAIN one line in the "open" state at all times so a gain control persists in output mixing tools.
-	private Line prevLine;
+	/**
+	 * Maximum number of output lines, which is also the maximum number of sounds playing at once
+	 */
+	@VisibleForTesting
+	static final int MAX_LINES = 4;
+
+	/**
+	 * Maximum size of the decoded PCM cache, in bytes
+	 */
+	private static final int MAX_CACHE_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Size of the output line buffers, in milliseconds of audio
+	 */
+	private static final int LINE_BUFFER_MS = 100;
+
+	/**
+	 * Size of the buffer samples are scaled into before being written to a line, in bytes
+	 */
+	@VisibleForTesting
+	static final int GAIN_BUFFER_SIZE = 8192;
+
+	@FunctionalInterface
+	interface LineProvider
+	{
+		SourceDataLine getLine(AudioFormat format) throws LineUnavailableException;
+	}
+
+	@Value
+	static class Sound
+	{
+		/**
+		 * Signed 16-bit little endian PCM format of the sound
+		 */
+		AudioFormat format;
+		byte[] pcm;
+	}
+
+	private final LineProvider lineProvider;
+	private final Executor executor;
+	private final Cache<String, Sound> sounds = CacheBuilder.newBuilder()
+		.maximumWeight(MAX_CACHE_SIZE)
+		.<String, Sound>weigher((k, v) -> v.getPcm().length)
+		.build();
+
+	// We RETAIN the idle lines in the "open" state so their volume persists in output mixing tools.
+	private final Deque<SourceDataLine> idleLines = new ArrayDeque<>();
+	private int openLines;
+	// each playback thread scales samples into its own buffer
+	private final ThreadLocal<byte[]> gainBuffers = ThreadLocal.withInitial(() -> new byte[GAIN_BUFFER_SIZE]);
+
+	@Inject
+	public AudioPlayer()
+	{
+		this(AudioSystem::getSourceDataLine, Executors.newFixedThreadPool(MAX_LINES, new ThreadFactoryBuilder()
+			.setNameFormat("Audio player %d")
+			.setDaemon(true)
+			.build()));
+	}
+
+	@VisibleForTesting
+	AudioPlayer(LineProvider lineProvider, Executor executor)
+	{
+		this.lineProvider = lineProvider;
+		this.executor = executor;
+	}
 
 	/**
 	 * Plays an audio stream loaded from a file object.
 	 *
 	 * @param file The file object pointing to the audio data.
 	 * @param gain Gain control (in dB) to apply to audio playback.
+	 * @throws LineUnavailableException if every output line is playing
 	 */
 	public void play(File file, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (BufferedInputStream stream = new BufferedInputStream(new FileInputStream(file)))
-		{
-			play(stream, gain);
-		}
+		start(load(file), gain);
 	}
 
 	/**
@@ -74,85 +150,276 @@ public class AudioPlayer
 	 * @param c    The class with which to load the resource.
 	 * @param path The class resource path.
 	 * @param gain Gain control (in dB) to apply to audio playback.
+	 * @throws LineUnavailableException if every output line is playing
 	 */
 	public void play(Class<?> c, String path, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (BufferedInputStream stream = new BufferedInputStream(c.getResourceAsStream(path)))
-		{
-			play(stream, gain);
-		}
+		start(load(c, path), gain);
 	}
 
 	/**
-	 * Plays an audio stream from the provided input stream.
+	 * Plays an audio stream from the provided input stream. The decoded stream is not cached.
 	 *
 	 * @param stream The input stream containing the audio data.
 	 * @param gain   Gain control (in dB) to apply to audio playback.
+	 * @throws LineUnavailableException if every output line is playing
 	 */
 	public void play(InputStream stream, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (AudioInputStream audio = AudioSystem.getAudioInputStream(stream))
-		{
-			DataLine line = getSelfClosingLine(audio);
+		start(decode(stream), gain);
+	}
 
-			if (gain != 0)
+	/**
+	 * Plays an audio stream loaded from a file object.
+	 *
+	 * @param file The file object pointing to the audio data.
+	 * @param gain Gain control (in dB) to apply to audio playback.
+	 * @return a future which completes when the sound has finished playing, or fails if it could not be played
+	 */
+	public CompletableFuture<Void> playAsync(File file, float gain)
+			throws IOException, UnsupportedAudioFileException
+	{
+		return play(load(file), gain);
+	}
+
+	/**
+	 * Plays an audio stream loaded from a class resource.
+	 *
+	 * @param c    The class with which to load the resource.
+	 * @param path The class resource path.
+	 * @param gain Gain control (in dB) to apply to audio playback.
+	 * @return a future which completes when the sound has finished playing, or fails if it could not be played
+	 */
+	public CompletableFuture<Void> playAsync(Class<?> c, String path, float gain)
+			throws IOException, UnsupportedAudioFileException
+	{
+		return play(load(c, path), gain);
+	}
+
+	/**
+	 * Plays an audio stream from the provided input stream. The decoded stream is not cached.
+	 *
+	 * @param stream The input stream containing the audio data.
+	 * @param gain   Gain control (in dB) to apply to audio playback.
+	 * @return a future which completes when the sound has finished playing, or fails if it could not be played
+	 */
+	public CompletableFuture<Void> playAsync(InputStream stream, float gain)
+			throws IOException, UnsupportedAudioFileException
+	{
+		return play(decode(stream), gain);
+	}
+
+	private Sound load(File file) throws IOException, UnsupportedAudioFileException
+	{
+		// include the modification time and size so that replaced files are decoded again
+		String key = "file:" + file.getAbsolutePath() + ':' + file.lastModified() + ':' + file.length();
+		Sound sound = sounds.getIfPresent(key);
+		if (sound == null)
+		{
+			try (BufferedInputStream stream = new BufferedInputStream(new FileInputStream(file)))
 			{
-				trySetGain(line, gain);
+				sound = decode(stream);
 			}
+			sounds.put(key, sound);
+		}
+		return sound;
+	}
 
-			line.start();
+	private Sound load(Class<?> c, String path) throws IOException, UnsupportedAudioFileException
+	{
+		String key = "resource:" + c.getName() + ':' + path;
+		Sound sound = sounds.getIfPresent(key);
+		if (sound == null)
+		{
+			try (BufferedInputStream stream = new BufferedInputStream(c.getResourceAsStream(path)))
+			{
+				sound = decode(stream);
+			}
+			sounds.put(key, sound);
 		}
+		return sound;
 	}
 
-	private DataLine getSelfClosingLine(AudioInputStream stream) throws IOException, LineUnavailableException
+	@VisibleForTesting
+	CompletableFuture<Void> play(Sound sound, float gain)
 	{
-		// Clip is convenient because it will just buffer the entire stream with open(audio) rather than us having to
-		// write() to it.
-		Clip clip = AudioSystem.getClip();
+		try
+		{
+			return start(sound, gain);
+		}
+		catch (LineUnavailableException e)
+		{
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+	}
 
+	/**
+	 * Acquires a line for the sound on the calling thread, and plays the sound through it on the executor
+	 */
+	private CompletableFuture<Void> start(Sound sound, float gain) throws LineUnavailableException
+	{
+		SourceDataLine line = acquireLine(sound.getFormat());
+		CompletableFuture<Void> future = new CompletableFuture<>();
 		try
 		{
-			clip.open(stream);
+			executor.execute(() ->
+			{
+				try
+				{
+					line.start();
+					write(line, sound.getPcm(), gain);
+					line.drain();
+					line.stop();
+					releaseLine(line);
+					future.complete(null);
+				}
+				catch (Exception e)
+				{
+					closeLine(line);
+					future.completeExceptionally(e);
+				}
+			});
 		}
-		catch (IOException e)
+		catch (RuntimeException e)
 		{
-			clip.close();
+			closeLine(line);
 			throw e;
 		}
+		return future;
+	}
 
-		clip.addLineListener(event ->
+	/**
+	 * Writes samples to a line, scaling them by the gain through this thread's gain buffer
+	 */
+	private void write(SourceDataLine line, byte[] pcm, float gain)
+	{
+		if (gain == 0)
+		{
+			line.write(pcm, 0, pcm.length);
+			return;
+		}
+
+		final float scale = (float) Math.pow(10, gain / 20);
+		final byte[] buffer = gainBuffers.get();
+		for (int offset = 0; offset < pcm.length; offset += buffer.length)
+		{
+			int length = Math.min(buffer.length, pcm.length - offset);
+			applyGain(pcm, offset, length, scale, buffer);
+			line.write(buffer, 0, length);
+		}
+	}
+
+	/**
+	 * Decodes an audio stream to signed 16-bit little endian PCM
+	 */
+	@VisibleForTesting
+	static Sound decode(InputStream stream) throws IOException, UnsupportedAudioFileException
+	{
+		try (AudioInputStream audio = AudioSystem.getAudioInputStream(stream))
 		{
-			if (event.getType() != LineEvent.Type.STOP)
+			AudioFormat source = audio.getFormat();
+			AudioFormat target = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, source.getSampleRate(), 16,
+				source.getChannels(), source.getChannels() * 2, source.getSampleRate(), false);
+
+			if (source.matches(target))
 			{
-				return;
+				return new Sound(target, audio.readAllBytes());
 			}
 
-			synchronized (this) // We cut off the old line, and this one becomes the new "retainer".
+			try (AudioInputStream converted = AudioSystem.getAudioInputStream(target, audio))
 			{
-				if (prevLine != null)
-				{
-					prevLine.close();
-				}
-
-				prevLine = clip;
+				return new Sound(target, converted.readAllBytes());
 			}
-		});
+		}
+	}
 
-		return clip;
+	/**
+	 * Scales 16-bit little endian samples by a linear scale, clipping them to the sample range.
+	 *
+	 * @param pcm    the samples to scale
+	 * @param offset offset of the first sample in pcm, which must be even
+	 * @param length number of bytes to scale
+	 * @param scale  linear scale to apply
+	 * @param out    buffer the scaled samples are written to, from its start
+	 */
+	@VisibleForTesting
+	static void applyGain(byte[] pcm, int offset, int length, float scale, byte[] out)
+	{
+		for (int i = 0; i + 1 < length; i += 2)
+		{
+			int sample = (short) ((pcm[offset + i] & 0xFF) | pcm[offset + i + 1] << 8);
+			sample = Math.round(sample * scale);
+			sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+			out[i] = (byte) sample;
+			out[i + 1] = (byte) (sample >> 8);
+		}
 	}
 
-	private void trySetGain(DataLine line, float gain)
+	/**
+	 * Takes an idle line of the given format from the pool, or opens a new one. Idle lines of other formats
+	 * are closed to make room if the pool is full.
+	 *
+	 * @throws LineUnavailableException if every line in the pool is playing
+	 */
+	@VisibleForTesting
+	SourceDataLine acquireLine(AudioFormat format) throws LineUnavailableException
 	{
+		synchronized (this)
+		{
+			for (Iterator<SourceDataLine> it = idleLines.iterator(); it.hasNext(); )
+			{
+				SourceDataLine line = it.next();
+				if (line.getFormat().matches(format))
+				{
+					it.remove();
+					return line;
+				}
+			}
+
+			if (openLines >= MAX_LINES)
+			{
+				if (idleLines.isEmpty())
+				{
+					throw new LineUnavailableException("All " + MAX_LINES + " lines are playing");
+				}
+
+				idleLines.removeLast().close();
+				--openLines;
+			}
+			++openLines;
+		}
+
 		try
 		{
-			FloatControl control = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
-			control.setValue(gain);
+			SourceDataLine line = lineProvider.getLine(format);
+			int bufferSize = (int) (format.getFrameRate() * LINE_BUFFER_MS / 1000) * format.getFrameSize();
+			line.open(format, bufferSize);
+			return line;
 		}
-		catch (Exception e)
+		catch (LineUnavailableException | RuntimeException e)
 		{
-			log.warn("Failed to set gain: {}", e.getMessage());
+			synchronized (this)
+			{
+				--openLines;
+			}
+			throw e;
 		}
 	}
+
+	@VisibleForTesting
+	synchronized void releaseLine(SourceDataLine line)
+	{
+		// most recently used lines first, so the least recently used line is closed first
+		idleLines.addFirst(line);
+	}
+
+	private synchronized void closeLine(SourceDataLine line)
+	{
+		line.close();
+		--openLines;
+	}
 }
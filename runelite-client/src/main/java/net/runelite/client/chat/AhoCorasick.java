@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * An Aho-Corasick automaton, which finds every occurrence of a set of literal strings within a
+ * text in a single pass over the text.
+ */
+final class AhoCorasick
+{
+	/**
+	 * Symbol of each ascii character, or 0 for characters which do not appear in any literal
+	 */
+	private final int[] asciiSymbols = new int[128];
+	private final Map<Character, Integer> symbols = new HashMap<>();
+	private final int width;
+	/**
+	 * Transition table, indexed by state * {@link #width} + symbol
+	 */
+	private final int[] transitions;
+	/**
+	 * Ids of the literals which end at each state
+	 */
+	private final int[][] outputs;
+
+	/**
+	 * @param literals the literals to search for
+	 * @param ids the id reported for each literal
+	 */
+	AhoCorasick(List<String> literals, int[] ids)
+	{
+		int symbolCount = 0;
+		for (String literal : literals)
+		{
+			for (int i = 0; i < literal.length(); ++i)
+			{
+				char c = literal.charAt(i);
+				if (symbol(c) == 0)
+				{
+					++symbolCount;
+					if (c < asciiSymbols.length)
+					{
+						asciiSymbols[c] = symbolCount;
+					}
+					else
+					{
+						symbols.put(c, symbolCount);
+					}
+				}
+			}
+		}
+		width = symbolCount + 1;
+
+		// build the trie
+		int[] next = new int[width * 16];
+		Arrays.fill(next, -1);
+		List<List<Integer>> out = new ArrayList<>();
+		out.add(new ArrayList<>());
+		int states = 1;
+		for (int l = 0; l < literals.size(); ++l)
+		{
+			String literal = literals.get(l);
+			int state = 0;
+			for (int i = 0; i < literal.length(); ++i)
+			{
+				int idx = state * width + symbol(literal.charAt(i));
+				if (next[idx] == -1)
+				{
+					if (states * width + width > next.length)
+					{
+						int oldLength = next.length;
+						next = Arrays.copyOf(next, oldLength * 2);
+						Arrays.fill(next, oldLength, next.length, -1);
+					}
+					next[idx] = states++;
+					out.add(new ArrayList<>());
+				}
+				state = next[idx];
+			}
+			out.get(state).add(ids[l]);
+		}
+
+		// turn the trie into a dfa by following failure links
+		int[] fail = new int[states];
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int a = 0; a < width; ++a)
+		{
+			int s = next[a];
+			if (s == -1)
+			{
+				next[a] = 0;
+			}
+			else
+			{
+				fail[s] = 0;
+				queue.add(s);
+			}
+		}
+
+		while (!queue.isEmpty())
+		{
+			int r = queue.poll();
+			out.get(r).addAll(out.get(fail[r]));
+			for (int a = 0; a < width; ++a)
+			{
+				int s = next[r * width + a];
+				if (s == -1)
+				{
+					next[r * width + a] = next[fail[r] * width + a];
+				}
+				else
+				{
+					fail[s] = next[fail[r] * width + a];
+					queue.add(s);
+				}
+			}
+		}
+
+		transitions = Arrays.copyOf(next, states * width);
+		outputs = new int[states][];
+		for (int s = 0; s < states; ++s)
+		{
+			outputs[s] = out.get(s).stream().distinct().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	private int symbol(char c)
+	{
+		if (c < asciiSymbols.length)
+		{
+			return asciiSymbols[c];
+		}
+		Integer symbol = symbols.get(c);
+		return symbol == null ? 0 : symbol;
+	}
+
+	/**
+	 * Sets the id of every literal which occurs in the text
+	 */
+	void scan(CharSequence text, BitSet found)
+	{
+		int state = 0;
+		for (int i = 0, len = text.length(); i < len; ++i)
+		{
+			state = transitions[state * width + symbol(text.charAt(i))];
+			for (int id : outputs[state])
+			{
+				found.set(id);
+			}
+		}
+	}
+}
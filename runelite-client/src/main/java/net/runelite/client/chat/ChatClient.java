@@ -24,33 +24,67 @@
  */
 package net.runelite.client.chat;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Singleton;
 import net.runelite.http.api.RuneLiteAPI;
 import net.runelite.http.api.chat.Duels;
 import net.runelite.http.api.chat.LayoutRoom;
 import net.runelite.http.api.chat.Task;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
-
+import okhttp3.ResponseBody;
+
+/**
+ * Client for the chat command api.
+ * <p>
+ * Only one submission per player and key is in flight at a time. A submission identical to the in-flight one shares
+ * its request, and other submissions made meanwhile are coalesced into one, which is sent with the latest value once
+ * the in-flight submission finishes. Lookups are cached briefly, and concurrent lookups of the same player and key
+ * share one request.
+ */
+@Singleton
 public class ChatClient
 {
+	private static final int LOOKUP_CACHE_SECONDS = 30;
+	private static final int MAX_CACHE_SIZE = 512;
+
 	private final OkHttpClient client;
 	private final HttpUrl apiBase;
 	private final Gson gson;
 
+	private final Cache<String, CompletableFuture<?>> lookups = CacheBuilder.newBuilder()
+		.maximumSize(MAX_CACHE_SIZE)
+		.expireAfterWrite(LOOKUP_CACHE_SECONDS, TimeUnit.SECONDS)
+		.build();
+	// guarded by inFlight
+	private final Map<String, Submission> inFlight = new HashMap<>();
+	private final Map<String, Submission> queued = new HashMap<>();
+
 	@Inject
 	private ChatClient(OkHttpClient client, @Named("runelite.api.base") HttpUrl apiBase, Gson gson)
 	{
@@ -60,6 +94,11 @@ public class ChatClient
 	}
 
 	public boolean submitKc(String username, String boss, int kc) throws IOException
+	{
+		return await(submitKcAsync(username, boss, kc));
+	}
+
+	public CompletableFuture<Boolean> submitKcAsync(String username, String boss, int kc)
 	{
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("chat")
@@ -69,15 +108,7 @@ public class ChatClient
 			.addQueryParameter("kc", Integer.toString(kc))
 			.build();
 
-		Request request = new Request.Builder()
-			.post(RequestBody.create(null, new byte[0]))
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			return response.isSuccessful();
-		}
+		return submit(key("kc", username, boss), url, null);
 	}
 
 	public int getKc(String username, String boss) throws IOException
@@ -89,21 +120,15 @@ public class ChatClient
 			.addQueryParameter("boss", boss)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			if (!response.isSuccessful())
-			{
-				throw new IOException("Unable to look up killcount!");
-			}
-			return Integer.parseInt(response.body().string());
-		}
+		return lookup(key("kc", username, boss), url, "Unable to look up killcount!", body -> Integer.parseInt(body.string()));
 	}
 
 	public boolean submitQp(String username, int qp) throws IOException
+	{
+		return await(submitQpAsync(username, qp));
+	}
+
+	public CompletableFuture<Boolean> submitQpAsync(String username, int qp)
 	{
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("chat")
@@ -112,15 +137,7 @@ public class ChatClient
 			.addQueryParameter("qp", Integer.toString(qp))
 			.build();
 
-		Request request = new Request.Builder()
-			.post(RequestBody.create(null, new byte[0]))
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			return response.isSuccessful();
-		}
+		return submit(key("qp", username, null), url, null);
 	}
 
 	public int getQp(String username) throws IOException
@@ -131,21 +148,15 @@ public class ChatClient
 			.addQueryParameter("name", username)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			if (!response.isSuccessful())
-			{
-				throw new IOException("Unable to look up quest points!");
-			}
-			return Integer.parseInt(response.body().string());
-		}
+		return lookup(key("qp", username, null), url, "Unable to look up quest points!", body -> Integer.parseInt(body.string()));
 	}
 
 	public boolean submitTask(String username, String task, int amount, int initialAmount, String location) throws IOException
+	{
+		return await(submitTaskAsync(username, task, amount, initialAmount, location));
+	}
+
+	public CompletableFuture<Boolean> submitTaskAsync(String username, String task, int amount, int initialAmount, String location)
 	{
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("chat")
@@ -157,15 +168,7 @@ public class ChatClient
 			.addQueryParameter("location", location)
 			.build();
 
-		Request request = new Request.Builder()
-			.post(RequestBody.create(null, new byte[0]))
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			return response.isSuccessful();
-		}
+		return submit(key("task", username, null), url, null);
 	}
 
 	public Task getTask(String username) throws IOException
@@ -176,27 +179,15 @@ public class ChatClient
 			.addQueryParameter("name", username)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			if (!response.isSuccessful())
-			{
-				throw new IOException("Unable to look up task!");
-			}
-
-			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), Task.class);
-		}
-		catch (JsonParseException ex)
-		{
-			throw new IOException(ex);
-		}
+		return lookup(key("task", username, null), url, "Unable to look up task!", body -> parseJson(body, Task.class));
 	}
 
 	public boolean submitPb(String username, String boss, double pb) throws IOException
+	{
+		return await(submitPbAsync(username, boss, pb));
+	}
+
+	public CompletableFuture<Boolean> submitPbAsync(String username, String boss, double pb)
 	{
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("chat")
@@ -206,15 +197,7 @@ public class ChatClient
 			.addQueryParameter("pb", Double.toString(pb))
 			.build();
 
-		Request request = new Request.Builder()
-			.post(RequestBody.create(null, new byte[0]))
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			return response.isSuccessful();
-		}
+		return submit(key("pb", username, boss), url, null);
 	}
 
 	public double getPb(String username, String boss) throws IOException
@@ -226,21 +209,15 @@ public class ChatClient
 			.addQueryParameter("boss", boss)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			if (!response.isSuccessful())
-			{
-				throw new IOException("Unable to look up personal best!");
-			}
-			return Double.parseDouble(response.body().string());
-		}
+		return lookup(key("pb", username, boss), url, "Unable to look up personal best!", body -> Double.parseDouble(body.string()));
 	}
 
 	public boolean submitGc(String username, int gc) throws IOException
+	{
+		return await(submitGcAsync(username, gc));
+	}
+
+	public CompletableFuture<Boolean> submitGcAsync(String username, int gc)
 	{
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("chat")
@@ -249,15 +226,7 @@ public class ChatClient
 			.addQueryParameter("gc", Integer.toString(gc))
 			.build();
 
-		Request request = new Request.Builder()
-			.post(RequestBody.create(null, new byte[0]))
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			return response.isSuccessful();
-		}
+		return submit(key("gc", username, null), url, null);
 	}
 
 	public int getGc(String username) throws IOException
@@ -268,21 +237,15 @@ public class ChatClient
 			.addQueryParameter("name", username)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			if (!response.isSuccessful())
-			{
-				throw new IOException("Unable to look up gamble count!");
-			}
-			return Integer.parseInt(response.body().string());
-		}
+		return lookup(key("gc", username, null), url, "Unable to look up gamble count!", body -> Integer.parseInt(body.string()));
 	}
 
 	public boolean submitDuels(String username, int wins, int losses, int winningStreak, int losingStreak) throws IOException
+	{
+		return await(submitDuelsAsync(username, wins, losses, winningStreak, losingStreak));
+	}
+
+	public CompletableFuture<Boolean> submitDuelsAsync(String username, int wins, int losses, int winningStreak, int losingStreak)
 	{
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("chat")
@@ -294,15 +257,7 @@ public class ChatClient
 			.addQueryParameter("losingStreak", Integer.toString(losingStreak))
 			.build();
 
-		Request request = new Request.Builder()
-			.post(RequestBody.create(null, new byte[0]))
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			return response.isSuccessful();
-		}
+		return submit(key("duels", username, null), url, null);
 	}
 
 	public Duels getDuels(String username) throws IOException
@@ -313,27 +268,15 @@ public class ChatClient
 			.addQueryParameter("name", username)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			if (!response.isSuccessful())
-			{
-				throw new IOException("Unable to look up duels!");
-			}
-
-			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), Duels.class);
-		}
-		catch (JsonParseException ex)
-		{
-			throw new IOException(ex);
-		}
+		return lookup(key("duels", username, null), url, "Unable to look up duels!", body -> parseJson(body, Duels.class));
 	}
 
 	public boolean submitLayout(String username, LayoutRoom[] rooms) throws IOException
+	{
+		return await(submitLayoutAsync(username, rooms));
+	}
+
+	public CompletableFuture<Boolean> submitLayoutAsync(String username, LayoutRoom[] rooms)
 	{
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("chat")
@@ -341,15 +284,7 @@ public class ChatClient
 			.addQueryParameter("name", username)
 			.build();
 
-		Request request = new Request.Builder()
-			.post(RequestBody.create(RuneLiteAPI.JSON, gson.toJson(rooms)))
-			.url(url)
-			.build();
-
-		try (Response response = client.newCall(request).execute())
-		{
-			return response.isSuccessful();
-		}
+		return submit(key("layout", username, null), url, gson.toJson(rooms));
 	}
 
 	public LayoutRoom[] getLayout(String username) throws IOException
@@ -360,19 +295,61 @@ public class ChatClient
 			.addQueryParameter("name", username)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
+		LayoutRoom[] layout = lookup(key("layout", username, null), url, "Unable to look up layout!",
+			body -> parseJson(body, LayoutRoom[].class));
+		// the cached array is shared with other lookups
+		return layout != null ? layout.clone() : null;
+	}
+
+	public boolean submitPetList(String username, Collection<Integer> petList) throws IOException
+	{
+		return await(submitPetListAsync(username, petList));
+	}
+
+	public CompletableFuture<Boolean> submitPetListAsync(String username, Collection<Integer> petList)
+	{
+		HttpUrl url = apiBase.newBuilder()
+			.addPathSegment("chat")
+			.addPathSegment("pets")
+			.addQueryParameter("name", username)
 			.build();
 
-		try (Response response = client.newCall(request).execute())
+		return submit(key("pets", username, null), url, gson.toJson(petList));
+	}
+
+	public Set<Integer> getPetList(String username) throws IOException
+	{
+		HttpUrl url = apiBase.newBuilder()
+			.addPathSegment("chat")
+			.addPathSegment("pets")
+			.addQueryParameter("name", username)
+			.build();
+
+		return lookup(key("pets", username, null), url, "Unable to look up pet list!", body ->
 		{
-			if (!response.isSuccessful())
-			{
-				throw new IOException("Unable to look up layout!");
-			}
+			// CHECKSTYLE:OFF
+			Set<Integer> pets = parseJson(body, new TypeToken<Set<Integer>>(){});
+			// CHECKSTYLE:ON
+			// the cached set is shared with other lookups
+			return pets != null ? ImmutableSet.copyOf(pets) : null;
+		});
+	}
+
+	private static String key(String endpoint, String username, @Nullable String boss)
+	{
+		return boss == null ? endpoint + ':' + username : endpoint + ':' + username + ':' + boss;
+	}
+
+	private <T> T parseJson(ResponseBody body, Class<T> type) throws IOException
+	{
+		return parseJson(body, TypeToken.get(type));
+	}
 
-			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), LayoutRoom[].class);
+	private <T> T parseJson(ResponseBody body, TypeToken<T> type) throws IOException
+	{
+		try
+		{
+			return gson.fromJson(new InputStreamReader(body.byteStream(), StandardCharsets.UTF_8), type.getType());
 		}
 		catch (JsonParseException ex)
 		{
@@ -380,53 +357,199 @@ public class ChatClient
 		}
 	}
 
-	public boolean submitPetList(String username, Collection<Integer> petList) throws IOException
+	private interface ResponseParser<T>
 	{
-		HttpUrl url = apiBase.newBuilder()
-			.addPathSegment("chat")
-			.addPathSegment("pets")
-			.addQueryParameter("name", username)
-			.build();
+		T parse(ResponseBody body) throws IOException;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T lookup(String key, HttpUrl url, String error, ResponseParser<T> parser) throws IOException
+	{
+		final CompletableFuture<?> future;
+		try
+		{
+			future = lookups.get(key, () -> fetch(url, error, parser));
+		}
+		catch (ExecutionException ex)
+		{
+			throw new IOException(ex.getCause());
+		}
+
+		try
+		{
+			return (T) await(future);
+		}
+		catch (IOException ex)
+		{
+			// failed lookups aren't cached
+			lookups.asMap().remove(key, future);
+			throw ex;
+		}
+	}
+
+	private static <T> T await(CompletableFuture<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+
+	private <T> CompletableFuture<T> fetch(HttpUrl url, String error, ResponseParser<T> parser)
+	{
+		final CompletableFuture<T> future = new CompletableFuture<>();
 
 		Request request = new Request.Builder()
-			.post(RequestBody.create(RuneLiteAPI.JSON, gson.toJson(petList)))
 			.url(url)
 			.build();
 
-		try (Response response = client.newCall(request).execute())
+		client.newCall(request).enqueue(new Callback()
 		{
-			return response.isSuccessful();
-		}
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				future.completeExceptionally(e);
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				try (response)
+				{
+					if (!response.isSuccessful())
+					{
+						throw new IOException(error);
+					}
+
+					future.complete(parser.parse(response.body()));
+				}
+				catch (IOException | RuntimeException ex)
+				{
+					future.completeExceptionally(ex);
+				}
+			}
+		});
+
+		return future;
 	}
 
-	public Set<Integer> getPetList(String username) throws IOException
+	private CompletableFuture<Boolean> submit(String key, HttpUrl url, @Nullable String json)
 	{
-		HttpUrl url = apiBase.newBuilder()
-			.addPathSegment("chat")
-			.addPathSegment("pets")
-			.addQueryParameter("name", username)
-			.build();
+		Submission submission = new Submission(url, json, new CompletableFuture<>());
+		synchronized (inFlight)
+		{
+			Submission current = inFlight.get(key);
+			if (current == null)
+			{
+				inFlight.put(key, submission);
+			}
+			else
+			{
+				// wait for the in-flight submission, replacing any other submission which is already waiting
+				Submission waiting = queued.get(key);
+				if (waiting != null)
+				{
+					queued.put(key, new Submission(url, json, waiting.future));
+					return waiting.future;
+				}
+
+				if (current.sameAs(submission))
+				{
+					return current.future;
+				}
+
+				queued.put(key, submission);
+				return submission.future;
+			}
+		}
+
+		send(key, submission);
+		return submission.future;
+	}
 
+	private void send(String key, Submission submission)
+	{
 		Request request = new Request.Builder()
-			.url(url)
+			.post(submission.json == null ? RequestBody.create(null, new byte[0]) : RequestBody.create(RuneLiteAPI.JSON, submission.json))
+			.url(submission.url)
 			.build();
 
-		try (Response response = client.newCall(request).execute())
+		client.newCall(request).enqueue(new Callback()
 		{
-			if (!response.isSuccessful())
+			@Override
+			public void onFailure(Call call, IOException e)
 			{
-				throw new IOException("Unable to look up pet list!");
+				complete(key);
+				submission.future.completeExceptionally(e);
 			}
 
-			InputStream in = response.body().byteStream();
-			// CHECKSTYLE:OFF
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8),
-				new TypeToken<Set<Integer>>(){}.getType());
-			// CHECKSTYLE:ON
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				try (response)
+				{
+					complete(key);
+					submission.future.complete(response.isSuccessful());
+				}
+			}
+		});
+	}
+
+	private void complete(String key)
+	{
+		// a lookup made while the submission was in flight may have cached the old value
+		lookups.invalidate(key);
+
+		Submission next;
+		synchronized (inFlight)
+		{
+			next = queued.remove(key);
+			if (next == null)
+			{
+				inFlight.remove(key);
+			}
+			else
+			{
+				inFlight.put(key, next);
+			}
 		}
-		catch (JsonParseException ex)
+
+		if (next != null)
 		{
-			throw new IOException(ex);
+			send(key, next);
+		}
+	}
+
+	private static class Submission
+	{
+		private final HttpUrl url;
+		@Nullable
+		private final String json;
+		private final CompletableFuture<Boolean> future;
+
+		private Submission(HttpUrl url, @Nullable String json, CompletableFuture<Boolean> future)
+		{
+			this.url = url;
+			this.json = json;
+			this.future = future;
+		}
+
+		private boolean sameAs(Submission other)
+		{
+			return url.equals(other.url) && Objects.equals(json, other.json);
 		}
 	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * The result of matching a chat message against a {@link ChatPattern}. The groups are copied out of
+ * the matcher, so a match can be shared between subscribers and kept after the message is gone.
+ */
+public final class ChatMatch
+{
+	private final String[] groups;
+	private final Map<String, String> namedGroups;
+
+	ChatMatch(Matcher matcher, Collection<String> groupNames)
+	{
+		groups = new String[matcher.groupCount() + 1];
+		for (int i = 0; i < groups.length; ++i)
+		{
+			groups[i] = matcher.group(i);
+		}
+
+		namedGroups = new HashMap<>();
+		for (String name : groupNames)
+		{
+			try
+			{
+				namedGroups.put(name, matcher.group(name));
+			}
+			catch (IllegalArgumentException ex)
+			{
+				// not a group, eg. quoted text
+			}
+		}
+	}
+
+	/**
+	 * @return the text matched by the pattern
+	 */
+	public String group()
+	{
+		return groups[0];
+	}
+
+	/**
+	 * @param group the index of a capturing group
+	 * @return the text captured by the group, or null if the group did not participate in the match
+	 */
+	public String group(int group)
+	{
+		if (group < 0 || group >= groups.length)
+		{
+			throw new IndexOutOfBoundsException("No group " + group);
+		}
+		return groups[group];
+	}
+
+	/**
+	 * @param name the name of a named capturing group
+	 * @return the text captured by the group, or null if the group did not participate in the match
+	 */
+	public String group(String name)
+	{
+		if (!namedGroups.containsKey(name))
+		{
+			throw new IllegalArgumentException("No group with name <" + name + ">");
+		}
+		return namedGroups.get(name);
+	}
+
+	/**
+	 * @return the number of capturing groups in the pattern
+	 */
+	public int groupCount()
+	{
+		return groups.length - 1;
+	}
+}
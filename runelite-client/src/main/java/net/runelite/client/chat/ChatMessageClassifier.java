@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import com.google.common.base.Strings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import javax.inject.Singleton;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.util.Text;
+
+/**
+ * Matches chat messages against the {@link ChatPattern}s of every plugin at once. The literals of
+ * all registered patterns are searched for in a single pass over each message, and only the
+ * patterns whose literal was found are run, each at most once per message.
+ * <p>
+ * Plugins register their patterns when they start and unregister them when they stop. Matching a
+ * pattern which is not registered still works, but runs the regex directly on every call.
+ */
+@Singleton
+public class ChatMessageClassifier
+{
+	private static final Pattern NAMED_GROUP = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
+
+	private final Set<ChatPattern> registered = new LinkedHashSet<>();
+	private Index index = new Index(registered);
+
+	// classification of the last message
+	private ChatMessage message;
+	private String messageText;
+	private String strippedText;
+	private Index messageIndex;
+	private final BitSet candidates = new BitSet();
+	private final BitSet evaluated = new BitSet();
+	private ChatMatch[] results = new ChatMatch[0];
+
+	/**
+	 * Compiled form of the registered patterns
+	 */
+	private static final class Index
+	{
+		private final Map<ChatPattern, Integer> ids = new HashMap<>();
+		private final List<List<String>> groupNames = new ArrayList<>();
+		private final AhoCorasick raw;
+		private final AhoCorasick stripped;
+		private final boolean removeTags;
+		/**
+		 * Patterns without a literal, which are candidates for every message
+		 */
+		private final BitSet unconditional = new BitSet();
+		/**
+		 * Patterns which apply to every message type
+		 */
+		private final BitSet untyped = new BitSet();
+		/**
+		 * Patterns which apply to each message type
+		 */
+		private final Map<ChatMessageType, BitSet> typePatterns = new EnumMap<>(ChatMessageType.class);
+
+		Index(Collection<ChatPattern> patterns)
+		{
+			List<String> rawLiterals = new ArrayList<>();
+			List<Integer> rawIds = new ArrayList<>();
+			List<String> strippedLiterals = new ArrayList<>();
+			List<Integer> strippedIds = new ArrayList<>();
+			for (ChatMessageType type : ChatMessageType.values())
+			{
+				typePatterns.put(type, new BitSet());
+			}
+
+			boolean removeTags = false;
+			int id = 0;
+			for (ChatPattern pattern : patterns)
+			{
+				ids.put(pattern, id);
+				groupNames.add(groupNames(pattern.getPattern()));
+				removeTags |= pattern.isRemoveTags();
+
+				if (Strings.isNullOrEmpty(pattern.getLiteral()))
+				{
+					unconditional.set(id);
+				}
+				else if (pattern.isRemoveTags())
+				{
+					strippedLiterals.add(pattern.getLiteral());
+					strippedIds.add(id);
+				}
+				else
+				{
+					rawLiterals.add(pattern.getLiteral());
+					rawIds.add(id);
+				}
+
+				if (pattern.getTypes().isEmpty())
+				{
+					untyped.set(id);
+				}
+				for (ChatMessageType type : ChatMessageType.values())
+				{
+					if (pattern.getTypes().isEmpty() || pattern.getTypes().contains(type))
+					{
+						typePatterns.get(type).set(id);
+					}
+				}
+				++id;
+			}
+
+			this.removeTags = removeTags;
+			this.raw = new AhoCorasick(rawLiterals, rawIds.stream().mapToInt(Integer::intValue).toArray());
+			this.stripped = new AhoCorasick(strippedLiterals, strippedIds.stream().mapToInt(Integer::intValue).toArray());
+		}
+	}
+
+	public synchronized void register(ChatPattern... patterns)
+	{
+		if (registered.addAll(Arrays.asList(patterns)))
+		{
+			index = new Index(registered);
+		}
+	}
+
+	public synchronized void unregister(ChatPattern... patterns)
+	{
+		if (registered.removeAll(Arrays.asList(patterns)))
+		{
+			index = new Index(registered);
+		}
+	}
+
+	/**
+	 * Matches a chat message against a pattern. Registered patterns are run at most once per message,
+	 * and every caller matching the same message against the same pattern gets the same result.
+	 *
+	 * @param chatMessage the message
+	 * @param pattern the pattern
+	 * @return the match, or null if the message does not match the pattern
+	 */
+	@Nullable
+	public synchronized ChatMatch match(ChatMessage chatMessage, ChatPattern pattern)
+	{
+		Integer id = index.ids.get(pattern);
+		if (id == null)
+		{
+			return matchUnregistered(chatMessage, pattern);
+		}
+
+		// the message may be edited by subscribers between matches
+		if (chatMessage != message || chatMessage.getMessage() != messageText || index != messageIndex)
+		{
+			classify(chatMessage);
+		}
+
+		if (!candidates.get(id))
+		{
+			return null;
+		}
+
+		if (!evaluated.get(id))
+		{
+			evaluated.set(id);
+			results[id] = match(pattern, pattern.isRemoveTags() ? strippedText : messageText, index.groupNames.get(id));
+		}
+		return results[id];
+	}
+
+	@Nullable
+	private static ChatMatch matchUnregistered(ChatMessage chatMessage, ChatPattern pattern)
+	{
+		if (!pattern.getTypes().isEmpty() && !pattern.getTypes().contains(chatMessage.getType()))
+		{
+			return null;
+		}
+
+		String text = pattern.isRemoveTags() ? Text.removeTags(chatMessage.getMessage()) : chatMessage.getMessage();
+		return match(pattern, text, groupNames(pattern.getPattern()));
+	}
+
+	@Nullable
+	private static ChatMatch match(ChatPattern pattern, String text, List<String> groupNames)
+	{
+		Matcher matcher = pattern.getPattern().matcher(text);
+		boolean matches = pattern.isFullMatch() ? matcher.matches() : matcher.find();
+		return matches ? new ChatMatch(matcher, groupNames) : null;
+	}
+
+	/**
+	 * Finds the names of the named groups in a pattern, so they can be copied out of its matches. This
+	 * may include text which only looks like a group, such as quoted text, which {@link ChatMatch} skips.
+	 */
+	private static List<String> groupNames(Pattern pattern)
+	{
+		List<String> names = new ArrayList<>();
+		Matcher matcher = NAMED_GROUP.matcher(pattern.pattern());
+		while (matcher.find())
+		{
+			names.add(matcher.group(1));
+		}
+		return names;
+	}
+
+	private void classify(ChatMessage chatMessage)
+	{
+		message = chatMessage;
+		messageText = chatMessage.getMessage();
+		messageIndex = index;
+		strippedText = index.removeTags ? Text.removeTags(messageText) : null;
+
+		candidates.clear();
+		evaluated.clear();
+		if (results.length < index.ids.size())
+		{
+			results = new ChatMatch[index.ids.size()];
+		}
+
+		index.raw.scan(messageText, candidates);
+		if (strippedText != null)
+		{
+			index.stripped.scan(strippedText, candidates);
+		}
+		candidates.or(index.unconditional);
+		candidates.and(chatMessage.getType() == null ? index.untyped : index.typePatterns.get(chatMessage.getType()));
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import net.runelite.api.ChatMessageType;
+
+/**
+ * A pattern matched against chat messages by the {@link ChatMessageClassifier}.
+ */
+@Value
+@Builder
+public class ChatPattern
+{
+	@NonNull
+	private final Pattern pattern;
+	/**
+	 * A string which every message matched by the pattern contains, used to skip the pattern for
+	 * messages which can't match it. If null, the pattern is tried against every message.
+	 */
+	@Nullable
+	private final String literal;
+	/**
+	 * The message types the pattern applies to, or empty for all message types
+	 */
+	@Singular
+	private final Set<ChatMessageType> types;
+	/**
+	 * Whether the pattern must match the entire message, as with {@link java.util.regex.Matcher#matches()},
+	 * rather than be found within it
+	 */
+	private final boolean fullMatch;
+	/**
+	 * Whether tags are removed from the message before it is matched
+	 */
+	private final boolean removeTags;
+}
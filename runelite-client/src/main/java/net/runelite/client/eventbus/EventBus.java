@@ -26,7 +26,10 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
@@ -35,14 +38,23 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.ScriptPreFired;
 import net.runelite.client.util.ReflectUtil;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
@@ -62,6 +74,27 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		/**
+		 * Keys of the events this subscriber receives, or empty to receive all events of its type
+		 */
+		private final Set<EventKey> keys;
+
+		boolean accepts(final Object event)
+		{
+			if (keys.isEmpty())
+			{
+				return true;
+			}
+
+			for (EventKey key : keys)
+			{
+				if (key.getValue().equals(key.getType().getExtractor().apply(event)))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -78,8 +111,83 @@ public class EventBus
 
 	private final Consumer<Throwable> exceptionHandler;
 
+	/**
+	 * Subscribers of each event type
+	 */
+	private static final class Dispatch
+	{
+		/**
+		 * All subscribers, ordered by priority
+		 */
+		private final ImmutableList<Subscriber> all;
+		/**
+		 * Subscribers without keys, ordered by priority
+		 */
+		private final ImmutableList<Subscriber> unkeyed;
+		/**
+		 * The key types subscribed to for this event type
+		 */
+		private final EventKey.Type[] types;
+		/**
+		 * Subscribers for each key value of each of {@link #types}, along with the subscribers
+		 * without keys, ordered by priority
+		 */
+		private final Map<Object, ImmutableList<Subscriber>>[] keyed;
+
+		Dispatch(final ImmutableList<Subscriber> all)
+		{
+			this.all = all;
+			this.unkeyed = all.stream()
+				.filter(s -> s.keys.isEmpty())
+				.collect(ImmutableList.toImmutableList());
+
+			final Map<EventKey.Type, Map<Object, ImmutableList<Subscriber>>> byType = new EnumMap<>(EventKey.Type.class);
+			for (Subscriber subscriber : all)
+			{
+				for (EventKey key : subscriber.keys)
+				{
+					byType.computeIfAbsent(key.getType(), t -> new HashMap<>())
+						.computeIfAbsent(key.getValue(), v -> all.stream()
+							.filter(s -> s.keys.isEmpty() || s.keys.contains(key))
+							.collect(ImmutableList.toImmutableList()));
+				}
+			}
+
+			this.types = byType.keySet().toArray(new EventKey.Type[0]);
+			this.keyed = byType.values().toArray(new Map[0]);
+		}
+
+		List<Subscriber> subscribers(final Object event)
+		{
+			List<Subscriber> subscribers = null;
+			for (int i = 0; i < types.length; ++i)
+			{
+				final List<Subscriber> keySubscribers = keyed[i].get(types[i].getExtractor().apply(event));
+				if (keySubscribers == null)
+				{
+					continue;
+				}
+
+				if (subscribers == null)
+				{
+					subscribers = keySubscribers;
+				}
+				else
+				{
+					// the event matches keys of more than one type, eg. a varbit and its varp
+					return all.stream()
+						.filter(s -> s.accepts(event))
+						.collect(Collectors.toList());
+				}
+			}
+			return subscribers != null ? subscribers : unkeyed;
+		}
+	}
+
 	@Nonnull
 	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	@Nonnull
+	private ImmutableMap<Class<?>, Dispatch> dispatch = ImmutableMap.of();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -158,26 +266,45 @@ public class EventBus
 					log.warn("Unable to create lambda for method {}", method, e);
 				}
 
-				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
+				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda, keys(sub, method, parameterClazz));
 				builder.put(parameterClazz, subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		setSubscribers(builder.build());
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
+		return register(clazz, subFn, priority, new EventKey[0]);
+	}
+
+	/**
+	 * Registers a subscriber for the events of the given type which have one of the given keys.
+	 *
+	 * @param clazz event type
+	 * @param subFn subscriber
+	 * @param priority priority relative to other event subscribers, higher priorities run first
+	 * @param keys keys of the events to receive, or none to receive all events of the type
+	 * @return the subscriber, for use with {@link #unregister(Subscriber)}
+	 */
+	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority, EventKey... keys)
+	{
+		for (EventKey key : keys)
+		{
+			Preconditions.checkArgument(key.getType().getEventClass() == clazz, "Subscriber for " + clazz + " cannot use key " + key);
+		}
+
 		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
 		builder.putAll(subscribers);
 		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
 			.thenComparing(s -> s.object.getClass().getName()));
 
-		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
+		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn, ImmutableSet.copyOf(keys));
 		builder.put(clazz, sub);
 
-		subscribers = builder.build();
+		setSubscribers(builder.build());
 
 		return sub;
 	}
@@ -189,10 +316,10 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
+		setSubscribers(ImmutableMultimap.copyOf(Iterables.filter(
 			subscribers.entries(),
 			e -> e.getValue().getObject() != object
-		));
+		)));
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,21 +329,78 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
+		setSubscribers(ImmutableMultimap.copyOf(Iterables.filter(
 			subscribers.entries(),
 			e -> sub != e.getValue()
-		));
+		)));
+	}
+
+	private static Set<EventKey> keys(final Subscribe sub, final Method method, final Class<?> parameterClazz)
+	{
+		final ImmutableSet.Builder<EventKey> builder = ImmutableSet.builder();
+		for (int varbit : sub.varbits())
+		{
+			builder.add(EventKey.varbit(varbit));
+		}
+		for (int varp : sub.varps())
+		{
+			builder.add(EventKey.varp(varp));
+		}
+		for (int containerId : sub.itemContainers())
+		{
+			builder.add(EventKey.itemContainer(containerId));
+		}
+		if (sub.scripts().length > 0)
+		{
+			Preconditions.checkArgument(parameterClazz == ScriptPreFired.class || parameterClazz == ScriptPostFired.class,
+				"@Subscribed method \"" + method + "\" cannot filter by script id");
+			for (int scriptId : sub.scripts())
+			{
+				builder.add(EventKey.script(parameterClazz, scriptId));
+			}
+		}
+		for (String eventName : sub.scriptCallbacks())
+		{
+			builder.add(EventKey.scriptCallback(eventName));
+		}
+
+		final Set<EventKey> keys = builder.build();
+		for (EventKey key : keys)
+		{
+			Preconditions.checkArgument(key.getType().getEventClass() == parameterClazz,
+				"@Subscribed method \"" + method + "\" cannot filter by " + key.getType());
+		}
+		return keys;
+	}
+
+	private void setSubscribers(final ImmutableMultimap<Class<?>, Subscriber> subscribers)
+	{
+		final ImmutableMap.Builder<Class<?>, Dispatch> builder = ImmutableMap.builder();
+		for (Map.Entry<Class<?>, Collection<Subscriber>> entry : subscribers.asMap().entrySet())
+		{
+			builder.put(entry.getKey(), new Dispatch(ImmutableList.copyOf(entry.getValue())));
+		}
+
+		this.subscribers = subscribers;
+		this.dispatch = builder.build();
 	}
 
 	/**
 	 * Posts provided event to all registered subscribers. Subscriber calls are invoked immediately,
-	 * ordered by priority then their declaring class' name.
+	 * ordered by priority then their declaring class' name. Subscribers registered with keys are
+	 * only invoked for events with one of their keys.
 	 *
 	 * @param event event to post
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Dispatch eventDispatch = dispatch.get(event.getClass());
+		if (eventDispatch == null)
+		{
+			return;
+		}
+
+		for (final Subscriber subscriber : eventDispatch.subscribers(event))
 		{
 			try
 			{
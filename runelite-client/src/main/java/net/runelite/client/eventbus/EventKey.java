@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.ScriptCallbackEvent;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.ScriptPreFired;
+import net.runelite.api.events.VarbitChanged;
+
+/**
+ * A key which restricts a subscriber to a subset of the events of a type, such as the
+ * {@link VarbitChanged} events of a single varbit.
+ *
+ * @see Subscribe
+ * @see EventBus#register(Class, java.util.function.Consumer, float, EventKey...)
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventKey
+{
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter(AccessLevel.PACKAGE)
+	public enum Type
+	{
+		VARBIT(VarbitChanged.class, e -> ((VarbitChanged) e).getVarbitId()),
+		VARP(VarbitChanged.class, e -> ((VarbitChanged) e).getVarpId()),
+		ITEM_CONTAINER(ItemContainerChanged.class, e -> ((ItemContainerChanged) e).getContainerId()),
+		SCRIPT_PRE_FIRED(ScriptPreFired.class, e -> ((ScriptPreFired) e).getScriptId()),
+		SCRIPT_POST_FIRED(ScriptPostFired.class, e -> ((ScriptPostFired) e).getScriptId()),
+		SCRIPT_CALLBACK(ScriptCallbackEvent.class, e -> ((ScriptCallbackEvent) e).getEventName());
+
+		/**
+		 * The event type this key applies to
+		 */
+		private final Class<?> eventClass;
+		/**
+		 * Extracts the key from an event of {@link #eventClass}
+		 */
+		private final Function<Object, Object> extractor;
+	}
+
+	private final Type type;
+	private final Object value;
+
+	/**
+	 * {@link VarbitChanged} events for the given varbit
+	 */
+	public static EventKey varbit(int varbitId)
+	{
+		return new EventKey(Type.VARBIT, varbitId);
+	}
+
+	/**
+	 * {@link VarbitChanged} events for the given varp, including changes to the varbits within it
+	 */
+	public static EventKey varp(int varpId)
+	{
+		return new EventKey(Type.VARP, varpId);
+	}
+
+	/**
+	 * {@link ItemContainerChanged} events for the given item container
+	 */
+	public static EventKey itemContainer(int containerId)
+	{
+		return new EventKey(Type.ITEM_CONTAINER, containerId);
+	}
+
+	/**
+	 * {@link ScriptPreFired} or {@link ScriptPostFired} events for the given script, depending on
+	 * the subscribed event type
+	 */
+	public static EventKey script(Class<?> eventClass, int scriptId)
+	{
+		if (eventClass == ScriptPreFired.class)
+		{
+			return new EventKey(Type.SCRIPT_PRE_FIRED, scriptId);
+		}
+		if (eventClass == ScriptPostFired.class)
+		{
+			return new EventKey(Type.SCRIPT_POST_FIRED, scriptId);
+		}
+		throw new IllegalArgumentException("Script keys can't be used with " + eventClass);
+	}
+
+	/**
+	 * {@link ScriptCallbackEvent} events with the given event name
+	 */
+	public static EventKey scriptCallback(String eventName)
+	{
+		return new EventKey(Type.SCRIPT_CALLBACK, eventName);
+	}
+}
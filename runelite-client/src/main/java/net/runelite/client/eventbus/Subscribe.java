@@ -43,4 +43,37 @@ public @interface Subscribe
 	 * @return
 	 */
 	float priority() default 0;
+
+	/**
+	 * Varbit ids to receive {@link net.runelite.api.events.VarbitChanged} events for.
+	 * If no keys are given, events are received for every varbit and varp.
+	 * @return
+	 */
+	int[] varbits() default {};
+
+	/**
+	 * Varp ids to receive {@link net.runelite.api.events.VarbitChanged} events for.
+	 * If no keys are given, events are received for every varbit and varp.
+	 * @return
+	 */
+	int[] varps() default {};
+
+	/**
+	 * Item container ids to receive {@link net.runelite.api.events.ItemContainerChanged} events for.
+	 * @return
+	 */
+	int[] itemContainers() default {};
+
+	/**
+	 * Script ids to receive {@link net.runelite.api.events.ScriptPreFired} or
+	 * {@link net.runelite.api.events.ScriptPostFired} events for.
+	 * @return
+	 */
+	int[] scripts() default {};
+
+	/**
+	 * Event names to receive {@link net.runelite.api.events.ScriptCallbackEvent} events for.
+	 * @return
+	 */
+	String[] scriptCallbacks() default {};
 }
@@ -24,10 +24,14 @@
  */
 package net.runelite.client.game;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import java.awt.image.BufferedImage;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
@@ -37,6 +41,7 @@ import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.SwingUtilities;
+import lombok.Value;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.SpritePixels;
@@ -48,21 +53,41 @@ import net.runelite.client.util.ImageUtil;
 @Singleton
 public class SpriteManager
 {
+	/**
+	 * Upper bound on the pixel data held by the cache, in bytes. Sprites and their variants
+	 * are weighed by size rather than counted, since they range from small icons to large
+	 * interface sprites.
+	 */
+	@VisibleForTesting
+	static final long CACHE_WEIGHT = 16L << 20;
+
 	private final Client client;
 	private final ClientThread clientThread;
 	private final InfoBoxManager infoBoxManager;
+	private final ScheduledExecutorService executor;
 
-	private final Cache<Long, BufferedImage> cache = CacheBuilder.newBuilder()
-		.maximumSize(128L)
+	private final Cache<SpriteKey, BufferedImage> cache = CacheBuilder.newBuilder()
+		.maximumWeight(CACHE_WEIGHT)
+		.weigher((SpriteKey key, BufferedImage img) -> img.getWidth() * img.getHeight() * 4)
 		.expireAfterAccess(1, TimeUnit.HOURS)
 		.build();
 
+	@Value
+	private static class SpriteKey
+	{
+		int archive;
+		int file;
+		@Nullable
+		SpriteVariant variant;
+	}
+
 	@Inject
-	private SpriteManager(Client client, ClientThread clientThread, InfoBoxManager infoBoxManager)
+	private SpriteManager(Client client, ClientThread clientThread, InfoBoxManager infoBoxManager, ScheduledExecutorService executor)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.infoBoxManager = infoBoxManager;
+		this.executor = executor;
 	}
 
 	@Nullable
@@ -74,7 +99,7 @@ public class SpriteManager
 			return null;
 		}
 
-		Long key = (long) archive << 32 | file;
+		SpriteKey key = new SpriteKey(archive, file, null);
 		BufferedImage cached = cache.getIfPresent(key);
 		if (cached != null)
 		{
@@ -95,7 +120,7 @@ public class SpriteManager
 
 	public void getSpriteAsync(int archive, int file, Consumer<BufferedImage> user)
 	{
-		BufferedImage cached = cache.getIfPresent((long) archive << 32 | file);
+		BufferedImage cached = cache.getIfPresent(new SpriteKey(archive, file, null));
 		if (cached != null)
 		{
 			user.accept(cached);
@@ -115,6 +140,148 @@ public class SpriteManager
 		});
 	}
 
+	/**
+	 * Gets a variant of a sprite, deriving it from the sprite if it isn't already cached
+	 */
+	@Nullable
+	public BufferedImage getSprite(int archive, int file, SpriteVariant variant)
+	{
+		BufferedImage sprite = getSprite(archive, file);
+		if (sprite == null)
+		{
+			return null;
+		}
+
+		return getVariant(archive, file, variant, sprite);
+	}
+
+	/**
+	 * Gets a variant of a sprite. The sprite is loaded on the client thread, but the variant
+	 * is derived on the executor, and the consumer is called from there.
+	 */
+	public void getSpriteAsync(int archive, int file, SpriteVariant variant, Consumer<BufferedImage> user)
+	{
+		BufferedImage cached = cache.getIfPresent(new SpriteKey(archive, file, variant));
+		if (cached != null)
+		{
+			user.accept(cached);
+			return;
+		}
+
+		getSpriteAsync(archive, file, sprite -> executor.execute(() ->
+		{
+			BufferedImage img = getVariant(archive, file, variant, sprite);
+			if (img != null)
+			{
+				user.accept(img);
+			}
+		}));
+	}
+
+	/**
+	 * Loads every sprite in the given archives with a single client thread task, and derives
+	 * the variant of each on the executor, so later lookups for them are served from the cache.
+	 *
+	 * @param variant  the variant to derive, or null to only load the sprites
+	 * @param archives the sprite archives to load
+	 */
+	public void preloadSprites(@Nullable SpriteVariant variant, int... archives)
+	{
+		preloadSprites(variant, null, archives);
+	}
+
+	/**
+	 * Loads every sprite in the given archives with a single client thread task, and derives
+	 * the variant of each on the executor. The consumer is then given the sprites of each
+	 * archive, or their variants, from the executor if a variant is given and otherwise from
+	 * the client thread.
+	 *
+	 * @param variant  the variant to derive, or null to only load the sprites
+	 * @param user     called with the sprites of each loaded archive, indexed by file
+	 * @param archives the sprite archives to load
+	 */
+	public void preloadSprites(@Nullable SpriteVariant variant, @Nullable Consumer<Map<Integer, BufferedImage[]>> user, int... archives)
+	{
+		clientThread.invoke(() ->
+		{
+			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+			{
+				// Cache isn't loaded yet
+				return false;
+			}
+
+			Map<Integer, BufferedImage[]> loaded = new HashMap<>();
+			for (int archive : archives)
+			{
+				SpritePixels[] sp = client.getSprites(client.getIndexSprites(), archive, 0);
+				if (sp == null)
+				{
+					continue;
+				}
+
+				BufferedImage[] images = new BufferedImage[sp.length];
+				for (int file = 0; file < sp.length; ++file)
+				{
+					SpriteKey key = new SpriteKey(archive, file, null);
+					BufferedImage img = cache.getIfPresent(key);
+					if (img == null)
+					{
+						img = sp[file].toBufferedImage();
+						cache.put(key, img);
+					}
+					images[file] = img;
+				}
+				loaded.put(archive, images);
+			}
+
+			if (variant != null && !loaded.isEmpty())
+			{
+				executor.execute(() ->
+				{
+					loaded.forEach((archive, images) ->
+					{
+						for (int file = 0; file < images.length; ++file)
+						{
+							images[file] = getVariant(archive, file, variant, images[file]);
+						}
+					});
+
+					if (user != null)
+					{
+						user.accept(loaded);
+					}
+				});
+			}
+			else if (user != null)
+			{
+				user.accept(loaded);
+			}
+			return true;
+		});
+	}
+
+	@Nullable
+	private BufferedImage getVariant(int archive, int file, SpriteVariant variant, BufferedImage sprite)
+	{
+		try
+		{
+			// the loader only runs once for concurrent requests of the same variant
+			return cache.get(new SpriteKey(archive, file, variant), () -> variant.apply(sprite));
+		}
+		catch (ExecutionException ex)
+		{
+			return null;
+		}
+	}
+
+	@VisibleForTesting
+	long cachedBytes()
+	{
+		return cache.asMap().values().stream()
+			.mapToLong(img -> (long) img.getWidth() * img.getHeight() * 4)
+			.sum();
+	}
+
 	public void getSpriteAsync(int archive, int file, InfoBox infoBox)
 	{
 		getSpriteAsync(archive, file, img ->
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Value;
+import net.runelite.client.util.ImageUtil;
+
+/**
+ * A derived form of a sprite, which {@link SpriteManager} caches alongside the sprite itself.
+ * The steps which are set are applied in order: the sprite is centered on a new canvas,
+ * resized, made grayscale, and then outlined.
+ */
+@Value
+@Builder
+public class SpriteVariant
+{
+	/**
+	 * Size of the canvas the sprite is centered on, or 0 to keep the sprite's own size
+	 */
+	int canvasWidth;
+	int canvasHeight;
+	/**
+	 * Size the sprite is scaled to, or 0 to not scale it
+	 */
+	int width;
+	int height;
+	boolean grayscale;
+	@Nullable
+	Color outline;
+
+	BufferedImage apply(BufferedImage image)
+	{
+		if (canvasWidth > 0 && canvasHeight > 0)
+		{
+			image = ImageUtil.resizeCanvas(image, canvasWidth, canvasHeight);
+		}
+		if (width > 0 && height > 0)
+		{
+			image = ImageUtil.resizeImage(image, width, height);
+		}
+		if (grayscale)
+		{
+			image = ImageUtil.grayscaleImage(image);
+		}
+		if (outline != null)
+		{
+			image = ImageUtil.outlineImage(image, outline);
+		}
+		return image;
+	}
+}
@@ -64,9 +64,17 @@ class NpcOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		for (HighlightedNpc highlightedNpc : highlightedNpcs.values())
+		modelOutlineRenderer.beginBatch();
+		try
 		{
-			renderNpcOverlay(graphics, highlightedNpc);
+			for (HighlightedNpc highlightedNpc : highlightedNpcs.values())
+			{
+				renderNpcOverlay(graphics, highlightedNpc);
+			}
+		}
+		finally
+		{
+			modelOutlineRenderer.endBatch();
 		}
 
 		return null;
@@ -150,6 +158,7 @@ class NpcOverlay extends Overlay
 
 			if (textLocation != null)
 			{
+				modelOutlineRenderer.flushBatch();
 				OverlayUtil.renderTextLocation(graphics, textLocation, npcName, borderColor);
 			}
 		}
@@ -159,6 +168,8 @@ class NpcOverlay extends Overlay
 	{
 		if (polygon != null)
 		{
+			// keep the outlines queued so far underneath, as if they had been drawn immediately
+			modelOutlineRenderer.flushBatch();
 			graphics.setColor(borderColor);
 			graphics.setStroke(new BasicStroke(borderWidth));
 			graphics.draw(polygon);
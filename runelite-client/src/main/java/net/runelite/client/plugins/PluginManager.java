@@ -37,8 +37,11 @@ import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,17 +49,21 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -87,6 +94,14 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	/**
+	 * Plugin index generated at build time
+	 */
+	private static final String PLUGIN_INDEX = "runelite/plugins";
+	/**
+	 * Maximum time spent starting plugins per trip to the EDT during startup
+	 */
+	private static final long START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -225,21 +240,40 @@ public class PluginManager
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
+		Map<Plugin, Long> startTimes = new HashMap<>();
+		long start = System.nanoTime();
 		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		while (loaded < scannedPlugins.size())
 		{
+			// startUp must run on the EDT, so the plugins themselves still start one after another;
+			// batching them into time slices only saves waiting on the EDT once per plugin, while
+			// still letting the splash screen repaint between slices
+			final int from = loaded;
+			final int[] to = new int[1];
 			try
 			{
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
+					long deadline = System.nanoTime() + START_BATCH_NANOS;
+					int i = from;
+					do
 					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
-					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+						Plugin plugin = scannedPlugins.get(i++);
+						long pluginStart = System.nanoTime();
+						try
+						{
+							if (startPlugin(plugin))
+							{
+								startTimes.put(plugin, System.nanoTime() - pluginStart);
+							}
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+						}
 					}
+					while (i < scannedPlugins.size() && System.nanoTime() < deadline);
+					to[0] = i;
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -247,10 +281,18 @@ public class PluginManager
 				throw new RuntimeException(e);
 			}
 
-			loaded++;
+			loaded = to[0];
 			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
 		}
 
+		if (log.isDebugEnabled())
+		{
+			startTimes.entrySet().stream()
+				.sorted(Map.Entry.<Plugin, Long>comparingByValue().reversed())
+				.forEach(e -> log.debug("Plugin {} started in {}ms", e.getKey().getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(e.getValue())));
+		}
+		log.debug("Started {} plugins in {}ms", startTimes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
 		for (Plugin plugin : plugins)
 		{
 			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
@@ -260,11 +302,19 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		List<Class<?>> plugins = loadIndexedPlugins(getClass().getClassLoader());
+		if (plugins == null)
+		{
+			// The index is missing when running from an IDE without a maven build,
+			// so fall back to scanning the classpath
+			log.debug("No plugin index found, scanning classpath for plugins");
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
@@ -293,11 +343,15 @@ public class PluginManager
 				{
 					ClassLoader classLoader = new PluginClassLoader(f, getClass().getClassLoader());
 
-					List<Class<?>> plugins = ClassPath.from(classLoader)
-						.getAllClasses()
-						.stream()
-						.map(ClassInfo::load)
-						.collect(Collectors.toList());
+					List<Class<?>> plugins = loadIndexedPlugins(classLoader);
+					if (plugins == null)
+					{
+						plugins = ClassPath.from(classLoader)
+							.getAllClasses()
+							.stream()
+							.map(ClassInfo::load)
+							.collect(Collectors.toList());
+					}
 
 					loadPlugins(plugins, null);
 				}
@@ -309,6 +363,56 @@ public class PluginManager
 		}
 	}
 
+	/**
+	 * Loads the plugin classes listed in the plugin index built by the runelite-maven-plugin, so that
+	 * plugins can be found without loading every class on the classpath. Developer plugins are not
+	 * loaded outside of developer mode.
+	 *
+	 * @param classLoader class loader to read the index from and load the plugins with
+	 * @return the plugin classes, or null if the class loader has no plugin index
+	 */
+	@Nullable
+	private List<Class<?>> loadIndexedPlugins(ClassLoader classLoader) throws IOException
+	{
+		try (InputStream in = classLoader.getResourceAsStream(PLUGIN_INDEX))
+		{
+			if (in == null)
+			{
+				return null;
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			List<Class<?>> plugins = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty())
+				{
+					continue;
+				}
+
+				// class name, followed by tab separated key=value descriptor fields
+				String[] fields = line.split("\t");
+				if (!developerMode && Arrays.asList(fields).contains("developerPlugin=true"))
+				{
+					continue;
+				}
+
+				try
+				{
+					plugins.add(classLoader.loadClass(fields[0]));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					log.warn("Plugin {} from the plugin index does not exist", fields[0], ex);
+				}
+			}
+
+			log.debug("Loaded {} plugin classes from the plugin index", plugins.size());
+			return plugins;
+		}
+	}
+
 	public List<Plugin> loadPlugins(List<Class<?>> plugins, BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
 	{
 		MutableGraph<Class<? extends Plugin>> graph = GraphBuilder
@@ -372,16 +476,26 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
+		// Child injector creation is serialized by Guice, so plugins are instantiated one at a time
+		// in dependency order; the map only saves scanning the plugin list for each dependency
+		Map<Class<?>, Plugin> available = new HashMap<>();
+		for (Plugin plugin : this.plugins)
+		{
+			available.put(plugin.getClass(), plugin);
+		}
+
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
 		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 		{
-			Plugin plugin;
+			long start = System.nanoTime();
 			try
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
+				Plugin plugin = instantiate(available, (Class<Plugin>) pluginClazz);
+				available.put(pluginClazz, plugin);
 				newPlugins.add(plugin);
 				this.plugins.add(plugin);
+				log.debug("Loaded plugin {} in {}ms", pluginClazz.getSimpleName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 			}
 			catch (PluginInstantiationException ex)
 			{
@@ -532,18 +646,18 @@ public class PluginManager
 		return activePlugins.contains(plugin);
 	}
 
-	private Plugin instantiate(List<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
+	private Plugin instantiate(Map<Class<?>, Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
 	{
 		PluginDependency[] pluginDependencies = clazz.getAnnotationsByType(PluginDependency.class);
 		List<Plugin> deps = new ArrayList<>();
 		for (PluginDependency pluginDependency : pluginDependencies)
 		{
-			Optional<Plugin> dependency = scannedPlugins.stream().filter(p -> p.getClass() == pluginDependency.value()).findFirst();
-			if (!dependency.isPresent())
+			Plugin dependency = scannedPlugins.get(pluginDependency.value());
+			if (dependency == null)
 			{
 				throw new PluginInstantiationException("Unmet dependency for " + clazz.getSimpleName() + ": " + pluginDependency.value().getSimpleName());
 			}
-			deps.add(dependency.get());
+			deps.add(dependency);
 		}
 
 		Plugin plugin;
@@ -602,7 +716,6 @@ public class PluginManager
 			throw new PluginInstantiationException(ex);
 		}
 
-		log.debug("Loaded plugin {}", clazz.getSimpleName());
 		return plugin;
 	}
 
@@ -42,7 +42,9 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -940,23 +942,37 @@ public class ChatCommandsPlugin extends Plugin
 
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
+		submitAndResume(chatInput, "unable to submit killcount", () -> chatClient.submitKcAsync(playerName, boss, kc));
+
+		return true;
+	}
+
+	/**
+	 * Sends a submission and resumes the chat input once it completes, or straight away if the
+	 * submission could not be started.
+	 */
+	private void submitAndResume(ChatInput chatInput, String error, Supplier<CompletableFuture<Boolean>> submission)
+	{
+		final CompletableFuture<Boolean> future;
+		try
 		{
-			try
-			{
-				chatClient.submitKc(playerName, boss, kc);
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit killcount", ex);
-			}
-			finally
+			future = submission.get();
+		}
+		catch (RuntimeException ex)
+		{
+			log.warn(error, ex);
+			chatInput.resume();
+			return;
+		}
+
+		future.whenCompleteAsync((success, ex) ->
+		{
+			if (ex != null)
 			{
-				chatInput.resume();
+				log.warn(error, ex);
 			}
-		});
-
-		return true;
+			chatInput.resume();
+		}, executor);
 	}
 
 	@VisibleForTesting
@@ -1027,21 +1043,7 @@ public class ChatCommandsPlugin extends Plugin
 
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
-		{
-			try
-			{
-				chatClient.submitDuels(playerName, wins, losses, winningStreak, losingStreak);
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit duels", ex);
-			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+		submitAndResume(chatInput, "unable to submit duels", () -> chatClient.submitDuelsAsync(playerName, wins, losses, winningStreak, losingStreak));
 
 		return true;
 	}
@@ -1150,21 +1152,7 @@ public class ChatCommandsPlugin extends Plugin
 		final int qp = client.getVarpValue(VarPlayerID.QP);
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
-		{
-			try
-			{
-				chatClient.submitQp(playerName, qp);
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit quest points", ex);
-			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+		submitAndResume(chatInput, "unable to submit quest points", () -> chatClient.submitQpAsync(playerName, qp));
 
 		return true;
 	}
@@ -1235,21 +1223,7 @@ public class ChatCommandsPlugin extends Plugin
 
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
-		{
-			try
-			{
-				chatClient.submitPb(playerName, boss, pb);
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit personal best", ex);
-			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+		submitAndResume(chatInput, "unable to submit personal best", () -> chatClient.submitPbAsync(playerName, boss, pb));
 
 		return true;
 	}
@@ -1302,21 +1276,7 @@ public class ChatCommandsPlugin extends Plugin
 		final int gc = client.getVarbitValue(VarbitID.BARBASSAULT_GAMBLECOUNT);
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
-		{
-			try
-			{
-				chatClient.submitGc(playerName, gc);
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit gamble count", ex);
-			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+		submitAndResume(chatInput, "unable to submit gamble count", () -> chatClient.submitGcAsync(playerName, gc));
 
 		return true;
 	}
@@ -1402,22 +1362,14 @@ public class ChatCommandsPlugin extends Plugin
 
 		executor.execute(() ->
 		{
-			try
-			{
-				List<Integer> petList = getPetList();
-				if (!petList.isEmpty())
-				{
-					chatClient.submitPetList(playerName, petList);
-				}
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit pet list", ex);
-			}
-			finally
+			List<Integer> petList = getPetList();
+			if (petList.isEmpty())
 			{
 				chatInput.resume();
+				return;
 			}
+
+			submitAndResume(chatInput, "unable to submit pet list", () -> chatClient.submitPetListAsync(playerName, petList));
 		});
 
 		return true;
@@ -1476,21 +1428,7 @@ public class ChatCommandsPlugin extends Plugin
 			client.getVarbitValue(VarbitID.CA_TOTAL_TASKS_COMPLETED_GRANDMASTER);
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
-		{
-			try
-			{
-				chatClient.submitKc(playerName, "Combat Achievements", tasks);
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit combat achievements", ex);
-			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+		submitAndResume(chatInput, "unable to submit combat achievements", () -> chatClient.submitKcAsync(playerName, "Combat Achievements", tasks));
 
 		return true;
 	}
@@ -1543,21 +1481,7 @@ public class ChatCommandsPlugin extends Plugin
 		final int clog = client.getVarpValue(VarPlayerID.COLLECTION_COUNT);
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
-		{
-			try
-			{
-				chatClient.submitKc(playerName, "Collections Logged", clog);
-			}
-			catch (Exception ex)
-			{
-				log.warn("unable to submit clog", ex);
-			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+		submitAndResume(chatInput, "unable to submit clog", () -> chatClient.submitKcAsync(playerName, "Collections Logged", clog));
 
 		return true;
 	}
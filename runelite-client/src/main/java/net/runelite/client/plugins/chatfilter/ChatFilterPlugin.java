@@ -175,14 +175,9 @@ public class ChatFilterPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(scriptCallbacks = "chatFilterCheck")
 	public void onScriptCallbackEvent(ScriptCallbackEvent event)
 	{
-		if (!"chatFilterCheck".equals(event.getEventName()))
-		{
-			return;
-		}
-
 		int[] intStack = client.getIntStack();
 		int intStackSize = client.getIntStackSize();
 		Object[] objectStack = client.getObjectStack();
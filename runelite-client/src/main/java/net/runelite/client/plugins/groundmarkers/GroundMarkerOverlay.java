@@ -32,7 +32,9 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Stroke;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -44,6 +46,7 @@ import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.TileProjectionService;
 
 public class GroundMarkerOverlay extends Overlay
 {
@@ -52,13 +55,17 @@ public class GroundMarkerOverlay extends Overlay
 	private final Client client;
 	private final GroundMarkerConfig config;
 	private final GroundMarkerPlugin plugin;
+	private final TileProjectionService tileProjectionService;
+	private final TileProjectionService.Batch batch = new TileProjectionService.Batch();
+	private final List<ColorTileMarker> visiblePoints = new ArrayList<>();
 
 	@Inject
-	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin)
+	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin, TileProjectionService tileProjectionService)
 	{
 		this.client = client;
 		this.config = config;
 		this.plugin = plugin;
+		this.tileProjectionService = tileProjectionService;
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(PRIORITY_LOW);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -73,15 +80,28 @@ public class GroundMarkerOverlay extends Overlay
 			return null;
 		}
 
-		Stroke stroke = new BasicStroke((float) config.borderWidth());
+		final WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+		visiblePoints.clear();
+		batch.clear();
 		for (final ColorTileMarker point : points)
 		{
 			WorldPoint worldPoint = point.getWorldPoint();
-			if (worldPoint.getPlane() != client.getPlane())
+			if (worldPoint.getPlane() != client.getPlane() || worldPoint.distanceTo(playerLocation) >= MAX_DRAW_DISTANCE)
 			{
 				continue;
 			}
 
+			visiblePoints.add(point);
+			batch.add(worldPoint.getX(), worldPoint.getY());
+		}
+
+		// the polygons are only reprojected if the camera or the visible markers have changed
+		tileProjectionService.project(batch);
+
+		Stroke stroke = new BasicStroke((float) config.borderWidth());
+		for (int i = 0; i < visiblePoints.size(); ++i)
+		{
+			final ColorTileMarker point = visiblePoints.get(i);
 			Color tileColor = point.getColor();
 			if (tileColor == null)
 			{
@@ -89,28 +109,14 @@ public class GroundMarkerOverlay extends Overlay
 				tileColor = config.markerColor();
 			}
 
-			drawTile(graphics, worldPoint, tileColor, point.getLabel(), stroke);
+			drawTile(graphics, point.getWorldPoint(), batch.getPolygon(i), tileColor, point.getLabel(), stroke);
 		}
 
 		return null;
 	}
 
-	private void drawTile(Graphics2D graphics, WorldPoint point, Color color, @Nullable String label, Stroke borderStroke)
+	private void drawTile(Graphics2D graphics, WorldPoint point, @Nullable Polygon poly, Color color, @Nullable String label, Stroke borderStroke)
 	{
-		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
-
-		if (point.distanceTo(playerLocation) >= MAX_DRAW_DISTANCE)
-		{
-			return;
-		}
-
-		LocalPoint lp = LocalPoint.fromWorld(client, point);
-		if (lp == null)
-		{
-			return;
-		}
-
-		Polygon poly = Perspective.getCanvasTilePoly(client, lp);
 		if (poly != null)
 		{
 			OverlayUtil.renderPolygon(graphics, poly, color, new Color(0, 0, 0, config.fillOpacity()), borderStroke);
@@ -118,6 +124,12 @@ public class GroundMarkerOverlay extends Overlay
 
 		if (!Strings.isNullOrEmpty(label))
 		{
+			LocalPoint lp = LocalPoint.fromWorld(client, point);
+			if (lp == null)
+			{
+				return;
+			}
+
 			Point canvasTextLocation = Perspective.getCanvasTextLocation(client, graphics, lp, label, 0);
 			if (canvasTextLocation != null)
 			{
@@ -49,6 +49,7 @@ import net.runelite.api.Menu;
 import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.Tile;
+import net.runelite.api.coords.InstanceTemplateIndex;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameStateChanged;
@@ -156,12 +157,14 @@ public class GroundMarkerPlugin extends Plugin
 			return;
 		}
 
+		// index the instance template chunks once for all of the regions
+		final InstanceTemplateIndex instanceTemplateIndex = InstanceTemplateIndex.of(client.getTopLevelWorldView());
 		for (int regionId : regions)
 		{
 			// load points for region
 			log.debug("Loading points for region {}", regionId);
 			Collection<GroundMarkerPoint> regionPoints = getPoints(regionId);
-			Collection<ColorTileMarker> colorTileMarkers = translateToColorTileMarker(regionPoints);
+			Collection<ColorTileMarker> colorTileMarkers = translateToColorTileMarker(regionPoints, instanceTemplateIndex);
 			points.addAll(colorTileMarkers);
 		}
 	}
@@ -170,10 +173,11 @@ public class GroundMarkerPlugin extends Plugin
 	 * Translate a collection of ground marker points to color tile markers, accounting for instances
 	 *
 	 * @param points {@link GroundMarkerPoint}s to be converted to {@link ColorTileMarker}s
+	 * @param instanceTemplateIndex index of the instance template chunks of the scene
 	 * @return A collection of color tile markers, converted from the passed ground marker points, accounting for local
 	 *         instance points. See {@link WorldPoint#toLocalInstance(Client, WorldPoint)}
 	 */
-	private Collection<ColorTileMarker> translateToColorTileMarker(Collection<GroundMarkerPoint> points)
+	private Collection<ColorTileMarker> translateToColorTileMarker(Collection<GroundMarkerPoint> points, InstanceTemplateIndex instanceTemplateIndex)
 	{
 		if (points.isEmpty())
 		{
@@ -186,7 +190,7 @@ public class GroundMarkerPlugin extends Plugin
 				point.getColor(), point.getLabel()))
 			.flatMap(colorTile ->
 			{
-				final Collection<WorldPoint> localWorldPoints = WorldPoint.toLocalInstance(client, colorTile.getWorldPoint());
+				final Collection<WorldPoint> localWorldPoints = instanceTemplateIndex.toLocalInstance(colorTile.getWorldPoint());
 				return localWorldPoints.stream().map(wp -> new ColorTileMarker(wp, colorTile.getColor(), colorTile.getLabel()));
 			})
 			.collect(Collectors.toList());
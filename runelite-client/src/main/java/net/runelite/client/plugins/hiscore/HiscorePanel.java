@@ -54,6 +54,7 @@ import net.runelite.api.Experience;
 import net.runelite.api.Player;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.client.game.SpriteManager;
+import net.runelite.client.game.SpriteVariant;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.PluginPanel;
@@ -126,6 +127,15 @@ public class HiscorePanel extends PluginPanel
 		HiscoreEndpoint.DEADMAN, HiscoreEndpoint.PURE, HiscoreEndpoint.LEVEL_3_SKILLER, HiscoreEndpoint.LEAGUE
 	};
 
+	// Icons are all 25x25 or smaller, so they're fit into a 25x25 canvas to give them a consistent size for
+	// better alignment. Further, they are then scaled down to 20x20 to not be overly large in the panel.
+	private static final SpriteVariant ICON_VARIANT = SpriteVariant.builder()
+		.canvasWidth(25)
+		.canvasHeight(25)
+		.width(20)
+		.height(20)
+		.build();
+
 	private final HiscorePlugin plugin;
 	private final HiscoreConfig config;
 	private final NameAutocompleter nameAutocompleter;
@@ -308,9 +318,34 @@ public class HiscorePanel extends PluginPanel
 		add(bossPanel, c);
 		c.gridy++;
 
+		loadIcons();
+
 		addInputKeyListener(nameAutocompleter);
 	}
 
+	/* Loads the icon of every label with a single client thread task */
+	private void loadIcons()
+	{
+		Map<JLabel, Integer> labelSprites = new HashMap<>();
+		for (Map.Entry<HiscoreSkill, JLabel> entry : skillLabels.entrySet())
+		{
+			HiscoreSkill skill = entry.getKey();
+			labelSprites.put(entry.getValue(), skill == null ? SpriteID.SideIcons.COMBAT : skill.getSpriteId());
+		}
+
+		spriteManager.preloadSprites(ICON_VARIANT, sprites -> SwingUtilities.invokeLater(() ->
+		{
+			for (Map.Entry<JLabel, Integer> entry : labelSprites.entrySet())
+			{
+				BufferedImage[] images = sprites.get(entry.getValue());
+				if (images != null && images.length > 0 && images[0] != null)
+				{
+					entry.getKey().setIcon(new ImageIcon(images[0]));
+				}
+			}
+		}), labelSprites.values().stream().mapToInt(Integer::intValue).distinct().toArray());
+	}
+
 	void shutdown()
 	{
 		removeInputKeyListener(nameAutocompleter);
@@ -333,15 +368,6 @@ public class HiscorePanel extends PluginPanel
 		label.setFont(FontManager.getRunescapeSmallFont());
 		label.setText(pad("--", skillType));
 
-		spriteManager.getSpriteAsync(skill == null ? SpriteID.SideIcons.COMBAT : skill.getSpriteId(), 0, (sprite) ->
-			SwingUtilities.invokeLater(() ->
-			{
-				// Icons are all 25x25 or smaller, so they're fit into a 25x25 canvas to give them a consistent size for
-				// better alignment. Further, they are then scaled down to 20x20 to not be overly large in the panel.
-				final BufferedImage scaledSprite = ImageUtil.resizeImage(ImageUtil.resizeCanvas(sprite, 25, 25), 20, 20);
-				label.setIcon(new ImageIcon(scaledSprite));
-			}));
-
 		boolean totalLabel = skill == OVERALL || skill == null; //overall or combat
 		label.setIconTextGap(totalLabel ? 10 : 4);
 
@@ -25,7 +25,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import java.time.Instant;
-import java.util.Arrays;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -50,24 +49,73 @@ class ConfigLoot
 		this.drops = new int[0];
 	}
 
+	ConfigLoot(ConfigLoot other)
+	{
+		this.type = other.type;
+		this.name = other.name;
+		this.kills = other.kills;
+		this.first = other.first;
+		this.last = other.last;
+		this.drops = other.drops.clone();
+	}
+
+	/**
+	 * Adds a drop. Drops are kept sorted by item id so that lookups are a
+	 * binary search over the id/quantity pairs.
+	 */
 	void add(int id, int qty)
 	{
-		for (int i = 0; i < drops.length; i += 2)
+		int idx = indexOf(id);
+		if (idx >= 0)
 		{
-			if (drops[i] == id)
+			drops[idx + 1] += qty;
+			if (drops[idx + 1] < 0)
 			{
-				drops[i + 1] += qty;
-				if (drops[i + 1] < 0)
-				{
-					drops[i + 1] = Integer.MAX_VALUE;
-				}
-				return;
+				drops[idx + 1] = Integer.MAX_VALUE;
 			}
+			return;
 		}
 
-		drops = Arrays.copyOf(drops, drops.length + 2);
-		drops[drops.length - 2] = id;
-		drops[drops.length - 1] = qty;
+		idx = -idx - 1;
+		int[] newDrops = new int[drops.length + 2];
+		System.arraycopy(drops, 0, newDrops, 0, idx);
+		System.arraycopy(drops, idx, newDrops, idx + 2, drops.length - idx);
+		newDrops[idx] = id;
+		newDrops[idx + 1] = qty;
+		drops = newDrops;
+	}
+
+	private int indexOf(int id)
+	{
+		int lo = 0;
+		int hi = drops.length / 2 - 1;
+		while (lo <= hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			int midId = drops[mid * 2];
+			if (midId < id)
+			{
+				lo = mid + 1;
+			}
+			else if (midId > id)
+			{
+				hi = mid - 1;
+			}
+			else
+			{
+				return mid * 2;
+			}
+		}
+		return -(lo * 2) - 1;
+	}
+
+	/**
+	 * Get the quantity dropped of an item, or 0 if it wasn't dropped
+	 */
+	int getQuantity(int id)
+	{
+		int idx = indexOf(id);
+		return idx >= 0 ? drops[idx + 1] : 0;
 	}
 
 	int numDrops()
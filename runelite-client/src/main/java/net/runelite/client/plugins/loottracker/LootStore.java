@@ -0,0 +1,621 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import com.google.common.io.CountingInputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Loot history for a profile, stored as an append-only journal on disk and
+ * kept in memory as one aggregate per loot source. The journal for a profile
+ * is only read the first time the profile is used, and is rewritten as a
+ * single entry per source once enough superseded entries have built up.
+ * <p>
+ * A journal which can't be read is never rewritten or deleted. A journal of an
+ * unknown version, or one which fails to read, is left alone and the profile is
+ * not loaded. A journal which is damaged is moved aside, and only a partially
+ * written final entry is truncated in place.
+ * <p>
+ * Loot which is kept elsewhere, such as in the synced profile config, is brought
+ * in with {@link #importLoot}. The journal also records the last imported copy of
+ * each such record, so only what has been added to a record since is merged.
+ */
+@Slf4j
+class LootStore
+{
+	private static final int MAGIC = 0x4c4f4f54; // LOOT
+	private static final int VERSION = 1;
+
+	private static final int OP_ADD = 1;
+	private static final int OP_REMOVE = 2;
+	// merge what an imported record gained since it was last imported, and remember it
+	private static final int OP_IMPORT = 3;
+	// remember an imported record, written in place of OP_IMPORT when compacting
+	private static final int OP_IMPORTED = 4;
+
+	// more than the number of distinct items
+	private static final int MAX_DROPS = 1 << 16;
+
+	private static final int COMPACT_MIN_ENTRIES = 256;
+	private static final int COMPACT_RATIO = 4;
+
+	private final File directory;
+	private final Map<ConfigLoot, ConfigLoot> loots = new LinkedHashMap<>();
+	private final Map<ConfigLoot, ConfigLoot> imported = new LinkedHashMap<>();
+	private String profile;
+	private int entries;
+
+	LootStore(File directory)
+	{
+		this.directory = directory;
+	}
+
+	/**
+	 * Get a copy of the aggregated loot for each source of the profile
+	 */
+	synchronized List<ConfigLoot> getLoots(String profile) throws IOException
+	{
+		load(profile);
+
+		List<ConfigLoot> copy = new ArrayList<>(loots.size());
+		for (ConfigLoot loot : loots.values())
+		{
+			copy.add(new ConfigLoot(loot));
+		}
+		return copy;
+	}
+
+	/**
+	 * Merge loot into the profile's aggregates and append it to the journal
+	 */
+	synchronized void add(String profile, Collection<ConfigLoot> records) throws IOException
+	{
+		load(profile);
+
+		append(out ->
+		{
+			for (ConfigLoot record : records)
+			{
+				writeLoot(out, OP_ADD, record);
+			}
+		}, records.size());
+
+		for (ConfigLoot record : records)
+		{
+			merge(record);
+		}
+	}
+
+	/**
+	 * Import loot records which are kept outside of the store. Only the kills and drops a record
+	 * has gained since it was last imported are merged, so importing the same records again,
+	 * or a record which was already removed from the store, has no effect.
+	 */
+	synchronized void importLoot(String profile, Collection<ConfigLoot> records) throws IOException
+	{
+		load(profile);
+
+		List<ConfigLoot> changed = new ArrayList<>();
+		for (ConfigLoot record : records)
+		{
+			ConfigLoot previous = imported.get(record);
+			if (previous == null || previous.kills != record.kills || !Arrays.equals(previous.drops, record.drops))
+			{
+				changed.add(new ConfigLoot(record));
+			}
+		}
+
+		if (changed.isEmpty())
+		{
+			return;
+		}
+
+		append(out ->
+		{
+			for (ConfigLoot record : changed)
+			{
+				writeLoot(out, OP_IMPORT, record);
+			}
+		}, changed.size());
+
+		for (ConfigLoot record : changed)
+		{
+			applyImport(record);
+		}
+	}
+
+	synchronized void remove(String profile, LootRecordType type, String name) throws IOException
+	{
+		load(profile);
+
+		ConfigLoot key = new ConfigLoot(type, name);
+		if (!loots.containsKey(key))
+		{
+			return;
+		}
+
+		append(out ->
+		{
+			out.writeByte(OP_REMOVE);
+			out.writeUTF(type.name());
+			out.writeUTF(name);
+		}, 1);
+
+		loots.remove(key);
+	}
+
+	synchronized void removeAll(String profile) throws IOException
+	{
+		load(profile);
+
+		// the imported records are kept, so that they aren't imported again
+		loots.clear();
+		try
+		{
+			rewrite(file(profile));
+		}
+		catch (IOException ex)
+		{
+			// the journal is unchanged, so reload it before it is used again
+			close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Rewrite the journal of the profile if it is currently loaded and
+	 * mostly made up of superseded entries
+	 */
+	synchronized void compact(String profile)
+	{
+		if (!profile.equals(this.profile))
+		{
+			return;
+		}
+
+		if (entries >= COMPACT_MIN_ENTRIES && entries >= (loots.size() + imported.size()) * COMPACT_RATIO)
+		{
+			log.debug("Compacting loot journal of {} entries into {}", entries, loots.size() + imported.size());
+			try
+			{
+				rewrite(file(profile));
+			}
+			catch (IOException ex)
+			{
+				log.warn("error compacting loot journal", ex);
+			}
+		}
+	}
+
+	/**
+	 * Drop the in-memory aggregates, the next access will reload them from disk
+	 */
+	synchronized void close()
+	{
+		profile = null;
+		loots.clear();
+		imported.clear();
+		entries = 0;
+	}
+
+	private File file(String profile)
+	{
+		return new File(directory, profile + ".dat");
+	}
+
+	private void load(String profile) throws IOException
+	{
+		if (profile.equals(this.profile))
+		{
+			return;
+		}
+
+		// the profile is only considered loaded once its journal has been read successfully
+		this.profile = null;
+		loots.clear();
+		imported.clear();
+		entries = 0;
+
+		File file = file(profile);
+		if (file.exists())
+		{
+			read(file);
+		}
+
+		this.profile = profile;
+		log.debug("Loaded {} loot sources from {} journal entries", loots.size(), entries);
+	}
+
+	private void read(File file) throws IOException
+	{
+		long end = -1L;
+		boolean damaged = false;
+		try (CountingInputStream counting = new CountingInputStream(new BufferedInputStream(new FileInputStream(file)));
+			DataInputStream in = new DataInputStream(counting))
+		{
+			int magic;
+			int version;
+			try
+			{
+				magic = in.readInt();
+				version = in.readUnsignedByte();
+			}
+			catch (EOFException ex)
+			{
+				magic = version = -1;
+			}
+
+			if (magic != MAGIC)
+			{
+				log.warn("Loot journal {} has an unknown format", file);
+				damaged = true;
+			}
+			else if (version != VERSION)
+			{
+				// possibly written by a newer client, so leave it alone
+				throw new IOException("loot journal " + file + " has unsupported version " + version);
+			}
+			else
+			{
+				try
+				{
+					end = replay(counting, in);
+				}
+				catch (DamagedJournalException ex)
+				{
+					log.warn("Loot journal {} is damaged", file, ex);
+					damaged = true;
+				}
+			}
+		}
+
+		if (damaged)
+		{
+			// keep the damaged journal, and start a new one from what could be read of it
+			File aside = new File(directory, file.getName() + "." + System.currentTimeMillis() + ".corrupt");
+			Files.move(file.toPath(), aside.toPath());
+			log.warn("Moved damaged loot journal to {}", aside);
+			if (!loots.isEmpty() || !imported.isEmpty())
+			{
+				rewrite(file);
+			}
+		}
+		else if (end != -1L)
+		{
+			// never append after a partially written entry
+			log.warn("Truncating partially written entry of loot journal {}", file);
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE))
+			{
+				channel.truncate(end);
+			}
+		}
+	}
+
+	/**
+	 * Replay the entries of the journal
+	 *
+	 * @return the offset of a partially written final entry, or -1 if the journal is complete
+	 */
+	private long replay(CountingInputStream counting, DataInputStream in) throws IOException
+	{
+		for (;;)
+		{
+			long offset = counting.getCount();
+			int op = in.read();
+			if (op == -1)
+			{
+				return -1L;
+			}
+
+			try
+			{
+				switch (op)
+				{
+					case OP_ADD:
+						replayAdd(in);
+						break;
+					case OP_REMOVE:
+						replayRemove(in);
+						break;
+					case OP_IMPORT:
+						replayImport(in, true);
+						break;
+					case OP_IMPORTED:
+						replayImport(in, false);
+						break;
+					default:
+						throw new DamagedJournalException("unknown op " + op + " at offset " + offset);
+				}
+			}
+			catch (EOFException ex)
+			{
+				return offset;
+			}
+			catch (UTFDataFormatException ex)
+			{
+				throw new DamagedJournalException("malformed entry at offset " + offset);
+			}
+
+			++entries;
+		}
+	}
+
+	private void replayAdd(DataInputStream in) throws IOException
+	{
+		ConfigLoot loot = readLoot(in);
+		if (loot != null)
+		{
+			merge(loot);
+		}
+	}
+
+	private void replayImport(DataInputStream in, boolean merge) throws IOException
+	{
+		ConfigLoot loot = readLoot(in);
+		if (loot == null)
+		{
+			return;
+		}
+
+		if (merge)
+		{
+			applyImport(loot);
+		}
+		else
+		{
+			imported.put(loot, loot);
+		}
+	}
+
+	private static ConfigLoot readLoot(DataInputStream in) throws IOException
+	{
+		String type = in.readUTF();
+		String name = in.readUTF();
+		Instant first = Instant.ofEpochMilli(in.readLong());
+		Instant last = Instant.ofEpochMilli(in.readLong());
+		int kills = in.readInt();
+		int count = in.readInt();
+		if (count < 0 || count > MAX_DROPS)
+		{
+			throw new DamagedJournalException("invalid drop count " + count);
+		}
+
+		int[] drops = new int[count * 2];
+		for (int i = 0; i < drops.length; ++i)
+		{
+			drops[i] = in.readInt();
+		}
+
+		LootRecordType recordType = parseType(type);
+		if (recordType == null)
+		{
+			return null;
+		}
+
+		ConfigLoot loot = new ConfigLoot(recordType, name);
+		loot.kills = kills;
+		loot.first = first;
+		loot.last = last;
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			loot.add(drops[i], drops[i + 1]);
+		}
+		return loot;
+	}
+
+	private void merge(ConfigLoot record)
+	{
+		ConfigLoot loot = loots.get(record);
+		if (loot == null)
+		{
+			loots.put(record, new ConfigLoot(record));
+			return;
+		}
+
+		loot.kills += record.kills;
+		for (int i = 0; i < record.drops.length; i += 2)
+		{
+			loot.add(record.drops[i], record.drops[i + 1]);
+		}
+		if (record.first.isBefore(loot.first))
+		{
+			loot.first = record.first;
+		}
+		if (loot.last == null || (record.last != null && record.last.isAfter(loot.last)))
+		{
+			loot.last = record.last;
+		}
+	}
+
+	/**
+	 * Merge what an imported record has gained since its last import. A record with fewer kills
+	 * than when it was last imported has been cleared and started over, so all of it is new.
+	 */
+	private void applyImport(ConfigLoot record)
+	{
+		ConfigLoot previous = imported.put(record, record);
+		if (previous == null || record.kills < previous.kills)
+		{
+			merge(record);
+			return;
+		}
+
+		ConfigLoot gained = new ConfigLoot(record.type, record.name);
+		gained.kills = record.kills - previous.kills;
+		gained.first = record.first;
+		gained.last = record.last;
+		for (int i = 0; i < record.drops.length; i += 2)
+		{
+			int qty = record.drops[i + 1] - previous.getQuantity(record.drops[i]);
+			if (qty > 0)
+			{
+				gained.add(record.drops[i], qty);
+			}
+		}
+
+		if (gained.kills > 0 || gained.drops.length > 0)
+		{
+			merge(gained);
+		}
+	}
+
+	private void replayRemove(DataInputStream in) throws IOException
+	{
+		String type = in.readUTF();
+		String name = in.readUTF();
+
+		LootRecordType recordType = parseType(type);
+		if (recordType != null)
+		{
+			loots.remove(new ConfigLoot(recordType, name));
+		}
+	}
+
+	private static LootRecordType parseType(String type)
+	{
+		try
+		{
+			return LootRecordType.valueOf(type);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			log.debug("Skipping loot with unknown type {}", type);
+			return null;
+		}
+	}
+
+	private static void writeLoot(DataOutputStream out, int op, ConfigLoot loot) throws IOException
+	{
+		Instant last = loot.last != null ? loot.last : loot.first;
+		out.writeByte(op);
+		out.writeUTF(loot.type.name());
+		out.writeUTF(loot.name);
+		out.writeLong(loot.first.toEpochMilli());
+		out.writeLong(last.toEpochMilli());
+		out.writeInt(loot.kills);
+		out.writeInt(loot.drops.length / 2);
+		for (int drop : loot.drops)
+		{
+			out.writeInt(drop);
+		}
+	}
+
+	private void append(JournalWriter writer, int count) throws IOException
+	{
+		File file = file(profile);
+		directory.mkdirs();
+
+		boolean header = !file.exists() || file.length() == 0;
+		try (FileOutputStream fos = new FileOutputStream(file, true))
+		{
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos));
+			if (header)
+			{
+				out.writeInt(MAGIC);
+				out.writeByte(VERSION);
+			}
+			writer.write(out);
+			out.flush();
+			fos.getFD().sync();
+		}
+		catch (IOException ex)
+		{
+			// the journal may now end with a partial entry, so reload it before it is used again
+			close();
+			throw ex;
+		}
+
+		entries += count;
+	}
+
+	private void rewrite(File file) throws IOException
+	{
+		if (loots.isEmpty() && imported.isEmpty())
+		{
+			Files.deleteIfExists(file.toPath());
+			entries = 0;
+			return;
+		}
+
+		directory.mkdirs();
+
+		File tmp = new File(directory, file.getName() + ".tmp");
+		try (FileOutputStream fos = new FileOutputStream(tmp))
+		{
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos));
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			for (ConfigLoot loot : loots.values())
+			{
+				writeLoot(out, OP_ADD, loot);
+			}
+			for (ConfigLoot loot : imported.values())
+			{
+				writeLoot(out, OP_IMPORTED, loot);
+			}
+			out.flush();
+			fos.getFD().sync();
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		entries = loots.size() + imported.size();
+	}
+
+	private static class DamagedJournalException extends IOException
+	{
+		DamagedJournalException(String message)
+		{
+			super(message);
+		}
+	}
+
+	@FunctionalInterface
+	private interface JournalWriter
+	{
+		void write(DataOutputStream out) throws IOException;
+	}
+}
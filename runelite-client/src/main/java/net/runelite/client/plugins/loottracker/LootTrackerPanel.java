@@ -37,7 +37,10 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.swing.BorderFactory;
@@ -52,6 +55,7 @@ import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.JRadioButton;
 import javax.swing.JToggleButton;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicButtonUI;
 import javax.swing.plaf.basic.BasicToggleButtonUI;
@@ -119,6 +123,9 @@ class LootTrackerPanel extends PluginPanel
 	private final List<LootTrackerRecord> aggregateRecords = new ArrayList<>();
 	// Individual records for the individual kills this session
 	private final List<LootTrackerRecord> sessionRecords = new ArrayList<>();
+	// Per source totals of the records above, for the overall panel
+	private final Map<String, Rollup> aggregateRollups = new LinkedHashMap<>();
+	private final Map<String, Rollup> sessionRollups = new LinkedHashMap<>();
 	private final List<LootTrackerBox> boxes = new ArrayList<>();
 
 	private final ItemManager itemManager;
@@ -318,23 +325,31 @@ class LootTrackerPanel extends PluginPanel
 			}
 
 			// If not in detailed view, remove all, otherwise only remove for the currently detailed title
-			sessionRecords.removeIf(r -> r.matches(currentView, currentType));
-			aggregateRecords.removeIf(r -> r.matches(currentView, currentType));
-			boxes.removeIf(b -> b.matches(currentView, currentType));
-			updateOverall();
-			logsContainer.removeAll();
-			logsContainer.revalidate();
+			final String view = currentView;
+			final LootRecordType type = currentType;
 
-			// Delete all loot, or loot matching the current view
-			if (currentView != null)
+			// Delete all loot, or loot matching the current view, off of the EDT
+			final CompletableFuture<Void> removal;
+			if (view != null)
 			{
-				assert currentType != null;
-				plugin.removeLootConfig(currentType, currentView);
+				assert type != null;
+				removal = plugin.removeLoot(type, view);
 			}
 			else
 			{
-				plugin.removeAllLoot();
+				removal = plugin.removeAllLoot();
 			}
+
+			removal.thenRun(() -> SwingUtilities.invokeLater(() ->
+			{
+				sessionRecords.removeIf(r -> r.matches(view, type));
+				aggregateRecords.removeIf(r -> r.matches(view, type));
+				boxes.removeIf(b -> b.matches(view, type));
+				rebuildRollups();
+				updateOverall();
+				logsContainer.removeAll();
+				logsContainer.revalidate();
+			}));
 		});
 
 		// Create popup menu
@@ -381,6 +396,8 @@ class LootTrackerPanel extends PluginPanel
 		}
 		final LootTrackerRecord record = new LootTrackerRecord(eventName, subTitle, type, items, kills);
 		sessionRecords.add(record);
+		addRollup(sessionRollups, record);
+		addRollup(aggregateRollups, record);
 
 		if (hideIgnoredItems && plugin.isEventIgnored(eventName))
 		{
@@ -402,6 +419,8 @@ class LootTrackerPanel extends PluginPanel
 	{
 		aggregateRecords.clear();
 		sessionRecords.clear();
+		aggregateRollups.clear();
+		sessionRollups.clear();
 	}
 
 	/**
@@ -410,6 +429,7 @@ class LootTrackerPanel extends PluginPanel
 	void addRecords(Collection<LootTrackerRecord> recs)
 	{
 		aggregateRecords.addAll(recs);
+		recs.forEach(r -> addRollup(aggregateRollups, r));
 		rebuild();
 	}
 
@@ -473,6 +493,7 @@ class LootTrackerPanel extends PluginPanel
 			}
 		}
 
+		rebuildRollups();
 		rebuild();
 	}
 
@@ -609,18 +630,22 @@ class LootTrackerPanel extends PluginPanel
 				? r -> r.matches(record.getTitle(), record.getType())
 				// Otherwise remove specifically this entry
 				: r -> r.equals(record);
-			sessionRecords.removeIf(match);
-			aggregateRecords.removeIf(match);
-			boxes.remove(box);
-			updateOverall();
-			logsContainer.remove(box);
-			logsContainer.revalidate();
 
 			// Without loot being grouped we have no way to identify single kills to be deleted
-			if (groupLoot)
+			final CompletableFuture<Void> removal = groupLoot
+				? plugin.removeLoot(box.getLootRecordType(), box.getId())
+				: CompletableFuture.completedFuture(null);
+
+			removal.thenRun(() -> SwingUtilities.invokeLater(() ->
 			{
-				plugin.removeLootConfig(box.getLootRecordType(), box.getId());
-			}
+				sessionRecords.removeIf(match);
+				aggregateRecords.removeIf(match);
+				boxes.remove(box);
+				rebuildRollups();
+				updateOverall();
+				logsContainer.remove(box);
+				logsContainer.revalidate();
+			}));
 		});
 
 		popupMenu.add(reset);
@@ -656,41 +681,29 @@ class LootTrackerPanel extends PluginPanel
 		long overallGe = 0;
 		long overallHa = 0;
 
-		Iterable<LootTrackerRecord> records = sessionRecords;
-		if (groupLoot)
+		for (Rollup rollup : (groupLoot ? aggregateRollups : sessionRollups).values())
 		{
-			records = concat(aggregateRecords, sessionRecords);
-		}
-
-		for (LootTrackerRecord record : records)
-		{
-			if (!record.matches(currentView, currentType))
+			if (currentView != null && (!rollup.title.equals(currentView) || rollup.type != currentType))
 			{
 				continue;
 			}
 
-			if (hideIgnoredItems && plugin.isEventIgnored(record.getTitle()))
+			if (hideIgnoredItems)
 			{
-				continue;
-			}
-
-			int present = record.getItems().length;
-
-			for (LootTrackerItem item : record.getItems())
-			{
-				if (hideIgnoredItems && item.isIgnored())
+				if (plugin.isEventIgnored(rollup.title))
 				{
-					present--;
 					continue;
 				}
 
-				overallGe += item.getTotalGePrice();
-				overallHa += item.getTotalHaPrice();
+				overallKills += rollup.shownKills;
+				overallGe += rollup.shownGe;
+				overallHa += rollup.shownHa;
 			}
-
-			if (present > 0)
+			else
 			{
-				overallKills += record.getKills();
+				overallKills += rollup.kills;
+				overallGe += rollup.ge;
+				overallHa += rollup.ha;
 			}
 		}
 
@@ -707,9 +720,68 @@ class LootTrackerPanel extends PluginPanel
 		updateCollapseText();
 	}
 
+	private void rebuildRollups()
+	{
+		aggregateRollups.clear();
+		sessionRollups.clear();
+		aggregateRecords.forEach(r -> addRollup(aggregateRollups, r));
+		for (LootTrackerRecord record : sessionRecords)
+		{
+			addRollup(sessionRollups, record);
+			addRollup(aggregateRollups, record);
+		}
+	}
+
+	private static void addRollup(Map<String, Rollup> rollups, LootTrackerRecord record)
+	{
+		Rollup rollup = rollups.computeIfAbsent(record.getType() + "_" + record.getTitle(), k -> new Rollup(record.getTitle(), record.getType()));
+
+		int shown = 0;
+		for (LootTrackerItem item : record.getItems())
+		{
+			rollup.ge += item.getTotalGePrice();
+			rollup.ha += item.getTotalHaPrice();
+
+			if (!item.isIgnored())
+			{
+				rollup.shownGe += item.getTotalGePrice();
+				rollup.shownHa += item.getTotalHaPrice();
+				++shown;
+			}
+		}
+
+		// kills only count towards the total when the record has visible loot
+		if (record.getItems().length > 0)
+		{
+			rollup.kills += record.getKills();
+		}
+		if (shown > 0)
+		{
+			rollup.shownKills += record.getKills();
+		}
+	}
+
 	private static String htmlLabel(String key, long value)
 	{
 		final String valueStr = QuantityFormatter.quantityToStackSize(value);
 		return String.format(HTML_LABEL_TEMPLATE, ColorUtil.toHexColor(ColorScheme.LIGHT_GRAY_COLOR), key, valueStr);
 	}
+
+	private static class Rollup
+	{
+		private final String title;
+		private final LootRecordType type;
+		private long kills;
+		private long ge;
+		private long ha;
+		private long shownKills;
+		private long shownGe;
+		private long shownHa;
+
+		private Rollup(String title, LootRecordType type)
+		{
+			this.title = title;
+			this.type = type;
+		}
+	}
 }
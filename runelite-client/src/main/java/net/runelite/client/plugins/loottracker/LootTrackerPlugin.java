@@ -38,6 +38,9 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -90,12 +93,16 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.chat.ChatColorType;
+import net.runelite.client.chat.ChatMatch;
 import net.runelite.client.chat.ChatMessageBuilder;
+import net.runelite.client.chat.ChatMessageClassifier;
 import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.ChatPattern;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
@@ -134,10 +141,15 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
-	private static final Pattern CLUE_SCROLL_PATTERN = Pattern.compile("You have completed [0-9]+ ([a-z]+) Treasure Trails?\\.");
+	private static final ChatPattern CLUE_SCROLL_PATTERN = ChatPattern.builder()
+		.pattern(Pattern.compile("You have completed [0-9]+ ([a-z]+) Treasure Trails?\\."))
+		.literal(" Treasure Trail")
+		.removeTags(true)
+		.build();
 	private static final int THEATRE_OF_BLOOD_REGION = 12867;
 	private static final int THEATRE_OF_BLOOD_LOBBY = 14642;
 	private static final int BA_LOBBY_REGION = 10039;
@@ -153,15 +165,31 @@ public class LootTrackerPlugin extends Plugin
 
 	// Chest loot handling
 	private static final String CHEST_LOOTED_MESSAGE = "You find some treasure in the chest!";
-	private static final Pattern ROGUES_CHEST_PATTERN = Pattern.compile("You find (a|some)([a-z\\s]*) inside.");
-	private static final Pattern LARRAN_LOOTED_PATTERN = Pattern.compile("You have opened Larran's (big|small) chest .*");
+	private static final ChatPattern ROGUES_CHEST_PATTERN = ChatPattern.builder()
+		.pattern(Pattern.compile("You find (a|some)([a-z\\s]*) inside."))
+		.literal("You find ")
+		.fullMatch(true)
+		.build();
+	private static final ChatPattern LARRAN_LOOTED_PATTERN = ChatPattern.builder()
+		.pattern(Pattern.compile("You have opened Larran's (big|small) chest .*"))
+		.literal("You have opened Larran's ")
+		.fullMatch(true)
+		.build();
 	private static final String ALCHEMIST_SIGNET_CHEST_MESSAGE = "You take some loot from inside.";
 	// Used by Stone Chest, Isle of Souls chest, Dark Chest
 	private static final String OTHER_CHEST_LOOTED_MESSAGE = "You steal some loot from the chest.";
 	private static final String DORGESH_KAAN_CHEST_LOOTED_MESSAGE = "You find treasure inside!";
-	private static final Pattern GRUBBY_CHEST_LOOTED_MESSAGE = Pattern.compile("You find treasure(?: and supplies|, supplies, and a weirdly coloured egg sac) within the chest.");
+	private static final ChatPattern GRUBBY_CHEST_LOOTED_MESSAGE = ChatPattern.builder()
+		.pattern(Pattern.compile("You find treasure(?: and supplies|, supplies, and a weirdly coloured egg sac) within the chest."))
+		.literal("You find treasure")
+		.fullMatch(true)
+		.build();
 	private static final String ANCIENT_CHEST_LOOTED_MESSAGE = "You open the chest and find";
-	private static final Pattern HAM_CHEST_LOOTED_PATTERN = Pattern.compile("Your (?<key>[a-z]+) key breaks in the lock.*");
+	private static final ChatPattern HAM_CHEST_LOOTED_PATTERN = ChatPattern.builder()
+		.pattern(Pattern.compile("Your (?<key>[a-z]+) key breaks in the lock.*"))
+		.literal(" key breaks in the lock")
+		.fullMatch(true)
+		.build();
 	private static final int HAM_STOREROOM_REGION = 10321;
 	private static final int LAVA_MAZE_NORTH_EAST_REGION = 12348;
 	private static final Map<Integer, String> CHEST_EVENT_TYPES = new ImmutableMap.Builder<Integer, String>().
@@ -192,7 +220,11 @@ public class LootTrackerPlugin extends Plugin
 	);
 
 	// Shade chest loot handling
-	private static final Pattern SHADE_CHEST_NO_KEY_PATTERN = Pattern.compile("You need a [a-z]+ key with a [a-z]+ trim to open this chest .*");
+	private static final ChatPattern SHADE_CHEST_NO_KEY_PATTERN = ChatPattern.builder()
+		.pattern(Pattern.compile("You need a [a-z]+ key with a [a-z]+ trim to open this chest .*"))
+		.literal(" trim to open this chest ")
+		.fullMatch(true)
+		.build();
 	private static final Map<Integer, String> SHADE_CHEST_OBJECTS = new ImmutableMap.Builder<Integer, String>().
 		put(ObjectID.SHADECHEST_BRONZE_BLOODRED, "Bronze key red").
 		put(ObjectID.SHADECHEST_BRONZE_BROWN, "Bronze key brown").
@@ -226,13 +258,21 @@ public class LootTrackerPlugin extends Plugin
 	// Last man standing map regions
 	private static final Set<Integer> LAST_MAN_STANDING_REGIONS = ImmutableSet.of(13658, 13659, 13660, 13914, 13915, 13916, 13918, 13919, 13920, 14174, 14175, 14176, 14430, 14431, 14432);
 
-	private static final Pattern PICKPOCKET_REGEX = Pattern.compile("You pick (the )?(?<target>.+)'s? pocket.*");
+	private static final ChatPattern PICKPOCKET_REGEX = ChatPattern.builder()
+		.pattern(Pattern.compile("You pick (the )?(?<target>.+)'s? pocket.*"))
+		.literal("You pick ")
+		.fullMatch(true)
+		.build();
 
 	private static final String BIRDNEST_EVENT = "Bird nest";
 	private static final Set<Integer> BIRDNEST_IDS = ImmutableSet.of(ItemID.BIRD_NEST_EGG_RED, ItemID.BIRD_NEST_EGG_GREEN, ItemID.BIRD_NEST_EGG_BLUE, ItemID.BIRD_NEST_SEEDS, ItemID.BIRD_NEST_RING, ItemID.BIRD_NEST_CHEAPSEEDS, ItemID.BIRD_NEST_DECENTSEEDS, ItemID.BIRD_NEST_SEEDS_JAN2019, ItemID.BIRD_NEST_DECENTSEEDS_JAN2019);
 
 	// Birdhouses
-	private static final Pattern BIRDHOUSE_PATTERN = Pattern.compile("You dismantle and discard the trap, retrieving (?:(?:a|\\d{1,2}) nests?, )?10 dead birds, \\d{1,3} feathers and (\\d,?\\d{1,3}) Hunter XP\\.");
+	private static final ChatPattern BIRDHOUSE_PATTERN = ChatPattern.builder()
+		.pattern(Pattern.compile("You dismantle and discard the trap, retrieving (?:(?:a|\\d{1,2}) nests?, )?10 dead birds, \\d{1,3} feathers and (\\d,?\\d{1,3}) Hunter XP\\."))
+		.literal("You dismantle and discard the trap, retrieving ")
+		.fullMatch(true)
+		.build();
 	private static final Map<Integer, String> BIRDHOUSE_XP_TO_TYPE = new ImmutableMap.Builder<Integer, String>().
 		put(280, "Regular Bird House").
 		put(420, "Oak Bird House").
@@ -245,6 +285,11 @@ public class LootTrackerPlugin extends Plugin
 		put(1200, "Redwood Bird House").
 		build();
 
+	private static final ChatPattern[] CHAT_PATTERNS = {
+		CLUE_SCROLL_PATTERN, ROGUES_CHEST_PATTERN, LARRAN_LOOTED_PATTERN, GRUBBY_CHEST_LOOTED_MESSAGE,
+		HAM_CHEST_LOOTED_PATTERN, SHADE_CHEST_NO_KEY_PATTERN, PICKPOCKET_REGEX, BIRDHOUSE_PATTERN
+	};
+
 	/*
 	 * This map is used when a pickpocket target has a different name in the chat message than their in-game name.
 	 * Note that if the two NPCs can be found in the same place, there is a chance of race conditions
@@ -318,6 +363,9 @@ public class LootTrackerPlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	@Inject
 	private SessionManager sessionManager;
 
@@ -360,6 +408,7 @@ public class LootTrackerPlugin extends Plugin
 	private int inventoryTimeout;
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
+	private final LootStore lootStore = new LootStore(LOOT_DIR);
 	private String profileKey;
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
@@ -454,34 +503,40 @@ public class LootTrackerPlugin extends Plugin
 
 			log.debug("Switched to profile {}", profileKey);
 
+			importConfigLoot(profileKey);
+
 			if (!config.syncPanel())
 			{
 				return;
 			}
 
+			List<ConfigLoot> stored;
+			try
+			{
+				stored = lootStore.getLoots(profileKey);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to load loot for profile {}", profileKey, ex);
+				return;
+			}
+
 			int drops = 0;
 			List<ConfigLoot> loots = new ArrayList<>();
 			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			for (ConfigLoot configLoot : stored)
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
-
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
-				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
-
 				if (configLoot.last.isBefore(old))
 				{
 					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+					try
+					{
+						lootStore.remove(profileKey, configLoot.type, configLoot.name);
+					}
+					catch (IOException ex)
+					{
+						log.warn("unable to remove old loot", ex);
+					}
 					continue;
 				}
 
@@ -501,6 +556,8 @@ public class LootTrackerPlugin extends Plugin
 				}
 			}
 
+			lootStore.compact(profileKey);
+
 			log.debug("Loaded {} records", loots.size());
 
 			clientThread.invokeLater(() ->
@@ -527,6 +584,65 @@ public class LootTrackerPlugin extends Plugin
 		});
 	}
 
+	/**
+	 * Import loot stored as json in the profile config into the loot store. The config is left as it is,
+	 * since it is synced to the profile, and the store only merges what each record gained since it was
+	 * last imported, so this can run on every profile switch.
+	 */
+	private void importConfigLoot(String profileKey)
+	{
+		List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_");
+		if (keys.isEmpty())
+		{
+			return;
+		}
+
+		List<ConfigLoot> loots = new ArrayList<>(keys.size());
+		for (String key : keys)
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			ConfigLoot configLoot;
+
+			try
+			{
+				configLoot = gson.fromJson(json, ConfigLoot.class);
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Removing loot with malformed json: {}", json, ex);
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+				continue;
+			}
+
+			if (configLoot == null || configLoot.type == null || configLoot.name == null || configLoot.last == null || configLoot.drops == null)
+			{
+				log.warn("Removing incomplete loot: {}", json);
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+				continue;
+			}
+
+			// rebuild the drops so that they are sorted by item id
+			ConfigLoot loot = new ConfigLoot(configLoot.type, configLoot.name);
+			loot.kills = configLoot.kills;
+			loot.first = configLoot.first != null ? configLoot.first : configLoot.last;
+			loot.last = configLoot.last;
+			for (int i = 0; i + 1 < configLoot.drops.length; i += 2)
+			{
+				loot.add(configLoot.drops[i], configLoot.drops[i + 1]);
+			}
+			loots.add(loot);
+		}
+
+		try
+		{
+			lootStore.importLoot(profileKey, loots);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to import loot from config", ex);
+		}
+	}
+
 	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
 	{
 		int idx = Collections.binarySearch(list, value, c);
@@ -555,6 +671,7 @@ public class LootTrackerPlugin extends Plugin
 	protected void startUp() throws Exception
 	{
 		profileKey = null;
+		chatMessageClassifier.register(CHAT_PATTERNS);
 		ignoredItems = Text.fromCSV(config.getIgnoredItems());
 		ignoredEvents = Text.fromCSV(config.getIgnoredEvents());
 		panel = new LootTrackerPanel(this, itemManager, config);
@@ -588,6 +705,8 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		submitLoot();
+		executor.execute(lootStore::close);
+		chatMessageClassifier.unregister(CHAT_PATTERNS);
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient.setUuid(null);
 		chestLooted = false;
@@ -914,8 +1033,8 @@ public class LootTrackerPlugin extends Plugin
 
 		if (message.equals(CHEST_LOOTED_MESSAGE) || message.equals(OTHER_CHEST_LOOTED_MESSAGE)
 			|| message.equals(DORGESH_KAAN_CHEST_LOOTED_MESSAGE) || message.equals(ALCHEMIST_SIGNET_CHEST_MESSAGE)
-			|| GRUBBY_CHEST_LOOTED_MESSAGE.matcher(message).matches() || message.startsWith(ANCIENT_CHEST_LOOTED_MESSAGE)
-			|| LARRAN_LOOTED_PATTERN.matcher(message).matches() || ROGUES_CHEST_PATTERN.matcher(message).matches())
+			|| chatMessageClassifier.match(event, GRUBBY_CHEST_LOOTED_MESSAGE) != null || message.startsWith(ANCIENT_CHEST_LOOTED_MESSAGE)
+			|| chatMessageClassifier.match(event, LARRAN_LOOTED_PATTERN) != null || chatMessageClassifier.match(event, ROGUES_CHEST_PATTERN) != null)
 		{
 			final int regionID = client.getLocalPlayer().getWorldLocation().getRegionID();
 
@@ -956,16 +1075,16 @@ public class LootTrackerPlugin extends Plugin
 
 		final int regionID = client.getLocalPlayer().getWorldLocation().getRegionID();
 
-		final Matcher hamStoreroomMatcher = HAM_CHEST_LOOTED_PATTERN.matcher(message);
-		if (hamStoreroomMatcher.matches() && regionID == HAM_STOREROOM_REGION)
+		final ChatMatch hamStoreroomMatcher = chatMessageClassifier.match(event, HAM_CHEST_LOOTED_PATTERN);
+		if (hamStoreroomMatcher != null && regionID == HAM_STOREROOM_REGION)
 		{
 			String keyType = hamStoreroomMatcher.group("key");
 			onInvChange(collectInvAndGroundItems(LootRecordType.EVENT, String.format("H.A.M. chest (%s)", keyType)));
 			return;
 		}
 
-		final Matcher pickpocketMatcher = PICKPOCKET_REGEX.matcher(message);
-		if (pickpocketMatcher.matches())
+		final ChatMatch pickpocketMatcher = chatMessageClassifier.match(event, PICKPOCKET_REGEX);
+		if (pickpocketMatcher != null)
 		{
 			// Get the target's name as listed in the chat box
 			String pickpocketTarget = WordUtils.capitalize(pickpocketMatcher.group("target"));
@@ -982,8 +1101,8 @@ public class LootTrackerPlugin extends Plugin
 		}
 
 		// Check if message is for a clue scroll reward
-		final Matcher m = CLUE_SCROLL_PATTERN.matcher(Text.removeTags(message));
-		if (m.find())
+		final ChatMatch m = chatMessageClassifier.match(event, CLUE_SCROLL_PATTERN);
+		if (m != null)
 		{
 			final String type = m.group(1).toLowerCase();
 			String eventType;
@@ -1018,7 +1137,7 @@ public class LootTrackerPlugin extends Plugin
 			return;
 		}
 
-		if (SHADE_CHEST_NO_KEY_PATTERN.matcher(message).matches())
+		if (chatMessageClassifier.match(event, SHADE_CHEST_NO_KEY_PATTERN) != null)
 		{
 			// Player didn't have the key they needed.
 			resetEvent();
@@ -1026,8 +1145,8 @@ public class LootTrackerPlugin extends Plugin
 		}
 
 		// Check if message is a birdhouse type
-		final Matcher matcher = BIRDHOUSE_PATTERN.matcher(message);
-		if (matcher.matches())
+		final ChatMatch matcher = chatMessageClassifier.match(event, BIRDHOUSE_PATTERN);
+		if (matcher != null)
 		{
 			final int xp = Integer.parseInt(matcher.group(1));
 			final String type = BIRDHOUSE_XP_TO_TYPE.get(xp);
@@ -1309,26 +1428,30 @@ public class LootTrackerPlugin extends Plugin
 
 	private void saveLoot(List<LootRecord> records)
 	{
+		String profile = profileKey;
+		if (Strings.isNullOrEmpty(profile))
+		{
+			log.debug("Trying to save loot with no profile!");
+			return;
+		}
+
 		Instant now = Instant.now();
 		Collection<ConfigLoot> combinedRecords = combine(records);
 		for (ConfigLoot record : combinedRecords)
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
-			if (lootConfig == null)
-			{
-				lootConfig = record;
-			}
-			else
-			{
-				lootConfig.kills += record.kills;
-				for (int i = 0; i < record.drops.length; i += 2)
-				{
-					lootConfig.add(record.drops[i], record.drops[i + 1]);
-				}
-			}
-			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+			record.first = now;
+			record.last = now;
 		}
+		try
+		{
+			lootStore.add(profile, combinedRecords);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to save loot", ex);
+			return;
+		}
+		executor.execute(() -> lootStore.compact(profile));
 	}
 
 	private void resetEvent()
@@ -1561,61 +1684,64 @@ public class LootTrackerPlugin extends Plugin
 				.build());
 	}
 
-	ConfigLoot getLootConfig(LootRecordType type, String name)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to get loot with no profile!");
-			return null;
-		}
-
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
-		{
-			return null;
-		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to set loot with no profile!");
-			return;
-		}
-
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
-	}
-
-	void removeLootConfig(LootRecordType type, String name)
+	/**
+	 * Remove the stored loot of a source, and its copy in the profile config, on the executor
+	 *
+	 * @return a future which completes once the loot has been removed
+	 */
+	CompletableFuture<Void> removeLoot(LootRecordType type, String name)
 	{
 		String profile = profileKey;
 		if (Strings.isNullOrEmpty(profile))
 		{
 			log.debug("Trying to remove loot with no profile!");
-			return;
+			return CompletableFuture.completedFuture(null);
 		}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		return CompletableFuture.runAsync(() ->
+		{
+			try
+			{
+				lootStore.remove(profile, type, name);
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to remove loot", ex);
+				throw new UncheckedIOException(ex);
+			}
+		}, executor);
 	}
 
-	void removeAllLoot()
+	/**
+	 * Remove all of the stored loot, and its copy in the profile config, on the executor
+	 *
+	 * @return a future which completes once the loot has been removed
+	 */
+	CompletableFuture<Void> removeAllLoot()
 	{
 		String profile = profileKey;
 		if (Strings.isNullOrEmpty(profile))
 		{
 			log.debug("Trying to clear loot with no profile!");
-			return;
+			return CompletableFuture.completedFuture(null);
 		}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+		return CompletableFuture.runAsync(() ->
 		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
-		}
+			try
+			{
+				lootStore.removeAll(profile);
+				for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+				{
+					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
+				}
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to clear loot", ex);
+				throw new UncheckedIOException(ex);
+			}
+		}, executor);
 	}
 }
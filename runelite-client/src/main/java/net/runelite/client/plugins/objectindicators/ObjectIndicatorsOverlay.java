@@ -87,70 +87,82 @@ class ObjectIndicatorsOverlay extends Overlay
 			(config.highlightOutline() ? HF_OUTLINE : 0) |
 			(config.highlightClickbox() ? HF_CLICKBOX : 0) |
 			(config.highlightTile() ? HF_TILE : 0);
-		for (ColorTileObject obj : objects)
+		modelOutlineRenderer.beginBatch();
+		try
 		{
-			TileObject object = obj.getTileObject();
-
-			if (object.getPlane() != client.getPlane())
+			for (ColorTileObject obj : objects)
 			{
-				continue;
-			}
+				TileObject object = obj.getTileObject();
 
-			ObjectComposition composition = obj.getComposition();
-			if (composition.getImpostorIds() != null)
-			{
-				// This is a multiloc
-				composition = composition.getImpostor();
-				// Only mark the object if the name still matches
-				if (composition == null
-					|| Strings.isNullOrEmpty(composition.getName())
-					|| "null".equals(composition.getName())
-					|| !composition.getName().equals(obj.getName()))
+				if (object.getPlane() != client.getPlane())
 				{
 					continue;
 				}
-			}
 
-			Color borderColor = obj.getBorderColor();
-			if (borderColor == null)
-			{
-				// Fallback to the current config if the object is marked before the addition of multiple colors
-				borderColor = config.markerColor();
-			}
+				ObjectComposition composition = obj.getComposition();
+				if (composition.getImpostorIds() != null)
+				{
+					// This is a multiloc
+					composition = composition.getImpostor();
+					// Only mark the object if the name still matches
+					if (composition == null
+						|| Strings.isNullOrEmpty(composition.getName())
+						|| "null".equals(composition.getName())
+						|| !composition.getName().equals(obj.getName()))
+					{
+						continue;
+					}
+				}
 
-			final var flags = obj.getHighlightFlags() != 0 ? obj.getHighlightFlags() : defaultFlags;
-			if ((flags & HF_HULL) != 0)
-			{
-				// default hull fill color is a=50 while the clickbox and tiles are a/12
-				Color fillColor = MoreObjects.firstNonNull(obj.getFillColor(), new Color(0, 0, 0, 50));
-				renderConvexHull(graphics, object, borderColor, fillColor, stroke);
-			}
+				Color borderColor = obj.getBorderColor();
+				if (borderColor == null)
+				{
+					// Fallback to the current config if the object is marked before the addition of multiple colors
+					borderColor = config.markerColor();
+				}
 
-			if ((flags & HF_OUTLINE) != 0)
-			{
-				modelOutlineRenderer.drawOutline(object, (int)config.borderWidth(), borderColor, config.outlineFeather());
-			}
+				final var flags = obj.getHighlightFlags() != 0 ? obj.getHighlightFlags() : defaultFlags;
+				if ((flags & HF_HULL) != 0)
+				{
+					// default hull fill color is a=50 while the clickbox and tiles are a/12
+					Color fillColor = MoreObjects.firstNonNull(obj.getFillColor(), new Color(0, 0, 0, 50));
+					// keep the outlines queued so far underneath, as if they had been drawn immediately
+					modelOutlineRenderer.flushBatch();
+					renderConvexHull(graphics, object, borderColor, fillColor, stroke);
+				}
 
-			if ((flags & HF_CLICKBOX) != 0)
-			{
-				Shape clickbox = object.getClickbox();
-				if (clickbox != null)
+				if ((flags & HF_OUTLINE) != 0)
 				{
-					Color fillColor = MoreObjects.firstNonNull(obj.getFillColor(), ColorUtil.colorWithAlpha(borderColor, borderColor.getAlpha() / 12));
-					OverlayUtil.renderPolygon(graphics, clickbox, borderColor, fillColor, stroke);
+					modelOutlineRenderer.drawOutline(object, (int)config.borderWidth(), borderColor, config.outlineFeather());
 				}
-			}
 
-			if ((flags & HF_TILE) != 0)
-			{
-				Polygon tilePoly = object.getCanvasTilePoly();
-				if (tilePoly != null)
+				if ((flags & HF_CLICKBOX) != 0)
+				{
+					Shape clickbox = object.getClickbox();
+					if (clickbox != null)
+					{
+						Color fillColor = MoreObjects.firstNonNull(obj.getFillColor(), ColorUtil.colorWithAlpha(borderColor, borderColor.getAlpha() / 12));
+						modelOutlineRenderer.flushBatch();
+						OverlayUtil.renderPolygon(graphics, clickbox, borderColor, fillColor, stroke);
+					}
+				}
+
+				if ((flags & HF_TILE) != 0)
 				{
-					Color fillColor = MoreObjects.firstNonNull(obj.getFillColor(), ColorUtil.colorWithAlpha(borderColor, borderColor.getAlpha() / 12));
-					OverlayUtil.renderPolygon(graphics, tilePoly, borderColor, fillColor, stroke);
+					Polygon tilePoly = object.getCanvasTilePoly();
+					if (tilePoly != null)
+					{
+						Color fillColor = MoreObjects.firstNonNull(obj.getFillColor(), ColorUtil.colorWithAlpha(borderColor, borderColor.getAlpha() / 12));
+						modelOutlineRenderer.flushBatch();
+						OverlayUtil.renderPolygon(graphics, tilePoly, borderColor, fillColor, stroke);
+					}
 				}
 			}
 		}
+		finally
+		{
+			modelOutlineRenderer.endBatch();
+		}
 
 		return null;
 	}
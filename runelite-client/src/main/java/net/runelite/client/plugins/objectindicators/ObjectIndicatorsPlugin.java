@@ -32,10 +32,8 @@ import com.google.gson.reflect.TypeToken;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -44,8 +42,6 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
-import lombok.AccessLevel;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.DecorativeObject;
@@ -61,6 +57,7 @@ import net.runelite.api.Scene;
 import net.runelite.api.Tile;
 import net.runelite.api.TileObject;
 import net.runelite.api.WallObject;
+import net.runelite.api.coords.InstanceTemplateIndex;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.DecorativeObjectDespawned;
 import net.runelite.api.events.DecorativeObjectSpawned;
@@ -100,9 +97,10 @@ public class ObjectIndicatorsPlugin extends Plugin
 	private static final String MARK = "Mark object";
 	private static final String UNMARK = "Unmark object";
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<ColorTileObject> objects = new ArrayList<>();
-	private final Map<Integer, Set<ObjectPoint>> points = new HashMap<>();
+	private final ObjectRegistry registry = new ObjectRegistry();
+
+	// objects spawned while the scene is loading are marked all at once when it has loaded
+	private boolean sceneLoading;
 
 	@Inject
 	private Client client;
@@ -138,74 +136,88 @@ public class ObjectIndicatorsPlugin extends Plugin
 	protected void startUp()
 	{
 		overlayManager.add(overlay);
-		clientThread.invokeLater(this::reloadPoints);
+		clientThread.invokeLater(this::rebuild);
 	}
 
 	@Override
 	protected void shutDown()
 	{
 		overlayManager.remove(overlay);
-		points.clear();
-		objects.clear();
+		registry.clearPoints();
+		registry.clearObjects();
+		sceneLoading = false;
 	}
 
 	@Subscribe
 	public void onProfileChanged(ProfileChanged e)
 	{
-		clientThread.invokeLater(this::reloadPoints);
+		clientThread.invokeLater(this::rebuild);
 	}
 
 	@Subscribe
 	public void onWallObjectSpawned(WallObjectSpawned event)
 	{
-		checkObjectPoints(event.getWallObject());
+		objectSpawned(event.getWallObject());
 	}
 
 	@Subscribe
 	public void onWallObjectDespawned(WallObjectDespawned event)
 	{
-		objects.removeIf(o -> o.getTileObject() == event.getWallObject());
+		registry.removeObject(event.getWallObject());
 	}
 
 	@Subscribe
 	public void onGameObjectSpawned(GameObjectSpawned event)
 	{
-		checkObjectPoints(event.getGameObject());
+		objectSpawned(event.getGameObject());
 	}
 
 	@Subscribe
 	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
 	{
-		checkObjectPoints(event.getDecorativeObject());
+		objectSpawned(event.getDecorativeObject());
 	}
 
 	@Subscribe
 	public void onGameObjectDespawned(GameObjectDespawned event)
 	{
-		objects.removeIf(o -> o.getTileObject() == event.getGameObject());
+		registry.removeObject(event.getGameObject());
 	}
 
 	@Subscribe
 	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
 	{
-		objects.removeIf(o -> o.getTileObject() == event.getDecorativeObject());
+		registry.removeObject(event.getDecorativeObject());
 	}
 
 	@Subscribe
 	public void onGroundObjectSpawned(GroundObjectSpawned event)
 	{
-		checkObjectPoints(event.getGroundObject());
+		objectSpawned(event.getGroundObject());
 	}
 
 	@Subscribe
 	public void onGroundObjectDespawned(GroundObjectDespawned event)
 	{
-		objects.removeIf(o -> o.getTileObject() == event.getGroundObject());
+		registry.removeObject(event.getGroundObject());
+	}
+
+	private void objectSpawned(TileObject object)
+	{
+		if (!sceneLoading)
+		{
+			checkObjectPoints(object);
+		}
+	}
+
+	List<ColorTileObject> getObjects()
+	{
+		return registry.getObjects();
 	}
 
 	private void reloadPoints()
 	{
-		points.clear();
+		registry.clearPoints();
 		if (client.getMapRegions() != null)
 		{
 			for (int regionId : client.getMapRegions())
@@ -214,12 +226,72 @@ public class ObjectIndicatorsPlugin extends Plugin
 				final Set<ObjectPoint> regionPoints = loadPoints(regionId);
 				if (regionPoints != null)
 				{
-					points.put(regionId, regionPoints);
+					registry.setRegionPoints(regionId, regionPoints);
+				}
+			}
+		}
+	}
+
+	private void rebuild()
+	{
+		registry.clearObjects();
+		reloadPoints();
+		if (client.getGameState() == GameState.LOGGED_IN)
+		{
+			markSceneObjects();
+		}
+	}
+
+	/**
+	 * Marks the objects in the scene matching the loaded points. This looks up the tiles of the
+	 * points, instead of checking every object in the scene.
+	 */
+	private void markSceneObjects()
+	{
+		final Scene scene = client.getScene();
+		final Tile[][][] tiles = scene.getTiles();
+		final InstanceTemplateIndex instanceTemplateIndex = InstanceTemplateIndex.of(scene);
+
+		for (Set<ObjectPoint> regionPoints : registry.getRegions())
+		{
+			for (ObjectPoint point : regionPoints)
+			{
+				final WorldPoint worldPoint = WorldPoint.fromRegion(point.getRegionId(), point.getRegionX(), point.getRegionY(), point.getZ());
+				for (WorldPoint scenePoint : instanceTemplateIndex.toLocalInstance(worldPoint))
+				{
+					final int x = scenePoint.getX() - scene.getBaseX();
+					final int y = scenePoint.getY() - scene.getBaseY();
+
+					// objects under and on bridges are on a different level of the scene than their plane
+					for (Tile[][] level : tiles)
+					{
+						if (x < 0 || y < 0 || x >= level.length || y >= level[x].length || level[x][y] == null)
+						{
+							continue;
+						}
+
+						final Tile tile = level[x][y];
+						markSceneObject(tile.getWallObject());
+						markSceneObject(tile.getDecorativeObject());
+						markSceneObject(tile.getGroundObject());
+						for (GameObject gameObject : tile.getGameObjects())
+						{
+							markSceneObject(gameObject);
+						}
+					}
 				}
 			}
 		}
 	}
 
+	private void markSceneObject(@Nullable TileObject object)
+	{
+		if (object != null && registry.getObject(object) == null)
+		{
+			checkObjectPoints(object);
+		}
+	}
+
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged gameStateChanged)
 	{
@@ -227,9 +299,15 @@ public class ObjectIndicatorsPlugin extends Plugin
 		if (gameState == GameState.LOADING)
 		{
 			// Reload points with new map regions
-			objects.clear();
+			sceneLoading = true;
+			registry.clearObjects();
 			reloadPoints();
 		}
+		else if (gameState == GameState.LOGGED_IN && sceneLoading)
+		{
+			sceneLoading = false;
+			markSceneObjects();
+		}
 	}
 
 	@Subscribe
@@ -247,9 +325,9 @@ public class ObjectIndicatorsPlugin extends Plugin
 		}
 
 		int idx = -1;
-		final var marked = objects.stream().filter(o -> o.getTileObject() == tileObject).findFirst();
+		final ColorTileObject marked = registry.getObject(tileObject);
 		client.createMenuEntry(idx--)
-			.setOption(marked.isPresent() ? UNMARK : MARK)
+			.setOption(marked != null ? UNMARK : MARK)
 			.setTarget(event.getTarget())
 			.setParam0(event.getActionParam0())
 			.setParam1(event.getActionParam1())
@@ -257,10 +335,10 @@ public class ObjectIndicatorsPlugin extends Plugin
 			.setType(MenuAction.RUNELITE)
 			.onClick(this::markObject);
 
-		if (marked.isPresent())
+		if (marked != null)
 		{
-			idx = createTagBorderColorMenu(idx, event.getTarget(), tileObject, marked.get());
-			idx = createTagFillColorMenu(idx, event.getTarget(), tileObject, marked.get());
+			idx = createTagBorderColorMenu(idx, event.getTarget(), tileObject, marked);
+			idx = createTagFillColorMenu(idx, event.getTarget(), tileObject, marked);
 			idx = createTagStyleMenu(idx, event.getTarget(), tileObject);
 		}
 	}
@@ -427,8 +505,8 @@ public class ObjectIndicatorsPlugin extends Plugin
 	{
 		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, object.getLocalLocation());
 		final int regionId = worldPoint.getRegionID();
-		Set<ObjectPoint> objectPoints = points.get(regionId);
-		if (objectPoints.isEmpty())
+		Set<ObjectPoint> objectPoints = registry.getRegionPoints(regionId);
+		if (objectPoints == null || objectPoints.isEmpty())
 		{
 			return;
 		}
@@ -445,7 +523,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 		savePoints(regionId, objectPoints);
 
 		// rebuild the ColorTileObject from the new config
-		if (objects.removeIf(o -> o.getTileObject() == object))
+		if (registry.removeObject(object))
 		{
 			checkObjectPoints(object);
 		}
@@ -460,9 +538,9 @@ public class ObjectIndicatorsPlugin extends Plugin
 		}
 
 		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, object.getLocalLocation(), object.getPlane());
-		final Set<ObjectPoint> objectPoints = points.get(worldPoint.getRegionID());
+		final List<ObjectPoint> objectPoints = registry.getPoints(worldPoint);
 
-		if (objectPoints == null)
+		if (objectPoints.isEmpty())
 		{
 			return;
 		}
@@ -481,10 +559,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 
 		for (ObjectPoint objectPoint : objectPoints)
 		{
-			if (worldPoint.getRegionX() == objectPoint.getRegionX()
-					&& worldPoint.getRegionY() == objectPoint.getRegionY()
-					&& worldPoint.getPlane() == objectPoint.getZ()
-					&& objectPoint.getId() == object.getId())
+			if (objectPoint.getId() == object.getId())
 			{
 				log.debug("Marking object {} due to matching {}", object, objectPoint);
 				var flags =
@@ -492,7 +567,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 					(objectPoint.getOutline() == Boolean.TRUE ? HF_OUTLINE : 0) |
 					(objectPoint.getClickbox() == Boolean.TRUE ? HF_CLICKBOX : 0) |
 					(objectPoint.getTile() == Boolean.TRUE ? HF_TILE : 0);
-				objects.add(new ColorTileObject(object,
+				registry.addObject(new ColorTileObject(object,
 					objectComposition,
 					objectPoint.getName(),
 					objectPoint.getBorderColor(),
@@ -598,11 +673,9 @@ public class ObjectIndicatorsPlugin extends Plugin
 			// use the default config values
 			null, null, null, null);
 
-		Set<ObjectPoint> objectPoints = points.computeIfAbsent(regionId, k -> new HashSet<>());
-
-		if (objects.removeIf(o -> o.getTileObject() == object))
+		if (registry.removeObject(object))
 		{
-			if (!objectPoints.removeIf(findObjectPredicate(objectComposition, object, worldPoint)))
+			if (!registry.removePoints(regionId, findObjectPredicate(objectComposition, object, worldPoint)))
 			{
 				log.warn("unable to find object point for unmarked object {}", object.getId());
 			}
@@ -611,8 +684,8 @@ public class ObjectIndicatorsPlugin extends Plugin
 		}
 		else
 		{
-			objectPoints.add(point);
-			objects.add(new ColorTileObject(object,
+			registry.addPoint(point);
+			registry.addObject(new ColorTileObject(object,
 				client.getObjectDefinition(object.getId()),
 				name,
 				borderColor,
@@ -621,7 +694,8 @@ public class ObjectIndicatorsPlugin extends Plugin
 			log.debug("Marking object: {}", point);
 		}
 
-		savePoints(regionId, objectPoints);
+		final Set<ObjectPoint> objectPoints = registry.getRegionPoints(regionId);
+		savePoints(regionId, objectPoints != null ? objectPoints : Collections.emptySet());
 	}
 
 	private static Predicate<ObjectPoint> findObjectPredicate(ObjectComposition objectComposition, TileObject object, WorldPoint worldPoint)
@@ -681,7 +755,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 		List<Color> colors = new ArrayList<>();
 		for (int region : client.getMapRegions())
 		{
-			var points = this.points.get(region);
+			var points = registry.getRegionPoints(region);
 			if (points != null)
 			{
 				for (var p : points)
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.objectindicators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * The marked object points of the loaded regions, and the objects in the scene marked by them.
+ * Points are indexed by tile and marked objects by identity, so handling an object spawn or
+ * despawn does not depend on how many objects are marked.
+ */
+class ObjectRegistry
+{
+	private final Map<Integer, Set<ObjectPoint>> regions = new HashMap<>();
+	private final Map<Integer, List<ObjectPoint>> tiles = new HashMap<>();
+
+	private final List<ColorTileObject> objects = new ArrayList<>();
+	private final List<ColorTileObject> objectsView = Collections.unmodifiableList(objects);
+	private final Map<TileObject, Integer> objectIndexes = new IdentityHashMap<>();
+
+	/**
+	 * Gets the points of a region, as they are saved to the config.
+	 */
+	@Nullable
+	Set<ObjectPoint> getRegionPoints(int regionId)
+	{
+		return regions.get(regionId);
+	}
+
+	Collection<Set<ObjectPoint>> getRegions()
+	{
+		return Collections.unmodifiableCollection(regions.values());
+	}
+
+	void setRegionPoints(int regionId, Set<ObjectPoint> points)
+	{
+		Set<ObjectPoint> old = regions.put(regionId, points);
+		if (old != null)
+		{
+			old.forEach(this::unindex);
+		}
+		points.forEach(this::index);
+	}
+
+	void clearPoints()
+	{
+		regions.clear();
+		tiles.clear();
+	}
+
+	/**
+	 * Adds a point to its region, creating the region if it has no points yet.
+	 *
+	 * @return the points of the region
+	 */
+	Set<ObjectPoint> addPoint(ObjectPoint point)
+	{
+		Set<ObjectPoint> points = regions.computeIfAbsent(point.getRegionId(), k -> new HashSet<>());
+		if (points.add(point))
+		{
+			index(point);
+		}
+		return points;
+	}
+
+	/**
+	 * Removes the points of a region matching a predicate.
+	 *
+	 * @return if any points were removed
+	 */
+	boolean removePoints(int regionId, Predicate<ObjectPoint> predicate)
+	{
+		Set<ObjectPoint> points = regions.get(regionId);
+		if (points == null)
+		{
+			return false;
+		}
+
+		List<ObjectPoint> removed = new ArrayList<>();
+		points.removeIf(point ->
+		{
+			if (predicate.test(point))
+			{
+				removed.add(point);
+				return true;
+			}
+			return false;
+		});
+		removed.forEach(this::unindex);
+		return !removed.isEmpty();
+	}
+
+	/**
+	 * Gets the points on a tile.
+	 */
+	List<ObjectPoint> getPoints(WorldPoint worldPoint)
+	{
+		List<ObjectPoint> points = tiles.get(tileKey(worldPoint.getX(), worldPoint.getY(), worldPoint.getPlane()));
+		return points == null ? Collections.emptyList() : points;
+	}
+
+	private void index(ObjectPoint point)
+	{
+		tiles.computeIfAbsent(tileKey(point), k -> new ArrayList<>(1)).add(point);
+	}
+
+	private void unindex(ObjectPoint point)
+	{
+		int key = tileKey(point);
+		List<ObjectPoint> points = tiles.get(key);
+		if (points != null)
+		{
+			points.removeIf(p -> p == point);
+			if (points.isEmpty())
+			{
+				tiles.remove(key);
+			}
+		}
+	}
+
+	private static int tileKey(ObjectPoint point)
+	{
+		int regionId = point.getRegionId();
+		return tileKey(((regionId >>> 8) << 6) + point.getRegionX(), ((regionId & 0xFF) << 6) + point.getRegionY(), point.getZ());
+	}
+
+	private static int tileKey(int x, int y, int plane)
+	{
+		return plane << 30 | (x & 0x7FFF) << 15 | y & 0x7FFF;
+	}
+
+	/**
+	 * Gets the marked objects, in no particular order.
+	 */
+	List<ColorTileObject> getObjects()
+	{
+		return objectsView;
+	}
+
+	@Nullable
+	ColorTileObject getObject(TileObject tileObject)
+	{
+		Integer index = objectIndexes.get(tileObject);
+		return index == null ? null : objects.get(index);
+	}
+
+	/**
+	 * Marks an object, replacing its previous marking if it was already marked.
+	 */
+	void addObject(ColorTileObject object)
+	{
+		Integer index = objectIndexes.putIfAbsent(object.getTileObject(), objects.size());
+		if (index == null)
+		{
+			objects.add(object);
+		}
+		else
+		{
+			objects.set(index, object);
+		}
+	}
+
+	/**
+	 * Unmarks an object.
+	 *
+	 * @return if the object was marked
+	 */
+	boolean removeObject(TileObject tileObject)
+	{
+		Integer index = objectIndexes.remove(tileObject);
+		if (index == null)
+		{
+			return false;
+		}
+
+		// move the last object into the hole, rather than shifting everything after it
+		ColorTileObject last = objects.remove(objects.size() - 1);
+		if (index < objects.size())
+		{
+			objects.set(index, last);
+			objectIndexes.put(last.getTileObject(), index);
+		}
+		return true;
+	}
+
+	void clearObjects()
+	{
+		objects.clear();
+		objectIndexes.clear();
+	}
+}
@@ -26,6 +26,7 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.FontMetrics;
@@ -33,7 +34,10 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
@@ -45,14 +49,17 @@ import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.widgets.Widget;
+import net.runelite.client.RuneLite;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PatternIDAStar;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -71,10 +78,16 @@ public class PuzzleSolverOverlay extends Overlay
 	private static final int PUZZLE_TILE_SIZE = 39;
 	private static final int DOT_MARKER_SIZE = 16;
 
+	private static final File PATTERN_DATABASE_FILE = new File(RuneLite.CACHE_DIR, "puzzle-solver.pdb");
+
 	private final Client client;
 	private final PuzzleSolverConfig config;
 	private final ScheduledExecutorService executorService;
 	private final SpriteManager spriteManager;
+	private final PatternDatabase patternDatabase = new PatternDatabase(PATTERN_DATABASE_FILE);
+
+	// runs the root branches of the pattern database search, shared by every solve
+	private ExecutorService searchExecutor;
 
 	private PuzzleSolver solver;
 	private Future<?> solverFuture;
@@ -96,6 +109,33 @@ public class PuzzleSolverOverlay extends Overlay
 		this.spriteManager = spriteManager;
 	}
 
+	void startUp()
+	{
+		searchExecutor = Executors.newFixedThreadPool(PatternIDAStar.MAX_BRANCHES, new ThreadFactoryBuilder()
+			.setNameFormat("Puzzle solver %d")
+			.setDaemon(true)
+			.build());
+
+		// loading or building the tables takes long enough that it shouldn't hold up the shared executor
+		Thread loader = new Thread(patternDatabase::getTables, "Puzzle solver database loader");
+		loader.setDaemon(true);
+		loader.start();
+	}
+
+	void shutDown()
+	{
+		if (solverFuture != null)
+		{
+			solverFuture.cancel(true);
+			solverFuture = null;
+		}
+		solver = null;
+		cachedItems = null;
+
+		searchExecutor.shutdownNow();
+		searchExecutor = null;
+	}
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
@@ -436,13 +476,15 @@ public class PuzzleSolverOverlay extends Overlay
 
 		PuzzleState puzzleState = new PuzzleState(items);
 
+		// until the pattern database is ready fall back to the manhattan distance, rather than wait for it
+		boolean patternDatabaseLoaded = patternDatabase.isLoaded();
 		if (useNormalSolver)
 		{
-			solver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), puzzleState);
+			solver = new PuzzleSolver(patternDatabaseLoaded ? new PatternIDAStar(patternDatabase, searchExecutor) : new IDAStar(new ManhattanDistance()), puzzleState);
 		}
 		else
 		{
-			solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance()), puzzleState);
+			solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance(), patternDatabaseLoaded ? new PatternIDAStar(patternDatabase) : null), puzzleState);
 		}
 
 		solverFuture = executorService.submit(solver);
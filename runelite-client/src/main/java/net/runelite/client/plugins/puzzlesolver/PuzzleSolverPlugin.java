@@ -77,6 +77,7 @@ public class PuzzleSolverPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		overlay.startUp();
 		overlayManager.add(overlay);
 	}
 
@@ -84,6 +85,7 @@ public class PuzzleSolverPlugin extends Plugin
 	protected void shutDown() throws Exception
 	{
 		overlayManager.remove(overlay);
+		overlay.shutDown();
 	}
 
 	@Provides
@@ -267,7 +269,14 @@ public class PuzzleSolverPlugin extends Plugin
 			}
 			else
 			{
-				title.setText("Light box - Solution: unknown");
+				StringBuilder unknown = new StringBuilder();
+				for (Combination combination : solver.getUnknownSwitches())
+				{
+					unknown.append(combination.name());
+				}
+				title.setText(unknown.length() > 0
+					? "Light box - Solution: unknown, try " + unknown
+					: "Light box - Solution: unknown");
 			}
 		}
 	}
@@ -42,14 +42,7 @@ public class LightboxSolution
 
 	public int numMoves()
 	{
-		int count = 0;
-		int cur = solution;
-		for (int i = 0; i < Combination.values().length; ++i)
-		{
-			count += cur & 1;
-			cur >>= 1;
-		}
-		return count;
+		return Integer.bitCount(solution);
 	}
 
 	@Override
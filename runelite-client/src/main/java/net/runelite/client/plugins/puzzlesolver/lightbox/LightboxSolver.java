@@ -24,6 +24,14 @@
  */
 package net.runelite.client.plugins.puzzlesolver.lightbox;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Solves the light box as a linear system over GF(2). Each light is one equation, each switch is
+ * one variable, and the lights a switch toggles are its column, so the solutions are the sets of
+ * switches whose columns xor to the unlit lights.
+ */
 public class LightboxSolver
 {
 	private LightboxState initial;
@@ -34,54 +42,106 @@ public class LightboxSolver
 		return ((num >>> bit) & 1) != 0;
 	}
 
-	private static boolean isSolved(LightboxState s)
+	/**
+	 * Find the solution using the fewest switches, out of the switches whose effect is known
+	 *
+	 * @return the solution, or null if the known switches can't solve the light box
+	 */
+	public LightboxSolution solve()
 	{
-		for (int i = 0; i < LightBox.WIDTH; ++i)
+		// reduce the switches to a basis in echelon form, each basis vector having a pivot light
+		// no later vector has, and remembering which switches make up each vector
+		int[] basis = new int[LightBox.COMBINATIONS_POWER];
+		int[] basisSwitches = new int[LightBox.COMBINATIONS_POWER];
+		int rank = 0;
+		// switch sets which toggle nothing, and so can be added to a solution freely
+		int[] nullSpace = new int[LightBox.COMBINATIONS_POWER];
+		int nullity = 0;
+
+		for (int bit = 0; bit < LightBox.COMBINATIONS_POWER; ++bit)
 		{
-			for (int j = 0; j < LightBox.HEIGHT; ++j)
+			if (switches[bit] == null)
 			{
-				if (!s.getState(i, j))
+				continue;
+			}
+
+			int lights = switches[bit].getBits();
+			int combination = 1 << bit;
+			for (int i = 0; i < rank; ++i)
+			{
+				if ((lights & Integer.lowestOneBit(basis[i])) != 0)
 				{
-					return false;
+					lights ^= basis[i];
+					combination ^= basisSwitches[i];
 				}
 			}
+
+			if (lights == 0)
+			{
+				nullSpace[nullity++] = combination;
+			}
+			else
+			{
+				basis[rank] = lights;
+				basisSwitches[rank++] = combination;
+			}
 		}
-		return true;
-	}
 
-	public LightboxSolution solve()
-	{
-		LightboxSolution solution = null;
-		outer:
-		for (int i = 0; i < Math.pow(2, LightBox.COMBINATIONS_POWER); ++i)
+		int target = ~initial.getBits() & LightboxState.ALL_LIT;
+		int solution = 0;
+		for (int i = 0; i < rank; ++i)
+		{
+			if ((target & Integer.lowestOneBit(basis[i])) != 0)
+			{
+				target ^= basis[i];
+				solution ^= basisSwitches[i];
+			}
+		}
+
+		if (target != 0)
 		{
-			LightboxState s = initial;
+			return null;
+		}
 
-			for (int bit = 0; bit < LightBox.COMBINATIONS_POWER; ++bit)
+		// every solution is this one plus some of the null space, which is at most 2^8 to search
+		int best = solution;
+		for (int subset = 1; subset < 1 << nullity; ++subset)
+		{
+			int candidate = solution;
+			for (int i = 0; i < nullity; ++i)
 			{
-				if (isBitSet(i, bit))
+				if (isBitSet(subset, i))
 				{
-					// this switch is unknown, so this can't be a valid answer
-					if (switches[bit] == null)
-					{
-						continue outer;
-					}
-
-					s = s.diff(switches[bit]);
+					candidate ^= nullSpace[i];
 				}
 			}
 
-			if (isSolved(s))
+			int moves = Integer.bitCount(candidate);
+			int bestMoves = Integer.bitCount(best);
+			if (moves < bestMoves || (moves == bestMoves && candidate < best))
 			{
-				LightboxSolution sol = new LightboxSolution(i);
-				if (solution == null || sol.numMoves() < solution.numMoves())
-				{
-					solution = sol;
-				}
+				best = candidate;
 			}
 		}
 
-		return solution;
+		return new LightboxSolution(best);
+	}
+
+	/**
+	 * Get the switches whose effect is not yet known. If {@link #solve()} finds no solution,
+	 * one or more of these are needed to solve the light box.
+	 */
+	public Set<Combination> getUnknownSwitches()
+	{
+		Set<Combination> unknown = EnumSet.noneOf(Combination.class);
+		for (Combination combination : Combination.values())
+		{
+			if (switches[combination.ordinal()] == null)
+			{
+				unknown.add(combination);
+			}
+		}
+		return unknown;
 	}
 
 	public void setInitial(LightboxState initial)
@@ -29,30 +29,43 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode
 public class LightboxState
 {
-	private final boolean[][] state = new boolean[LightBox.WIDTH][LightBox.HEIGHT];
+	static final int ALL_LIT = (1 << (LightBox.WIDTH * LightBox.HEIGHT)) - 1;
+
+	// one bit per light, at x * HEIGHT + y
+	private int state;
 
 	public void setState(int x, int y, boolean s)
 	{
-		state[x][y] = s;
+		int bit = 1 << bit(x, y);
+		if (s)
+		{
+			state |= bit;
+		}
+		else
+		{
+			state &= ~bit;
+		}
 	}
 
 	public boolean getState(int x, int y)
 	{
-		return state[x][y];
+		return (state >>> bit(x, y) & 1) != 0;
 	}
 
 	public LightboxState diff(LightboxState other)
 	{
 		LightboxState newState = new LightboxState();
+		newState.state = state ^ other.state;
+		return newState;
+	}
 
-		for (int i = 0; i < LightBox.WIDTH; ++i)
-		{
-			for (int j = 0; j < LightBox.HEIGHT; ++j)
-			{
-				newState.state[i][j] = state[i][j] ^ other.state[i][j];
-			}
-		}
+	int getBits()
+	{
+		return state;
+	}
 
-		return newState;
+	private static int bit(int x, int y)
+	{
+		return x * LightBox.HEIGHT + y;
 	}
 }
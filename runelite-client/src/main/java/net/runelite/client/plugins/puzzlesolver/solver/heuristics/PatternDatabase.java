@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * An additive pattern database heuristic.
+ *
+ * The tiles are split into disjoint groups of four, and for every placement of a group's
+ * tiles the table holds the fewest moves of those tiles needed to bring them home, with the
+ * blank free to move through the other cells at no cost. Because no move is counted by more
+ * than one group the values can be summed, and the sum is never less than the manhattan distance.
+ *
+ * The goal is symmetric about the main diagonal, so the same tables also give a second,
+ * different partition by looking up the board mirrored along it. The larger of the two is used.
+ */
+@Slf4j
+public class PatternDatabase implements Heuristic
+{
+	private static final int CELLS = DIMENSION * DIMENSION;
+	private static final int GROUP_SIZE = 4;
+	private static final int TABLE_SIZE = CELLS * CELLS * CELLS * CELLS;
+
+	// not symmetric about the diagonal, so that the mirrored lookup is a different partition
+	private static final int[][] GROUPS = {
+		{0, 1, 5, 6},
+		{2, 3, 4, 7},
+		{8, 9, 13, 14},
+		{10, 15, 20, 21},
+		{11, 12, 16, 17},
+		{18, 19, 22, 23},
+	};
+
+	private static final int MAGIC = 0x50444231; // PDB1
+	private static final byte UNSET = -1;
+
+	// group of each tile, and the weight of its position in the group's table index
+	private static final int[] TILE_GROUP = new int[CELLS - 1];
+	private static final int[] TILE_WEIGHT = new int[CELLS - 1];
+
+	static
+	{
+		for (int g = 0; g < GROUPS.length; ++g)
+		{
+			int weight = 1;
+			for (int slot = GROUP_SIZE - 1; slot >= 0; --slot)
+			{
+				int tile = GROUPS[g][slot];
+				TILE_GROUP[tile] = g;
+				TILE_WEIGHT[tile] = weight;
+				weight *= CELLS;
+			}
+		}
+	}
+
+	@Nullable
+	private final File cacheFile;
+	private volatile byte[][] tables;
+
+	/**
+	 * @param cacheFile file the tables are read from, or written to after being built, or null
+	 *                  to always build them
+	 */
+	public PatternDatabase(@Nullable File cacheFile)
+	{
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Mirror a cell, or a tile, along the main diagonal
+	 */
+	public static int mirror(int cell)
+	{
+		return (cell % DIMENSION) * DIMENSION + cell / DIMENSION;
+	}
+
+	public static int getGroupCount()
+	{
+		return GROUPS.length;
+	}
+
+	public static int getGroup(int tile)
+	{
+		return TILE_GROUP[tile];
+	}
+
+	/**
+	 * Get how much the table index of a tile's group changes per cell the tile moves
+	 */
+	public static int getWeight(int tile)
+	{
+		return TILE_WEIGHT[tile];
+	}
+
+	/**
+	 * @return whether the tables have been loaded or built, so {@link #getTables()} won't block
+	 */
+	public boolean isLoaded()
+	{
+		return tables != null;
+	}
+
+	/**
+	 * Get the tables, one per group, indexed by the sum of {@link #getWeight(int)} times the cell
+	 * of each tile in the group. They are loaded or built on first use.
+	 */
+	public byte[][] getTables()
+	{
+		byte[][] t = tables;
+		if (t == null)
+		{
+			synchronized (this)
+			{
+				t = tables;
+				if (t == null)
+				{
+					tables = t = load();
+				}
+			}
+		}
+		return t;
+	}
+
+	@Override
+	public int computeValue(PuzzleState state)
+	{
+		byte[][] t = getTables();
+		int[] index = new int[GROUPS.length];
+		int[] mirrorIndex = new int[GROUPS.length];
+		for (int cell = 0; cell < CELLS; ++cell)
+		{
+			int tile = state.getPiece(cell % DIMENSION, cell / DIMENSION);
+			if (tile != BLANK_TILE_VALUE)
+			{
+				index[TILE_GROUP[tile]] += cell * TILE_WEIGHT[tile];
+				int mirrorTile = mirror(tile);
+				mirrorIndex[TILE_GROUP[mirrorTile]] += mirror(cell) * TILE_WEIGHT[mirrorTile];
+			}
+		}
+
+		int value = 0;
+		int mirrorValue = 0;
+		for (int g = 0; g < GROUPS.length; ++g)
+		{
+			value += t[g][index[g]];
+			mirrorValue += t[g][mirrorIndex[g]];
+		}
+		return Math.max(value, mirrorValue);
+	}
+
+	private byte[][] load()
+	{
+		if (cacheFile != null && cacheFile.exists())
+		{
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile))))
+			{
+				if (in.readInt() == MAGIC && in.readInt() == Arrays.deepHashCode(GROUPS))
+				{
+					byte[][] t = new byte[GROUPS.length][TABLE_SIZE];
+					for (byte[] table : t)
+					{
+						in.readFully(table);
+					}
+					return t;
+				}
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to read pattern database", ex);
+			}
+		}
+
+		long start = System.nanoTime();
+		byte[][] t = new byte[GROUPS.length][];
+		for (int g = 0; g < GROUPS.length; ++g)
+		{
+			t[g] = build(GROUPS[g]);
+		}
+		log.debug("Built pattern database in {}ms", (System.nanoTime() - start) / 1_000_000);
+
+		if (cacheFile != null)
+		{
+			save(t);
+		}
+		return t;
+	}
+
+	private void save(byte[][] t)
+	{
+		File tmp = new File(cacheFile.getParentFile(), cacheFile.getName() + ".tmp");
+		try
+		{
+			cacheFile.getParentFile().mkdirs();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(Arrays.deepHashCode(GROUPS));
+				for (byte[] table : t)
+				{
+					out.write(table);
+				}
+			}
+			Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write pattern database", ex);
+		}
+	}
+
+	/**
+	 * Breadth first search backwards from the goal over (group placement, blank cell) states,
+	 * one level per move of a group tile. Blank moves which don't move a group tile cost nothing
+	 * and are expanded within the level.
+	 */
+	private static byte[] build(int[] group)
+	{
+		byte[] table = new byte[TABLE_SIZE];
+		Arrays.fill(table, UNSET);
+
+		// states are table index * CELLS + blank cell
+		long[] visited = new long[(TABLE_SIZE * CELLS >>> 6) + 1];
+		long[] queuedNext = new long[visited.length];
+
+		int goal = 0;
+		for (int tile : group)
+		{
+			goal += tile * TILE_WEIGHT[tile];
+		}
+
+		IntList level = new IntList();
+		IntList next = new IntList();
+		next.add(goal * CELLS + CELLS - 1);
+		int[] positions = new int[GROUP_SIZE];
+
+		for (int depth = 0; next.size > 0; ++depth)
+		{
+			level.size = 0;
+			for (int i = 0; i < next.size; ++i)
+			{
+				int state = next.values[i];
+				clear(queuedNext, state);
+				if (!get(visited, state))
+				{
+					set(visited, state);
+					level.add(state);
+				}
+			}
+			next.size = 0;
+
+			// level grows while it is being walked, from the free blank moves
+			for (int i = 0; i < level.size; ++i)
+			{
+				int state = level.values[i];
+				int index = state / CELLS;
+				int blank = state % CELLS;
+
+				if (table[index] == UNSET)
+				{
+					table[index] = (byte) depth;
+				}
+
+				for (int slot = GROUP_SIZE - 1, rest = index; slot >= 0; --slot, rest /= CELLS)
+				{
+					positions[slot] = rest % CELLS;
+				}
+
+				int bx = blank % DIMENSION;
+				int by = blank / DIMENSION;
+				for (int dir = 0; dir < 4; ++dir)
+				{
+					int nx = bx + (dir == 0 ? -1 : dir == 1 ? 1 : 0);
+					int ny = by + (dir == 2 ? -1 : dir == 3 ? 1 : 0);
+					if (nx < 0 || ny < 0 || nx >= DIMENSION || ny >= DIMENSION)
+					{
+						continue;
+					}
+
+					int cell = ny * DIMENSION + nx;
+					int moved = -1;
+					for (int slot = 0; slot < GROUP_SIZE; ++slot)
+					{
+						if (positions[slot] == cell)
+						{
+							moved = slot;
+							break;
+						}
+					}
+
+					if (moved == -1)
+					{
+						int nextState = index * CELLS + cell;
+						if (!get(visited, nextState))
+						{
+							set(visited, nextState);
+							level.add(nextState);
+						}
+					}
+					else
+					{
+						int nextIndex = index + (blank - cell) * TILE_WEIGHT[group[moved]];
+						int nextState = nextIndex * CELLS + cell;
+						if (!get(visited, nextState) && !get(queuedNext, nextState))
+						{
+							set(queuedNext, nextState);
+							next.add(nextState);
+						}
+					}
+				}
+			}
+		}
+
+		return table;
+	}
+
+	private static boolean get(long[] bits, int i)
+	{
+		return (bits[i >>> 6] & (1L << i)) != 0;
+	}
+
+	private static void set(long[] bits, int i)
+	{
+		bits[i >>> 6] |= 1L << i;
+	}
+
+	private static void clear(long[] bits, int i)
+	{
+		bits[i >>> 6] &= ~(1L << i);
+	}
+
+	private static final class IntList
+	{
+		private int[] values = new int[1024];
+		private int size;
+
+		private void add(int value)
+		{
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+}
@@ -41,10 +41,20 @@ public class IDAStarMM extends IDAStar
 	private final List<PuzzleState> stateList = new ArrayList<>();
 	private final List<List<Integer>> validRowNumbers = new ArrayList<>();
 	private final List<List<Integer>> validColumnNumbers = new ArrayList<>();
+	private final Pathfinder finisher;
 
 	public IDAStarMM(Heuristic heuristic)
+	{
+		this(heuristic, null);
+	}
+
+	/**
+	 * @param finisher pathfinder used once the board has been reduced to 3x4, instead of IDA* with the heuristic
+	 */
+	public IDAStarMM(Heuristic heuristic, Pathfinder finisher)
 	{
 		super(heuristic);
+		this.finisher = finisher;
 
 		//Add valid numbers for rows and columns
 		validRowNumbers.add(Arrays.asList(0, 1, 2, 3, 4));
@@ -73,7 +83,12 @@ public class IDAStarMM extends IDAStar
 		stateList.remove(stateList.size() - 1);
 
 		//Pathfinder for 4x4
-		path.addAll(super.computePath(currentState));
+		List<PuzzleState> remaining = finisher != null ? finisher.computePath(currentState) : super.computePath(currentState);
+		if (remaining == null)
+		{
+			return null;
+		}
+		path.addAll(remaining);
 
 		path.addAll(0, stateList);
 
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * IDA* over a single mutable board using a {@link PatternDatabase}.
+ *
+ * Unlike {@link IDAStar} no states are created during the search: moves are applied to and
+ * undone from one board, and the heuristic is updated from the tables of the moved tile's groups
+ * only. The path is turned into states once a solution is found.
+ */
+public class PatternIDAStar extends Pathfinder
+{
+	/**
+	 * The most first moves a board has, and so the most threads a parallel search uses
+	 */
+	public static final int MAX_BRANCHES = 4;
+
+	private static final int CELLS = DIMENSION * DIMENSION;
+	private static final int INTERRUPT_CHECK_MASK = (1 << 16) - 1;
+	private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+	private static final int[][] NEIGHBOURS = new int[CELLS][];
+
+	static
+	{
+		for (int cell = 0; cell < CELLS; ++cell)
+		{
+			int x = cell % DIMENSION;
+			int y = cell / DIMENSION;
+			List<Integer> n = new ArrayList<>(4);
+			if (x > 0)
+			{
+				n.add(cell - 1);
+			}
+			if (x < DIMENSION - 1)
+			{
+				n.add(cell + 1);
+			}
+			if (y > 0)
+			{
+				n.add(cell - DIMENSION);
+			}
+			if (y < DIMENSION - 1)
+			{
+				n.add(cell + DIMENSION);
+			}
+			NEIGHBOURS[cell] = n.stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	private final PatternDatabase database;
+	@Nullable
+	private final ExecutorService executor;
+
+	public PatternIDAStar(PatternDatabase database)
+	{
+		this(database, null);
+	}
+
+	/**
+	 * @param executor executor to search each of the first moves on, or null to search them on the
+	 *                 calling thread. It should have {@link #MAX_BRANCHES} threads, and is not shut down.
+	 */
+	public PatternIDAStar(PatternDatabase database, @Nullable ExecutorService executor)
+	{
+		super(database);
+		this.database = database;
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the path, or null if the board can't be solved or the thread was interrupted
+	 */
+	@Override
+	public List<PuzzleState> computePath(PuzzleState start)
+	{
+		int[] cells = new int[CELLS];
+		for (int cell = 0; cell < CELLS; ++cell)
+		{
+			cells[cell] = start.getPiece(cell % DIMENSION, cell / DIMENSION);
+		}
+
+		if (!isSolvable(cells))
+		{
+			return null;
+		}
+
+		int[] moves = executor != null ? searchParallel(cells) : searchSerial(cells);
+		if (moves == null)
+		{
+			return null;
+		}
+
+		List<PuzzleState> path = new ArrayList<>(moves.length + 1);
+		PuzzleState state = start;
+		path.add(state);
+		for (int cell : moves)
+		{
+			int blank = state.getEmptyPiece();
+			state = state.swap(blank % DIMENSION, blank / DIMENSION, cell % DIMENSION, cell / DIMENSION);
+			path.add(state);
+		}
+		return path;
+	}
+
+	/**
+	 * The board width is odd, so only boards with an even number of inversions can be solved
+	 */
+	static boolean isSolvable(int[] cells)
+	{
+		int inversions = 0;
+		for (int i = 0; i < cells.length; ++i)
+		{
+			if (cells[i] == BLANK_TILE_VALUE)
+			{
+				continue;
+			}
+
+			for (int j = i + 1; j < cells.length; ++j)
+			{
+				if (cells[j] != BLANK_TILE_VALUE && cells[j] < cells[i])
+				{
+					++inversions;
+				}
+			}
+		}
+		return (inversions & 1) == 0;
+	}
+
+	private int[] searchSerial(int[] cells)
+	{
+		Search search = new Search(database.getTables(), cells, new AtomicBoolean());
+		for (int bound = search.h; ; )
+		{
+			search.prepare(bound);
+			if (search.search(0, bound, -1))
+			{
+				return Arrays.copyOf(search.path, search.length);
+			}
+
+			if (search.stop.get() || search.nextBound == NOT_FOUND)
+			{
+				return null;
+			}
+			bound = search.nextBound;
+		}
+	}
+
+	private int[] searchParallel(int[] cells)
+	{
+		byte[][] tables = database.getTables();
+		Search root = new Search(tables, cells, new AtomicBoolean());
+		if (root.h == 0)
+		{
+			return new int[0];
+		}
+
+		int[] firstMoves = NEIGHBOURS[root.blank];
+		AtomicBoolean stop = root.stop;
+		Search[] branches = new Search[firstMoves.length];
+		for (int i = 0; i < firstMoves.length; ++i)
+		{
+			branches[i] = new Search(tables, cells, stop);
+			branches[i].move(firstMoves[i]);
+		}
+
+		try
+		{
+			List<Future<Boolean>> futures = new ArrayList<>(branches.length);
+			for (int bound = root.h; ; )
+			{
+				futures.clear();
+				for (Search branch : branches)
+				{
+					final int b = bound;
+					branch.prepare(b);
+					futures.add(executor.submit(() ->
+					{
+						boolean found = branch.search(1, b, root.blank);
+						if (found)
+						{
+							// a solution at this bound is optimal, the other branches can stop
+							stop.set(true);
+						}
+						return found;
+					}));
+				}
+
+				int nextBound = NOT_FOUND;
+				for (int i = 0; i < branches.length; ++i)
+				{
+					if (futures.get(i).get())
+					{
+						Search branch = branches[i];
+						int[] moves = Arrays.copyOf(branch.path, branch.length);
+						moves[0] = firstMoves[i];
+						return moves;
+					}
+					nextBound = Math.min(nextBound, branches[i].nextBound);
+				}
+
+				if (stop.get() || nextBound == NOT_FOUND)
+				{
+					return null;
+				}
+				bound = nextBound;
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			stop.set(true);
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		catch (RejectedExecutionException ex)
+		{
+			// the executor has been shut down
+			return null;
+		}
+		catch (ExecutionException ex)
+		{
+			throw new RuntimeException(ex);
+		}
+		finally
+		{
+			// stop any branches still running, so they don't hold up the next search on the executor
+			stop.set(true);
+		}
+	}
+
+	private static final class Search
+	{
+		private final byte[][] tables;
+		private final int[] cells;
+		private final int[] groupIndex = new int[PatternDatabase.getGroupCount()];
+		private final int[] mirrorIndex = new int[PatternDatabase.getGroupCount()];
+		private final AtomicBoolean stop;
+		private int blank;
+		private int primaryH;
+		private int mirrorH;
+		private int h;
+
+		// blank cell after each move
+		private int[] path = new int[0];
+		private int length;
+		private int nextBound;
+		private long nodes;
+
+		private Search(byte[][] tables, int[] cells, AtomicBoolean stop)
+		{
+			this.tables = tables;
+			this.cells = cells.clone();
+			this.stop = stop;
+
+			for (int cell = 0; cell < CELLS; ++cell)
+			{
+				int tile = this.cells[cell];
+				if (tile == BLANK_TILE_VALUE)
+				{
+					blank = cell;
+				}
+				else
+				{
+					groupIndex[PatternDatabase.getGroup(tile)] += cell * PatternDatabase.getWeight(tile);
+					int mirrorTile = PatternDatabase.mirror(tile);
+					mirrorIndex[PatternDatabase.getGroup(mirrorTile)] += PatternDatabase.mirror(cell) * PatternDatabase.getWeight(mirrorTile);
+				}
+			}
+
+			for (int g = 0; g < groupIndex.length; ++g)
+			{
+				primaryH += tables[g][groupIndex[g]];
+				mirrorH += tables[g][mirrorIndex[g]];
+			}
+			h = Math.max(primaryH, mirrorH);
+		}
+
+		private void prepare(int bound)
+		{
+			if (path.length < bound + 1)
+			{
+				path = new int[bound + 1];
+			}
+			nextBound = NOT_FOUND;
+		}
+
+		/**
+		 * Slide the tile in cell into the blank, updating the heuristic for the tile's groups
+		 */
+		private void move(int cell)
+		{
+			int tile = cells[cell];
+
+			int g = PatternDatabase.getGroup(tile);
+			byte[] table = tables[g];
+			int oldIndex = groupIndex[g];
+			int newIndex = oldIndex + (blank - cell) * PatternDatabase.getWeight(tile);
+			primaryH += table[newIndex] - table[oldIndex];
+			groupIndex[g] = newIndex;
+
+			int mirrorTile = PatternDatabase.mirror(tile);
+			g = PatternDatabase.getGroup(mirrorTile);
+			table = tables[g];
+			oldIndex = mirrorIndex[g];
+			newIndex = oldIndex + (PatternDatabase.mirror(blank) - PatternDatabase.mirror(cell)) * PatternDatabase.getWeight(mirrorTile);
+			mirrorH += table[newIndex] - table[oldIndex];
+			mirrorIndex[g] = newIndex;
+
+			h = Math.max(primaryH, mirrorH);
+			cells[blank] = tile;
+			cells[cell] = BLANK_TILE_VALUE;
+			blank = cell;
+		}
+
+		private boolean search(int g, int bound, int previousBlank)
+		{
+			int f = g + h;
+			if (f > bound)
+			{
+				if (f < nextBound)
+				{
+					nextBound = f;
+				}
+				return false;
+			}
+
+			if (h == 0)
+			{
+				length = g;
+				return true;
+			}
+
+			if ((++nodes & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted())
+			{
+				stop.set(true);
+			}
+			if (stop.get())
+			{
+				return false;
+			}
+
+			int from = blank;
+			for (int cell : NEIGHBOURS[from])
+			{
+				if (cell == previousBlank)
+				{
+					continue;
+				}
+
+				move(cell);
+				path[g] = cell;
+				if (search(g + 1, bound, from))
+				{
+					return true;
+				}
+				move(from);
+			}
+
+			return false;
+		}
+	}
+}
@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -773,21 +774,26 @@ public class RaidsPlugin extends Plugin
 			.map(room -> LayoutRoom.valueOf(room.name()))
 			.toArray(LayoutRoom[]::new);
 
-		scheduledExecutorService.execute(() ->
+		final CompletableFuture<Boolean> future;
+		try
 		{
-			try
-			{
-				chatClient.submitLayout(playerName, layoutRooms);
-			}
-			catch (Exception ex)
+			future = chatClient.submitLayoutAsync(playerName, layoutRooms);
+		}
+		catch (RuntimeException ex)
+		{
+			log.warn("unable to submit layout", ex);
+			chatInput.resume();
+			return true;
+		}
+
+		future.whenCompleteAsync((success, ex) ->
+		{
+			if (ex != null)
 			{
 				log.warn("unable to submit layout", ex);
 			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+			chatInput.resume();
+		}, scheduledExecutorService);
 
 		return true;
 	}
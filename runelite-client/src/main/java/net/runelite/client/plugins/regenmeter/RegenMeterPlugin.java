@@ -115,14 +115,9 @@ public class RegenMeterPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(itemContainers = InventoryID.WORN)
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
-		if (event.getContainerId() != InventoryID.WORN)
-		{
-			return;
-		}
-
 		ItemContainer equipment = event.getItemContainer();
 		final boolean hasLightbearer = equipment.contains(ItemID.LIGHTBEARER);
 		if (hasLightbearer == wearingLightbearer)
@@ -136,13 +131,10 @@ public class RegenMeterPlugin extends Plugin
 		wearingLightbearer = hasLightbearer;
 	}
 
-	@Subscribe
+	@Subscribe(varbits = VarbitID.PRAYER_RAPIDHEAL)
 	private void onVarbitChanged(VarbitChanged ev)
 	{
-		if (ev.getVarbitId() == VarbitID.PRAYER_RAPIDHEAL)
-		{
-			ticksSinceHPRegen = 0;
-		}
+		ticksSinceHPRegen = 0;
 	}
 
 	@Subscribe
@@ -169,14 +169,9 @@ public class RunecraftPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(itemContainers = InventoryID.INV)
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
-		if (event.getContainerId() != InventoryID.INV)
-		{
-			return;
-		}
-
 		final Item[] items = event.getItemContainer().getItems();
 		degradedPouchInInventory = Stream.of(items).anyMatch(i -> DEGRADED_POUCHES.contains(i.getId()));
 	}
@@ -339,14 +339,9 @@ public class ScreenshotPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(scriptCallbacks = "confirmFriendsChatKick")
 	public void onScriptCallbackEvent(ScriptCallbackEvent e)
 	{
-		if (!"confirmFriendsChatKick".equals(e.getEventName()))
-		{
-			return;
-		}
-
 		final Object[] objectStack = client.getObjectStack();
 		final int objectStackSize = client.getObjectStackSize();
 		kickPlayerName = (String) objectStack[objectStackSize - 1];
@@ -65,6 +65,9 @@ class Skybox
 
 	private static final int PLANE_ALL = 0b1111;
 
+	// Chunks are blended from up to BLEND_RADIUS + 1 chunks away, and their far edge is one further
+	private static final int ERF_TABLE_OFFSET = (BLEND_RADIUS + 2) * 8;
+
 	private static final Pattern PATTERN = Pattern.compile("^[ \\t]*(?<expr>" +
 		"//.*$|" + // //comment
 		"m[ \\t]*(?<mrx>[0-9]+)[ \\t]+(?<mry>[0-9]+)|" + // m <rx> <ry>
@@ -375,9 +378,6 @@ class Skybox
 	 */
 	public int getColorForPoint(double x, double y, int px, int py, int plane, double brightness, ChunkMapper chunkMapper)
 	{
-		x /= 8.d;
-		y /= 8.d;
-
 		int centerChunkData = chunkData(px / 8, py / 8, plane, chunkMapper);
 		if (centerChunkData == -1)
 		{
@@ -385,6 +385,59 @@ class Skybox
 			return 0;
 		}
 
+		double[] sums = new double[4];
+		blend(x / 8.d, y / 8.d, (cx, cy) -> chunkData(cx, cy, plane, chunkMapper), null, sums, 0);
+		return toRgb(sums[0], sums[1], sums[2], sums[3], brightness);
+	}
+
+	/**
+	 * Creates a field of the blended colors at each tile corner of an area, so {@link Field#getColorForPoint}
+	 * only has to interpolate between the four corners around a point. Colors on the corners match
+	 * {@link #getColorForPoint} exactly, and between them they are within a couple of levels per channel.
+	 *
+	 * @param x           X coordinate of the area in tiles
+	 * @param y           Y coordinate of the area in tiles
+	 * @param width       width of the area in tiles
+	 * @param height      height of the area in tiles
+	 * @param chunkMapper maps chunks to their instance templates, or null if not in an instance
+	 */
+	Field createField(int x, int y, int width, int height, int plane, ChunkMapper chunkMapper)
+	{
+		// Resolve every chunk the blend can reach up front, rather than once per tile
+		int cx1 = Math.floorDiv(x, 8) - BLEND_RADIUS - 2;
+		int cy1 = Math.floorDiv(y, 8) - BLEND_RADIUS - 2;
+		int cx2 = Math.floorDiv(x + width, 8) + BLEND_RADIUS + 3;
+		int cy2 = Math.floorDiv(y + height, 8) + BLEND_RADIUS + 3;
+		int chunkStride = cy2 - cy1;
+		int[] chunkValues = new int[(cx2 - cx1) * chunkStride];
+		for (int cx = cx1; cx < cx2; cx++)
+		{
+			for (int cy = cy1; cy < cy2; cy++)
+			{
+				chunkValues[(cx - cx1) * chunkStride + (cy - cy1)] = chunkData(cx, cy, plane, chunkMapper);
+			}
+		}
+
+		return new Field(x, y, width, height, plane, chunkMapper,
+			(cx, cy) -> chunkValues[(cx - cx1) * chunkStride + (cy - cy1)]);
+	}
+
+	@FunctionalInterface
+	private interface ChunkSource
+	{
+		int get(int cx, int cy);
+	}
+
+	/**
+	 * Sums the weights of the chunks around a point, and their weighted YCoCg values, into
+	 * {@code out[offset]} to {@code out[offset + 3]} as y, co, cg and total weight.
+	 *
+	 * @param x         Sample X coordinate in chunks
+	 * @param y         Sample Y coordinate in chunks
+	 * @param erfTables erf values by blend radius, if x and y are multiples of 1/8, otherwise null
+	 */
+	private void blend(double x, double y, ChunkSource chunks, double[][] erfTables, double[] out, int offset)
+	{
 		double t = 0;
 		double ty = 0;
 		double tco = 0;
@@ -399,7 +452,7 @@ class Skybox
 		{
 			for (int ucy = ymin; ucy <= ymax; ucy++)
 			{
-				int val = chunkData(ucx, ucy, plane, chunkMapper);
+				int val = chunks.get(ucx, ucy);
 				if (val == -1)
 				{
 					continue;
@@ -430,7 +483,20 @@ class Skybox
 				// Calculate integrate a gaussian distribution in each dimension for
 				// this chunk relative to the requested point
 				double erfdivc = sigma * SQRT2;
-				double m = (erf(dxl / erfdivc) - erf(dxh / erfdivc)) * (erf(dyl / erfdivc) - erf(dyh / erfdivc));
+				double m;
+				if (erfTables != null)
+				{
+					double[] erfs = erfTables[val >>> 24];
+					if (erfs == null)
+					{
+						erfs = erfTables[val >>> 24] = erfTable(erfdivc);
+					}
+					m = (erfs[erfIndex(dxl)] - erfs[erfIndex(dxh)]) * (erfs[erfIndex(dyl)] - erfs[erfIndex(dyh)]);
+				}
+				else
+				{
+					m = (erf(dxl / erfdivc) - erf(dxh / erfdivc)) * (erf(dyl / erfdivc) - erf(dyh / erfdivc));
+				}
 
 				// Load our YCoCg24 values into floats
 				double vy = (val >>> 16 & 0xFF) / 255.d;
@@ -445,6 +511,14 @@ class Skybox
 			}
 		}
 
+		out[offset] = ty;
+		out[offset + 1] = tco;
+		out[offset + 2] = tcg;
+		out[offset + 3] = t;
+	}
+
+	private static int toRgb(double ty, double tco, double tcg, double t, double brightness)
+	{
 		// Convert back to int range values, and bounds check while we are at it
 		byte ay = (byte) Math.min(Math.max(Math.round(ty / t * 255.d), 0), 255);
 		byte aco = (byte) Math.min(Math.max(Math.round(tco * 128.d / t), -128), 127);
@@ -463,6 +537,22 @@ class Skybox
 		return 0xFFFFFF & Color.HSBtoRGB(hsb[0], hsb[1], hsb[2]);
 	}
 
+	private double[] erfTable(double erfdivc)
+	{
+		double[] erfs = new double[ERF_TABLE_OFFSET * 2 + 1];
+		for (int i = 0; i < erfs.length; i++)
+		{
+			erfs[i] = erf((i - ERF_TABLE_OFFSET) / 8.d / erfdivc);
+		}
+		return erfs;
+	}
+
+	private static int erfIndex(double d)
+	{
+		// d is a multiple of 1/8, so this is exact
+		return (int) (d * 8.d) + ERF_TABLE_OFFSET;
+	}
+
 	/**
 	 * Approximation of erf 'Gauss error function' which is used to calculate
 	 * the cumulative distribution of a gaussian distribution.
@@ -477,6 +567,111 @@ class Skybox
 		return Math.copySign(y, x);
 	}
 
+	/**
+	 * Blended colors of an area, from {@link #createField}. The corners are blended a block of tiles
+	 * at a time, the first time a point needs them.
+	 */
+	class Field
+	{
+		private static final int BLOCK_SIZE = 8;
+
+		private final int x;
+		private final int y;
+		private final int width;
+		private final int height;
+		private final int plane;
+		private final ChunkMapper chunkMapper;
+		private final ChunkSource chunks;
+		// Tile corners are all 1/8 of a chunk apart, so every erf term is one of a few values per blend radius
+		private final double[][] erfTables = new double[256][];
+		// y, co, cg and weight sums of each tile corner, column by column
+		private final double[] sums;
+		private final boolean[] blocks;
+		private final int blockStride;
+
+		private Field(int x, int y, int width, int height, int plane, ChunkMapper chunkMapper, ChunkSource chunks)
+		{
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.plane = plane;
+			this.chunkMapper = chunkMapper;
+			this.chunks = chunks;
+			this.sums = new double[(width + 1) * (height + 1) * 4];
+			this.blockStride = height / BLOCK_SIZE + 1;
+			this.blocks = new boolean[(width / BLOCK_SIZE + 1) * blockStride];
+		}
+
+		/**
+		 * Calculates the RGB color for a point, like {@link Skybox#getColorForPoint}. Points outside
+		 * the field fall back to blending the chunks around them.
+		 */
+		int getColorForPoint(double x, double y, int px, int py, double brightness)
+		{
+			double fx = x - this.x;
+			double fy = y - this.y;
+			if (!(fx >= 0 && fy >= 0 && fx < width && fy < height))
+			{
+				return Skybox.this.getColorForPoint(x, y, px, py, plane, brightness, chunkMapper);
+			}
+
+			if (chunkData(px / 8, py / 8, plane, chunkMapper) == -1)
+			{
+				// No data in the center chunk?
+				return 0;
+			}
+
+			int tx = (int) fx;
+			int ty = (int) fy;
+			fx -= tx;
+			fy -= ty;
+
+			blendBlock(tx, ty);
+			blendBlock(tx + 1, ty);
+			blendBlock(tx, ty + 1);
+			blendBlock(tx + 1, ty + 1);
+
+			int i00 = (tx * (height + 1) + ty) * 4;
+			int i01 = i00 + 4;
+			int i10 = i00 + (height + 1) * 4;
+			int i11 = i10 + 4;
+			double w00 = (1 - fx) * (1 - fy);
+			double w01 = (1 - fx) * fy;
+			double w10 = fx * (1 - fy);
+			double w11 = fx * fy;
+
+			return toRgb(
+				sums[i00] * w00 + sums[i01] * w01 + sums[i10] * w10 + sums[i11] * w11,
+				sums[i00 + 1] * w00 + sums[i01 + 1] * w01 + sums[i10 + 1] * w10 + sums[i11 + 1] * w11,
+				sums[i00 + 2] * w00 + sums[i01 + 2] * w01 + sums[i10 + 2] * w10 + sums[i11 + 2] * w11,
+				sums[i00 + 3] * w00 + sums[i01 + 3] * w01 + sums[i10 + 3] * w10 + sums[i11 + 3] * w11,
+				brightness);
+		}
+
+		/**
+		 * Blends the block of corners containing a corner, if it hasn't been already
+		 */
+		private void blendBlock(int tx, int ty)
+		{
+			int bx = tx / BLOCK_SIZE;
+			int by = ty / BLOCK_SIZE;
+			if (blocks[bx * blockStride + by])
+			{
+				return;
+			}
+			blocks[bx * blockStride + by] = true;
+
+			for (int cx = bx * BLOCK_SIZE; cx < Math.min((bx + 1) * BLOCK_SIZE, width + 1); cx++)
+			{
+				for (int cy = by * BLOCK_SIZE; cy < Math.min((by + 1) * BLOCK_SIZE, height + 1); cy++)
+				{
+					blend((x + cx) / 8.d, (y + cy) / 8.d, chunks, erfTables, sums, (cx * (height + 1) + cy) * 4);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Draws the skybox map to an image
 	 *
@@ -50,6 +50,9 @@ import net.runelite.client.plugins.PluginDescriptor;
 )
 public class SkyboxPlugin extends Plugin
 {
+	// How far past the scene the blended colors are precomputed, as the sample point leads the camera
+	private static final int FIELD_MARGIN = 16;
+
 	@Inject
 	private Client client;
 
@@ -58,6 +61,11 @@ public class SkyboxPlugin extends Plugin
 
 	private Skybox skybox;
 
+	private Skybox.Field field;
+	private int fieldBaseX;
+	private int fieldBaseY;
+	private int fieldPlane;
+
 	@Override
 	public void startUp() throws IOException
 	{
@@ -72,6 +80,7 @@ public class SkyboxPlugin extends Plugin
 	{
 		client.setSkyboxColor(0);
 		skybox = null;
+		field = null;
 	}
 
 	@Provides
@@ -136,15 +145,29 @@ public class SkyboxPlugin extends Plugin
 
 		int baseX = client.getBaseX();
 		int baseY = client.getBaseY();
+		int plane = client.getPlane();
 
-		client.setSkyboxColor(skybox.getColorForPoint(
+		if (field == null || fieldBaseX != baseX || fieldBaseY != baseY || fieldPlane != plane)
+		{
+			field = skybox.createField(
+				baseX - FIELD_MARGIN,
+				baseY - FIELD_MARGIN,
+				Constants.SCENE_SIZE + FIELD_MARGIN * 2,
+				Constants.SCENE_SIZE + FIELD_MARGIN * 2,
+				plane,
+				client.isInInstancedRegion() ? this::mapChunk : null
+			);
+			fieldBaseX = baseX;
+			fieldBaseY = baseY;
+			fieldPlane = plane;
+		}
+
+		client.setSkyboxColor(field.getColorForPoint(
 			baseX + ((px + spx) / 128.f),
 			baseY + ((py + spy) / 128.f),
 			baseX + (px / 128),
 			baseY + (py / 128),
-			client.getPlane(),
-			client.getTextureProvider().getBrightness(),
-			client.isInInstancedRegion() ? this::mapChunk : null
+			client.getTextureProvider().getBrightness()
 		));
 	}
 
@@ -155,5 +178,10 @@ public class SkyboxPlugin extends Plugin
 		{
 			client.setSkyboxColor(0);
 		}
+		else if (gameStateChanged.getGameState() == GameState.LOADING)
+		{
+			// the instance template chunks may change without the base moving
+			field = null;
+		}
 	}
 }
@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -753,21 +754,26 @@ public class SlayerPlugin extends Plugin
 
 		final String playerName = client.getLocalPlayer().getName();
 
-		executor.execute(() ->
+		final CompletableFuture<Boolean> future;
+		try
 		{
-			try
-			{
-				chatClient.submitTask(playerName, capsString(taskName), amount, initialAmount, taskLocation);
-			}
-			catch (Exception ex)
+			future = chatClient.submitTaskAsync(playerName, capsString(taskName), amount, initialAmount, taskLocation);
+		}
+		catch (RuntimeException ex)
+		{
+			log.warn("unable to submit slayer task", ex);
+			chatInput.resume();
+			return true;
+		}
+
+		future.whenCompleteAsync((success, ex) ->
+		{
+			if (ex != null)
 			{
 				log.warn("unable to submit slayer task", ex);
 			}
-			finally
-			{
-				chatInput.resume();
-			}
-		});
+			chatInput.resume();
+		}, executor);
 
 		return true;
 	}
@@ -296,14 +296,9 @@ public class SpecialCounterPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(varps = VarPlayerID.SA_ENERGY)
 	public void onVarbitChanged(VarbitChanged event)
 	{
-		if (event.getVarpId() != VarPlayerID.SA_ENERGY)
-		{
-			return;
-		}
-
 		int specialPercentage = event.getValue();
 		if (this.specialPercentage == -1 || specialPercentage >= this.specialPercentage)
 		{
@@ -282,14 +282,9 @@ public class SpellbookPlugin extends Plugin
 		return -1;
 	}
 
-	@Subscribe
+	@Subscribe(scriptCallbacks = "spellbookSort")
 	public void onScriptCallbackEvent(ScriptCallbackEvent event)
 	{
-		if (!"spellbookSort".equals(event.getEventName()))
-		{
-			return;
-		}
-
 		createWarning(reordering);
 
 		// this is called after ~magic_spellbook_redraw has built and sorted the array of visible spells
@@ -103,14 +103,9 @@ public class TimestampPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	@Subscribe(scriptCallbacks = "chatMessageBuilding")
 	private void onScriptCallbackEvent(ScriptCallbackEvent event)
 	{
-		if (!"chatMessageBuilding".equals(event.getEventName()))
-		{
-			return;
-		}
-
 		int uid = client.getIntStack()[client.getIntStackSize() - 1];
 		final MessageNode messageNode = client.getMessages().get(uid);
 		assert messageNode != null : "chat message build for unknown message";
@@ -47,6 +47,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -181,11 +182,19 @@ public class TimeTrackingPlugin extends Plugin
 	@Subscribe
 	public void onConfigChanged(ConfigChanged e)
 	{
+		if (e.getGroup().equals(ConfigManager.RSPROFILE_GROUP))
+		{
+			farmingTracker.invalidateProfiles();
+			return;
+		}
+
 		if (!e.getGroup().equals(CONFIG_GROUP))
 		{
 			return;
 		}
 
+		farmingTracker.invalidate(e.getProfile(), e.getKey());
+
 		if (clockManager.getTimers().isEmpty() && e.getKey().equals(TIMERS))
 		{
 			clockManager.loadTimers();
@@ -251,6 +260,12 @@ public class TimeTrackingPlugin extends Plugin
 		}
 	}
 
+	@Subscribe
+	public void onProfileChanged(ProfileChanged e)
+	{
+		farmingTracker.loadCompletionTimes();
+	}
+
 	@Subscribe
 	public void onRuneScapeProfileChanged(RuneScapeProfileChanged e)
 	{
@@ -289,7 +304,12 @@ public class TimeTrackingPlugin extends Plugin
 			panel.update();
 		}
 
-		farmingTracker.checkCompletion();
+		boolean farmingDataChanged = farmingTracker.checkCompletion();
+
+		if (farmingDataChanged)
+		{
+			panel.update();
+		}
 	}
 
 	private void updatePanel()
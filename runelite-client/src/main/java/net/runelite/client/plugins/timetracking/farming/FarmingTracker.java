@@ -28,17 +28,22 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Singleton;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
@@ -81,7 +86,20 @@ public class FarmingTracker
 	 * or {@code -1} if we have no data about any patch of the given type.
 	 */
 	private final Map<Tab, Long> completionTimes = new EnumMap<>(Tab.class);
-	Map<ProfilePatch, Boolean> wasNotified = new HashMap<>();
+	Map<ProfilePatch, Boolean> wasNotified = new ConcurrentHashMap<>();
+
+	/**
+	 * Parsed patch data for each RuneScape profile, so that stored patch states are only
+	 * parsed again when they change
+	 */
+	private final Map<String, ProfileTimeline> timelines = new HashMap<>();
+	/**
+	 * Completion times of patches which can be notified, soonest first
+	 */
+	private final PriorityQueue<PatchDeadline> deadlines = new PriorityQueue<>(Comparator.comparingLong(PatchDeadline::getTime));
+	private List<RuneScapeProfile> rsProfiles;
+	private Map<String, FarmingPatch> patchesByKey;
+	private boolean timelineLeagues;
 
 	private boolean newRegionLoaded;
 	private Collection<FarmingRegion> lastRegions;
@@ -298,13 +316,39 @@ public class FarmingTracker
 	}
 
 	@Nullable
-	public PatchPrediction predictPatch(FarmingPatch patch, String profile)
+	public synchronized PatchPrediction predictPatch(FarmingPatch patch, String profile)
 	{
-		long unixNow = Instant.now().getEpochSecond();
+		PatchRecord record = getRecord(profile, patch);
+		if (record == null)
+		{
+			return null;
+		}
 
-		boolean autoweed = Integer.toString(Autoweed.ON.ordinal())
-			.equals(configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.AUTOWEED));
+		int stage = record.getStage();
+		if (record.getTickRate() > 0)
+		{
+			long tickNow = getTimeline(profile).getTickTime(record.getTickRate(), 0, Instant.now().getEpochSecond());
+			int delta = (int) (tickNow - record.getTickTime()) / (record.getTickRate() * 60);
+
+			stage += delta;
+			if (stage >= record.getStages())
+			{
+				stage = record.getStages() - 1;
+			}
+		}
 
+		return new PatchPrediction(
+			record.getProduce(),
+			record.getCropState(),
+			record.getDoneEstimate(),
+			stage,
+			record.getStages()
+		);
+	}
+
+	@Nullable
+	private PatchRecord parseRecord(ProfileTimeline timeline, FarmingPatch patch, String profile)
+	{
 		String key = patch.configKey();
 		String storedValue = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, key);
 
@@ -347,40 +391,34 @@ public class FarmingTracker
 		int tickrate = state.getTickRate();
 
 		// Farming ticks on leagues worlds are 1 minute instead of 5
-		if (isLeaguesWorld())
+		if (timelineLeagues)
 		{
 			tickrate = tickrate / 5;
 		}
 
-		if (autoweed && state.getProduce() == Produce.WEEDS)
+		if (timeline.autoweed && state.getProduce() == Produce.WEEDS)
 		{
 			stage = 0;
 			stages = 1;
 			tickrate = 0;
 		}
 
+		long tickTime = 0;
 		long doneEstimate = 0;
 		if (tickrate > 0)
 		{
-			long tickNow = getTickTime(tickrate, 0, unixNow, profile);
-			long tickTime = getTickTime(tickrate, 0, unixTime, profile);
-			int delta = (int) (tickNow - tickTime) / (tickrate * 60);
-
-			doneEstimate = getTickTime(tickrate, stages - 1 - stage, tickTime, profile);
-
-			stage += delta;
-			if (stage >= stages)
-			{
-				stage = stages - 1;
-			}
+			tickTime = timeline.getTickTime(tickrate, 0, unixTime);
+			doneEstimate = timeline.getTickTime(tickrate, stages - 1 - stage, tickTime);
 		}
 
-		return new PatchPrediction(
+		return new PatchRecord(
 			state.getProduce(),
 			state.getCropState(),
-			doneEstimate,
 			stage,
-			stages
+			stages,
+			tickrate,
+			tickTime,
+			doneEstimate
 		);
 	}
 
@@ -389,38 +427,147 @@ public class FarmingTracker
 		return getTickTime(tickRate, ticks, Instant.now().getEpochSecond(), configManager.getRSProfileKey());
 	}
 
-	public long getTickTime(int tickRate, int ticks, long requestedTime, String profile)
+	public synchronized long getTickTime(int tickRate, int ticks, long requestedTime, String profile)
 	{
-		Integer offsetPrecisionMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET_PRECISION, int.class);
-		Integer offsetTimeMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET, int.class);
+		return getTimeline(profile).getTickTime(tickRate, ticks, requestedTime);
+	}
 
-		//All offsets are negative but are stored as positive
-		long calculatedOffsetTime = 0L;
-		if (offsetPrecisionMins != null && offsetTimeMins != null && (offsetPrecisionMins >= tickRate || offsetPrecisionMins >= 40))
+	/**
+	 * Gets the parsed patch data for a profile, reading the profile's farming settings if needed.
+	 * All timelines are dropped when the player moves between leagues and regular worlds, since
+	 * the farming tick length differs.
+	 */
+	private ProfileTimeline getTimeline(String profile)
+	{
+		boolean leagues = isLeaguesWorld();
+		if (timelineLeagues != leagues)
 		{
-			calculatedOffsetTime = (offsetTimeMins % tickRate) * 60;
+			timelines.clear();
+			deadlines.clear();
+			timelineLeagues = leagues;
 		}
 
-		//Calculate "now" as +offset seconds in the future so we calculate the correct ticks
-		long unixNow = requestedTime + calculatedOffsetTime;
+		ProfileTimeline timeline = timelines.get(profile);
+		if (timeline == null)
+		{
+			timeline = new ProfileTimeline(
+				configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET_PRECISION, int.class),
+				configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET, int.class),
+				Integer.toString(Autoweed.ON.ordinal())
+					.equals(configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.AUTOWEED)));
+			timelines.put(profile, timeline);
+		}
+		return timeline;
+	}
+
+	/**
+	 * Gets the parsed state of a patch, parsing it from config and scheduling its completion
+	 * the first time it is requested.
+	 */
+	@Nullable
+	private PatchRecord getRecord(String profile, FarmingPatch patch)
+	{
+		ProfileTimeline timeline = getTimeline(profile);
+		if (timeline.patches.containsKey(patch))
+		{
+			return timeline.patches.get(patch);
+		}
+
+		PatchRecord record = parseRecord(timeline, patch, profile);
+		timeline.patches.put(patch, record);
+		scheduleCompletion(timeline, profile, patch, record);
+		return record;
+	}
+
+	private void scheduleCompletion(ProfileTimeline timeline, String profile, FarmingPatch patch, @Nullable PatchRecord record)
+	{
+		if (record == null || record.getProduce() == Produce.WEEDS
+			|| record.getCropState() == CropState.FILLING || record.getCropState() == CropState.EMPTY)
+		{
+			return;
+		}
 
-		//The time that the tick requested will happen
-		long timeOfCurrentTick = (unixNow - (unixNow % (tickRate * 60)));
-		long timeOfGoalTick = timeOfCurrentTick + (ticks * tickRate * 60);
+		int tickRate = record.getProduce().getTickrate();
 
-		//Move ourselves back to real time
-		return timeOfGoalTick - calculatedOffsetTime;
+		// Farming ticks on leagues worlds are 1 minute instead of 5
+		if (timelineLeagues)
+		{
+			tickRate = tickRate / 5;
+		}
+
+		// Completion can't be notified without knowing the farming tick offset
+		Integer offsetPrecisionMins = timeline.offsetPrecisionMins;
+		if (offsetPrecisionMins == null || timeline.offsetTimeMins == null || (offsetPrecisionMins < tickRate && offsetPrecisionMins < 40))
+		{
+			return;
+		}
+
+		deadlines.add(new PatchDeadline(record.getDoneEstimate(), new ProfilePatch(patch, profile), record));
 	}
 
-	public void loadCompletionTimes()
+	/**
+	 * Drops parsed patch data which depends on the given config key, so that it is parsed
+	 * again the next time it is needed.
+	 */
+	public synchronized void invalidate(@Nullable String profile, String key)
+	{
+		ProfileTimeline timeline = timelines.get(profile);
+		if (timeline == null)
+		{
+			return;
+		}
+
+		if (key.equals(TimeTrackingConfig.AUTOWEED)
+			|| key.equals(TimeTrackingConfig.FARM_TICK_OFFSET)
+			|| key.equals(TimeTrackingConfig.FARM_TICK_OFFSET_PRECISION))
+		{
+			timelines.remove(profile);
+			deadlines.removeIf(d -> Objects.equals(d.getProfilePatch().getRsProfileKey(), profile));
+			return;
+		}
+
+		if (patchesByKey == null)
+		{
+			patchesByKey = new HashMap<>();
+			for (Set<FarmingPatch> patches : farmingWorld.getTabs().values())
+			{
+				for (FarmingPatch patch : patches)
+				{
+					patchesByKey.put(patch.configKey(), patch);
+				}
+			}
+		}
+
+		FarmingPatch patch = patchesByKey.get(key);
+		if (patch != null && timeline.patches.containsKey(patch))
+		{
+			ProfilePatch profilePatch = new ProfilePatch(patch, profile);
+			timeline.patches.remove(patch);
+			deadlines.removeIf(d -> d.getProfilePatch().equals(profilePatch));
+			getRecord(profile, patch);
+		}
+	}
+
+	/**
+	 * Drops the cached list of RuneScape profiles, along with all parsed patch data.
+	 */
+	public synchronized void invalidateProfiles()
+	{
+		rsProfiles = null;
+		timelines.clear();
+		deadlines.clear();
+	}
+
+	public synchronized void loadCompletionTimes()
 	{
 		summaries.clear();
 		completionTimes.clear();
 		lastRegions = null;
+		invalidateProfiles();
 		updateCompletionTime();
 	}
 
-	public SummaryState getSummary(Tab patchType)
+	public synchronized SummaryState getSummary(Tab patchType)
 	{
 		SummaryState summary = summaries.get(patchType);
 		return summary == null ? SummaryState.UNKNOWN : summary;
@@ -431,7 +578,7 @@ public class FarmingTracker
 	 *
 	 * @see #completionTimes
 	 */
-	public long getCompletionTime(Tab patchType)
+	public synchronized long getCompletionTime(Tab patchType)
 	{
 		Long completionTime = completionTimes.get(patchType);
 		return completionTime == null ? -1 : completionTime;
@@ -442,8 +589,9 @@ public class FarmingTracker
 	 *
 	 * @see #completionTimes
 	 */
-	private void updateCompletionTime()
+	private synchronized void updateCompletionTime()
 	{
+		String profile = configManager.getRSProfileKey();
 		for (Map.Entry<Tab, Set<FarmingPatch>> tab : farmingWorld.getTabs().entrySet())
 		{
 			long extremumCompletionTime = config.preferSoonest() ? Long.MAX_VALUE : 0;
@@ -452,7 +600,7 @@ public class FarmingTracker
 
 			for (FarmingPatch patch : tab.getValue())
 			{
-				PatchPrediction prediction = predictPatch(patch);
+				PatchRecord prediction = getRecord(profile, patch);
 				if (prediction == null || prediction.getProduce().getItemID() < 0)
 				{
 					continue; // unknown state
@@ -505,56 +653,87 @@ public class FarmingTracker
 		}
 	}
 
-	public void checkCompletion()
+	/**
+	 * Sends notifications for patches whose completion time has passed, and marks overview
+	 * summaries whose completion time has passed as completed.
+	 *
+	 * @return true if any summary changed
+	 */
+	public synchronized boolean checkCompletion()
 	{
-		List<RuneScapeProfile> rsProfiles = configManager.getRSProfiles();
-		long unixNow = Instant.now().getEpochSecond();
+		if (rsProfiles == null)
+		{
+			rsProfiles = configManager.getRSProfiles();
+		}
 
 		for (RuneScapeProfile profile : rsProfiles)
 		{
-			Integer offsetPrecisionMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile.getKey(), TimeTrackingConfig.FARM_TICK_OFFSET_PRECISION, int.class);
-			Integer offsetTimeMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile.getKey(), TimeTrackingConfig.FARM_TICK_OFFSET, int.class);
-
-			for (Map.Entry<Tab, Set<FarmingPatch>> tab : farmingWorld.getTabs().entrySet())
+			ProfileTimeline timeline = getTimeline(profile.getKey());
+			if (!timeline.complete)
 			{
-				for (FarmingPatch patch : tab.getValue())
+				for (Set<FarmingPatch> patches : farmingWorld.getTabs().values())
 				{
-					ProfilePatch profilePatch = new ProfilePatch(patch, profile.getKey());
-					boolean patchNotified = wasNotified.getOrDefault(profilePatch, false);
-					String configKey = patch.notifyConfigKey();
-					boolean shouldNotify = Boolean.TRUE
-						.equals(configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile.getKey(), configKey, Boolean.class));
-					PatchPrediction prediction = predictPatch(patch, profile.getKey());
-
-					if (prediction == null)
+					for (FarmingPatch patch : patches)
 					{
-						continue;
+						getRecord(profile.getKey(), patch);
 					}
+				}
+				timeline.complete = true;
+			}
+		}
 
-					int tickRate = prediction.getProduce().getTickrate();
+		long unixNow = Instant.now().getEpochSecond();
+		PatchDeadline deadline;
+		while ((deadline = deadlines.peek()) != null && deadline.getTime() < unixNow)
+		{
+			deadlines.poll();
 
-					// Farming ticks on leagues worlds are 1 minute instead of 5
-					if (isLeaguesWorld())
-					{
-						tickRate = tickRate / 5;
-					}
+			ProfilePatch profilePatch = deadline.getProfilePatch();
+			ProfileTimeline timeline = timelines.get(profilePatch.getRsProfileKey());
+			if (timeline == null || timeline.patches.get(profilePatch.getPatch()) != deadline.getRecord()
+				|| wasNotified.getOrDefault(profilePatch, false))
+			{
+				continue;
+			}
 
-					if (offsetPrecisionMins == null || offsetTimeMins == null || (offsetPrecisionMins < tickRate && offsetPrecisionMins < 40) || prediction.getProduce() == Produce.WEEDS
-						|| unixNow <= prediction.getDoneEstimate() || patchNotified || prediction.getCropState() == CropState.FILLING || prediction.getCropState() == CropState.EMPTY)
-					{
-						continue;
-					}
+			wasNotified.put(profilePatch, true);
 
-					wasNotified.put(profilePatch, true);
+			if (firstNotifyCheck)
+			{
+				continue;
+			}
 
-					if (!firstNotifyCheck && shouldNotify)
-					{
-						sendNotification(profile, prediction, patch);
-					}
+			FarmingPatch patch = profilePatch.getPatch();
+			String profileKey = profilePatch.getRsProfileKey();
+			boolean shouldNotify = Boolean.TRUE
+				.equals(configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profileKey, patch.notifyConfigKey(), Boolean.class));
+			if (!shouldNotify)
+			{
+				continue;
+			}
+
+			for (RuneScapeProfile profile : rsProfiles)
+			{
+				if (profile.getKey().equals(profileKey))
+				{
+					sendNotification(profile, predictPatch(patch, profileKey), patch);
+					break;
 				}
 			}
 		}
 		firstNotifyCheck = false;
+
+		boolean changed = false;
+		for (Map.Entry<Tab, SummaryState> summary : summaries.entrySet())
+		{
+			if (summary.getValue() == SummaryState.IN_PROGRESS && getCompletionTime(summary.getKey()) <= unixNow)
+			{
+				summary.setValue(SummaryState.COMPLETED);
+				completionTimes.put(summary.getKey(), 0L);
+				changed = true;
+			}
+		}
+		return changed;
 	}
 
 	private boolean isLeaguesWorld()
@@ -645,4 +824,47 @@ public class FarmingTracker
 
 		notifier.notify(stringBuilder.toString());
 	}
+
+	@RequiredArgsConstructor
+	private static class ProfileTimeline
+	{
+		@Nullable
+		private final Integer offsetPrecisionMins;
+		@Nullable
+		private final Integer offsetTimeMins;
+		private final boolean autoweed;
+		private final Map<FarmingPatch, PatchRecord> patches = new HashMap<>();
+		/**
+		 * Whether every patch of the profile has been parsed
+		 */
+		private boolean complete;
+
+		long getTickTime(int tickRate, int ticks, long requestedTime)
+		{
+			//All offsets are negative but are stored as positive
+			long calculatedOffsetTime = 0L;
+			if (offsetPrecisionMins != null && offsetTimeMins != null && (offsetPrecisionMins >= tickRate || offsetPrecisionMins >= 40))
+			{
+				calculatedOffsetTime = (offsetTimeMins % tickRate) * 60;
+			}
+
+			//Calculate "now" as +offset seconds in the future so we calculate the correct ticks
+			long unixNow = requestedTime + calculatedOffsetTime;
+
+			//The time that the tick requested will happen
+			long timeOfCurrentTick = (unixNow - (unixNow % (tickRate * 60)));
+			long timeOfGoalTick = timeOfCurrentTick + (ticks * tickRate * 60);
+
+			//Move ourselves back to real time
+			return timeOfGoalTick - calculatedOffsetTime;
+		}
+	}
+
+	@Value
+	private static class PatchDeadline
+	{
+		private final long time;
+		private final ProfilePatch profilePatch;
+		private final PatchRecord record;
+	}
 }
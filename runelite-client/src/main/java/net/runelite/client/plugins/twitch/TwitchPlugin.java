@@ -209,14 +209,9 @@ public class TwitchPlugin extends Plugin implements TwitchListener
 		addChatMessage("[System]", sysmsg);
 	}
 
-	@Subscribe
+	@Subscribe(scriptCallbacks = "chatDefaultReturn")
 	public void onScriptCallbackEvent(ScriptCallbackEvent scriptCallbackEvent)
 	{
-		if (!"chatDefaultReturn".equals(scriptCallbackEvent.getEventName()))
-		{
-			return;
-		}
-
 		final int[] intStack = client.getIntStack();
 		int intStackCount = client.getIntStackSize();
 
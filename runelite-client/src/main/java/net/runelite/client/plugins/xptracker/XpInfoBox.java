@@ -406,7 +406,8 @@ class XpInfoBox extends JPanel
 
 	private static boolean isActions(XpPanelLabel panelLabel)
 	{
-		return panelLabel == XpPanelLabel.ACTIONS_LEFT || panelLabel == XpPanelLabel.ACTIONS_HOUR || panelLabel == XpPanelLabel.ACTIONS_DONE;
+		return panelLabel == XpPanelLabel.ACTIONS_LEFT || panelLabel == XpPanelLabel.ACTIONS_HOUR || panelLabel == XpPanelLabel.ACTIONS_HOUR_15M
+			|| panelLabel == XpPanelLabel.ACTIONS_DONE;
 	}
 
 	private static boolean isCombatSkill(Skill skill)
@@ -52,10 +52,13 @@ import net.runelite.client.ui.components.DragAndDropReorderPane;
 import net.runelite.client.ui.components.PluginErrorPanel;
 import net.runelite.client.util.ImageUtil;
 import net.runelite.client.util.LinkBrowser;
+import net.runelite.client.util.QuantityFormatter;
 import okhttp3.HttpUrl;
 
 class XpPanel extends PluginPanel
 {
+	private static final String RECENT_RATES_TOOLTIP = "<html>Last 5 minutes: %s/hr<br>Last 15 minutes: %s/hr<br>Last hour: %s/hr</html>";
+
 	private final Map<Skill, XpInfoBox> infoBoxes = new HashMap<>();
 
 	private final JLabel overallExpGained = new JLabel(XpInfoBox.htmlLabel("Gained: ", 0));
@@ -226,5 +229,9 @@ class XpPanel extends PluginPanel
 	{
 		overallExpGained.setText(XpInfoBox.htmlLabel("Gained: ", xpSnapshotTotal.getXpGainedInSession()));
 		overallExpHour.setText(XpInfoBox.htmlLabel("Per hour: ", xpSnapshotTotal.getXpPerHour()));
+		overallExpHour.setToolTipText(String.format(RECENT_RATES_TOOLTIP,
+			QuantityFormatter.formatNumber(xpSnapshotTotal.getXpPerHour5m()),
+			QuantityFormatter.formatNumber(xpSnapshotTotal.getXpPerHour15m()),
+			QuantityFormatter.formatNumber(xpSnapshotTotal.getXpPerHour60m())));
 	}
 }
@@ -37,10 +37,15 @@ public enum XpPanelLabel
 
 	XP_GAINED("XP Gained", snap -> format(snap.getXpGainedInSession())),
 	XP_HOUR("XP/hr", snap -> format(snap.getXpPerHour())),
+	XP_HOUR_5M("XP/hr (5m)", snap -> format(snap.getXpPerHour5m())),
+	XP_HOUR_15M("XP/hr (15m)", snap -> format(snap.getXpPerHour15m())),
+	XP_HOUR_60M("XP/hr (1h)", snap -> format(snap.getXpPerHour60m())),
+	XP_HOUR_SMOOTHED("XP/hr (avg)", snap -> format(snap.getXpPerHourSmoothed())),
 	XP_LEFT("XP Left", snap -> format(snap.getXpRemainingToGoal())),
 
 	ACTIONS_LEFT("Actions", snap -> format(snap.getActionsRemainingToGoal())),
 	ACTIONS_HOUR("Actions/hr", snap -> format(snap.getActionsPerHour())),
+	ACTIONS_HOUR_15M("Actions/hr (15m)", snap -> format(snap.getActionsPerHour15m())),
 	ACTIONS_DONE("Actions Done", snap -> format(snap.getActionsInSession())),
 	;
 
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed size history of xp and action counts for a skill, sampled once per
+ * minute of training time. This allows rates over the last few minutes of
+ * training rather than over the whole session, which over long sessions is
+ * dominated by whatever was being trained hours ago.
+ */
+class XpRateHistory
+{
+	static final int SAMPLE_INTERVAL_MS = 60 * 1000;
+	static final int MAX_WINDOW_MINUTES = 60;
+
+	// one sample for each minute of the largest window, plus the sample at its start
+	private static final int CAPACITY = MAX_WINDOW_MINUTES + 1;
+	private static final double EWMA_TIME_CONSTANT_MS = 15 * 60 * 1000;
+	private static final int FORMAT_VERSION = 1;
+
+	// sample columns, indexed as a ring with head being the newest sample
+	private final long[] times = new long[CAPACITY];
+	private final int[] xps = new int[CAPACITY];
+	private final int[] actions = new int[CAPACITY];
+	private int head = -1;
+	private int size;
+
+	private double smoothedXpHr = -1;
+
+	void reset()
+	{
+		head = -1;
+		size = 0;
+		smoothedXpHr = -1;
+	}
+
+	/**
+	 * Record the current totals. A sample is only stored once a full sample
+	 * interval of training time has passed since the previous one.
+	 *
+	 * @param time training time in ms
+	 * @param xp xp gained
+	 * @param actionCount actions done
+	 * @return whether a sample was stored
+	 */
+	boolean sample(long time, int xp, int actionCount)
+	{
+		if (size > 0)
+		{
+			long dt = time - times[head];
+			if (dt < SAMPLE_INTERVAL_MS)
+			{
+				return false;
+			}
+
+			double rate = perHour(xp - xps[head], dt);
+			if (smoothedXpHr < 0)
+			{
+				smoothedXpHr = rate;
+			}
+			else
+			{
+				double alpha = 1 - Math.exp(-dt / EWMA_TIME_CONSTANT_MS);
+				smoothedXpHr += alpha * (rate - smoothedXpHr);
+			}
+		}
+
+		push(time, xp, actionCount);
+		return true;
+	}
+
+	private void push(long time, int xp, int actionCount)
+	{
+		head = (head + 1) % CAPACITY;
+		times[head] = time;
+		xps[head] = xp;
+		actions[head] = actionCount;
+		if (size < CAPACITY)
+		{
+			++size;
+		}
+	}
+
+	/**
+	 * Xp per hour over roughly the last {@code minutes} of training time, or since the first
+	 * sample if there is less history than that
+	 */
+	int getXpHr(int minutes, long time, int xp)
+	{
+		int idx = windowStart(minutes);
+		return idx == -1 ? 0 : (int) perHour(xp - xps[idx], time - times[idx]);
+	}
+
+	/**
+	 * Actions per hour over roughly the last {@code minutes} of training time
+	 */
+	int getActionsHr(int minutes, long time, int actionCount)
+	{
+		int idx = windowStart(minutes);
+		return idx == -1 ? 0 : (int) perHour(actionCount - actions[idx], time - times[idx]);
+	}
+
+	/**
+	 * Exponentially weighted xp per hour, or -1 if a full sample interval hasn't passed yet
+	 */
+	int getSmoothedXpHr()
+	{
+		return (int) smoothedXpHr;
+	}
+
+	private int windowStart(int minutes)
+	{
+		if (size == 0)
+		{
+			return -1;
+		}
+
+		// samples are one interval apart, so the window start is a fixed offset from the head
+		int back = Math.min(Math.max(minutes, 1), size - 1);
+		return (head - back + CAPACITY) % CAPACITY;
+	}
+
+	private static double perHour(long value, long timeMs)
+	{
+		// like the session rates, treat anything shorter than a minute as a minute
+		return value * 3_600_000.0 / Math.max(SAMPLE_INTERVAL_MS, timeMs);
+	}
+
+	/**
+	 * Serialize the samples, oldest first, with each column delta encoded as varints
+	 */
+	byte[] save()
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream(8 + size * 6);
+		out.write(FORMAT_VERSION);
+		writeVarint(out, size);
+		writeVarint(out, Math.max(0, (long) smoothedXpHr) + 1);
+
+		long lastTime = 0;
+		int lastXp = 0;
+		int lastActions = 0;
+		for (int i = size - 1; i >= 0; --i)
+		{
+			int idx = (head - i + CAPACITY) % CAPACITY;
+			writeVarint(out, times[idx] - lastTime);
+			writeVarint(out, xps[idx] - lastXp);
+			writeVarint(out, actions[idx] - lastActions);
+			lastTime = times[idx];
+			lastXp = xps[idx];
+			lastActions = actions[idx];
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Restore samples from {@link #save()}. Returns false, leaving the history empty, if the data is not valid.
+	 */
+	boolean restore(byte[] data)
+	{
+		reset();
+
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		try
+		{
+			if (buf.get() != FORMAT_VERSION)
+			{
+				return false;
+			}
+
+			int count = (int) readVarint(buf);
+			if (count > CAPACITY)
+			{
+				return false;
+			}
+			double smoothed = readVarint(buf) - 1;
+
+			long time = 0;
+			int xp = 0;
+			int actionCount = 0;
+			for (int i = 0; i < count; ++i)
+			{
+				time += readVarint(buf);
+				xp += (int) readVarint(buf);
+				actionCount += (int) readVarint(buf);
+				push(time, xp, actionCount);
+			}
+			smoothedXpHr = size > 1 ? smoothed : -1;
+			return true;
+		}
+		catch (BufferUnderflowException | IllegalArgumentException ex)
+		{
+			reset();
+			return false;
+		}
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value)
+	{
+		if (value < 0)
+		{
+			// deltas are never negative, clamp rather than writing something unreadable
+			value = 0;
+		}
+
+		while ((value & ~0x7FL) != 0)
+		{
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarint(ByteBuffer buf)
+	{
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7)
+		{
+			byte b = buf.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("varint too long");
+	}
+}
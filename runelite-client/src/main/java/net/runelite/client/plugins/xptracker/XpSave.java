@@ -53,6 +53,10 @@ class XpSaveSingle
 	int xpGainedSinceReset;
 	@SerializedName("t")
 	long time; // ms
+	@SerializedName("as")
+	int actionsSinceReset;
+	@SerializedName("h")
+	String history; // base64 XpRateHistory
 }
 
 class XpSaveSerializer implements Serializer<XpSave>
@@ -38,10 +38,15 @@ class XpSnapshotSingle
 	private int xpGainedInSession;
 	private int xpRemainingToGoal;
 	private int xpPerHour;
+	private int xpPerHour5m;
+	private int xpPerHour15m;
+	private int xpPerHour60m;
+	private int xpPerHourSmoothed;
 	private double skillProgressToGoal;
 	private int actionsInSession;
 	private int actionsRemainingToGoal;
 	private int actionsPerHour;
+	private int actionsPerHour15m;
 	private String timeTillGoal;
 	private String timeTillGoalHours;
 	private String timeTillGoalShort;
@@ -27,8 +27,8 @@
 package net.runelite.client.plugins.xptracker;
 
 import java.util.Arrays;
+import java.util.Base64;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Experience;
 
@@ -42,7 +42,6 @@ class XpStateSingle
 	private int actionExpIndex = 0;
 
 	@Getter
-	@Setter
 	private long startXp;
 
 	@Getter
@@ -51,7 +50,6 @@ class XpStateSingle
 	private int xpGainedBeforeReset = 0;
 
 	// how long the skill has been trained for in ms
-	@Setter
 	private long skillTime = 0;
 	// the last time the skill xp changed in ms
 	@Getter
@@ -61,12 +59,35 @@ class XpStateSingle
 	private int endLevelExp = 0;
 
 	@Getter
-	@Setter
 	private boolean compactView;
 
+	private final XpRateHistory rateHistory = new XpRateHistory();
+
+	// built on demand, and dropped whenever any of the values it is built from change
+	private XpSnapshotSingle snapshot;
+
 	XpStateSingle(long startXp)
 	{
 		this.startXp = startXp;
+		rateHistory.sample(0, 0, 0);
+	}
+
+	void setStartXp(long startXp)
+	{
+		this.startXp = startXp;
+		snapshot = null;
+	}
+
+	void setSkillTime(long skillTime)
+	{
+		this.skillTime = skillTime;
+		snapshot = null;
+	}
+
+	void setCompactView(boolean compactView)
+	{
+		this.compactView = compactView;
+		snapshot = null;
 	}
 
 	long getCurrentXp()
@@ -206,6 +227,25 @@ class XpStateSingle
 		return toHourly(xpGainedSinceReset);
 	}
 
+	/**
+	 * Xp per hour over the last {@code minutes} minutes of training, up to {@link XpRateHistory#MAX_WINDOW_MINUTES}
+	 */
+	int getXpHr(int minutes)
+	{
+		return rateHistory.getXpHr(minutes, skillTime, xpGainedSinceReset);
+	}
+
+	private int getActionsHr(int minutes)
+	{
+		return rateHistory.getActionsHr(minutes, skillTime, actionsSinceReset);
+	}
+
+	int getSmoothedXpHr()
+	{
+		int smoothed = rateHistory.getSmoothedXpHr();
+		return smoothed >= 0 ? smoothed : getXpHr();
+	}
+
 	void resetPerHour()
 	{
 		//reset actions per hour
@@ -216,6 +256,9 @@ class XpStateSingle
 		xpGainedSinceReset = 0;
 		lastChangeMillis = System.currentTimeMillis();
 		setSkillTime(0);
+
+		rateHistory.reset();
+		rateHistory.sample(0, 0, 0);
 	}
 
 	boolean update(long currentXp)
@@ -254,6 +297,7 @@ class XpStateSingle
 		// Calculate experience gained
 		xpGainedSinceReset = (int) (currentXp - (startXp + xpGainedBeforeReset));
 		lastChangeMillis = System.currentTimeMillis();
+		snapshot = null;
 
 		return true;
 	}
@@ -280,6 +324,7 @@ class XpStateSingle
 		{
 			endLevelExp = goalEndXp;
 		}
+		snapshot = null;
 	}
 
 	public void tick(long delta)
@@ -290,9 +335,20 @@ class XpStateSingle
 			return;
 		}
 		skillTime += delta;
+		rateHistory.sample(skillTime, xpGainedSinceReset, actionsSinceReset);
+		snapshot = null;
 	}
 
 	XpSnapshotSingle snapshot()
+	{
+		if (snapshot == null)
+		{
+			snapshot = buildSnapshot();
+		}
+		return snapshot;
+	}
+
+	private XpSnapshotSingle buildSnapshot()
 	{
 		return XpSnapshotSingle.builder()
 			.startLevel(Experience.getLevelForXp(startLevelExp))
@@ -300,10 +356,15 @@ class XpStateSingle
 			.xpGainedInSession(getTotalXpGained())
 			.xpRemainingToGoal(getXpRemaining())
 			.xpPerHour(getXpHr())
+			.xpPerHour5m(getXpHr(5))
+			.xpPerHour15m(getXpHr(15))
+			.xpPerHour60m(getXpHr(60))
+			.xpPerHourSmoothed(getSmoothedXpHr())
 			.skillProgressToGoal(getSkillProgress())
 			.actionsInSession(actions)
 			.actionsRemainingToGoal(getActionsRemaining())
 			.actionsPerHour(getActionsHr())
+			.actionsPerHour15m(getActionsHr(15))
 			.timeTillGoal(getTimeTillLevel(XpGoalTimeType.DAYS))
 			.timeTillGoalHours(getTimeTillLevel(XpGoalTimeType.HOURS))
 			.timeTillGoalShort(getTimeTillLevel(XpGoalTimeType.SHORT))
@@ -320,6 +381,8 @@ class XpStateSingle
 		save.xpGainedBeforeReset = xpGainedBeforeReset;
 		save.xpGainedSinceReset = xpGainedSinceReset;
 		save.time = skillTime;
+		save.actionsSinceReset = actionsSinceReset;
+		save.history = Base64.getEncoder().encodeToString(rateHistory.save());
 		return save;
 	}
 
@@ -329,5 +392,27 @@ class XpStateSingle
 		xpGainedBeforeReset = save.xpGainedBeforeReset;
 		xpGainedSinceReset = save.xpGainedSinceReset;
 		skillTime = save.time;
+		actionsSinceReset = save.actionsSinceReset;
+		snapshot = null;
+
+		if (save.history == null || !restoreHistory(save.history))
+		{
+			// saves from before the history was kept only have the session rate to go on
+			rateHistory.reset();
+			rateHistory.sample(0, 0, 0);
+		}
+	}
+
+	private boolean restoreHistory(String history)
+	{
+		try
+		{
+			return rateHistory.restore(Base64.getDecoder().decode(history));
+		}
+		catch (IllegalArgumentException ex)
+		{
+			log.debug("Invalid xp history", ex);
+			return false;
+		}
 	}
 }
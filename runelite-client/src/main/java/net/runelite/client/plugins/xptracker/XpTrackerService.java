@@ -48,6 +48,17 @@ public interface XpTrackerService
 	 */
 	int getXpHr(Skill skill);
 
+	/**
+	 * Get the amount of xp per hour over the last {@code minutes} minutes of training,
+	 * up to an hour
+	 */
+	int getXpHr(Skill skill, int minutes);
+
+	/**
+	 * Get the amount of xp per hour, smoothed towards recent training
+	 */
+	int getSmoothedXpHr(Skill skill);
+
 	/**
 	 * Get the start goal XP
 	 */
@@ -63,6 +63,18 @@ class XpTrackerServiceImpl implements XpTrackerService
 		return plugin.getSkillSnapshot(skill).getXpPerHour();
 	}
 
+	@Override
+	public int getXpHr(Skill skill, int minutes)
+	{
+		return plugin.getSkillState(skill).getXpHr(minutes);
+	}
+
+	@Override
+	public int getSmoothedXpHr(Skill skill)
+	{
+		return plugin.getSkillSnapshot(skill).getXpPerHourSmoothed();
+	}
+
 	@Override
 	public int getStartGoalXp(Skill skill)
 	{
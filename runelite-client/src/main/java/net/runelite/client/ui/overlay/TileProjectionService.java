@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Polygon;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.Perspective;
+import static net.runelite.api.Perspective.COSINE;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
+import static net.runelite.api.Perspective.SINE;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Projects batches of scene tiles to canvas polygons, matching
+ * {@link Perspective#getCanvasTilePoly(Client, net.runelite.api.coords.LocalPoint)}.
+ * <p>
+ * The polygons of a {@link Batch} are kept until the camera, viewport, scene or the
+ * tiles in the batch change, so overlays drawing many tiles only pay for the projection
+ * when the camera moves rather than on every frame.
+ */
+@Singleton
+public class TileProjectionService
+{
+	private static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
+	private static final int KEY_SIZE = 17;
+
+	private final Client client;
+	private final long[] key = new long[KEY_SIZE];
+	private final int[] polyX = new int[4];
+	private final int[] polyY = new int[4];
+
+	/**
+	 * Incremented on each scene load, as the tile heights may change without the scene base changing
+	 */
+	private int sceneGeneration;
+
+	// camera state for the current projection
+	private boolean gpu;
+	private int cameraX, cameraY, cameraZ;
+	private int pitchSin, pitchCos, yawSin, yawCos;
+	private float cameraFpX, cameraFpY, cameraFpZ;
+	private float pitchSinFp, pitchCosFp, yawSinFp, yawCosFp;
+	private int scale;
+	private int viewportWidth, viewportHeight;
+	private int viewportXOffset, viewportYOffset;
+
+	@Inject
+	private TileProjectionService(Client client, EventBus eventBus)
+	{
+		this.client = client;
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	private void onGameStateChanged(GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOADING)
+		{
+			++sceneGeneration;
+		}
+	}
+
+	/**
+	 * Projects the tiles of the batch on the current plane of the top level world view, if anything
+	 * affecting the projection has changed since the batch was last projected.
+	 *
+	 * @param batch the batch to project
+	 */
+	public void project(Batch batch)
+	{
+		final WorldView wv = client.getTopLevelWorldView();
+		if (wv == null)
+		{
+			batch.invalidate();
+			Arrays.fill(batch.polygons, 0, batch.size, null);
+			return;
+		}
+
+		loadKey(wv);
+		if (!batch.dirty && batch.size == batch.projectedSize && Arrays.equals(key, batch.key))
+		{
+			return;
+		}
+
+		loadCamera();
+
+		final Scene scene = wv.getScene();
+		final byte[][][] tileSettings = scene.getExtendedTileSettings();
+		final int[][][] tileHeights = scene.getTileHeights();
+		final int plane = wv.getPlane();
+		final int baseX = wv.getBaseX();
+		final int baseY = wv.getBaseY();
+		final int sizeX = wv.getSizeX();
+		final int sizeY = wv.getSizeY();
+
+		for (int i = 0; i < batch.size; ++i)
+		{
+			final int sceneX = batch.worldX[i] - baseX;
+			final int sceneY = batch.worldY[i] - baseY;
+			if (sceneX < 0 || sceneY < 0 || sceneX >= sizeX || sceneY >= sizeY)
+			{
+				batch.polygons[i] = null;
+				continue;
+			}
+
+			final int msx = sceneX + ESCENE_OFFSET;
+			final int msy = sceneY + ESCENE_OFFSET;
+			int tilePlane = plane;
+			if (plane < Constants.MAX_Z - 1 && (tileSettings[1][msx][msy] & Constants.TILE_FLAG_BRIDGE) == Constants.TILE_FLAG_BRIDGE)
+			{
+				tilePlane = plane + 1;
+			}
+
+			// the tile corners are on whole tile boundaries, so their heights need no interpolation
+			final int[][] heights = tileHeights[tilePlane];
+			final int swX = sceneX << LOCAL_COORD_BITS;
+			final int swY = sceneY << LOCAL_COORD_BITS;
+			final int neX = swX + Perspective.LOCAL_TILE_SIZE;
+			final int neY = swY + Perspective.LOCAL_TILE_SIZE;
+
+			if (project(swX, swY, height(heights, msx, msy), 0)
+				&& project(neX, swY, height(heights, msx + 1, msy), 1)
+				&& project(neX, neY, height(heights, msx + 1, msy + 1), 2)
+				&& project(swX, neY, height(heights, msx, msy + 1), 3))
+			{
+				batch.polygons[i] = new Polygon(polyX, polyY, 4);
+			}
+			else
+			{
+				batch.polygons[i] = null;
+			}
+		}
+
+		System.arraycopy(key, 0, batch.key, 0, KEY_SIZE);
+		batch.projectedSize = batch.size;
+		batch.dirty = false;
+	}
+
+	private void loadKey(WorldView wv)
+	{
+		final boolean gpu = client.isGpu();
+		key[0] = gpu ? 1 : 0;
+		key[1] = sceneGeneration;
+		key[2] = wv.getBaseX();
+		key[3] = wv.getBaseY();
+		key[4] = wv.getPlane();
+		key[5] = System.identityHashCode(wv.getScene());
+		key[6] = client.getScale();
+		key[7] = client.getViewportWidth();
+		key[8] = client.getViewportHeight();
+		key[9] = client.getViewportXOffset();
+		key[10] = client.getViewportYOffset();
+		if (gpu)
+		{
+			key[11] = Double.doubleToLongBits(client.getCameraFpX());
+			key[12] = Double.doubleToLongBits(client.getCameraFpY());
+			key[13] = Double.doubleToLongBits(client.getCameraFpZ());
+			key[14] = Double.doubleToLongBits(client.getCameraFpPitch());
+			key[15] = Double.doubleToLongBits(client.getCameraFpYaw());
+		}
+		else
+		{
+			key[11] = client.getCameraX();
+			key[12] = client.getCameraY();
+			key[13] = client.getCameraZ();
+			key[14] = client.getCameraPitch();
+			key[15] = client.getCameraYaw();
+		}
+		key[16] = (long) wv.getSizeX() << 32 | wv.getSizeY();
+	}
+
+	private void loadCamera()
+	{
+		gpu = key[0] != 0;
+		if (gpu)
+		{
+			final double cameraPitch = Double.longBitsToDouble(key[14]);
+			final double cameraYaw = Double.longBitsToDouble(key[15]);
+			cameraFpX = (float) Double.longBitsToDouble(key[11]);
+			cameraFpY = (float) Double.longBitsToDouble(key[12]);
+			cameraFpZ = (float) Double.longBitsToDouble(key[13]);
+			pitchSinFp = (float) Math.sin(cameraPitch);
+			pitchCosFp = (float) Math.cos(cameraPitch);
+			yawSinFp = (float) Math.sin(cameraYaw);
+			yawCosFp = (float) Math.cos(cameraYaw);
+		}
+		else
+		{
+			cameraX = (int) key[11];
+			cameraY = (int) key[12];
+			cameraZ = (int) key[13];
+			pitchSin = SINE[(int) key[14]];
+			pitchCos = COSINE[(int) key[14]];
+			yawSin = SINE[(int) key[15]];
+			yawCos = COSINE[(int) key[15]];
+		}
+		scale = (int) key[6];
+		viewportWidth = (int) key[7];
+		viewportHeight = (int) key[8];
+		viewportXOffset = (int) key[9];
+		viewportYOffset = (int) key[10];
+	}
+
+	private static int height(int[][] heights, int msx, int msy)
+	{
+		if (msx >= 0 && msy >= 0 && msx < Constants.EXTENDED_SCENE_SIZE && msy < Constants.EXTENDED_SCENE_SIZE)
+		{
+			return heights[msx][msy];
+		}
+		return 0;
+	}
+
+	/**
+	 * Projects a local point into the polygon scratch arrays, using the same math as
+	 * {@link Perspective#localToCanvas(Client, int, int, int)}.
+	 *
+	 * @return false if the point is behind the camera
+	 */
+	private boolean project(int x, int y, int z, int index)
+	{
+		if (gpu)
+		{
+			final float
+				fx = x - cameraFpX,
+				fy = y - cameraFpY,
+				fz = z - cameraFpZ;
+
+			final float
+				x1 = fx * yawCosFp + fy * yawSinFp,
+				y1 = fy * yawCosFp - fx * yawSinFp,
+				y2 = fz * pitchCosFp - y1 * pitchSinFp,
+				z1 = y1 * pitchCosFp + fz * pitchSinFp;
+
+			if (z1 < 50f)
+			{
+				return false;
+			}
+
+			polyX[index] = Math.round(viewportWidth / 2f + x1 * scale / z1) + viewportXOffset;
+			polyY[index] = Math.round(viewportHeight / 2f + y2 * scale / z1) + viewportYOffset;
+		}
+		else
+		{
+			x -= cameraX;
+			y -= cameraY;
+			z -= cameraZ;
+
+			final int
+				x1 = x * yawCos + y * yawSin >> 16,
+				y1 = y * yawCos - x * yawSin >> 16,
+				y2 = z * pitchCos - y1 * pitchSin >> 16,
+				z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+			if (z1 < 50)
+			{
+				return false;
+			}
+
+			polyX[index] = viewportWidth / 2 + x1 * scale / z1 + viewportXOffset;
+			polyY[index] = viewportHeight / 2 + y2 * scale / z1 + viewportYOffset;
+		}
+		return true;
+	}
+
+	/**
+	 * A set of tiles, in world coordinates, to be projected together. Callers refill the batch each
+	 * frame with {@link #clear()} and {@link #add(int, int)}; if the same tiles are added in the same
+	 * order the previous projection is reused.
+	 */
+	public static final class Batch
+	{
+		private int[] worldX = new int[16];
+		private int[] worldY = new int[16];
+		private Polygon[] polygons = new Polygon[16];
+		private final long[] key = new long[KEY_SIZE];
+		private int size;
+		private int projectedSize = -1;
+		private boolean dirty = true;
+
+		/**
+		 * Removes all tiles from the batch, keeping the last projection so it can be reused
+		 * if the same tiles are added back.
+		 */
+		public void clear()
+		{
+			size = 0;
+		}
+
+		/**
+		 * Adds a tile to the batch.
+		 *
+		 * @param x world x coordinate of the tile
+		 * @param y world y coordinate of the tile
+		 * @return the index of the tile in the batch
+		 */
+		public int add(int x, int y)
+		{
+			if (size == worldX.length)
+			{
+				worldX = Arrays.copyOf(worldX, size * 2);
+				worldY = Arrays.copyOf(worldY, size * 2);
+				polygons = Arrays.copyOf(polygons, size * 2);
+			}
+
+			if (worldX[size] != x || worldY[size] != y || size >= projectedSize)
+			{
+				worldX[size] = x;
+				worldY[size] = y;
+				dirty = true;
+			}
+			return size++;
+		}
+
+		/**
+		 * Forces the batch to be projected again on the next {@link TileProjectionService#project(Batch)}.
+		 */
+		public void invalidate()
+		{
+			dirty = true;
+		}
+
+		public int size()
+		{
+			return size;
+		}
+
+		/**
+		 * Gets the canvas polygon of a tile, as of the last projection.
+		 *
+		 * @param index the index returned from {@link #add(int, int)}
+		 * @return the polygon, or null if the tile is not in the scene or is behind the camera
+		 */
+		@Nullable
+		public Polygon getPolygon(int index)
+		{
+			return polygons[index];
+		}
+	}
+}
@@ -24,17 +24,21 @@
  */
 package net.runelite.client.ui.overlay.infobox;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.ComparisonChain;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -73,8 +77,32 @@ public class InfoBoxManager
 	private static final OverlayMenuEntry FLIP_ME = new OverlayMenuEntry(MenuAction.RUNELITE_INFOBOX, FLIP, "InfoBox Group");
 	private static final OverlayMenuEntry DELETE_ME = new OverlayMenuEntry(MenuAction.RUNELITE_INFOBOX, DELETE, "InfoBox Group");
 
+	/**
+	 * The class declaring each infobox type's {@link InfoBox#cull()} method
+	 */
+	private static final ClassValue<Class<?>> CULL_DECLARER = new ClassValue<>()
+	{
+		@Override
+		protected Class<?> computeValue(Class<?> type)
+		{
+			try
+			{
+				return type.getMethod("cull").getDeclaringClass();
+			}
+			catch (NoSuchMethodException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
 	private final Map<String, InfoBoxOverlay> layers = new ConcurrentHashMap<>();
 
+	// Timers are culled by the wheel when they expire, and only infoboxes with their own cull logic are polled.
+	// Infoboxes which don't override cull are never culled.
+	private final InfoBoxTimingWheel timers = new InfoBoxTimingWheel(Instant.now());
+	private final Set<InfoBox> polled = Collections.newSetFromMap(new IdentityHashMap<>());
+
 	private final RuneLiteConfig runeLiteConfig;
 	private final TooltipManager tooltipManager;
 	private final Client client;
@@ -172,6 +200,7 @@ public class InfoBoxManager
 				.compare(b1.getPlugin().getName(), b2.getPlugin().getName())
 				.result());
 			overlay.getInfoBoxes().add(idx, infoBox);
+			track(infoBox);
 		}
 
 		BufferedImage image = infoBox.getImage();
@@ -196,6 +225,7 @@ public class InfoBoxManager
 		}
 
 		infoBox.layer = null;
+		untrack(infoBox);
 
 		infoBox.getMenuEntries().remove(DETACH_ME);
 		infoBox.getMenuEntries().remove(FLIP_ME);
@@ -206,7 +236,15 @@ public class InfoBoxManager
 	{
 		for (InfoBoxOverlay overlay : layers.values())
 		{
-			if (overlay.getInfoBoxes().removeIf(filter))
+			if (overlay.getInfoBoxes().removeIf(infoBox ->
+			{
+				if (filter.test(infoBox))
+				{
+					untrack(infoBox);
+					return true;
+				}
+				return false;
+			}))
 			{
 				log.debug("Removed InfoBoxes for filter {} from {}", filter, overlay);
 			}
@@ -218,9 +256,59 @@ public class InfoBoxManager
 		return layers.values().stream().map(InfoBoxOverlay::getInfoBoxes).flatMap(Collection::stream).collect(Collectors.toList());
 	}
 
-	public synchronized void cull()
+	public void cull()
+	{
+		cull(Instant.now());
+	}
+
+	@VisibleForTesting
+	synchronized void cull(Instant now)
+	{
+		for (Timer timer : timers.advance(now))
+		{
+			removeFromLayer(timer);
+		}
+
+		polled.removeIf(infoBox ->
+		{
+			if (infoBox.cull())
+			{
+				removeFromLayer(infoBox);
+				return true;
+			}
+			return false;
+		});
+	}
+
+	private void track(InfoBox infoBox)
 	{
-		layers.values().forEach(l -> l.getInfoBoxes().removeIf(InfoBox::cull));
+		Class<?> cullDeclarer = CULL_DECLARER.get(infoBox.getClass());
+		if (cullDeclarer == Timer.class)
+		{
+			timers.schedule((Timer) infoBox);
+		}
+		else if (cullDeclarer != InfoBox.class)
+		{
+			polled.add(infoBox);
+		}
+	}
+
+	private void untrack(InfoBox infoBox)
+	{
+		if (infoBox instanceof Timer)
+		{
+			timers.cancel((Timer) infoBox);
+		}
+		polled.remove(infoBox);
+	}
+
+	private void removeFromLayer(InfoBox infoBox)
+	{
+		InfoBoxOverlay overlay = infoBox.layer != null ? layers.get(infoBox.layer) : null;
+		if (overlay != null)
+		{
+			overlay.getInfoBoxes().remove(infoBox);
+		}
 	}
 
 	public void updateInfoBoxImage(final InfoBox infoBox)
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.infobox;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hierarchical timing wheel of {@link Timer} expiry instants, so that timers can be culled when they expire without
+ * polling every timer each tick.
+ * <p>
+ * The wheel has millisecond resolution and four levels of 256 slots, covering about 49 days. Timers further out than
+ * that sit in the last slot of the top level and are rescheduled when it comes around.
+ */
+class InfoBoxTimingWheel
+{
+	private static final int LEVELS = 4;
+	private static final int SLOT_BITS = 8;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+
+	private static class Entry
+	{
+		private final Timer timer;
+		private final long deadline;
+		private boolean cancelled;
+
+		private Entry(Timer timer, long deadline)
+		{
+			this.timer = timer;
+			this.deadline = deadline;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private final List<Entry>[][] slots = new List[LEVELS][SLOTS];
+	private final int[] levelCounts = new int[LEVELS];
+	private final Map<Timer, Entry> entries = new IdentityHashMap<>();
+	/**
+	 * Entries which are due at the current millisecond, or were scheduled in the past
+	 */
+	private final List<Entry> due = new ArrayList<>();
+	/**
+	 * The last millisecond which has been processed
+	 */
+	private long time;
+
+	InfoBoxTimingWheel(Instant now)
+	{
+		time = now.toEpochMilli();
+		for (List<Entry>[] level : slots)
+		{
+			for (int i = 0; i < SLOTS; ++i)
+			{
+				level[i] = new ArrayList<>();
+			}
+		}
+	}
+
+	synchronized void schedule(Timer timer)
+	{
+		cancel(timer);
+
+		Entry entry = new Entry(timer, timer.getEndTime().toEpochMilli());
+		entries.put(timer, entry);
+		timer.wheel = this;
+		insert(entry);
+	}
+
+	/**
+	 * Reschedule a timer after its end time has changed, if it is still scheduled
+	 */
+	synchronized void reschedule(Timer timer)
+	{
+		if (entries.containsKey(timer))
+		{
+			schedule(timer);
+		}
+	}
+
+	synchronized void cancel(Timer timer)
+	{
+		Entry entry = entries.remove(timer);
+		if (entry != null)
+		{
+			entry.cancelled = true;
+			timer.wheel = null;
+		}
+	}
+
+	synchronized int size()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * Advance the wheel to {@code now}, returning the timers which have expired. Expired timers are no longer
+	 * scheduled.
+	 */
+	synchronized List<Timer> advance(Instant now)
+	{
+		final long target = now.toEpochMilli();
+		while (time < target)
+		{
+			// skip over time in which nothing can fire or cascade
+			int empty = 0;
+			while (empty < LEVELS && levelCounts[empty] == 0)
+			{
+				++empty;
+			}
+			if (empty > 0)
+			{
+				long skipTo = empty == LEVELS ? target : time | ((1L << (SLOT_BITS * empty)) - 1);
+				if (skipTo > time)
+				{
+					time = Math.min(target, skipTo);
+					continue;
+				}
+			}
+
+			++time;
+			cascade();
+
+			List<Entry> slot = slots[0][(int) (time & SLOT_MASK)];
+			levelCounts[0] -= slot.size();
+			due.addAll(slot);
+			slot.clear();
+		}
+
+		if (due.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		// the wheel only has millisecond resolution, so a timer in the current millisecond may not have expired yet
+		List<Timer> expired = new ArrayList<>();
+		due.removeIf(entry ->
+		{
+			if (entry.cancelled)
+			{
+				return true;
+			}
+
+			if (now.isBefore(entry.timer.getEndTime()))
+			{
+				return false;
+			}
+
+			entries.remove(entry.timer);
+			entry.timer.wheel = null;
+			expired.add(entry.timer);
+			return true;
+		});
+		return expired;
+	}
+
+	/**
+	 * Move the entries of the higher level slots which begin at the current time down the wheel
+	 */
+	private void cascade()
+	{
+		for (int level = 1; level < LEVELS; ++level)
+		{
+			if ((time & ((1L << (SLOT_BITS * level)) - 1)) != 0)
+			{
+				return;
+			}
+
+			List<Entry> slot = slots[level][(int) ((time >>> (SLOT_BITS * level)) & SLOT_MASK)];
+			if (slot.isEmpty())
+			{
+				continue;
+			}
+
+			List<Entry> moved = new ArrayList<>(slot);
+			levelCounts[level] -= slot.size();
+			slot.clear();
+			for (Entry entry : moved)
+			{
+				insert(entry);
+			}
+		}
+	}
+
+	private void insert(Entry entry)
+	{
+		if (entry.cancelled)
+		{
+			return;
+		}
+
+		final long delta = entry.deadline - time;
+		if (delta <= 0)
+		{
+			due.add(entry);
+			return;
+		}
+
+		int level = 0;
+		while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1)))
+		{
+			++level;
+		}
+
+		// clamp timers beyond the range of the wheel to the furthest slot, to be rescheduled from there
+		final long deadline = Math.min(entry.deadline, time + (1L << (SLOT_BITS * LEVELS)) - 1);
+		slots[level][(int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK)].add(entry);
+		++levelCounts[level];
+	}
+}
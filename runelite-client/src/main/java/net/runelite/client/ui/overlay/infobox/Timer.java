@@ -30,6 +30,7 @@ import java.awt.image.BufferedImage;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import net.runelite.client.plugins.Plugin;
@@ -42,6 +43,13 @@ public class Timer extends InfoBox
 	private Instant endTime;
 	private Duration duration;
 
+	/**
+	 * The wheel tracking this timer's expiry, which is told when the end time changes
+	 */
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	volatile InfoBoxTimingWheel wheel;
+
 	public Timer(long period, ChronoUnit unit, BufferedImage image, Plugin plugin)
 	{
 		super(image, plugin);
@@ -103,6 +111,7 @@ public class Timer extends InfoBox
 		Preconditions.checkArgument(!duration.isNegative(), "negative duration");
 		this.duration = duration;
 		endTime = startTime.plus(duration);
+		reschedule();
 	}
 
 	/**
@@ -114,5 +123,15 @@ public class Timer extends InfoBox
 		Preconditions.checkArgument(!duration.isNegative(), "negative duration");
 		endTime = Instant.now().plus(duration);
 		this.duration = Duration.between(startTime, endTime);
+		reschedule();
+	}
+
+	private void reschedule()
+	{
+		InfoBoxTimingWheel wheel = this.wheel;
+		if (wheel != null)
+		{
+			wheel.reschedule(this);
+		}
 	}
 }
@@ -73,7 +73,7 @@ public class ModelOutlineRenderer
 	}
 
 	private static final int MAX_OUTLINE_WIDTH = 50;
-	private static final int MAX_FEATHER = 4;
+	static final int MAX_FEATHER = 4;
 	private static final int DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD = 10;
 
 	private final Client client;
@@ -117,10 +117,68 @@ public class ModelOutlineRenderer
 	// These are calculated once upon first usage and then stored here to skip reevaluation.
 	private PixelDistanceDelta[][][] precomputedDistanceDeltas = new PixelDistanceDelta[0][][];
 
+	// Outlines queued between beginBatch and endBatch
+	private final OutlineBatch batch;
+	private boolean batching;
+
 	@Inject
 	private ModelOutlineRenderer(Client client)
 	{
 		this.client = client;
+		this.batch = new OutlineBatch(client);
+	}
+
+	/**
+	 * Starts queueing outlines. Outlines drawn after this call are not drawn immediately, but are
+	 * rasterized into a shared buffer and drawn together in a single pass by {@link #endBatch()}.
+	 * This is much cheaper than drawing each outline separately when outlining many models.
+	 * <p>
+	 * Batched outlines of the same colour, width and feather are drawn around the union of their
+	 * models, so where two such models overlap the boundary between them is not outlined.
+	 */
+	public void beginBatch()
+	{
+		batch.begin();
+		batching = true;
+	}
+
+	/**
+	 * Draws all outlines queued since {@link #beginBatch()}.
+	 */
+	public void endBatch()
+	{
+		if (!batching)
+		{
+			return;
+		}
+
+		batching = false;
+		drawBatch();
+	}
+
+	/**
+	 * Draws the outlines queued so far without ending the batch. Overlays that draw other
+	 * shapes between outlines call this first so that the outlines stay below those shapes.
+	 */
+	public void flushBatch()
+	{
+		if (batching)
+		{
+			drawBatch();
+		}
+	}
+
+	private void drawBatch()
+	{
+		if (batch.isEmpty())
+		{
+			return;
+		}
+
+		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
+		BufferedImage image = (BufferedImage) bufferProvider.getImage();
+		int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		batch.end(imageData, image.getWidth());
 	}
 
 	/**
@@ -917,6 +975,18 @@ public class ModelOutlineRenderer
 			feather = MAX_FEATHER;
 		}
 
+		if (batching)
+		{
+			if (!batch.add(model, localX, localY, localZ, orientation, outlineWidth, color, feather))
+			{
+				// Too many outline styles for one batch, so draw what has been queued so far
+				drawBatch();
+				batch.begin();
+				batch.add(model, localX, localY, localZ, orientation, outlineWidth, color, feather);
+			}
+			return;
+		}
+
 		croppedX1 = Integer.MAX_VALUE;
 		croppedX2 = Integer.MIN_VALUE;
 		croppedY1 = Integer.MAX_VALUE;
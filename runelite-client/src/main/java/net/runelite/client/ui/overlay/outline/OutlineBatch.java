@@ -0,0 +1,596 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.util.Arrays;
+import net.runelite.api.Client;
+import net.runelite.api.Model;
+import net.runelite.api.Perspective;
+
+/**
+ * Renders the outlines of many models in a single pass.
+ * <p>
+ * Models are grouped by outline style, meaning the colour, width and feather of
+ * their outline, and rasterized into a shared buffer holding a bit per group for
+ * each pixel. Once every model has been added, one exact euclidean distance transform
+ * per group over the area covered by the group finds the distance from each pixel
+ * to the closest pixel of the group, and the outline is drawn where that is within
+ * the outline width. Groups are drawn in the order they were first added, so
+ * outlines of different styles are drawn the same way as drawing each model on its
+ * own. Within a group the outline is drawn around the union of the models, so where
+ * two models of the same style overlap the boundary between them is not outlined.
+ * <p>
+ * The distance transform is separable, so it is run as a pass over the columns
+ * followed by a pass over the scanlines, which also draws the outline.
+ */
+class OutlineBatch
+{
+	private static final int NONE = -1;
+	// One bit of the coverage buffer per group
+	private static final int MAX_GROUPS = Integer.SIZE;
+
+	private final Client client;
+
+	// Vertex positions projected on the screen.
+	private int[] projectedVerticesX = new int[0];
+	private int[] projectedVerticesY = new int[0];
+
+	// Window boundaries for the ingame world
+	private int clipX1;
+	private int clipY1;
+	private int clipX2;
+	private int clipY2;
+	private int clipWidth;
+
+	// Bitset of the groups covering each pixel within the clip area
+	private int[] coverage = new int[0];
+
+	// Bounds of the pixels covered by any model in this batch
+	private int coveredX1;
+	private int coveredY1;
+	private int coveredX2;
+	private int coveredY2;
+
+	// Outline style and covered bounds of each group
+	private int groupCount;
+	private final int[] colors = new int[MAX_GROUPS];
+	private final int[] widths = new int[MAX_GROUPS];
+	private final int[] feathers = new int[MAX_GROUPS];
+	private final int[] groupX1 = new int[MAX_GROUPS];
+	private final int[] groupY1 = new int[MAX_GROUPS];
+	private final int[] groupX2 = new int[MAX_GROUPS];
+	private final int[] groupY2 = new int[MAX_GROUPS];
+
+	// Distance to the closest covered pixel in the same column
+	private int[] columnDistances = new int[0];
+
+	// Indices of the parabolas forming the lower envelope of a row, and the boundaries between them
+	private int[] envelope = new int[0];
+	private double[] envelopeBoundaries = new double[1];
+
+	// Group and area the distance transform is run over
+	private int groupBit;
+	private int outlineWidth;
+	private int regionX1;
+	private int regionY1;
+	private int regionWidth;
+	private int regionHeight;
+
+	OutlineBatch(Client client)
+	{
+		this.client = client;
+	}
+
+	/**
+	 * Resets the batch and sizes the coverage buffer to the current viewport.
+	 */
+	void begin()
+	{
+		clipX1 = client.getViewportXOffset();
+		clipY1 = client.getViewportYOffset();
+		clipX2 = client.getViewportWidth() + clipX1;
+		clipY2 = client.getViewportHeight() + clipY1;
+		clipWidth = clipX2 - clipX1;
+
+		int size = clipWidth * (clipY2 - clipY1);
+		if (coverage.length < size)
+		{
+			coverage = new int[size];
+		}
+
+		groupCount = 0;
+		coveredX1 = Integer.MAX_VALUE;
+		coveredY1 = Integer.MAX_VALUE;
+		coveredX2 = Integer.MIN_VALUE;
+		coveredY2 = Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Rasterizes a model into the coverage buffer.
+	 *
+	 * @param outlineWidth The width of the outline, already clamped by the caller
+	 * @param feather The feather of the outline, already clamped by the caller
+	 * @return false if the batch already holds the maximum number of outline styles, in which
+	 * case the model was not added and the batch must be drawn first
+	 */
+	boolean add(Model model, int localX, int localY, int localZ, int orientation,
+		int outlineWidth, Color color, int feather)
+	{
+		final int rgb = color.getRGB();
+		int group = 0;
+		while (group < groupCount
+			&& (colors[group] != rgb || widths[group] != outlineWidth || feathers[group] != feather))
+		{
+			group++;
+		}
+
+		if (group == groupCount)
+		{
+			if (groupCount == MAX_GROUPS)
+			{
+				return false;
+			}
+
+			colors[group] = rgb;
+			widths[group] = outlineWidth;
+			feathers[group] = feather;
+			groupX1[group] = Integer.MAX_VALUE;
+			groupY1[group] = Integer.MAX_VALUE;
+			groupX2[group] = Integer.MIN_VALUE;
+			groupY2[group] = Integer.MIN_VALUE;
+			groupCount++;
+		}
+
+		final int vertexCount = model.getVerticesCount();
+		if (projectedVerticesX.length < vertexCount)
+		{
+			projectedVerticesX = new int[vertexCount];
+			projectedVerticesY = new int[vertexCount];
+		}
+
+		Perspective.modelToCanvas(client,
+			vertexCount,
+			localX, localY, localZ,
+			orientation,
+			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
+			projectedVerticesX, projectedVerticesY);
+
+		final int triangleCount = model.getFaceCount();
+		final int[] indices1 = model.getFaceIndices1();
+		final int[] indices2 = model.getFaceIndices2();
+		final int[] indices3 = model.getFaceIndices3();
+		final byte[] triangleTransparencies = model.getFaceTransparencies();
+
+		for (int i = 0; i < triangleCount; i++)
+		{
+			final int index1 = indices1[i];
+			final int index2 = indices2[i];
+			final int index3 = indices3[i];
+			final int v1y = projectedVerticesY[index1];
+			final int v2y = projectedVerticesY[index2];
+			final int v3y = projectedVerticesY[index3];
+
+			if (v1y == Integer.MIN_VALUE || v2y == Integer.MIN_VALUE || v3y == Integer.MIN_VALUE
+				// 254 and 255 counts as fully transparent
+				|| (triangleTransparencies != null && (triangleTransparencies[i] & 255) >= 254))
+			{
+				continue;
+			}
+
+			final int v1x = projectedVerticesX[index1];
+			final int v2x = projectedVerticesX[index2];
+			final int v3x = projectedVerticesX[index3];
+
+			// Counter clockwise triangles are culled
+			if ((v2y - v1y) * (v3x - v2x) - (v2x - v1x) * (v3y - v2y) > 0)
+			{
+				rasterizeTriangle(group, v1x, v1y, v2x, v2y, v3x, v3y);
+			}
+		}
+		return true;
+	}
+
+	boolean isEmpty()
+	{
+		return groupCount == 0;
+	}
+
+	/**
+	 * Draws the outlines of every model added since {@link #begin()}, and clears the coverage buffer.
+	 */
+	void end(int[] imageData, int imageWidth)
+	{
+		try
+		{
+			for (int group = 0; group < groupCount; group++)
+			{
+				if (groupX1[group] <= groupX2[group])
+				{
+					drawGroup(group, imageData, imageWidth);
+				}
+			}
+		}
+		finally
+		{
+			clearCoverage();
+		}
+	}
+
+	private void drawGroup(int group, int[] imageData, int imageWidth)
+	{
+		groupBit = 1 << group;
+		outlineWidth = widths[group];
+		regionX1 = Math.max(groupX1[group] - outlineWidth, clipX1);
+		regionY1 = Math.max(groupY1[group] - outlineWidth, clipY1);
+		regionWidth = Math.min(groupX2[group] + outlineWidth + 1, clipX2) - regionX1;
+		regionHeight = Math.min(groupY2[group] + outlineWidth + 1, clipY2) - regionY1;
+
+		final int size = regionWidth * regionHeight;
+		if (columnDistances.length < size)
+		{
+			columnDistances = new int[size];
+		}
+
+		if (envelope.length < regionWidth)
+		{
+			envelope = new int[regionWidth];
+			envelopeBoundaries = new double[regionWidth + 1];
+		}
+
+		computeColumns();
+		computeRows(imageData, imageWidth, colors[group], feathers[group]);
+	}
+
+	/**
+	 * First pass of the distance transform, finding the closest covered pixel within each column.
+	 */
+	private void computeColumns()
+	{
+		for (int rx = 0; rx < regionWidth; rx++)
+		{
+			final int coveragePos = (regionY1 - clipY1) * clipWidth + (regionX1 + rx - clipX1);
+
+			int last = NONE;
+			for (int ry = 0; ry < regionHeight; ry++)
+			{
+				if ((coverage[coveragePos + ry * clipWidth] & groupBit) != 0)
+				{
+					last = ry;
+				}
+
+				final int pos = ry * regionWidth + rx;
+				columnDistances[pos] = last != NONE && ry - last <= outlineWidth ? ry - last : NONE;
+			}
+
+			last = NONE;
+			for (int ry = regionHeight - 1; ry >= 0; ry--)
+			{
+				if ((coverage[coveragePos + ry * clipWidth] & groupBit) != 0)
+				{
+					last = ry;
+				}
+
+				final int pos = ry * regionWidth + rx;
+				if (last != NONE && last - ry <= outlineWidth
+					&& (columnDistances[pos] == NONE || last - ry < columnDistances[pos]))
+				{
+					columnDistances[pos] = last - ry;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Second pass of the distance transform, combining the column distances along each scanline using
+	 * the lower envelope of parabolas, and drawing every outline pixel.
+	 */
+	private void computeRows(int[] imageData, int imageWidth, int color, int feather)
+	{
+		final int[] envelope = this.envelope;
+		final double[] boundaries = envelopeBoundaries;
+		final int maxDistanceSq = outlineWidth * outlineWidth;
+		final double fadedDistance = (double) feather / ModelOutlineRenderer.MAX_FEATHER * (outlineWidth - 0.5);
+
+		for (int ry = 0; ry < regionHeight; ry++)
+		{
+			final int rowPos = ry * regionWidth;
+			final int y = regionY1 + ry;
+
+			int k = NONE;
+			for (int q = 0; q < regionWidth; q++)
+			{
+				final int dq = columnDistances[rowPos + q];
+				if (dq == NONE)
+				{
+					continue;
+				}
+
+				final double fq = (double) dq * dq + (double) q * q;
+				double s = 0;
+				while (k >= 0)
+				{
+					final int p = envelope[k];
+					final int dp = columnDistances[rowPos + p];
+					s = (fq - ((double) dp * dp + (double) p * p)) / (2.0 * (q - p));
+					if (s > boundaries[k])
+					{
+						break;
+					}
+					k--;
+				}
+
+				if (k < 0)
+				{
+					k = 0;
+					envelope[0] = q;
+					boundaries[0] = Double.NEGATIVE_INFINITY;
+				}
+				else
+				{
+					envelope[++k] = q;
+					boundaries[k] = s;
+				}
+				boundaries[k + 1] = Double.POSITIVE_INFINITY;
+			}
+
+			if (k < 0)
+			{
+				// No covered pixel is close enough to this row
+				continue;
+			}
+
+			final int coverageRowPos = (y - clipY1) * clipWidth + (regionX1 - clipX1);
+			int j = 0;
+			for (int rx = 0; rx < regionWidth; rx++)
+			{
+				if ((coverage[coverageRowPos + rx] & groupBit) != 0)
+				{
+					continue;
+				}
+
+				while (boundaries[j + 1] < rx)
+				{
+					j++;
+				}
+
+				final int p = envelope[j];
+				final int dx = rx - p;
+				final int dy = columnDistances[rowPos + p];
+				final int distanceSq = dx * dx + dy * dy;
+				if (distanceSq > maxDistanceSq)
+				{
+					continue;
+				}
+
+				final double outerDistance = outlineWidth - Math.sqrt(distanceSq) + 0.5;
+				final double alphaMultiply = outerDistance < fadedDistance ? outerDistance / fadedDistance : 1.0;
+				drawPixel(imageData, y * imageWidth + regionX1 + rx, color, alphaMultiply);
+			}
+		}
+	}
+
+	private static void drawPixel(int[] imageData, int pixelPos, int color, double alphaMultiply)
+	{
+		final int alpha = (int) Math.round((color >>> 24) * alphaMultiply);
+		if (alpha == 255)
+		{
+			imageData[pixelPos] = color;
+			return;
+		}
+
+		final int inverseAlpha = 256 - alpha;
+		final int colorARGB = (alpha << 24)
+			| (((color >> 16) & 0xFF) * alpha / 255) << 16
+			| (((color >> 8) & 0xFF) * alpha / 255) << 8
+			| ((color & 0xFF) * alpha / 255);
+		final int dst = imageData[pixelPos];
+		imageData[pixelPos]
+			= (colorARGB & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
+			| (colorARGB & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+	}
+
+	private void clearCoverage()
+	{
+		if (coveredX1 <= coveredX2)
+		{
+			for (int y = coveredY1; y <= coveredY2; y++)
+			{
+				final int rowPos = (y - clipY1) * clipWidth - clipX1;
+				Arrays.fill(coverage, rowPos + coveredX1, rowPos + coveredX2 + 1, 0);
+			}
+		}
+
+		groupCount = 0;
+		coveredX1 = Integer.MAX_VALUE;
+		coveredY1 = Integer.MAX_VALUE;
+		coveredX2 = Integer.MIN_VALUE;
+		coveredY2 = Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Marks the pixels of a horizontal line as covered by a model.
+	 */
+	private void rasterizeLine(int group, int pixelY, int x1, int x2)
+	{
+		if (x2 > clipX2)
+		{
+			x2 = clipX2;
+		}
+		if (x1 < clipX1)
+		{
+			x1 = clipX1;
+		}
+		if (x1 >= x2)
+		{
+			return;
+		}
+
+		final int rowPos = (pixelY - clipY1) * clipWidth - clipX1;
+		final int bit = 1 << group;
+		for (int pos = rowPos + x1, end = rowPos + x2; pos < end; pos++)
+		{
+			coverage[pos] |= bit;
+		}
+
+		coveredX1 = Math.min(coveredX1, x1);
+		coveredX2 = Math.max(coveredX2, x2 - 1);
+		coveredY1 = Math.min(coveredY1, pixelY);
+		coveredY2 = Math.max(coveredY2, pixelY);
+		groupX1[group] = Math.min(groupX1[group], x1);
+		groupX2[group] = Math.max(groupX2[group], x2 - 1);
+		groupY1[group] = Math.min(groupY1[group], pixelY);
+		groupY2[group] = Math.max(groupY2[group], pixelY);
+	}
+
+	/**
+	 * Rasterizes a triangle into the coverage buffer. This walks the triangle the
+	 * same way as {@link ModelOutlineRenderer}, so the covered pixels match.
+	 */
+	private void rasterizeTriangle(int group, int x1, int y1, int x2, int y2, int x3, int y3)
+	{
+		// Swap vertices so y1 <= y2 <= y3 using bubble sort
+		if (y1 > y2)
+		{
+			int yp = y1;
+			int xp = x1;
+			y1 = y2;
+			y2 = yp;
+			x1 = x2;
+			x2 = xp;
+		}
+		if (y2 > y3)
+		{
+			int yp = y2;
+			int xp = x2;
+			y2 = y3;
+			y3 = yp;
+			x2 = x3;
+			x3 = xp;
+		}
+		if (y1 > y2)
+		{
+			int yp = y1;
+			int xp = x1;
+			y1 = y2;
+			y2 = yp;
+			x1 = x2;
+			x2 = xp;
+		}
+
+		if (y1 > clipY2)
+		{
+			// All points are outside clip boundaries
+			return;
+		}
+
+		int slope1 = 0;
+		if (y1 != y2)
+		{
+			slope1 = (x2 - x1 << 14) / (y2 - y1);
+		}
+
+		int slope2 = 0;
+		if (y3 != y2)
+		{
+			slope2 = (x3 - x2 << 14) / (y3 - y2);
+		}
+
+		int slope3 = 0;
+		if (y1 != y3)
+		{
+			slope3 = (x1 - x3 << 14) / (y1 - y3);
+		}
+
+		if (y2 > clipY2)
+		{
+			y2 = clipY2;
+		}
+		if (y3 > clipY2)
+		{
+			y3 = clipY2;
+		}
+		if (y1 == y3 || y3 < clipY1)
+		{
+			return;
+		}
+
+		x1 <<= 14;
+		x2 <<= 14;
+		x3 = x1;
+
+		if (y1 < clipY1)
+		{
+			x3 -= (y1 - clipY1) * slope3;
+			x1 -= (y1 - clipY1) * slope1;
+			y1 = clipY1;
+		}
+		if (y2 < clipY1)
+		{
+			x2 -= (y2 - clipY1) * slope2;
+			y2 = clipY1;
+		}
+
+		int pixelY = y1;
+		int height1 = y2 - y1;
+		int height2 = y3 - y2;
+		if (y1 != y2 && slope3 < slope1 || y1 == y2 && slope3 > slope2)
+		{
+			while (height1-- > 0)
+			{
+				rasterizeLine(group, pixelY, x3 >> 14, x1 >> 14);
+				x3 += slope3;
+				x1 += slope1;
+				pixelY++;
+			}
+
+			while (height2-- > 0)
+			{
+				rasterizeLine(group, pixelY, x3 >> 14, x2 >> 14);
+				x3 += slope3;
+				x2 += slope2;
+				pixelY++;
+			}
+		}
+		else
+		{
+			while (height1-- > 0)
+			{
+				rasterizeLine(group, pixelY, x1 >> 14, x3 >> 14);
+				x1 += slope1;
+				x3 += slope3;
+				pixelY++;
+			}
+
+			while (height2-- > 0)
+			{
+				rasterizeLine(group, pixelY, x2 >> 14, x3 >> 14);
+				x3 += slope3;
+				x2 += slope2;
+				pixelY++;
+			}
+		}
+	}
+}
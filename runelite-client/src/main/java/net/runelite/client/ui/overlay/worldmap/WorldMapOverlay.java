@@ -86,9 +86,7 @@ public class WorldMapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints();
-
-		if (points.isEmpty())
+		if (worldMapPointManager.isEmpty())
 		{
 			return null;
 		}
@@ -118,6 +116,18 @@ public class WorldMapOverlay extends Overlay
 		bottomBar.setHasListener(true);
 
 		final Rectangle worldMapRectangle = widget.getBounds();
+		final WorldMap worldMap = client.getWorldMap();
+		final float pixelsPerTile = worldMap.getWorldMapZoom();
+		final Point worldMapPosition = worldMap.getWorldMapPosition();
+		final int widthInTiles = (int) Math.ceil(worldMapRectangle.getWidth() / pixelsPerTile);
+		final int heightInTiles = (int) Math.ceil(worldMapRectangle.getHeight() / pixelsPerTile);
+
+		// only project the points near the visible part of the map
+		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints(
+			worldMapPosition.getX() - widthInTiles / 2, worldMapPosition.getY() - heightInTiles / 2,
+			worldMapPosition.getX() + widthInTiles / 2, worldMapPosition.getY() + heightInTiles / 2,
+			pixelsPerTile);
+
 		final Shape mapViewArea = getWorldMapClipArea(worldMapRectangle);
 		final Rectangle canvasBounds = new Rectangle(0, 0, client.getCanvasWidth(), client.getCanvasHeight());
 		final Shape canvasViewArea = getWorldMapClipArea(canvasBounds);
@@ -140,7 +150,7 @@ public class WorldMapOverlay extends Overlay
 
 			if (image != null && point != null)
 			{
-				Point drawPoint = mapWorldPointToGraphicsPoint(point);
+				Point drawPoint = mapWorldPointToGraphicsPoint(point, worldMap, worldMapRectangle);
 				if (drawPoint == null)
 				{
 					continue;
@@ -160,7 +170,7 @@ public class WorldMapOverlay extends Overlay
 				if (worldPoint.isSnapToEdge())
 				{
 					// Get a smaller rect for edge-snapped icons so they display correctly at the edge
-					final Rectangle snappedRect = widget.getBounds();
+					final Rectangle snappedRect = new Rectangle(worldMapRectangle);
 					snappedRect.grow(-image.getWidth() / 2, -image.getHeight() / 2);
 
 					final Rectangle unsnappedRect = new Rectangle(snappedRect);
@@ -249,8 +259,17 @@ public class WorldMapOverlay extends Overlay
 	 */
 	public Point mapWorldPointToGraphicsPoint(WorldPoint worldPoint)
 	{
-		WorldMap worldMap = client.getWorldMap();
+		Widget map = client.getWidget(InterfaceID.Worldmap.MAP_CONTAINER);
+		if (map == null)
+		{
+			return null;
+		}
+
+		return mapWorldPointToGraphicsPoint(worldPoint, client.getWorldMap(), map.getBounds());
+	}
 
+	private static Point mapWorldPointToGraphicsPoint(WorldPoint worldPoint, WorldMap worldMap, Rectangle worldMapRect)
+	{
 		if (!worldMap.getWorldMapData().surfaceContainsPosition(worldPoint.getX(), worldPoint.getY()))
 		{
 			return null;
@@ -258,35 +277,28 @@ public class WorldMapOverlay extends Overlay
 
 		float pixelsPerTile = worldMap.getWorldMapZoom();
 
-		Widget map = client.getWidget(InterfaceID.Worldmap.MAP_CONTAINER);
-		if (map != null)
-		{
-			Rectangle worldMapRect = map.getBounds();
+		int widthInTiles = (int) Math.ceil(worldMapRect.getWidth() / pixelsPerTile);
+		int heightInTiles = (int) Math.ceil(worldMapRect.getHeight() / pixelsPerTile);
 
-			int widthInTiles = (int) Math.ceil(worldMapRect.getWidth() / pixelsPerTile);
-			int heightInTiles = (int) Math.ceil(worldMapRect.getHeight() / pixelsPerTile);
+		Point worldMapPosition = worldMap.getWorldMapPosition();
 
-			Point worldMapPosition = worldMap.getWorldMapPosition();
+		//Offset in tiles from anchor sides
+		int yTileMax = worldMapPosition.getY() - heightInTiles / 2;
+		int yTileOffset = (yTileMax - worldPoint.getY() - 1) * -1;
+		int xTileOffset = worldPoint.getX() + widthInTiles / 2 - worldMapPosition.getX();
 
-			//Offset in tiles from anchor sides
-			int yTileMax = worldMapPosition.getY() - heightInTiles / 2;
-			int yTileOffset = (yTileMax - worldPoint.getY() - 1) * -1;
-			int xTileOffset = worldPoint.getX() + widthInTiles / 2 - worldMapPosition.getX();
+		int xGraphDiff = ((int) (xTileOffset * pixelsPerTile));
+		int yGraphDiff = (int) (yTileOffset * pixelsPerTile);
 
-			int xGraphDiff = ((int) (xTileOffset * pixelsPerTile));
-			int yGraphDiff = (int) (yTileOffset * pixelsPerTile);
+		//Center on tile.
+		yGraphDiff -= pixelsPerTile - Math.ceil(pixelsPerTile / 2);
+		xGraphDiff += pixelsPerTile - Math.ceil(pixelsPerTile / 2);
 
-			//Center on tile.
-			yGraphDiff -= pixelsPerTile - Math.ceil(pixelsPerTile / 2);
-			xGraphDiff += pixelsPerTile - Math.ceil(pixelsPerTile / 2);
+		yGraphDiff = worldMapRect.height - yGraphDiff;
+		yGraphDiff += (int) worldMapRect.getY();
+		xGraphDiff += (int) worldMapRect.getX();
 
-			yGraphDiff = worldMapRect.height - yGraphDiff;
-			yGraphDiff += (int) worldMapRect.getY();
-			xGraphDiff += (int) worldMapRect.getX();
-
-			return new Point(xGraphDiff, yGraphDiff);
-		}
-		return null;
+		return new Point(xGraphDiff, yGraphDiff);
 	}
 
 	/**
@@ -24,31 +24,227 @@
  */
 package net.runelite.client.ui.overlay.worldmap;
 
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import javax.inject.Singleton;
-import lombok.AccessLevel;
-import lombok.Getter;
+import net.runelite.api.Point;
+import net.runelite.api.coords.WorldPoint;
 
+/**
+ * Holds the points drawn on the world map, bucketed into a grid of map regions so that only
+ * the points near the visible part of the map need to be projected each frame.
+ * <p>
+ * Points are refiled when they are changed through their setters. Points which override
+ * their getters must be passed to {@link #update(WorldMapPoint)} when they change instead.
+ */
 @Singleton
 public class WorldMapPointManager
 {
-	@Getter(AccessLevel.PACKAGE)
-	private final List<WorldMapPoint> worldMapPoints = new CopyOnWriteArrayList<>();
+	private static final int CELL_SHIFT = 6;
+
+	/**
+	 * The position, edge snapping and image extent of a point when it was last filed into the grid,
+	 * and where it is stored in its cell.
+	 */
+	private static final class Entry
+	{
+		private final WorldMapPoint point;
+		private final long order;
+		private boolean snapToEdge;
+		private List<Entry> cell;
+		private int cellKey;
+		private int index;
+		private int extent;
+
+		private Entry(WorldMapPoint point, long order)
+		{
+			this.point = point;
+			this.order = order;
+		}
+	}
+
+	// points are compared by identity, since WorldMapPoint's equals and hashCode change as it is mutated
+	private final Map<WorldMapPoint, Entry> entries = new IdentityHashMap<>();
+	private final Map<Integer, List<Entry>> cells = new HashMap<>();
+	// points which snap to the edge of the map are drawn wherever they are
+	private final List<Entry> edgeSnapped = new ArrayList<>();
+	// the number of gridded points with each image extent, to find how far the largest image reaches
+	private final TreeMap<Integer, Integer> extents = new TreeMap<>();
+	private long nextOrder;
+
+	public synchronized void add(WorldMapPoint worldMapPoint)
+	{
+		if (entries.containsKey(worldMapPoint))
+		{
+			return;
+		}
+
+		Entry entry = new Entry(worldMapPoint, nextOrder++);
+		entries.put(worldMapPoint, entry);
+		file(entry);
+		worldMapPoint.setManager(this);
+	}
+
+	public synchronized void remove(WorldMapPoint worldMapPoint)
+	{
+		Entry entry = entries.remove(worldMapPoint);
+		if (entry != null)
+		{
+			unfile(entry);
+			worldMapPoint.setManager(null);
+		}
+	}
+
+	public synchronized void removeIf(Predicate<WorldMapPoint> filter)
+	{
+		for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); )
+		{
+			Entry entry = it.next();
+			if (filter.test(entry.point))
+			{
+				it.remove();
+				unfile(entry);
+				entry.point.setManager(null);
+			}
+		}
+	}
+
+	/**
+	 * Refile a point after its position, edge snapping or image has changed.
+	 *
+	 * @param worldMapPoint the changed point, which is ignored if it has not been added
+	 */
+	public synchronized void update(WorldMapPoint worldMapPoint)
+	{
+		Entry entry = entries.get(worldMapPoint);
+		if (entry != null)
+		{
+			unfile(entry);
+			file(entry);
+		}
+	}
 
-	public void add(WorldMapPoint worldMapPoint)
+	synchronized boolean isEmpty()
 	{
-		worldMapPoints.add(worldMapPoint);
+		return entries.isEmpty();
 	}
 
-	public void remove(WorldMapPoint worldMapPoint)
+	/**
+	 * Get the points which may be visible within the given world map area, plus all points
+	 * which snap to the edge of the map, in the order they were added.
+	 *
+	 * @param minX          western edge of the visible area, in tiles
+	 * @param minY          southern edge of the visible area, in tiles
+	 * @param maxX          eastern edge of the visible area, in tiles
+	 * @param maxY          northern edge of the visible area, in tiles
+	 * @param pixelsPerTile the world map zoom, used to widen the area by the size of the images
+	 */
+	synchronized List<WorldMapPoint> getWorldMapPoints(int minX, int minY, int maxX, int maxY, float pixelsPerTile)
 	{
-		worldMapPoints.remove(worldMapPoint);
+		int extent = extents.isEmpty() ? 0 : extents.lastKey();
+		int margin = (int) Math.ceil(extent / pixelsPerTile) + 1;
+		List<Entry> visible = new ArrayList<>(edgeSnapped);
+		for (int cellX = (minX - margin) >> CELL_SHIFT; cellX <= (maxX + margin) >> CELL_SHIFT; ++cellX)
+		{
+			for (int cellY = (minY - margin) >> CELL_SHIFT; cellY <= (maxY + margin) >> CELL_SHIFT; ++cellY)
+			{
+				List<Entry> cell = cells.get(cellKey(cellX, cellY));
+				if (cell != null)
+				{
+					visible.addAll(cell);
+				}
+			}
+		}
+
+		visible.sort(Comparator.comparingLong(e -> e.order));
+		List<WorldMapPoint> points = new ArrayList<>(visible.size());
+		for (Entry entry : visible)
+		{
+			points.add(entry.point);
+		}
+		return points;
+	}
+
+	private void file(Entry entry)
+	{
+		WorldMapPoint point = entry.point;
+		WorldPoint worldPoint = point.getWorldPoint();
+		entry.snapToEdge = point.isSnapToEdge();
+
+		if (entry.snapToEdge)
+		{
+			entry.cell = edgeSnapped;
+		}
+		else if (worldPoint != null)
+		{
+			entry.cellKey = cellKey(worldPoint.getX() >> CELL_SHIFT, worldPoint.getY() >> CELL_SHIFT);
+			entry.cell = cells.computeIfAbsent(entry.cellKey, k -> new ArrayList<>());
+			entry.extent = extent(point);
+			extents.merge(entry.extent, 1, Integer::sum);
+		}
+		else
+		{
+			entry.cell = null;
+			return;
+		}
+
+		entry.index = entry.cell.size();
+		entry.cell.add(entry);
+	}
+
+	private void unfile(Entry entry)
+	{
+		List<Entry> cell = entry.cell;
+		if (cell == null)
+		{
+			return;
+		}
+
+		// swap the last entry of the cell into this one's place
+		Entry last = cell.remove(cell.size() - 1);
+		if (last != entry)
+		{
+			cell.set(entry.index, last);
+			last.index = entry.index;
+		}
+		entry.cell = null;
+
+		if (!entry.snapToEdge)
+		{
+			if (cell.isEmpty())
+			{
+				cells.remove(entry.cellKey);
+			}
+			extents.computeIfPresent(entry.extent, (k, count) -> count > 1 ? count - 1 : null);
+		}
+	}
+
+	/**
+	 * How far the image of a point can reach from its position, in pixels
+	 */
+	private static int extent(WorldMapPoint point)
+	{
+		BufferedImage image = point.getImage();
+		if (image == null)
+		{
+			return 0;
+		}
+
+		Point imagePoint = point.getImagePoint();
+		int offset = imagePoint == null ? 0 : Math.max(Math.abs(imagePoint.getX()), Math.abs(imagePoint.getY()));
+		return Math.max(image.getWidth(), image.getHeight()) + offset;
 	}
 
-	public void removeIf(Predicate<WorldMapPoint> filter)
+	private static int cellKey(int cellX, int cellY)
 	{
-		worldMapPoints.removeIf(filter);
+		return cellX << 16 | (cellY & 0xffff);
 	}
 }
@@ -26,6 +26,7 @@
 package net.runelite.client.util;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Insets;
@@ -41,9 +42,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -65,14 +69,30 @@ import net.runelite.client.ui.DrawManager;
 public class ImageCapture
 {
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+	private static final int ENCODE_QUEUE_SIZE = 8;
+	private static final int ENCODE_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
 
 	private final Client client;
 	private final Notifier notifier;
 	private final ClientUI clientUi;
 	private final DrawManager drawManager;
-	private final ScheduledExecutorService executor;
 	private final EventBus eventBus;
 
+	/**
+	 * Screenshots are encoded on their own thread so that a burst of them can't hold up the shared executor. Once
+	 * the queue is full, further screenshots are dropped.
+	 */
+	private final ExecutorService encoder = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+		new ArrayBlockingQueue<>(ENCODE_QUEUE_SIZE),
+		new ThreadFactoryBuilder().setNameFormat("Screenshot encoder %d").setDaemon(true).build(),
+		(r, executor) -> log.warn("Screenshot encoder queue is full, dropping screenshot"));
+
+	/**
+	 * Threads the encoder thread hands bands of a screenshot to, which exit when no screenshots are being taken
+	 */
+	private final ExecutorService bandEncoder = bandEncoder();
+	private final PngEncoder pngEncoder = new PngEncoder(PngEncoder.DEFAULT_COMPRESSION_LEVEL, ENCODE_PARALLELISM, bandEncoder);
+
 	/**
 	 * Take a screenshot and save it
 	 * @param subDir the subdirectory to save the screenshot in
@@ -86,8 +106,8 @@ public class ImageCapture
 	{
 		drawManager.requestNextFrameListener((img) ->
 		{
-			// This callback is on the client thread, move to executor thread now that we have the screenshot
-			executor.submit(() ->
+			// This callback is on the client thread, move to the encoder thread now that we have the screenshot
+			encoder.execute(() ->
 			{
 				final BufferedImage screenshot;
 				if (includeClientFrame)
@@ -99,7 +119,7 @@ public class ImageCapture
 					screenshot = ImageUtil.bufferedImageFromImage(img);
 				}
 
-				saveScreenshot(screenshot, fileName, subDir, notify, copyToClipboard);
+				save(screenshot, fileName, subDir, notify, copyToClipboard);
 			});
 		});
 	}
@@ -163,6 +183,7 @@ public class ImageCapture
 
 	/**
 	 * Save a screenshot to disk. And optionally send a notification and copy it to clipboard.
+	 * The screenshot is encoded and saved asynchronously, and must not be modified afterward.
 	 *
 	 * @param screenshot screenshot
 	 * @param fileName Filename to use, without file extension.
@@ -177,6 +198,11 @@ public class ImageCapture
 		boolean notify,
 		boolean saveToClipboard
 	)
+	{
+		encoder.execute(() -> save(screenshot, fileName, subDir, notify, saveToClipboard));
+	}
+
+	private void save(BufferedImage screenshot, String fileName, @Nullable String subDir, boolean notify, boolean saveToClipboard)
 	{
 		if (client.getGameState() == GameState.LOGIN_SCREEN)
 		{
@@ -222,7 +248,7 @@ public class ImageCapture
 
 		try
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			pngEncoder.write(screenshot, screenshotFile);
 		}
 		catch (IOException ex)
 		{
@@ -277,6 +303,17 @@ public class ImageCapture
 		takeScreenshot(screenshot, fileName, null, notify, imageUploadStyle);
 	}
 
+	private static ExecutorService bandEncoder()
+	{
+		// the encoder thread encodes the first band itself
+		int threads = Math.max(1, ENCODE_PARALLELISM - 1);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			new ThreadFactoryBuilder().setNameFormat("Screenshot band encoder %d").setDaemon(true).build());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	private static String format(Date date)
 	{
 		synchronized (TIME_FORMAT)
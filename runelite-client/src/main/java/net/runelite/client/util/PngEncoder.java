@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import javax.annotation.Nullable;
+
+/**
+ * A PNG writer for 8-bit RGB and RGBA images, which is faster than {@link javax.imageio.ImageIO} for large images.
+ * <p>
+ * Pixels of {@link BufferedImage#TYPE_INT_RGB} and {@link BufferedImage#TYPE_INT_ARGB} images are read directly from
+ * their data buffer. Each row is filtered with the filter giving the smallest sum of absolute differences, as
+ * libpng does, and the compression level is configurable. With a parallelism above 1, the image is split into bands
+ * of rows which are deflated concurrently on the given executor, each primed with the end of the previous band as
+ * its dictionary, and joined into one zlib stream.
+ */
+public class PngEncoder
+{
+	public static final int DEFAULT_COMPRESSION_LEVEL = 4;
+
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+	private static final int COLOR_TYPE_RGB = 2;
+	private static final int COLOR_TYPE_RGBA = 6;
+	private static final int FILTER_NONE = 0;
+	private static final int FILTER_SUB = 1;
+	private static final int FILTER_UP = 2;
+	private static final int FILTER_AVERAGE = 3;
+	private static final int FILTER_PAETH = 4;
+	private static final int DICTIONARY_SIZE = 32 * 1024;
+
+	/**
+	 * Minimum number of bytes of image data per band, below which splitting the deflate costs more than it saves
+	 */
+	private static final int MIN_BAND_SIZE = 256 * 1024;
+
+	private final int compressionLevel;
+	private final int parallelism;
+	@Nullable
+	private final Executor executor;
+
+	/**
+	 * @param compressionLevel deflate compression level, 0-9
+	 * @param parallelism      maximum number of bands to encode concurrently, 1 to encode on the calling thread only
+	 * @param executor         executor to encode all but the first band on, which should have at least
+	 *                         {@code parallelism - 1} threads and must not be the thread calling write. It is only
+	 *                         used if the parallelism is above 1.
+	 */
+	public PngEncoder(int compressionLevel, int parallelism, @Nullable Executor executor)
+	{
+		if (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)
+		{
+			throw new IllegalArgumentException("invalid compression level " + compressionLevel);
+		}
+		if (parallelism < 1)
+		{
+			throw new IllegalArgumentException("invalid parallelism " + parallelism);
+		}
+		if (parallelism > 1 && executor == null)
+		{
+			throw new IllegalArgumentException("an executor is required for a parallelism of " + parallelism);
+		}
+
+		this.compressionLevel = compressionLevel;
+		this.parallelism = parallelism;
+		this.executor = executor;
+	}
+
+	/**
+	 * @param compressionLevel deflate compression level, 0-9
+	 */
+	public PngEncoder(int compressionLevel)
+	{
+		this(compressionLevel, 1, null);
+	}
+
+	public PngEncoder()
+	{
+		this(DEFAULT_COMPRESSION_LEVEL);
+	}
+
+	public void write(BufferedImage image, File file) throws IOException
+	{
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file)))
+		{
+			write(image, out);
+		}
+	}
+
+	public void write(BufferedImage image, OutputStream out) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final boolean alpha = image.getColorModel().hasAlpha();
+		final int bpp = alpha ? 4 : 3;
+		final int rowSize = 1 + width * bpp;
+		final byte[] filtered = new byte[rowSize * height];
+
+		final int bands = (int) Math.max(1, Math.min(Math.min(parallelism, height), (long) filtered.length / MIN_BAND_SIZE));
+		final int rowsPerBand = (height + bands - 1) / bands;
+
+		// filter the bands, and then deflate them. Deflating a band needs the end of the previous one as its dictionary.
+		runBands(bands, band -> filter(image, band * rowsPerBand, Math.min(height, (band + 1) * rowsPerBand), bpp, filtered));
+		final byte[][] deflated = new byte[bands][];
+		runBands(bands, band ->
+		{
+			int start = band * rowsPerBand * rowSize;
+			int end = Math.min(height, (band + 1) * rowsPerBand) * rowSize;
+			deflated[band] = deflate(filtered, start, end, band == bands - 1);
+		});
+
+		final Adler32 adler = new Adler32();
+		adler.update(filtered, 0, filtered.length);
+
+		final DataOutputStream dos = new DataOutputStream(out);
+		dos.write(SIGNATURE);
+
+		final ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+		final DataOutputStream hdos = new DataOutputStream(header);
+		hdos.writeInt(width);
+		hdos.writeInt(height);
+		hdos.writeByte(8); // bit depth
+		hdos.writeByte(alpha ? COLOR_TYPE_RGBA : COLOR_TYPE_RGB);
+		hdos.writeByte(0); // compression method
+		hdos.writeByte(0); // filter method
+		hdos.writeByte(0); // interlace method
+		writeChunk(dos, "IHDR", header.toByteArray(), null, null);
+
+		// the zlib stream is split over one IDAT chunk per band
+		for (int band = 0; band < bands; ++band)
+		{
+			byte[] prefix = band == 0 ? zlibHeader() : null;
+			byte[] suffix = null;
+			if (band == bands - 1)
+			{
+				int checksum = (int) adler.getValue();
+				suffix = new byte[]{(byte) (checksum >>> 24), (byte) (checksum >>> 16), (byte) (checksum >>> 8), (byte) checksum};
+			}
+			writeChunk(dos, "IDAT", deflated[band], prefix, suffix);
+		}
+
+		writeChunk(dos, "IEND", new byte[0], null, null);
+		dos.flush();
+	}
+
+	private interface BandTask
+	{
+		void run(int band) throws IOException;
+	}
+
+	private void runBands(int bands, BandTask task) throws IOException
+	{
+		if (bands == 1)
+		{
+			task.run(0);
+			return;
+		}
+
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[bands - 1];
+		for (int band = 1; band < bands; ++band)
+		{
+			final int b = band;
+			futures[band - 1] = CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					task.run(b);
+				}
+				catch (IOException e)
+				{
+					throw new CompletionException(e);
+				}
+			}, executor);
+		}
+
+		task.run(0);
+
+		try
+		{
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (CompletionException e)
+		{
+			if (e.getCause() instanceof IOException)
+			{
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Converts and filters rows [startRow, endRow) of the image into {@code filtered}.
+	 */
+	private static void filter(BufferedImage image, int startRow, int endRow, int bpp, byte[] filtered)
+	{
+		final int width = image.getWidth();
+		final int rowSize = 1 + width * bpp;
+
+		// read the pixels straight from the image where possible, instead of copying them out with getRGB
+		final Raster raster = image.getRaster();
+		int[] pixels = null;
+		int stride = width;
+		int offset = 0;
+		if ((image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB)
+			&& raster.getDataBuffer() instanceof DataBufferInt && raster.getSampleModel() instanceof SinglePixelPackedSampleModel)
+		{
+			DataBufferInt dataBuffer = (DataBufferInt) raster.getDataBuffer();
+			stride = ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride();
+			offset = dataBuffer.getOffset() - raster.getSampleModelTranslateY() * stride - raster.getSampleModelTranslateX();
+			pixels = dataBuffer.getData();
+		}
+		final int[] rowPixels = pixels == null ? new int[width] : null;
+
+		byte[] prev = new byte[width * bpp];
+		byte[] cur = new byte[width * bpp];
+
+		// the previous row is needed to filter the first row of the band
+		for (int y = Math.max(0, startRow - 1); y < endRow; ++y)
+		{
+			final int[] src;
+			final int srcOffset;
+			if (pixels != null)
+			{
+				src = pixels;
+				srcOffset = offset + y * stride;
+			}
+			else
+			{
+				image.getRGB(0, y, width, 1, rowPixels, 0, width);
+				src = rowPixels;
+				srcOffset = 0;
+			}
+
+			for (int x = 0, i = 0; x < width; ++x)
+			{
+				int argb = src[srcOffset + x];
+				cur[i++] = (byte) (argb >>> 16);
+				cur[i++] = (byte) (argb >>> 8);
+				cur[i++] = (byte) argb;
+				if (bpp == 4)
+				{
+					cur[i++] = (byte) (argb >>> 24);
+				}
+			}
+
+			if (y >= startRow)
+			{
+				// the row above the first row is all zeros, which prev still is when starting at the top
+				final int filter = chooseFilter(cur, prev, bpp);
+				final int rowStart = y * rowSize;
+				filtered[rowStart] = (byte) filter;
+				applyFilter(filter, cur, prev, bpp, filtered, rowStart + 1);
+			}
+
+			byte[] tmp = prev;
+			prev = cur;
+			cur = tmp;
+		}
+	}
+
+	/**
+	 * Picks the filter giving the smallest sum of absolute values for the row
+	 */
+	private static int chooseFilter(byte[] row, byte[] prev, int bpp)
+	{
+		// a row is at most 2^31 / 128 bytes, so the sums fit in an int. Each sum has its own loop so that the simpler
+		// ones can be vectorized.
+		final int length = row.length;
+		int sumNone = 0, sumSub = 0, sumUp = 0, sumAvg = 0, sumPaeth = 0;
+
+		for (int i = 0; i < length; ++i)
+		{
+			sumNone += Math.abs(row[i]);
+			sumUp += Math.abs((byte) (row[i] - prev[i]));
+		}
+
+		// the first pixel has no left neighbour
+		for (int i = 0; i < bpp; ++i)
+		{
+			sumSub += Math.abs(row[i]);
+			sumAvg += Math.abs((byte) (row[i] - ((prev[i] & 0xFF) >> 1)));
+			sumPaeth += Math.abs((byte) (row[i] - prev[i]));
+		}
+
+		for (int i = bpp; i < length; ++i)
+		{
+			sumSub += Math.abs((byte) (row[i] - row[i - bpp]));
+			sumAvg += Math.abs((byte) (row[i] - (((row[i - bpp] & 0xFF) + (prev[i] & 0xFF)) >> 1)));
+		}
+
+		for (int i = bpp; i < length; ++i)
+		{
+			sumPaeth += Math.abs((byte) (row[i] - paethPredictor(row[i - bpp] & 0xFF, prev[i] & 0xFF, prev[i - bpp] & 0xFF)));
+		}
+
+		int best = FILTER_NONE;
+		int bestSum = sumNone;
+		if (sumSub < bestSum)
+		{
+			best = FILTER_SUB;
+			bestSum = sumSub;
+		}
+		if (sumUp < bestSum)
+		{
+			best = FILTER_UP;
+			bestSum = sumUp;
+		}
+		if (sumAvg < bestSum)
+		{
+			best = FILTER_AVERAGE;
+			bestSum = sumAvg;
+		}
+		if (sumPaeth < bestSum)
+		{
+			best = FILTER_PAETH;
+		}
+		return best;
+	}
+
+	private static void applyFilter(int filter, byte[] row, byte[] prev, int bpp, byte[] out, int offset)
+	{
+		final int length = row.length;
+		switch (filter)
+		{
+			case FILTER_NONE:
+				System.arraycopy(row, 0, out, offset, length);
+				break;
+			case FILTER_SUB:
+				System.arraycopy(row, 0, out, offset, bpp);
+				for (int i = bpp; i < length; ++i)
+				{
+					out[offset + i] = (byte) (row[i] - row[i - bpp]);
+				}
+				break;
+			case FILTER_UP:
+				for (int i = 0; i < length; ++i)
+				{
+					out[offset + i] = (byte) (row[i] - prev[i]);
+				}
+				break;
+			case FILTER_AVERAGE:
+				for (int i = 0; i < bpp; ++i)
+				{
+					out[offset + i] = (byte) (row[i] - ((prev[i] & 0xFF) >> 1));
+				}
+				for (int i = bpp; i < length; ++i)
+				{
+					out[offset + i] = (byte) (row[i] - (((row[i - bpp] & 0xFF) + (prev[i] & 0xFF)) >> 1));
+				}
+				break;
+			case FILTER_PAETH:
+				for (int i = 0; i < bpp; ++i)
+				{
+					out[offset + i] = (byte) (row[i] - prev[i]);
+				}
+				for (int i = bpp; i < length; ++i)
+				{
+					out[offset + i] = (byte) (row[i] - paethPredictor(row[i - bpp] & 0xFF, prev[i] & 0xFF, prev[i - bpp] & 0xFF));
+				}
+				break;
+		}
+	}
+
+	private static int paethPredictor(int a, int b, int c)
+	{
+		// distances from p = a + b - c, simplified
+		int pa = Math.abs(b - c);
+		int pb = Math.abs(a - c);
+		int pc = Math.abs(a + b - c - c);
+		if (pa <= pb && pa <= pc)
+		{
+			return a;
+		}
+		return pb <= pc ? b : c;
+	}
+
+	/**
+	 * Deflates part of the image data as a raw deflate stream. Bands other than the last end on a byte boundary
+	 * with a sync flush, so that the bands can be concatenated into one stream.
+	 */
+	private byte[] deflate(byte[] data, int start, int end, boolean last)
+	{
+		final Deflater deflater = new Deflater(compressionLevel, true);
+		try
+		{
+			if (start > 0)
+			{
+				int dictionaryStart = Math.max(0, start - DICTIONARY_SIZE);
+				deflater.setDictionary(data, dictionaryStart, start - dictionaryStart);
+			}
+
+			deflater.setInput(data, start, end - start);
+			if (last)
+			{
+				deflater.finish();
+			}
+
+			final ByteArrayOutputStream out = new ByteArrayOutputStream((end - start) / 4);
+			final byte[] buffer = new byte[64 * 1024];
+			while (true)
+			{
+				int n = deflater.deflate(buffer, 0, buffer.length, last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+				out.write(buffer, 0, n);
+				if (last ? deflater.finished() : n < buffer.length)
+				{
+					break;
+				}
+			}
+			return out.toByteArray();
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+	private byte[] zlibHeader()
+	{
+		// CMF is deflate with a 32K window, and FLG holds the compression level with a check value making the header
+		// a multiple of 31
+		final int flg;
+		if (compressionLevel <= 1)
+		{
+			flg = 0x01;
+		}
+		else if (compressionLevel <= 5)
+		{
+			flg = 0x5E;
+		}
+		else if (compressionLevel == 6)
+		{
+			flg = 0x9C;
+		}
+		else
+		{
+			flg = 0xDA;
+		}
+		return new byte[]{0x78, (byte) flg};
+	}
+
+	private static void writeChunk(DataOutputStream out, String type, byte[] data, byte[] prefix, byte[] suffix) throws IOException
+	{
+		final int prefixLength = prefix != null ? prefix.length : 0;
+		final int suffixLength = suffix != null ? suffix.length : 0;
+		final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+
+		final CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		out.writeInt(prefixLength + data.length + suffixLength);
+		out.write(typeBytes);
+		if (prefix != null)
+		{
+			crc.update(prefix);
+			out.write(prefix);
+		}
+		crc.update(data);
+		out.write(data);
+		if (suffix != null)
+		{
+			crc.update(suffix);
+			out.write(suffix);
+		}
+		out.writeInt((int) crc.getValue());
+	}
+}
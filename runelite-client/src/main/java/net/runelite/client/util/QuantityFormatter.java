@@ -47,17 +47,25 @@ public class QuantityFormatter
 	 */
 	private static final Pattern SUFFIX_PATTERN = Pattern.compile("^-?[0-9,.]+([a-zA-Z]?)$");
 
-	private static final NumberFormat NUMBER_FORMATTER = NumberFormat.getInstance(Locale.ENGLISH);
+	/**
+	 * Powers of 1000 for each of the {@link #SUFFIXES}.
+	 */
+	private static final long[] SUFFIX_DIVISORS = {1, 1_000, 1_000_000, 1_000_000_000};
+
+	// NumberFormat is not thread safe, and these are used from the client thread, the EDT and executors
+	// at the same time, so each thread gets its own copy instead of contending on a lock
+	private static final ThreadLocal<NumberFormat> NUMBER_FORMATTER = ThreadLocal.withInitial(() ->
+		NumberFormat.getInstance(Locale.ENGLISH));
 
-	private static final NumberFormat DECIMAL_FORMATTER = new DecimalFormat(
+	private static final ThreadLocal<NumberFormat> DECIMAL_FORMATTER = ThreadLocal.withInitial(() -> new DecimalFormat(
 		"#,###.#",
 		DecimalFormatSymbols.getInstance(Locale.ENGLISH)
-	);
+	));
 
-	private static final NumberFormat PRECISE_DECIMAL_FORMATTER = new DecimalFormat(
+	private static final ThreadLocal<NumberFormat> PRECISE_DECIMAL_FORMATTER = ThreadLocal.withInitial(() -> new DecimalFormat(
 		"#,###.###",
 		DecimalFormatSymbols.getInstance(Locale.ENGLISH)
-	);
+	));
 
 	/**
 	 * Convert a quantity to a short, comma separated, SI-prefix style string
@@ -67,7 +75,7 @@ public class QuantityFormatter
 	 * @param quantity The quantity to convert.
 	 * @return a 6 or less character string, possibly with a decimal point, commas or K/M/B suffix
 	 */
-	public static synchronized String quantityToStackSize(long quantity)
+	public static String quantityToStackSize(long quantity)
 	{
 		if (quantity < 0)
 		{
@@ -76,7 +84,7 @@ public class QuantityFormatter
 		}
 		else if (quantity < 10_000)
 		{
-			return NUMBER_FORMATTER.format(quantity);
+			return formatNumber(quantity);
 		}
 
 		String suffix = SUFFIXES[0];
@@ -86,7 +94,7 @@ public class QuantityFormatter
 		// of suffixes until the suffix results in a value >= 1
 		for (int i = (SUFFIXES.length - 1); i >= 0; i--)
 		{
-			divideBy = (long) Math.pow(10, i * 3);
+			divideBy = SUFFIX_DIVISORS[i];
 			if ((double) quantity / divideBy >= 1)
 			{
 				suffix = SUFFIXES[i];
@@ -95,7 +103,7 @@ public class QuantityFormatter
 		}
 
 		// get locale formatted string
-		String formattedString = NUMBER_FORMATTER.format((double) quantity / divideBy);
+		String formattedString = NUMBER_FORMATTER.get().format((double) quantity / divideBy);
 
 		// strip down any digits past the 4 first
 		formattedString = (formattedString.length() > 4 ? formattedString.substring(0, 4) : formattedString);
@@ -127,7 +135,7 @@ public class QuantityFormatter
 	 * @param precise If true, allow thousandths precision if {@code quantity} is larger than 1 million.
 	 *                Otherwise have at most a single decimal
 	 */
-	public static synchronized String quantityToRSDecimalStack(int quantity, boolean precise)
+	public static String quantityToRSDecimalStack(int quantity, boolean precise)
 	{
 		String quantityStr = String.valueOf(quantity);
 		if (quantityStr.length() <= 4)
@@ -139,8 +147,8 @@ public class QuantityFormatter
 
 		// Output thousandths for values above a million
 		NumberFormat format = precise && power >= 6
-			? PRECISE_DECIMAL_FORMATTER
-			: DECIMAL_FORMATTER;
+			? PRECISE_DECIMAL_FORMATTER.get()
+			: DECIMAL_FORMATTER.get();
 
 		return format.format(quantity / (Math.pow(10, (power / 3) * 3))) + SUFFIXES[power / 3];
 	}
@@ -152,10 +160,10 @@ public class QuantityFormatter
 	 * @param string The string to convert.
 	 * @return A long representation of it.
 	 */
-	public static synchronized long parseQuantity(String string) throws ParseException
+	public static long parseQuantity(String string) throws ParseException
 	{
 		int multiplier = getMultiplier(string);
-		float parsedValue = NUMBER_FORMATTER.parse(string).floatValue();
+		float parsedValue = NUMBER_FORMATTER.get().parse(string).floatValue();
 		return (long) (parsedValue * multiplier);
 	}
 
@@ -164,9 +172,32 @@ public class QuantityFormatter
 	 *
 	 * example: {@code 10,123,351}, {@code 5}
 	 */
-	public static synchronized String formatNumber(final long number)
+	public static String formatNumber(final long number)
 	{
-		return NUMBER_FORMATTER.format(number);
+		if (number > -1000 && number < 1000)
+		{
+			return Long.toString(number);
+		}
+
+		// group the digits by hand, the same as NumberFormat does for the English locale
+		final String digits = Long.toString(number);
+		final int sign = number < 0 ? 1 : 0;
+		final int length = digits.length() - sign;
+		final char[] out = new char[digits.length() + (length - 1) / 3];
+		int o = out.length;
+		for (int i = digits.length() - 1, n = 0; i >= sign; --i, ++n)
+		{
+			if (n > 0 && n % 3 == 0)
+			{
+				out[--o] = ',';
+			}
+			out[--o] = digits.charAt(i);
+		}
+		if (sign == 1)
+		{
+			out[--o] = '-';
+		}
+		return new String(out);
 	}
 
 
@@ -176,9 +207,9 @@ public class QuantityFormatter
 	 *
 	 * example: {@code 10,123,351}, {@code 5.612}
 	 */
-	public static synchronized String formatNumber(double number)
+	public static String formatNumber(double number)
 	{
-		return NUMBER_FORMATTER.format(number);
+		return NUMBER_FORMATTER.get().format(number);
 	}
 
 	/**
@@ -30,8 +30,6 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apache.commons.text.WordUtils;
 import org.apache.commons.text.similarity.JaroWinklerDistance;
 
@@ -41,7 +39,6 @@ import org.apache.commons.text.similarity.JaroWinklerDistance;
 public class Text
 {
 	private static final JaroWinklerDistance DISTANCE = new JaroWinklerDistance();
-	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
 	private static final Splitter COMMA_SPLITTER = Splitter
 		.on(",")
 		.omitEmptyStrings()
@@ -81,7 +78,7 @@ public class Text
 	 */
 	public static String removeTags(String str)
 	{
-		return TAG_REGEXP.matcher(str).replaceAll("");
+		return removeTags(str, false);
 	}
 
 	/**
@@ -92,21 +89,39 @@ public class Text
 	 */
 	public static String removeFormattingTags(String str)
 	{
-		StringBuilder sb = new StringBuilder();
-		Matcher matcher = TAG_REGEXP.matcher(str);
-		while (matcher.find())
+		return removeTags(str, true);
+	}
+
+	/**
+	 * Removes everything matching {@code <[^>]*>} from a string, without a regex. Strings without
+	 * tags are returned as is.
+	 */
+	private static String removeTags(String str, boolean keepEscapes)
+	{
+		int tagStart = str.indexOf('<');
+		int tagEnd = tagStart == -1 ? -1 : str.indexOf('>', tagStart + 1);
+		if (tagEnd == -1)
 		{
-			matcher.appendReplacement(sb, "");
-			String match = matcher.group(0);
-			switch (match)
+			return str;
+		}
+
+		final StringBuilder sb = new StringBuilder(str.length());
+		int pos = 0;
+		do
+		{
+			sb.append(str, pos, tagStart);
+			if (keepEscapes && tagEnd - tagStart == 3 && (str.startsWith("<lt>", tagStart) || str.startsWith("<gt>", tagStart)))
 			{
-				case "<lt>":
-				case "<gt>":
-					sb.append(match);
-					break;
+				sb.append(str, tagStart, tagEnd + 1);
 			}
+			pos = tagEnd + 1;
+
+			tagStart = str.indexOf('<', pos);
+			tagEnd = tagStart == -1 ? -1 : str.indexOf('>', tagStart + 1);
 		}
-		matcher.appendTail(sb);
+		while (tagEnd != -1);
+
+		sb.append(str, pos, str.length());
 		return sb.toString();
 	}
 
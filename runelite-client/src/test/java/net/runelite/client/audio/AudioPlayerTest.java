@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.audio;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import net.runelite.client.Notifier;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AudioPlayerTest
+{
+	private static final AudioFormat MONO = new AudioFormat(22050, 16, 1, true, false);
+	private static final AudioFormat STEREO = new AudioFormat(44100, 16, 2, true, false);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<SourceDataLine> lines = new ArrayList<>();
+	private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+	private final Set<byte[]> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+	private AudioPlayer audioPlayer;
+
+	@Before
+	public void before()
+	{
+		// play synchronously through fake lines which record what is written to them
+		audioPlayer = new AudioPlayer(format ->
+		{
+			SourceDataLine line = mock(SourceDataLine.class);
+			when(line.getFormat()).thenReturn(format);
+			doAnswer(invocation ->
+			{
+				output.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+				buffers.add(invocation.getArgument(0));
+				return invocation.getArgument(2);
+			}).when(line).write(any(), anyInt(), anyInt());
+			lines.add(line);
+			return line;
+		}, Runnable::run);
+	}
+
+	@Test
+	public void testDecodeResource() throws Exception
+	{
+		AudioPlayer.Sound sound;
+		try (InputStream in = Notifier.class.getResourceAsStream("notification.wav"))
+		{
+			sound = AudioPlayer.decode(in);
+		}
+
+		AudioFormat format = sound.getFormat();
+		assertEquals(AudioFormat.Encoding.PCM_SIGNED, format.getEncoding());
+		assertEquals(16, format.getSampleSizeInBits());
+		assertEquals(false, format.isBigEndian());
+		assertEquals(0, sound.getPcm().length % format.getFrameSize());
+
+		// the resource is decoded once, and the line is reused for the second play
+		audioPlayer.play(Notifier.class, "notification.wav", 0);
+		audioPlayer.playAsync(Notifier.class, "notification.wav", 0).get();
+		assertEquals(1, lines.size());
+		verify(lines.get(0)).open(any(AudioFormat.class), anyInt());
+		verify(lines.get(0), times(2)).drain();
+		verify(lines.get(0), never()).close();
+
+		byte[] written = output.toByteArray();
+		assertEquals(sound.getPcm().length * 2, written.length);
+		for (int i = 0; i < written.length; ++i)
+		{
+			assertEquals(sound.getPcm()[i % sound.getPcm().length], written[i]);
+		}
+	}
+
+	@Test
+	public void testReplacedFile() throws Exception
+	{
+		File file = folder.newFile("notification.wav");
+		writeWav(file, new short[]{1, 2, 3, 4});
+		audioPlayer.play(file, 0);
+		assertArrayEquals(pcm(new short[]{1, 2, 3, 4}), output.toByteArray());
+
+		output.reset();
+		writeWav(file, new short[]{5, 6, 7, 8, 9, 10});
+		file.setLastModified(file.lastModified() + 2000);
+		audioPlayer.play(file, 0);
+		assertArrayEquals(pcm(new short[]{5, 6, 7, 8, 9, 10}), output.toByteArray());
+	}
+
+	@Test
+	public void testGain()
+	{
+		byte[] pcm = pcm(new short[]{0, 1000, -1000, 20000, Short.MIN_VALUE});
+		assertArrayEquals(pcm(new short[]{0, 500, -500, 10000, -16384}), applyGain(pcm, 0.5f));
+		assertArrayEquals(pcm(new short[]{0, 10000, -10000, Short.MAX_VALUE, Short.MIN_VALUE}), applyGain(pcm, 10));
+		assertArrayEquals(pcm(new short[]{0, 0, 0, 0, 0}), applyGain(pcm, 0));
+
+		// part of the samples, written to the start of the buffer
+		byte[] out = new byte[4];
+		AudioPlayer.applyGain(pcm, 4, 4, 2, out);
+		assertArrayEquals(pcm(new short[]{-2000, Short.MAX_VALUE}), out);
+	}
+
+	@Test
+	public void testPlayWithGain() throws Exception
+	{
+		// long enough to be scaled in several chunks
+		short[] samples = new short[AudioPlayer.GAIN_BUFFER_SIZE * 2 + 3];
+		short[] halved = new short[samples.length];
+		for (int i = 0; i < samples.length; ++i)
+		{
+			samples[i] = (short) ((i - samples.length / 2) * 2);
+			halved[i] = (short) (samples[i] / 2);
+		}
+		AudioPlayer.Sound sound = new AudioPlayer.Sound(MONO, pcm(samples));
+
+		float gain = (float) (20 * Math.log10(0.5));
+		audioPlayer.play(sound, gain).get();
+		assertArrayEquals(pcm(halved), output.toByteArray());
+
+		// the samples are left untouched, and later plays reuse the same buffer
+		output.reset();
+		audioPlayer.play(sound, gain).get();
+		assertArrayEquals(pcm(halved), output.toByteArray());
+		assertArrayEquals(pcm(samples), sound.getPcm());
+		assertEquals(1, buffers.size());
+		assertEquals(AudioPlayer.GAIN_BUFFER_SIZE, buffers.iterator().next().length);
+
+		// without gain the samples are written directly
+		output.reset();
+		audioPlayer.play(sound, 0).get();
+		assertArrayEquals(pcm(samples), output.toByteArray());
+		assertTrue(buffers.contains(sound.getPcm()));
+	}
+
+	@Test
+	public void testLinePool() throws Exception
+	{
+		// overlapping plays each get their own line
+		List<SourceDataLine> playing = new ArrayList<>();
+		for (int i = 0; i < AudioPlayer.MAX_LINES; ++i)
+		{
+			playing.add(audioPlayer.acquireLine(MONO));
+		}
+		assertEquals(AudioPlayer.MAX_LINES, lines.size());
+		assertEquals(AudioPlayer.MAX_LINES, playing.stream().distinct().count());
+
+		// a released line is reused for the same format
+		audioPlayer.releaseLine(playing.get(1));
+		assertSame(playing.get(1), audioPlayer.acquireLine(MONO));
+		assertEquals(AudioPlayer.MAX_LINES, lines.size());
+
+		// and closed to make room for another format once the pool is full
+		audioPlayer.releaseLine(playing.get(2));
+		SourceDataLine stereo = audioPlayer.acquireLine(STEREO);
+		assertNotSame(playing.get(2), stereo);
+		verify(playing.get(2)).close();
+		verify(stereo).open(STEREO, STEREO.getFrameSize() * 4410);
+
+		// no more lines are opened once every line is playing, and the sound is dropped
+		try
+		{
+			audioPlayer.acquireLine(MONO);
+			fail();
+		}
+		catch (LineUnavailableException ex)
+		{
+			// expected
+		}
+
+		try
+		{
+			audioPlayer.play(Notifier.class, "notification.wav", 0);
+			fail();
+		}
+		catch (LineUnavailableException ex)
+		{
+			// expected
+		}
+
+		CompletableFuture<Void> dropped = audioPlayer.playAsync(Notifier.class, "notification.wav", 0);
+		try
+		{
+			dropped.get();
+			fail();
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof LineUnavailableException);
+		}
+		assertEquals(AudioPlayer.MAX_LINES + 1, lines.size());
+		assertEquals(0, output.size());
+	}
+
+	private static byte[] applyGain(byte[] pcm, float scale)
+	{
+		byte[] out = new byte[pcm.length];
+		AudioPlayer.applyGain(pcm, 0, pcm.length, scale, out);
+		return out;
+	}
+
+	private static byte[] pcm(short[] samples)
+	{
+		byte[] pcm = new byte[samples.length * 2];
+		for (int i = 0; i < samples.length; ++i)
+		{
+			pcm[i * 2] = (byte) samples[i];
+			pcm[i * 2 + 1] = (byte) (samples[i] >> 8);
+		}
+		return pcm;
+	}
+
+	private static void writeWav(File file, short[] samples) throws Exception
+	{
+		byte[] pcm = pcm(samples);
+		try (AudioInputStream in = new AudioInputStream(new ByteArrayInputStream(pcm), MONO, samples.length))
+		{
+			AudioSystem.write(in, AudioFileFormat.Type.WAVE, file);
+		}
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Named;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ChatClientTest
+{
+	private static final String PLAYER = "Adam";
+
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	@Bind
+	private OkHttpClient okHttpClient = new OkHttpClient();
+
+	@Bind
+	private Gson gson = new Gson();
+
+	@Bind
+	@Named("runelite.api.base")
+	private HttpUrl apiBase;
+
+	@Inject
+	private ChatClient chatClient;
+
+	private final AtomicInteger submissions = new AtomicInteger();
+	private final AtomicInteger lookups = new AtomicInteger();
+	private final List<String> submitted = new ArrayList<>();
+	private volatile CountDownLatch gate = new CountDownLatch(0);
+	private volatile int responseCode = 200;
+	private ExecutorService pool;
+
+	@Before
+	public void before()
+	{
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException
+			{
+				// requests are held here until the test opens the gate, to simulate a slow server
+				gate.await(5, TimeUnit.SECONDS);
+
+				if (request.getMethod().equals("POST"))
+				{
+					submissions.incrementAndGet();
+					synchronized (submitted)
+					{
+						submitted.add(request.getRequestUrl().queryParameter("kc"));
+					}
+					return new MockResponse().setResponseCode(responseCode);
+				}
+
+				lookups.incrementAndGet();
+				return new MockResponse().setResponseCode(responseCode).setBody("42");
+			}
+		});
+
+		apiBase = server.url("/");
+		pool = Executors.newFixedThreadPool(16);
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@After
+	public void after()
+	{
+		gate.countDown();
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void testSubmissionStorm() throws Exception
+	{
+		gate = new CountDownLatch(1);
+
+		// the first submission is held in flight, and the rest coalesce into one which is sent after it
+		List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+		for (int kc = 1; kc <= 50; ++kc)
+		{
+			futures.add(chatClient.submitKcAsync(PLAYER, "Zulrah", kc));
+		}
+		gate.countDown();
+
+		for (CompletableFuture<Boolean> future : futures)
+		{
+			assertTrue(future.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(2, submissions.get());
+		assertEquals(List.of("1", "50"), submitted);
+
+		// once nothing is in flight, the same value is submitted again
+		assertTrue(chatClient.submitKc(PLAYER, "Zulrah", 50));
+		assertEquals(3, submissions.get());
+	}
+
+	@Test
+	public void testIdenticalSubmissions() throws Exception
+	{
+		gate = new CountDownLatch(1);
+
+		// identical submissions share the in-flight request
+		List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+		for (int i = 0; i < 20; ++i)
+		{
+			futures.add(chatClient.submitKcAsync(PLAYER, "Zulrah", 7));
+		}
+		gate.countDown();
+
+		for (CompletableFuture<Boolean> future : futures)
+		{
+			assertTrue(future.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, submissions.get());
+		assertEquals(List.of("7"), submitted);
+	}
+
+	@Test
+	public void testSubmissionKeys() throws Exception
+	{
+		gate = new CountDownLatch(1);
+
+		// submissions for different bosses or players are not coalesced
+		List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+		for (int i = 0; i < 3; ++i)
+		{
+			futures.add(chatClient.submitKcAsync(PLAYER, "Zulrah", 10));
+			futures.add(chatClient.submitKcAsync(PLAYER, "Vorkath", 10));
+			futures.add(chatClient.submitKcAsync("Zezima", "Zulrah", 10));
+		}
+		gate.countDown();
+
+		for (CompletableFuture<Boolean> future : futures)
+		{
+			assertTrue(future.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(3, submissions.get());
+	}
+
+	@Test
+	public void testFailedSubmission() throws Exception
+	{
+		responseCode = 500;
+		assertFalse(chatClient.submitKc(PLAYER, "Zulrah", 5));
+
+		responseCode = 200;
+		assertTrue(chatClient.submitKc(PLAYER, "Zulrah", 5));
+		assertEquals(2, submissions.get());
+	}
+
+	@Test
+	public void testLookupStorm() throws Exception
+	{
+		gate = new CountDownLatch(1);
+
+		// concurrent lookups share one request
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < 16; ++i)
+		{
+			results.add(pool.submit(() -> chatClient.getKc(PLAYER, "Zulrah")));
+		}
+		Thread.sleep(100);
+		gate.countDown();
+
+		for (Future<Integer> result : results)
+		{
+			assertEquals(42, (int) result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, lookups.get());
+
+		// and later lookups are served from the cache
+		for (int i = 0; i < 100; ++i)
+		{
+			assertEquals(42, chatClient.getKc(PLAYER, "Zulrah"));
+		}
+		assertEquals(1, lookups.get());
+
+		// until a submission for the same key
+		chatClient.submitKcAsync(PLAYER, "Zulrah", 43).get(5, TimeUnit.SECONDS);
+		chatClient.getKc(PLAYER, "Zulrah");
+		assertEquals(2, lookups.get());
+
+		// other keys are looked up separately
+		chatClient.getKc(PLAYER, "Vorkath");
+		chatClient.getPb(PLAYER, "Zulrah");
+		assertEquals(4, lookups.get());
+	}
+
+	@Test
+	public void testFailedLookup() throws Exception
+	{
+		responseCode = 404;
+		try
+		{
+			chatClient.getKc(PLAYER, "Zulrah");
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		// failures are not cached
+		responseCode = 200;
+		assertEquals(42, chatClient.getKc(PLAYER, "Zulrah"));
+		assertEquals(2, lookups.get());
+	}
+}
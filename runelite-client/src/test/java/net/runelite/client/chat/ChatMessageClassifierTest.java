@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.util.Text;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class ChatMessageClassifierTest
+{
+	private static final List<ChatPattern> PATTERNS = List.of(
+		ChatPattern.builder()
+			.pattern(Pattern.compile("Your (.+) (?:kill|success) count is: ?<col=[0-9a-f]{6}>([0-9,]+)</col>"))
+			.literal(" count is:")
+			.build(),
+		ChatPattern.builder()
+			.pattern(Pattern.compile("Your (.+) (?:kill|success) count is: ([0-9,]+)\\."))
+			.literal(" count is:")
+			.removeTags(true)
+			.fullMatch(true)
+			.build(),
+		ChatPattern.builder()
+			.pattern(Pattern.compile("You have completed [0-9]+ ([a-z]+) Treasure Trails?\\."))
+			.literal(" Treasure Trail")
+			.removeTags(true)
+			.build(),
+		ChatPattern.builder()
+			.pattern(Pattern.compile(".*Valuable drop: ([^<>]+?\\(((?:\\d+,?)+) coins\\))(?:</col>)?"))
+			.literal("Valuable drop: ")
+			.fullMatch(true)
+			.build(),
+		ChatPattern.builder()
+			.pattern(Pattern.compile("You pick (the )?(?<target>.+)'s? pocket.*"))
+			.literal("You pick ")
+			.fullMatch(true)
+			.type(ChatMessageType.SPAM)
+			.build(),
+		ChatPattern.builder()
+			.pattern(Pattern.compile("Congratulations, you've just advanced your (?<skill>[a-zA-Z]+) level\\."))
+			.literal("advanced your ")
+			.type(ChatMessageType.GAMEMESSAGE)
+			.build(),
+		ChatPattern.builder()
+			.pattern(Pattern.compile("(\\d+) ([a-z]+)s? remaining"))
+			.build()
+	);
+
+	private static final String[] MESSAGES = {
+		"Your Zulrah kill count is: <col=ff0000>1,234</col>",
+		"Your Zulrah kill count is: <col=ff0000>1,234</col>.",
+		"Your Tempoross success count is: 56.",
+		"Your Barrows chest count is: <col=ff0000>10</col>.",
+		"<col=ef1020>You have completed 12 elite Treasure Trails.</col>",
+		"You have completed 1 master Treasure Trail.",
+		"<col=ef1020>Valuable drop: Abyssal whip (1,500,000 coins)</col>",
+		"Valuable drop: Dragon bones (2,000 coins)",
+		"You pick the Master Farmer's pocket.",
+		"You pick the man's pocket.",
+		"Congratulations, you've just advanced your Attack level.",
+		"Congratulations, you've just advanced your Hitpoints level. You are now level 10.",
+		"3 kills remaining",
+		"You have 3 kills remaining",
+		"Nothing interesting happens.",
+		"",
+		" Treasure Trail count is: advanced your pocket",
+	};
+
+	private static final ChatMessageType[] TYPES = {
+		ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM, ChatMessageType.PUBLICCHAT, null
+	};
+
+	private static Matcher expected(ChatPattern pattern, ChatMessage message)
+	{
+		if (message.getType() != null ? !pattern.getTypes().isEmpty() && !pattern.getTypes().contains(message.getType()) : !pattern.getTypes().isEmpty())
+		{
+			return null;
+		}
+
+		String text = pattern.isRemoveTags() ? Text.removeTags(message.getMessage()) : message.getMessage();
+		Matcher matcher = pattern.getPattern().matcher(text);
+		return (pattern.isFullMatch() ? matcher.matches() : matcher.find()) ? matcher : null;
+	}
+
+	private static void assertMatches(ChatMessageClassifier classifier)
+	{
+		for (ChatMessageType type : TYPES)
+		{
+			for (String text : MESSAGES)
+			{
+				ChatMessage message = new ChatMessage(null, type, "", text, "", 0);
+				for (ChatPattern pattern : PATTERNS)
+				{
+					Matcher expected = expected(pattern, message);
+					ChatMatch actual = classifier.match(message, pattern);
+					if (expected == null)
+					{
+						assertNull(pattern + " " + text, actual);
+					}
+					else
+					{
+						assertNotNull(pattern + " " + text, actual);
+						assertEquals(expected.group(), actual.group());
+						assertEquals(expected.groupCount(), actual.groupCount());
+						for (int i = 1; i <= expected.groupCount(); ++i)
+						{
+							assertEquals(expected.group(i), actual.group(i));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesRegex()
+	{
+		ChatMessageClassifier classifier = new ChatMessageClassifier();
+		classifier.register(PATTERNS.toArray(new ChatPattern[0]));
+		assertMatches(classifier);
+	}
+
+	@Test
+	public void testUnregistered()
+	{
+		ChatMessageClassifier classifier = new ChatMessageClassifier();
+		assertMatches(classifier);
+
+		// registering some patterns must not change the results of the others
+		classifier.register(PATTERNS.get(0), PATTERNS.get(4));
+		assertMatches(classifier);
+	}
+
+	@Test
+	public void testNamedGroups()
+	{
+		ChatMessageClassifier classifier = new ChatMessageClassifier();
+		ChatPattern pattern = PATTERNS.get(4);
+		classifier.register(pattern);
+
+		ChatMessage message = new ChatMessage(null, ChatMessageType.SPAM, "", "You pick the Master Farmer's pocket.", "", 0);
+		ChatMatch match = classifier.match(message, pattern);
+		assertNotNull(match);
+		assertEquals("Master Farmer", match.group("target"));
+		assertEquals("the ", match.group(1));
+
+		ChatPattern quoted = ChatPattern.builder()
+			.pattern(Pattern.compile("\\Q(?<no>\\E(?<yes>[0-9]+)"))
+			.build();
+		match = classifier.match(new ChatMessage(null, ChatMessageType.SPAM, "", "(?<no>42", "", 0), quoted);
+		assertNotNull(match);
+		assertEquals("42", match.group("yes"));
+		try
+		{
+			match.group("no");
+			fail();
+		}
+		catch (IllegalArgumentException ex)
+		{
+			// expected
+		}
+	}
+
+	@Test
+	public void testEditedMessage()
+	{
+		ChatMessageClassifier classifier = new ChatMessageClassifier();
+		ChatPattern pattern = PATTERNS.get(2);
+		classifier.register(pattern);
+		ChatMessage message = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", "Nothing interesting happens.", "", 0);
+		assertNull(classifier.match(message, pattern));
+
+		message.setMessage("You have completed 1 master Treasure Trail.");
+		ChatMatch match = classifier.match(message, pattern);
+		assertNotNull(match);
+		assertEquals("master", match.group(1));
+		// the result is shared for the same message
+		assertSame(match, classifier.match(message, pattern));
+	}
+
+	@Test
+	public void testOverlappingLiterals()
+	{
+		List<String> literals = List.of("he", "she", "his", "hers", " ");
+		AhoCorasick automaton = new AhoCorasick(literals, new int[]{0, 1, 2, 3, 4});
+		BitSet found = new BitSet();
+		automaton.scan("ushers", found);
+		assertEquals("{0, 1, 3}", found.toString());
+
+		found.clear();
+		automaton.scan("a hi", found);
+		assertEquals("{4}", found.toString());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		// replay a chat log built from message templates, most of which match none of the patterns
+		Random random = new Random(42);
+		List<ChatMessage> chatLog = new ArrayList<>();
+		for (int i = 0; i < 500_000; ++i)
+		{
+			String text = MESSAGES[random.nextInt(MESSAGES.length)];
+			if (random.nextInt(4) != 0)
+			{
+				text = "You catch some shrimps. " + random.nextInt(1000);
+			}
+			chatLog.add(new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", text, "", 0));
+		}
+
+		for (int run = 0; run < 5; ++run)
+		{
+			long start = System.nanoTime();
+			int matches = 0;
+			for (ChatMessage message : chatLog)
+			{
+				for (ChatPattern pattern : PATTERNS)
+				{
+					if (expected(pattern, message) != null)
+					{
+						++matches;
+					}
+				}
+			}
+			long regex = System.nanoTime() - start;
+
+			ChatMessageClassifier classifier = new ChatMessageClassifier();
+			classifier.register(PATTERNS.toArray(new ChatPattern[0]));
+			start = System.nanoTime();
+			int classified = 0;
+			for (ChatMessage message : chatLog)
+			{
+				for (ChatPattern pattern : PATTERNS)
+				{
+					if (classifier.match(message, pattern) != null)
+					{
+						++classified;
+					}
+				}
+			}
+			long classifierTime = System.nanoTime() - start;
+
+			assertEquals(matches, classified);
+			log.info("{} messages: regex {}ms, classifier {}ms", chatLog.size(), regex / 1_000_000, classifierTime / 1_000_000);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.ScriptCallbackEvent;
+import net.runelite.api.events.VarbitChanged;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private final List<String> calls = new ArrayList<>();
+
+	private class VarbitSubscriber
+	{
+		@Subscribe(varbits = {10, 11})
+		public void onVarbitChanged(VarbitChanged event)
+		{
+			calls.add("varbit " + event.getVarbitId());
+		}
+	}
+
+	private class VarpSubscriber
+	{
+		@Subscribe(varps = 5, priority = 1)
+		public void onVarbitChanged(VarbitChanged event)
+		{
+			calls.add("varp " + event.getVarpId());
+		}
+	}
+
+	private class AllSubscriber
+	{
+		@Subscribe(priority = -1)
+		public void onVarbitChanged(VarbitChanged event)
+		{
+			calls.add("all");
+		}
+	}
+
+	private class CallbackSubscriber
+	{
+		@Subscribe(scriptCallbacks = "test")
+		public void onScriptCallbackEvent(ScriptCallbackEvent event)
+		{
+			calls.add(event.getEventName());
+		}
+	}
+
+	private class InvalidSubscriber
+	{
+		@Subscribe(varbits = 1)
+		public void onScriptCallbackEvent(ScriptCallbackEvent event)
+		{
+		}
+	}
+
+	private static VarbitChanged varbitChanged(int varpId, int varbitId)
+	{
+		VarbitChanged event = new VarbitChanged();
+		event.setVarpId(varpId);
+		event.setVarbitId(varbitId);
+		return event;
+	}
+
+	@Test
+	public void testKeyedSubscribers()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new VarbitSubscriber());
+		eventBus.register(new VarpSubscriber());
+		eventBus.register(new AllSubscriber());
+
+		eventBus.post(varbitChanged(1, 10));
+		assertEquals(Arrays.asList("varbit 10", "all"), calls);
+
+		calls.clear();
+		eventBus.post(varbitChanged(1, 12));
+		assertEquals(Arrays.asList("all"), calls);
+
+		calls.clear();
+		eventBus.post(varbitChanged(5, -1));
+		assertEquals(Arrays.asList("varp 5", "all"), calls);
+
+		// matches both a varbit and a varp key, subscribers still run once in priority order
+		calls.clear();
+		eventBus.post(varbitChanged(5, 11));
+		assertEquals(Arrays.asList("varp 5", "varbit 11", "all"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		VarbitSubscriber subscriber = new VarbitSubscriber();
+		eventBus.register(subscriber);
+		eventBus.register(new AllSubscriber());
+		eventBus.unregister(subscriber);
+
+		eventBus.post(varbitChanged(1, 10));
+		assertEquals(Arrays.asList("all"), calls);
+	}
+
+	@Test
+	public void testScriptCallback()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new CallbackSubscriber());
+
+		ScriptCallbackEvent event = new ScriptCallbackEvent();
+		event.setEventName("other");
+		eventBus.post(event);
+		event.setEventName("test");
+		eventBus.post(event);
+
+		assertEquals(Arrays.asList("test"), calls);
+	}
+
+	@Test
+	public void testRegisterWithKeys()
+	{
+		EventBus eventBus = new EventBus();
+		EventBus.Subscriber sub = eventBus.register(ItemContainerChanged.class, e -> calls.add("container " + e.getContainerId()), 0,
+			EventKey.itemContainer(93), EventKey.itemContainer(94));
+
+		eventBus.post(new ItemContainerChanged(93, null));
+		eventBus.post(new ItemContainerChanged(95, null));
+		eventBus.post(new ItemContainerChanged(94, null));
+		assertEquals(Arrays.asList("container 93", "container 94"), calls);
+
+		calls.clear();
+		eventBus.unregister(sub);
+		eventBus.post(new ItemContainerChanged(93, null));
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidKey()
+	{
+		new EventBus().register(new InvalidSubscriber());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidProgrammaticKey()
+	{
+		new EventBus().register(VarbitChanged.class, e ->
+		{
+		}, 0, EventKey.itemContainer(93));
+	}
+}
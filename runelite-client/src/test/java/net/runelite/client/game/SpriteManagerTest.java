@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BooleanSupplier;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.SpritePixels;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SpriteManagerTest
+{
+	private static final int FRAMES = 3;
+	private static final int SIZE = 16;
+	// archives from here on have large sprites
+	private static final int LARGE = 1000;
+	private static final int LARGE_SIZE = 512;
+
+	@Inject
+	private SpriteManager spriteManager;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Mock
+	@Bind
+	private InfoBoxManager infoBoxManager;
+
+	@Mock
+	@Bind
+	private ScheduledExecutorService executor;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		lenient().when(client.isClientThread()).thenReturn(true);
+		lenient().when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		lenient().when(client.getSprites(any(), anyInt(), eq(0))).thenAnswer(a -> loadSprites(a.getArgument(1)));
+
+		// run client thread tasks and executor tasks inline
+		lenient().doAnswer(a -> ((BooleanSupplier) a.getArgument(0)).getAsBoolean())
+			.when(clientThread).invoke(any(BooleanSupplier.class));
+		lenient().doAnswer(a ->
+		{
+			((Runnable) a.getArgument(0)).run();
+			return null;
+		}).when(executor).execute(any(Runnable.class));
+	}
+
+	/**
+	 * Synthetic sprite source: each archive has {@link #FRAMES} opaque sprites of a single color,
+	 * which is unique to the archive and file.
+	 */
+	private static SpritePixels[] loadSprites(int archive)
+	{
+		int size = archive >= LARGE ? LARGE_SIZE : SIZE;
+		SpritePixels[] sprites = new SpritePixels[FRAMES];
+		for (int file = 0; file < FRAMES; ++file)
+		{
+			int rgb = color(archive, file);
+			SpritePixels sp = mock(SpritePixels.class);
+			lenient().when(sp.toBufferedImage()).thenAnswer(a ->
+			{
+				BufferedImage img = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+				for (int y = 0; y < size; ++y)
+				{
+					for (int x = 0; x < size; ++x)
+					{
+						img.setRGB(x, y, rgb);
+					}
+				}
+				return img;
+			});
+			sprites[file] = sp;
+		}
+		return sprites;
+	}
+
+	private static int color(int archive, int file)
+	{
+		return 0xFF000000 | (archive & 0xFF) << 16 | file << 8 | 0x40;
+	}
+
+	@Test
+	public void testVariant()
+	{
+		SpriteVariant variant = SpriteVariant.builder()
+			.canvasWidth(32)
+			.canvasHeight(32)
+			.width(8)
+			.height(8)
+			.grayscale(true)
+			.build();
+
+		BufferedImage img = spriteManager.getSprite(1, 2, variant);
+		assertNotNull(img);
+		assertEquals(8, img.getWidth());
+		assertEquals(8, img.getHeight());
+		assertSame(img, spriteManager.getSprite(1, 2, variant));
+		// an equal variant shares the cache entry
+		assertSame(img, spriteManager.getSprite(1, 2, SpriteVariant.builder()
+			.canvasWidth(32)
+			.canvasHeight(32)
+			.width(8)
+			.height(8)
+			.grayscale(true)
+			.build()));
+
+		// the sprite is centered on the canvas, so the corners are transparent and the center is the sprite, in gray
+		assertEquals(0, img.getRGB(0, 0) >>> 24);
+		int center = img.getRGB(4, 4);
+		assertEquals(0xFF, center >>> 24);
+		assertEquals(center >> 16 & 0xFF, center >> 8 & 0xFF);
+		assertEquals(center >> 8 & 0xFF, center & 0xFF);
+
+		// the sprite itself is left alone
+		BufferedImage sprite = spriteManager.getSprite(1, 2);
+		assertEquals(SIZE, sprite.getWidth());
+		assertEquals(color(1, 2), sprite.getRGB(0, 0));
+
+		BufferedImage outlined = spriteManager.getSprite(1, 2, SpriteVariant.builder().outline(Color.RED).build());
+		assertEquals(SIZE, outlined.getWidth());
+		assertEquals(color(1, 2), outlined.getRGB(0, 0));
+
+		verify(client, times(1)).getSprites(any(), anyInt(), eq(0));
+	}
+
+	@Test
+	public void testVariantAsync()
+	{
+		SpriteVariant variant = SpriteVariant.builder()
+			.width(4)
+			.height(4)
+			.build();
+
+		List<BufferedImage> images = new ArrayList<>();
+		spriteManager.getSpriteAsync(7, 0, variant, images::add);
+		spriteManager.getSpriteAsync(7, 0, variant, images::add);
+
+		assertEquals(2, images.size());
+		assertEquals(4, images.get(0).getWidth());
+		assertSame(images.get(0), images.get(1));
+		// the second request is served from the cache
+		verify(clientThread, times(1)).invoke(any(BooleanSupplier.class));
+		verify(executor, times(1)).execute(any(Runnable.class));
+	}
+
+	@Test
+	public void testPreload()
+	{
+		SpriteVariant variant = SpriteVariant.builder()
+			.width(10)
+			.height(10)
+			.build();
+
+		spriteManager.preloadSprites(variant, 1, 2, 3);
+
+		verify(clientThread, times(1)).invoke(any(BooleanSupplier.class));
+		verify(client, times(3)).getSprites(any(), anyInt(), eq(0));
+
+		List<BufferedImage> images = new ArrayList<>();
+		for (int archive = 1; archive <= 3; ++archive)
+		{
+			for (int file = 0; file < FRAMES; ++file)
+			{
+				spriteManager.getSpriteAsync(archive, file, variant, images::add);
+				spriteManager.getSpriteAsync(archive, file, images::add);
+			}
+		}
+
+		assertEquals(3 * FRAMES * 2, images.size());
+		for (int i = 0; i < images.size(); i += 2)
+		{
+			assertEquals(10, images.get(i).getWidth());
+			assertEquals(SIZE, images.get(i + 1).getWidth());
+		}
+
+		// every lookup was a cache hit, with the variants derived by the preload task
+		verify(clientThread, times(1)).invoke(any(BooleanSupplier.class));
+		verify(client, times(3)).getSprites(any(), anyInt(), eq(0));
+		verify(executor, times(1)).execute(any(Runnable.class));
+	}
+
+	@Test
+	public void testPreloadCallback()
+	{
+		SpriteVariant variant = SpriteVariant.builder()
+			.width(10)
+			.height(10)
+			.build();
+
+		List<Map<Integer, BufferedImage[]>> results = new ArrayList<>();
+		spriteManager.preloadSprites(variant, results::add, 1, 2);
+
+		assertEquals(1, results.size());
+		Map<Integer, BufferedImage[]> sprites = results.get(0);
+		assertEquals(2, sprites.size());
+		for (int archive = 1; archive <= 2; ++archive)
+		{
+			BufferedImage[] images = sprites.get(archive);
+			assertEquals(FRAMES, images.length);
+			for (int file = 0; file < FRAMES; ++file)
+			{
+				assertEquals(10, images[file].getWidth());
+				// the images given to the callback are the cached variants
+				List<BufferedImage> cached = new ArrayList<>();
+				spriteManager.getSpriteAsync(archive, file, variant, cached::add);
+				assertSame(cached.get(0), images[file]);
+			}
+		}
+
+		verify(clientThread, times(1)).invoke(any(BooleanSupplier.class));
+		verify(executor, times(1)).execute(any(Runnable.class));
+	}
+
+	@Test
+	public void testPreloadBeforeLoaded()
+	{
+		lenient().when(client.getGameState()).thenReturn(GameState.STARTING);
+
+		List<BooleanSupplier> pending = new ArrayList<>();
+		doAnswer(a -> pending.add(a.getArgument(0)))
+			.when(clientThread).invoke(any(BooleanSupplier.class));
+
+		spriteManager.preloadSprites(null, 1);
+		assertEquals(1, pending.size());
+		assertFalse(pending.get(0).getAsBoolean());
+
+		lenient().when(client.getGameState()).thenReturn(GameState.LOGIN_SCREEN);
+		assertTrue(pending.get(0).getAsBoolean());
+		verify(client, times(1)).getSprites(any(), eq(1), eq(0));
+	}
+
+	@Test
+	public void testCacheWeight()
+	{
+		SpriteVariant variant = SpriteVariant.builder()
+			.width(LARGE_SIZE / 2)
+			.height(LARGE_SIZE / 2)
+			.build();
+
+		// 10 archives of 3 1MiB sprites, plus their variants, is well over the bound
+		for (int archive = LARGE; archive < LARGE + 10; ++archive)
+		{
+			spriteManager.preloadSprites(variant, archive);
+			assertTrue(spriteManager.cachedBytes() <= SpriteManager.CACHE_WEIGHT);
+		}
+
+		assertTrue(spriteManager.cachedBytes() > SpriteManager.CACHE_WEIGHT / 2);
+	}
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	private static final String PROFILE = "rsprofile.test";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File directory;
+
+	@Before
+	public void before() throws IOException
+	{
+		directory = folder.newFolder();
+	}
+
+	@Test
+	public void testConfigLootDropsSorted() throws IOException
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.NPC, "Goblin");
+		loot.add(995, 10);
+		loot.add(526, 1);
+		loot.add(995, 5);
+		loot.add(1000, 2);
+		loot.add(526, Integer.MAX_VALUE);
+
+		assertArrayEquals(new int[]{526, Integer.MAX_VALUE, 995, 15, 1000, 2}, loot.drops);
+	}
+
+	@Test
+	public void testReplay() throws IOException
+	{
+		LootStore store = new LootStore(directory);
+		store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 10, Instant.ofEpochMilli(1000))));
+		store.add(PROFILE, Arrays.asList(
+			loot("Goblin", 2, 526, 2, Instant.ofEpochMilli(2000)),
+			loot("Cow", 1, 1739, 1, Instant.ofEpochMilli(3000))
+		));
+		store.remove(PROFILE, LootRecordType.NPC, "Cow");
+
+		List<ConfigLoot> loots = new LootStore(directory).getLoots(PROFILE);
+		assertEquals(1, loots.size());
+
+		ConfigLoot goblin = loots.get(0);
+		assertEquals("Goblin", goblin.name);
+		assertEquals(3, goblin.kills);
+		assertEquals(Instant.ofEpochMilli(1000), goblin.first);
+		assertEquals(Instant.ofEpochMilli(2000), goblin.last);
+		assertArrayEquals(new int[]{526, 2, 995, 10}, goblin.drops);
+	}
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		LootStore store = new LootStore(directory);
+		for (int i = 0; i < 1000; ++i)
+		{
+			store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 1, Instant.ofEpochMilli(i))));
+		}
+
+		File journal = new File(directory, PROFILE + ".dat");
+		long before = journal.length();
+		store.compact(PROFILE);
+		assertTrue(journal.length() < before);
+
+		ConfigLoot goblin = new LootStore(directory).getLoots(PROFILE).get(0);
+		assertEquals(1000, goblin.kills);
+		assertArrayEquals(new int[]{995, 1000}, goblin.drops);
+		assertEquals(Instant.ofEpochMilli(999), goblin.last);
+	}
+
+	@Test
+	public void testTruncatedJournal() throws IOException
+	{
+		LootStore store = new LootStore(directory);
+		store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 10, Instant.ofEpochMilli(1000))));
+		store.add(PROFILE, Collections.singletonList(loot("Cow", 1, 1739, 1, Instant.ofEpochMilli(2000))));
+
+		File journal = new File(directory, PROFILE + ".dat");
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.setLength(raf.length() - 3);
+		}
+
+		// the partial entry is dropped, and appending afterwards must not be corrupted by it
+		store = new LootStore(directory);
+		assertEquals(1, store.getLoots(PROFILE).size());
+		store.add(PROFILE, Collections.singletonList(loot("Cow", 1, 1739, 1, Instant.ofEpochMilli(3000))));
+
+		List<ConfigLoot> loots = new LootStore(directory).getLoots(PROFILE);
+		assertEquals(2, loots.size());
+		ConfigLoot cow = loots.get(1);
+		assertEquals("Cow", cow.name);
+		assertEquals(1, cow.kills);
+		assertEquals(Instant.ofEpochMilli(3000), cow.last);
+		assertArrayEquals(new int[]{1739, 1}, cow.drops);
+	}
+
+	@Test
+	public void testRemoveAll() throws IOException
+	{
+		LootStore store = new LootStore(directory);
+		store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 10, Instant.ofEpochMilli(1000))));
+		store.add("rsprofile.other", Collections.singletonList(loot("Cow", 1, 1739, 1, Instant.ofEpochMilli(2000))));
+		store.removeAll(PROFILE);
+
+		assertFalse(new File(directory, PROFILE + ".dat").exists());
+		assertTrue(new LootStore(directory).getLoots(PROFILE).isEmpty());
+		assertEquals(1, new LootStore(directory).getLoots("rsprofile.other").size());
+	}
+
+	@Test
+	public void testUnsupportedVersion() throws IOException
+	{
+		File journal = new File(directory, PROFILE + ".dat");
+		byte[] data = {0x4c, 0x4f, 0x4f, 0x54, 99, 1, 2, 3};
+		Files.write(journal.toPath(), data);
+
+		// a journal from a newer client is neither loaded nor modified
+		LootStore store = new LootStore(directory);
+		try
+		{
+			store.getLoots(PROFILE);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+		try
+		{
+			store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 10, Instant.ofEpochMilli(1000))));
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+		assertArrayEquals(data, Files.readAllBytes(journal.toPath()));
+	}
+
+	@Test
+	public void testUnknownFormat() throws IOException
+	{
+		File journal = new File(directory, PROFILE + ".dat");
+		byte[] data = {1, 2, 3, 4, 5, 6, 7, 8};
+		Files.write(journal.toPath(), data);
+
+		LootStore store = new LootStore(directory);
+		assertTrue(store.getLoots(PROFILE).isEmpty());
+		assertFalse(journal.exists());
+		assertArrayEquals(data, Files.readAllBytes(corruptJournal().toPath()));
+
+		store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 10, Instant.ofEpochMilli(1000))));
+		assertEquals(1, new LootStore(directory).getLoots(PROFILE).size());
+	}
+
+	@Test
+	public void testDamagedJournal() throws IOException
+	{
+		LootStore store = new LootStore(directory);
+		store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 10, Instant.ofEpochMilli(1000))));
+
+		File journal = new File(directory, PROFILE + ".dat");
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.seek(raf.length());
+			raf.write(new byte[]{42, 1, 2, 3});
+		}
+		byte[] data = Files.readAllBytes(journal.toPath());
+
+		// the damaged journal is kept, and the readable entries carried over to a new one
+		List<ConfigLoot> loots = new LootStore(directory).getLoots(PROFILE);
+		assertEquals(1, loots.size());
+		assertEquals("Goblin", loots.get(0).name);
+		assertArrayEquals(data, Files.readAllBytes(corruptJournal().toPath()));
+		assertEquals(1, new LootStore(directory).getLoots(PROFILE).size());
+	}
+
+	@Test
+	public void testImportTwice() throws IOException
+	{
+		List<ConfigLoot> config = Arrays.asList(
+			loot("Goblin", 5, 995, 50, Instant.ofEpochMilli(1000)),
+			loot("Cow", 2, 1739, 2, Instant.ofEpochMilli(2000))
+		);
+
+		LootStore store = new LootStore(directory);
+		store.add(PROFILE, Collections.singletonList(loot("Goblin", 1, 995, 10, Instant.ofEpochMilli(3000))));
+		store.importLoot(PROFILE, config);
+		store.importLoot(PROFILE, config);
+		assertKills(store, 6, 2);
+
+		// and again on the next switch to the profile
+		store = new LootStore(directory);
+		store.importLoot(PROFILE, config);
+		assertKills(store, 6, 2);
+		assertEquals(60, store.getLoots(PROFILE).get(0).getQuantity(995));
+	}
+
+	@Test
+	public void testImportGained() throws IOException
+	{
+		LootStore store = new LootStore(directory);
+		store.importLoot(PROFILE, Collections.singletonList(loot("Goblin", 5, 995, 50, Instant.ofEpochMilli(1000))));
+
+		// the synced record was added to elsewhere, only what it gained is merged
+		ConfigLoot synced = loot("Goblin", 7, 995, 60, Instant.ofEpochMilli(2000));
+		synced.add(526, 2);
+		store.importLoot(PROFILE, Collections.singletonList(synced));
+		store.importLoot(PROFILE, Collections.singletonList(synced));
+
+		ConfigLoot goblin = new LootStore(directory).getLoots(PROFILE).get(0);
+		assertEquals(7, goblin.kills);
+		assertArrayEquals(new int[]{526, 2, 995, 60}, goblin.drops);
+		assertEquals(Instant.ofEpochMilli(2000), goblin.last);
+	}
+
+	@Test
+	public void testImportAfterRemove() throws IOException
+	{
+		List<ConfigLoot> config = Collections.singletonList(loot("Goblin", 5, 995, 50, Instant.ofEpochMilli(1000)));
+
+		LootStore store = new LootStore(directory);
+		store.importLoot(PROFILE, config);
+		store.remove(PROFILE, LootRecordType.NPC, "Goblin");
+		store.importLoot(PROFILE, config);
+		assertTrue(store.getLoots(PROFILE).isEmpty());
+
+		store.importLoot(PROFILE, Collections.singletonList(loot("Cow", 1, 1739, 1, Instant.ofEpochMilli(2000))));
+		store.removeAll(PROFILE);
+		store = new LootStore(directory);
+		store.importLoot(PROFILE, config);
+		assertTrue(store.getLoots(PROFILE).isEmpty());
+	}
+
+	@Test
+	public void testImportCompact() throws IOException
+	{
+		LootStore store = new LootStore(directory);
+		for (int i = 1; i <= 300; ++i)
+		{
+			store.importLoot(PROFILE, Collections.singletonList(loot("Goblin", i, 995, i, Instant.ofEpochMilli(i))));
+		}
+		store.compact(PROFILE);
+		assertTrue(new File(directory, PROFILE + ".dat").length() < 200);
+
+		// the compacted journal still knows what was imported
+		store = new LootStore(directory);
+		store.importLoot(PROFILE, Collections.singletonList(loot("Goblin", 300, 995, 300, Instant.ofEpochMilli(300))));
+		ConfigLoot goblin = store.getLoots(PROFILE).get(0);
+		assertEquals(300, goblin.kills);
+		assertEquals(300, goblin.getQuantity(995));
+	}
+
+	private static void assertKills(LootStore store, int goblin, int cow) throws IOException
+	{
+		List<ConfigLoot> loots = store.getLoots(PROFILE);
+		assertEquals(2, loots.size());
+		assertEquals("Goblin", loots.get(0).name);
+		assertEquals(goblin, loots.get(0).kills);
+		assertEquals("Cow", loots.get(1).name);
+		assertEquals(cow, loots.get(1).kills);
+	}
+
+	private File corruptJournal()
+	{
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(".corrupt"));
+		assertEquals(1, files.length);
+		return files[0];
+	}
+
+	private static ConfigLoot loot(String name, int kills, int id, int qty, Instant time)
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.NPC, name);
+		loot.kills = kills;
+		loot.add(id, qty);
+		loot.first = time;
+		loot.last = time;
+		return loot;
+	}
+}
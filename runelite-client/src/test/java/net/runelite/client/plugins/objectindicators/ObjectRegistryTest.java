@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.objectindicators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+
+public class ObjectRegistryTest
+{
+	private static final int LUMBRIDGE = 12850;
+
+	private final ObjectRegistry registry = new ObjectRegistry();
+
+	@Test
+	public void testPointsByTile()
+	{
+		ObjectPoint tree = point(1276, LUMBRIDGE, 10, 20, 0);
+		ObjectPoint door = point(1530, LUMBRIDGE, 10, 20, 0);
+		ObjectPoint stairs = point(16671, LUMBRIDGE, 10, 20, 1);
+		registry.addPoint(tree);
+		registry.addPoint(door);
+		registry.addPoint(stairs);
+
+		WorldPoint tile = WorldPoint.fromRegion(LUMBRIDGE, 10, 20, 0);
+		assertEquals(List.of(tree, door), registry.getPoints(tile));
+		assertEquals(List.of(stairs), registry.getPoints(tile.dz(1)));
+		assertTrue(registry.getPoints(tile.dx(1)).isEmpty());
+		assertEquals(Set.of(tree, door, stairs), registry.getRegionPoints(LUMBRIDGE));
+
+		assertTrue(registry.removePoints(LUMBRIDGE, p -> p.getId() == 1276));
+		assertFalse(registry.removePoints(LUMBRIDGE, p -> p.getId() == 1276));
+		assertEquals(List.of(door), registry.getPoints(tile));
+	}
+
+	@Test
+	public void testSetRegionPoints()
+	{
+		ObjectPoint old = point(1276, LUMBRIDGE, 1, 2, 0);
+		registry.setRegionPoints(LUMBRIDGE, new HashSet<>(Set.of(old)));
+
+		ObjectPoint replacement = point(1276, LUMBRIDGE, 3, 4, 0);
+		registry.setRegionPoints(LUMBRIDGE, new HashSet<>(Set.of(replacement)));
+
+		assertTrue(registry.getPoints(WorldPoint.fromRegion(LUMBRIDGE, 1, 2, 0)).isEmpty());
+		assertEquals(List.of(replacement), registry.getPoints(WorldPoint.fromRegion(LUMBRIDGE, 3, 4, 0)));
+
+		registry.clearPoints();
+		assertNull(registry.getRegionPoints(LUMBRIDGE));
+		assertTrue(registry.getPoints(WorldPoint.fromRegion(LUMBRIDGE, 3, 4, 0)).isEmpty());
+	}
+
+	@Test
+	public void testObjects()
+	{
+		TileObject a = mock(TileObject.class);
+		TileObject b = mock(TileObject.class);
+		ColorTileObject markedA = marked(a);
+		registry.addObject(markedA);
+		registry.addObject(marked(b));
+
+		assertSame(markedA, registry.getObject(a));
+		assertEquals(2, registry.getObjects().size());
+
+		// marking again replaces the marking
+		ColorTileObject remarkedA = marked(a);
+		registry.addObject(remarkedA);
+		assertSame(remarkedA, registry.getObject(a));
+		assertEquals(2, registry.getObjects().size());
+
+		assertTrue(registry.removeObject(a));
+		assertFalse(registry.removeObject(a));
+		assertNull(registry.getObject(a));
+		assertEquals(1, registry.getObjects().size());
+		assertSame(b, registry.getObjects().get(0).getTileObject());
+	}
+
+	@Test
+	public void testSpawnDespawnStorm()
+	{
+		Random random = new Random(42);
+		List<TileObject> scene = new ArrayList<>();
+		for (int i = 0; i < 2000; ++i)
+		{
+			scene.add(mock(TileObject.class));
+		}
+
+		Map<TileObject, ColorTileObject> expected = new IdentityHashMap<>();
+		for (int i = 0; i < 100_000; ++i)
+		{
+			TileObject object = scene.get(random.nextInt(scene.size()));
+			if (random.nextBoolean())
+			{
+				ColorTileObject marked = marked(object);
+				registry.addObject(marked);
+				expected.put(object, marked);
+			}
+			else
+			{
+				assertEquals(expected.remove(object) != null, registry.removeObject(object));
+			}
+
+			if (i % 10_000 == 0)
+			{
+				registry.clearObjects();
+				expected.clear();
+			}
+		}
+
+		for (TileObject object : scene)
+		{
+			assertSame(expected.get(object), registry.getObject(object));
+		}
+
+		Set<ColorTileObject> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+		objects.addAll(registry.getObjects());
+		assertEquals(expected.size(), registry.getObjects().size());
+		assertTrue(objects.containsAll(expected.values()));
+	}
+
+	private static ObjectPoint point(int id, int regionId, int regionX, int regionY, int z)
+	{
+		return new ObjectPoint(id, "Object " + id, regionId, regionX, regionY, z, null, null, null, null, null, null);
+	}
+
+	private static ColorTileObject marked(TileObject object)
+	{
+		return new ColorTileObject(object, null, "Object", null, null, (byte) 0);
+	}
+}
@@ -25,17 +25,31 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PatternIDAStar;
+import org.junit.Ignore;
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+@Slf4j
 public class PuzzleSolverTest
 {
+	// building the tables takes a few seconds, so share them between tests
+	private static final PatternDatabase PATTERN_DATABASE = new PatternDatabase(null);
+
 	private static final PuzzleState[] START_STATES =
 	{
 		new PuzzleState(new int[]{0, 11, 1, 3, 4, 5, 12, 2, 7, 9, 6, 20, 18, 16, 8, 15, 22, 10, 14, 13, 21, -1, 17, 23, 19}),
@@ -163,4 +177,137 @@ public class PuzzleSolverTest
 			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
 		}
 	}
+
+	@Test
+	public void testPatternSolver()
+	{
+		for (PuzzleState state : START_STATES)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new PatternIDAStar(PATTERN_DATABASE), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertFalse(solver.hasFailed());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+
+			// both heuristics are admissible, so the solutions are equally short
+			List<PuzzleState> manhattan = new IDAStar(new ManhattanDistance()).computePath(state);
+			assertEquals(manhattan.size(), solver.getStepCount());
+		}
+	}
+
+	@Test
+	public void testPatternSolverParallel()
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(PatternIDAStar.MAX_BRANCHES);
+		try
+		{
+			// the executor is reused by every solve
+			for (PuzzleState state : START_STATES)
+			{
+				PuzzleSolver solver = new PuzzleSolver(new PatternIDAStar(PATTERN_DATABASE, executor), state);
+				solver.run();
+
+				assertTrue(solver.hasSolution());
+				assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+
+				List<PuzzleState> serial = new PatternIDAStar(PATTERN_DATABASE).computePath(state);
+				assertEquals(serial.size(), solver.getStepCount());
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testPatternSolverMM()
+	{
+		for (PuzzleState state : START_STATES_MM)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance(), new PatternIDAStar(PATTERN_DATABASE)), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertFalse(solver.hasFailed());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+		}
+	}
+
+	@Test
+	public void testPatternSolverUnsolvable()
+	{
+		// two swapped tiles can't be reached by sliding
+		PuzzleState state = new PuzzleState(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, -1});
+		assertNull(new PatternIDAStar(PATTERN_DATABASE).computePath(state));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		Random random = new Random(42);
+		PuzzleState[] states = new PuzzleState[20];
+		for (int i = 0; i < states.length; ++i)
+		{
+			states[i] = randomWalk(random, 60);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(PatternIDAStar.MAX_BRANCHES);
+		try
+		{
+			for (int run = 0; run < 3; ++run)
+			{
+				long start = System.nanoTime();
+				for (PuzzleState state : states)
+				{
+					new IDAStar(new ManhattanDistance()).computePath(state);
+				}
+				long manhattan = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (PuzzleState state : states)
+				{
+					new PatternIDAStar(PATTERN_DATABASE).computePath(state);
+				}
+				long pattern = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (PuzzleState state : states)
+				{
+					new PatternIDAStar(PATTERN_DATABASE, executor).computePath(state);
+				}
+				long parallel = System.nanoTime() - start;
+
+				log.info("{} puzzles: manhattan {}ms, pattern database {}ms, parallel {}ms", states.length,
+					manhattan / 1_000_000, pattern / 1_000_000, parallel / 1_000_000);
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private static PuzzleState randomWalk(Random random, int moves)
+	{
+		PuzzleState state = new PuzzleState(FINISHED_STATE);
+		for (int i = 0; i < moves; ++i)
+		{
+			List<PuzzleState> next = state.computeMoves();
+			state = next.get(random.nextInt(next.size()));
+		}
+		return new PuzzleState(toPieces(state));
+	}
+
+	private static int[] toPieces(PuzzleState state)
+	{
+		int[] pieces = new int[FINISHED_STATE.length];
+		for (int i = 0; i < pieces.length; ++i)
+		{
+			pieces[i] = state.getPiece(i % 5, i / 5);
+		}
+		return pieces;
+	}
 }
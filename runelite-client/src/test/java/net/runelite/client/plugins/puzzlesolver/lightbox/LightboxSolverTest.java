@@ -24,7 +24,10 @@
  */
 package net.runelite.client.plugins.puzzlesolver.lightbox;
 
+import java.util.EnumSet;
+import java.util.Random;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import org.junit.Test;
 
 public class LightboxSolverTest
@@ -141,4 +144,104 @@ public class LightboxSolverTest
 
 		assertEquals(expected, solution);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testUnknownSwitches()
+	{
+		LightboxSolver solver = new LightboxSolver();
+
+		solver.setInitial(fromArray(INITIAL));
+		solver.setSwitchChange(Combination.A, fromArray(A));
+		solver.setSwitchChange(Combination.B, fromArray(B));
+		solver.setSwitchChange(Combination.D, fromArray(D));
+		solver.setSwitchChange(Combination.E, fromArray(E));
+		solver.setSwitchChange(Combination.F, fromArray(F));
+
+		assertNull(solver.solve());
+		assertEquals(EnumSet.of(Combination.C, Combination.G, Combination.H), solver.getUnknownSwitches());
+	}
+
+	@Test
+	public void testMatchesBruteForce()
+	{
+		Random random = new Random(42);
+		for (int lights = 1; lights <= 25; lights += 3)
+		{
+			// switches which only touch a few lights leave many boards solvable, and often
+			// have several solutions, so the tie breaking is checked as well
+			int mask = (int) ((1L << lights) - 1);
+			for (int round = 0; round < 20; ++round)
+			{
+				LightboxState initial = fromBits(random.nextInt() | ~mask);
+				LightboxState[] switches = new LightboxState[LightBox.COMBINATIONS_POWER];
+				for (int i = 0; i < switches.length; ++i)
+				{
+					switches[i] = fromBits(random.nextInt() & mask);
+				}
+
+				// every set of known switches
+				for (int known = 0; known < 1 << LightBox.COMBINATIONS_POWER; ++known)
+				{
+					LightboxSolver solver = new LightboxSolver();
+					solver.setInitial(initial);
+					for (int i = 0; i < switches.length; ++i)
+					{
+						if (LightboxSolver.isBitSet(known, i))
+						{
+							solver.setSwitchChange(Combination.values()[i], switches[i]);
+						}
+					}
+
+					assertEquals(bruteForce(initial, switches, known), solver.solve());
+				}
+			}
+		}
+	}
+
+	private static LightboxState fromBits(int bits)
+	{
+		LightboxState s = new LightboxState();
+		for (int i = 0; i < LightBox.WIDTH * LightBox.HEIGHT; ++i)
+		{
+			s.setState(i / LightBox.HEIGHT, i % LightBox.HEIGHT, LightboxSolver.isBitSet(bits, i));
+		}
+		return s;
+	}
+
+	private static LightboxSolution bruteForce(LightboxState initial, LightboxState[] switches, int known)
+	{
+		LightboxSolution solution = null;
+		for (int i = 0; i < 1 << LightBox.COMBINATIONS_POWER; ++i)
+		{
+			if ((i & ~known) != 0)
+			{
+				continue;
+			}
+
+			LightboxState s = initial;
+			for (int bit = 0; bit < LightBox.COMBINATIONS_POWER; ++bit)
+			{
+				if (LightboxSolver.isBitSet(i, bit))
+				{
+					s = s.diff(switches[bit]);
+				}
+			}
+
+			boolean solved = true;
+			for (int x = 0; x < LightBox.WIDTH; ++x)
+			{
+				for (int y = 0; y < LightBox.HEIGHT; ++y)
+				{
+					solved &= s.getState(x, y);
+				}
+			}
+
+			LightboxSolution sol = new LightboxSolution(i);
+			if (solved && (solution == null || sol.numMoves() < solution.numMoves()))
+			{
+				solution = sol;
+			}
+		}
+		return solution;
+	}
+}
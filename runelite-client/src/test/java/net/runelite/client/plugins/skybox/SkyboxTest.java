@@ -30,6 +30,7 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Random;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
@@ -73,4 +74,48 @@ public class SkyboxTest
 
 		Assert.assertNotEquals(skybox.getColorForPoint(3232, 3232, 3232, 3232, 0, .9, null), 0); // Lumbridge will never be black
 	}
+
+	@Test
+	public void testField() throws IOException
+	{
+		Skybox skybox;
+		try (InputStream in = SkyboxPlugin.class.getResourceAsStream("skybox.txt"))
+		{
+			skybox = new Skybox(in, "skybox.txt");
+		}
+
+		Random random = new Random(0);
+		// Lumbridge, Varrock, the Wilderness and Tirannwn
+		for (int[] base : new int[][]{{3176, 3176}, {3168, 3384}, {3080, 3632}, {2232, 3184}})
+		{
+			int x = base[0] - 16;
+			int y = base[1] - 16;
+			Skybox.Field field = skybox.createField(x, y, 136, 136, 0, null);
+
+			// tile corners are blended exactly
+			for (int tx = x; tx < x + 136; tx += 5)
+			{
+				for (int ty = y; ty < y + 136; ty += 5)
+				{
+					Assert.assertEquals(skybox.getColorForPoint(tx, ty, tx, ty, 0, .8, null), field.getColorForPoint(tx, ty, tx, ty, .8));
+				}
+			}
+
+			// and points between them are interpolated
+			for (int i = 0; i < 2000; i++)
+			{
+				double sx = x + random.nextDouble() * 136;
+				double sy = y + random.nextDouble() * 136;
+				int expected = skybox.getColorForPoint(sx, sy, (int) sx, (int) sy, 0, .8, null);
+				int actual = field.getColorForPoint(sx, sy, (int) sx, (int) sy, .8);
+				for (int shift = 0; shift < 24; shift += 8)
+				{
+					Assert.assertEquals(expected >> shift & 0xFF, actual >> shift & 0xFF, 2);
+				}
+			}
+
+			// points outside the field are blended exactly
+			Assert.assertEquals(skybox.getColorForPoint(x - 10.5, y + 3.25, x - 10, y + 3, 0, .8, null), field.getColorForPoint(x - 10.5, y + 3.25, x - 10, y + 3, .8));
+		}
+	}
 }
@@ -24,11 +24,15 @@
  */
 package net.runelite.client.plugins.timetracking.farming;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.time.Instant;
 import java.util.EnumSet;
+import java.util.List;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.Player;
@@ -39,12 +43,14 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneScapeProfile;
 import net.runelite.client.config.RuneScapeProfileType;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.plugins.timetracking.Tab;
 import net.runelite.client.plugins.timetracking.TimeTrackingConfig;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -129,4 +135,35 @@ public class FarmingTrackerTest
 
 		verify(notifier).notify("Your Ranarr is ready to harvest in Ardougne.");
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testCompletionNotifiedOnce()
+	{
+		RuneScapeProfile runeScapeProfile = new RuneScapeProfile("Adam", RuneScapeProfileType.STANDARD, -1, "profile");
+		FarmingRegion region = new FarmingRegion("Ardougne", 10548, false,
+			new FarmingPatch("", VarbitID.FARMING_TRANSMIT_D, PatchImplementation.HERB)
+		);
+		FarmingPatch patch = region.getPatches()[0];
+		patch.setRegion(region);
+
+		when(farmingWorld.getTabs()).thenReturn(ImmutableMap.of(Tab.HERB, ImmutableSet.of(patch)));
+		when(configManager.getRSProfiles()).thenReturn(List.of(runeScapeProfile));
+		when(configManager.<Integer>getConfiguration(TimeTrackingConfig.CONFIG_GROUP, "profile", TimeTrackingConfig.FARM_TICK_OFFSET_PRECISION, int.class)).thenReturn(40);
+		when(configManager.<Integer>getConfiguration(TimeTrackingConfig.CONFIG_GROUP, "profile", TimeTrackingConfig.FARM_TICK_OFFSET, int.class)).thenReturn(0);
+		when(configManager.<Boolean>getConfiguration(TimeTrackingConfig.CONFIG_GROUP, "profile", patch.notifyConfigKey(), Boolean.class)).thenReturn(true);
+
+		// Guam seed planted just now, then replanted two hours ago
+		long unixNow = Instant.now().getEpochSecond();
+		when(configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, "profile", patch.configKey()))
+			.thenReturn("4:" + unixNow, "4:" + (unixNow - 2 * 60 * 60));
+
+		farmingTracker.checkCompletion();
+		farmingTracker.invalidate("profile", patch.configKey());
+		farmingTracker.checkCompletion();
+		farmingTracker.checkCompletion();
+
+		verify(notifier).notify("Your Guam is ready to harvest in Ardougne.");
+		// the stored patch state is only parsed when it changes
+		verify(configManager, times(2)).getConfiguration(TimeTrackingConfig.CONFIG_GROUP, "profile", patch.configKey());
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class XpRateHistoryTest
+{
+	private static final int MINUTE = XpRateHistory.SAMPLE_INTERVAL_MS;
+
+	@Test
+	public void testWindows()
+	{
+		XpRateHistory history = new XpRateHistory();
+		history.sample(0, 0, 0);
+
+		// 90 minutes at 1200 xp/min, then 30 minutes at 3000 xp/min
+		int xp = 0;
+		long time = 0;
+		for (int i = 0; i < 120; ++i)
+		{
+			for (int s = 0; s < 60; ++s)
+			{
+				time += 1000;
+				xp += i < 90 ? 20 : 50;
+				history.sample(time, xp, 0);
+			}
+		}
+
+		assertEquals(180_000, history.getXpHr(5, time, xp));
+		assertEquals(180_000, history.getXpHr(15, time, xp));
+		// half of the last hour at each rate
+		assertEquals(126_000, history.getXpHr(60, time, xp));
+		// windows larger than the history are clamped to it
+		assertEquals(126_000, history.getXpHr(600, time, xp));
+
+		// two time constants into the faster rate
+		int smoothed = history.getSmoothedXpHr();
+		assertTrue(smoothed > 160_000 && smoothed < 170_000);
+	}
+
+	@Test
+	public void testShortHistory()
+	{
+		XpRateHistory history = new XpRateHistory();
+		assertEquals(0, history.getXpHr(5, 0, 0));
+		assertEquals(-1, history.getSmoothedXpHr());
+
+		history.sample(0, 0, 0);
+		// less than a minute is treated as a minute
+		assertEquals(60_000, history.getXpHr(5, 30_000, 1000));
+		assertEquals(600, history.getActionsHr(5, 30_000, 10));
+	}
+
+	@Test
+	public void testSaveRestore()
+	{
+		XpRateHistory history = new XpRateHistory();
+		for (int i = 0; i <= 100; ++i)
+		{
+			history.sample((long) i * MINUTE, i * 500, i * 2);
+		}
+
+		XpRateHistory restored = new XpRateHistory();
+		assertTrue(restored.restore(history.save()));
+
+		long time = 100L * MINUTE;
+		for (int window : new int[]{1, 5, 15, 60})
+		{
+			assertEquals(history.getXpHr(window, time, 50_000), restored.getXpHr(window, time, 50_000));
+			assertEquals(history.getActionsHr(window, time, 200), restored.getActionsHr(window, time, 200));
+		}
+		assertEquals(history.getSmoothedXpHr(), restored.getSmoothedXpHr());
+
+		assertFalse(restored.restore(new byte[]{1, 5}));
+		assertEquals(0, restored.getXpHr(5, time, 50_000));
+	}
+}
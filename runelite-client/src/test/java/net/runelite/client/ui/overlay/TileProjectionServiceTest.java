@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Polygon;
+import java.util.Arrays;
+import java.util.Random;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.Perspective;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TileProjectionServiceTest
+{
+	private static final int BASE_X = 3200;
+	private static final int BASE_Y = 3136;
+
+	@Inject
+	private TileProjectionService tileProjectionService;
+
+	@Inject
+	private EventBus eventBus;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	private WorldView worldView;
+
+	@Mock
+	private Scene scene;
+
+	private final Random random = new Random(1234);
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		int[][][] tileHeights = new int[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE + 1][Constants.EXTENDED_SCENE_SIZE + 1];
+		byte[][][] tileSettings = new byte[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE][Constants.EXTENDED_SCENE_SIZE];
+		for (int z = 0; z < Constants.MAX_Z; ++z)
+		{
+			for (int x = 0; x < Constants.EXTENDED_SCENE_SIZE; ++x)
+			{
+				for (int y = 0; y < Constants.EXTENDED_SCENE_SIZE; ++y)
+				{
+					tileHeights[z][x][y] = -z * 240 - random.nextInt(400);
+					if (z == 1 && random.nextInt(20) == 0)
+					{
+						tileSettings[z][x][y] = Constants.TILE_FLAG_BRIDGE;
+					}
+				}
+			}
+		}
+
+		lenient().when(scene.getTileHeights()).thenReturn(tileHeights);
+		lenient().when(scene.getExtendedTileSettings()).thenReturn(tileSettings);
+		lenient().when(worldView.getId()).thenReturn(-1);
+		lenient().when(worldView.getScene()).thenReturn(scene);
+		lenient().when(worldView.getBaseX()).thenReturn(BASE_X);
+		lenient().when(worldView.getBaseY()).thenReturn(BASE_Y);
+		lenient().when(worldView.getSizeX()).thenReturn(Constants.SCENE_SIZE);
+		lenient().when(worldView.getSizeY()).thenReturn(Constants.SCENE_SIZE);
+		lenient().when(client.getTopLevelWorldView()).thenReturn(worldView);
+		lenient().when(client.getWorldView(-1)).thenReturn(worldView);
+		lenient().when(client.getViewportWidth()).thenReturn(765);
+		lenient().when(client.getViewportHeight()).thenReturn(503);
+		lenient().when(client.getViewportXOffset()).thenReturn(4);
+		lenient().when(client.getViewportYOffset()).thenReturn(4);
+	}
+
+	@Test
+	public void testMatchesPerspectiveCpu()
+	{
+		for (int i = 0; i < 16; ++i)
+		{
+			randomCamera(false);
+			assertMatchesPerspective();
+		}
+	}
+
+	@Test
+	public void testMatchesPerspectiveGpu()
+	{
+		when(client.isGpu()).thenReturn(true);
+		for (int i = 0; i < 16; ++i)
+		{
+			randomCamera(true);
+			assertMatchesPerspective();
+		}
+	}
+
+	@Test
+	public void testReuse()
+	{
+		// looking down at the middle of the scene
+		when(client.getCameraX()).thenReturn(52 * Perspective.LOCAL_TILE_SIZE);
+		when(client.getCameraY()).thenReturn(50 * Perspective.LOCAL_TILE_SIZE);
+		when(client.getCameraZ()).thenReturn(-1500);
+		when(client.getCameraPitch()).thenReturn(383);
+		when(client.getCameraYaw()).thenReturn(0);
+		when(client.getScale()).thenReturn(512);
+
+		TileProjectionService.Batch batch = new TileProjectionService.Batch();
+		batch.add(BASE_X + 52, BASE_Y + 52);
+		tileProjectionService.project(batch);
+		Polygon poly = batch.getPolygon(0);
+		assertNotNull(poly);
+
+		// same camera and tiles
+		batch.clear();
+		assertEquals(0, batch.add(BASE_X + 52, BASE_Y + 52));
+		tileProjectionService.project(batch);
+		assertSame(poly, batch.getPolygon(0));
+
+		// the tiles changed
+		batch.clear();
+		batch.add(BASE_X + 52, BASE_Y + 53);
+		tileProjectionService.project(batch);
+		assertNotSame(poly, batch.getPolygon(0));
+		poly = batch.getPolygon(0);
+
+		// the camera moved
+		when(client.getCameraYaw()).thenReturn(1);
+		tileProjectionService.project(batch);
+		assertNotSame(poly, batch.getPolygon(0));
+		poly = batch.getPolygon(0);
+
+		// the scene was reloaded
+		GameStateChanged gameStateChanged = new GameStateChanged();
+		gameStateChanged.setGameState(GameState.LOADING);
+		eventBus.post(gameStateChanged);
+		tileProjectionService.project(batch);
+		assertNotSame(poly, batch.getPolygon(0));
+	}
+
+	private void randomCamera(boolean gpu)
+	{
+		int x = (20 + random.nextInt(64)) * Perspective.LOCAL_TILE_SIZE + random.nextInt(Perspective.LOCAL_TILE_SIZE);
+		int y = (20 + random.nextInt(64)) * Perspective.LOCAL_TILE_SIZE + random.nextInt(Perspective.LOCAL_TILE_SIZE);
+		int z = -1000 - random.nextInt(2000);
+		int pitch = 128 + random.nextInt(256);
+		int yaw = random.nextInt(2048);
+		if (gpu)
+		{
+			when(client.getCameraFpX()).thenReturn(x + random.nextDouble());
+			when(client.getCameraFpY()).thenReturn(y + random.nextDouble());
+			when(client.getCameraFpZ()).thenReturn(z + random.nextDouble());
+			when(client.getCameraFpPitch()).thenReturn(pitch * Perspective.UNIT);
+			when(client.getCameraFpYaw()).thenReturn(yaw * Perspective.UNIT);
+		}
+		else
+		{
+			when(client.getCameraX()).thenReturn(x);
+			when(client.getCameraY()).thenReturn(y);
+			when(client.getCameraZ()).thenReturn(z);
+			when(client.getCameraPitch()).thenReturn(pitch);
+			when(client.getCameraYaw()).thenReturn(yaw);
+		}
+		when(client.getScale()).thenReturn(256 + random.nextInt(1024));
+		when(worldView.getPlane()).thenReturn(random.nextInt(Constants.MAX_Z - 1));
+	}
+
+	private void assertMatchesPerspective()
+	{
+		final int plane = worldView.getPlane();
+		TileProjectionService.Batch batch = new TileProjectionService.Batch();
+		// include a margin of tiles outside of the scene
+		for (int x = -2; x < Constants.SCENE_SIZE + 2; ++x)
+		{
+			for (int y = -2; y < Constants.SCENE_SIZE + 2; ++y)
+			{
+				batch.add(BASE_X + x, BASE_Y + y);
+			}
+		}
+		tileProjectionService.project(batch);
+
+		int index = 0;
+		for (int x = -2; x < Constants.SCENE_SIZE + 2; ++x)
+		{
+			for (int y = -2; y < Constants.SCENE_SIZE + 2; ++y)
+			{
+				LocalPoint lp = LocalPoint.fromWorld(client, new WorldPoint(BASE_X + x, BASE_Y + y, plane));
+				Polygon expected = lp == null ? null : Perspective.getCanvasTilePoly(client, lp);
+				Polygon actual = batch.getPolygon(index++);
+				if (expected == null)
+				{
+					assertNull(actual);
+				}
+				else
+				{
+					assertNotNull(actual);
+					assertEquals(expected.npoints, actual.npoints);
+					assertArrayEquals(Arrays.copyOf(expected.xpoints, expected.npoints), Arrays.copyOf(actual.xpoints, actual.npoints));
+					assertArrayEquals(Arrays.copyOf(expected.ypoints, expected.npoints), Arrays.copyOf(actual.ypoints, actual.npoints));
+				}
+			}
+		}
+	}
+}
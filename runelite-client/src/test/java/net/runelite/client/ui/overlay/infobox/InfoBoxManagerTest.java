@@ -28,8 +28,16 @@ import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.awt.Color;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -37,6 +45,8 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.plugins.Plugin;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -128,4 +138,100 @@ public class InfoBoxManagerTest
 		assertEquals("two", infoBoxManager.getInfoBoxes().get(1).getText());
 		assertEquals("three", infoBoxManager.getInfoBoxes().get(2).getText());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testTimerExpiry()
+	{
+		final Random random = new Random(42);
+		final List<Timer> timers = new ArrayList<>();
+		for (int i = 0; i < 5000; ++i)
+		{
+			// mostly short timers, with some spanning the higher levels of the wheel
+			long period = random.nextInt(10) == 0 ? 1 + random.nextInt(Integer.MAX_VALUE) : 1 + random.nextInt(120_000);
+			Timer timer = new Timer(period, ChronoUnit.MILLIS, null, TestInfobox.PLUGIN);
+			timers.add(timer);
+			infoBoxManager.addInfoBox(timer);
+		}
+
+		final Instant start = Instant.now();
+		Instant now = start;
+		while (!timers.isEmpty())
+		{
+			// a mix of client ticks and long pauses
+			long step = random.nextInt(20) == 0 ? random.nextInt(100_000_000) : random.nextInt(50);
+			now = now.plusMillis(step).plusNanos(random.nextInt(1_000_000));
+			infoBoxManager.cull(now);
+
+			final Instant time = now;
+			timers.removeIf(t -> !time.isBefore(t.getEndTime()));
+			assertEquals(identitySet(timers), identitySet(infoBoxManager.getInfoBoxes()));
+		}
+	}
+
+	@Test
+	public void testTimerDurationChange()
+	{
+		final Timer shortened = new Timer(10, ChronoUnit.MINUTES, null, TestInfobox.PLUGIN);
+		final Timer extended = new Timer(1, ChronoUnit.SECONDS, null, TestInfobox.PLUGIN);
+		final Timer removed = new Timer(1, ChronoUnit.SECONDS, null, TestInfobox.PLUGIN);
+		infoBoxManager.addInfoBox(shortened);
+		infoBoxManager.addInfoBox(extended);
+		infoBoxManager.addInfoBox(removed);
+
+		shortened.setDuration(Duration.ofSeconds(2));
+		extended.setDuration(Duration.ofHours(1));
+		infoBoxManager.removeInfoBox(removed);
+
+		final Instant start = shortened.getStartTime();
+		infoBoxManager.cull(start.plusSeconds(1));
+		assertEquals(2, infoBoxManager.getInfoBoxes().size());
+
+		infoBoxManager.cull(start.plusSeconds(3));
+		assertEquals(Collections.singletonList(extended), infoBoxManager.getInfoBoxes());
+
+		// a timer which has been removed is no longer rescheduled
+		removed.setDuration(Duration.ofSeconds(5));
+		infoBoxManager.cull(extended.getEndTime().minusMillis(1));
+		assertEquals(Collections.singletonList(extended), infoBoxManager.getInfoBoxes());
+
+		infoBoxManager.cull(extended.getEndTime());
+		assertTrue(infoBoxManager.getInfoBoxes().isEmpty());
+	}
+
+	@Test
+	public void testCustomCull()
+	{
+		final int[] polls = new int[1];
+		final InfoBox custom = new TestInfobox(InfoBoxPriority.MED)
+		{
+			@Override
+			public boolean cull()
+			{
+				return ++polls[0] == 3;
+			}
+		};
+		final InfoBox counter = new TestInfobox(InfoBoxPriority.LOW);
+		infoBoxManager.addInfoBox(custom);
+		infoBoxManager.addInfoBox(counter);
+
+		final Instant now = Instant.now();
+		infoBoxManager.cull(now);
+		infoBoxManager.cull(now);
+		assertTrue(infoBoxManager.getInfoBoxes().contains(custom));
+
+		infoBoxManager.cull(now);
+		assertFalse(infoBoxManager.getInfoBoxes().contains(custom));
+
+		// culled boxes are no longer polled, and boxes without cull logic are never culled
+		infoBoxManager.cull(now);
+		assertEquals(3, polls[0]);
+		assertEquals(Collections.singletonList(counter), infoBoxManager.getInfoBoxes());
+	}
+
+	private static Set<InfoBox> identitySet(List<? extends InfoBox> infoBoxes)
+	{
+		Set<InfoBox> set = Collections.newSetFromMap(new IdentityHashMap<>());
+		set.addAll(infoBoxes);
+		return set;
+	}
+}
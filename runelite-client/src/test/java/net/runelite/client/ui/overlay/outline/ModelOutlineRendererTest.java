@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.Random;
+import javax.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GraphicsObject;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+public class ModelOutlineRendererTest
+{
+	private static final int WIDTH = 765;
+	private static final int HEIGHT = 503;
+
+	@Bind
+	private Client client = mock(Client.class);
+
+	@Inject
+	private ModelOutlineRenderer modelOutlineRenderer;
+
+	private BufferedImage image;
+
+	@Before
+	public void before()
+	{
+		image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		MainBufferProvider bufferProvider = mock(MainBufferProvider.class);
+		when(bufferProvider.getImage()).thenAnswer(a -> image);
+
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+		when(client.getViewportWidth()).thenReturn(WIDTH);
+		when(client.getViewportHeight()).thenReturn(HEIGHT);
+		when(client.getCameraPitch()).thenReturn(256);
+		when(client.getCameraX()).thenReturn(6400);
+		when(client.getCameraY()).thenReturn(5400);
+		when(client.getCameraZ()).thenReturn(-800);
+		when(client.getScale()).thenReturn(512);
+
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testBatchMatchesSingle()
+	{
+		GraphicsObject a = object(box(100, 200), 6200, 6400);
+		GraphicsObject b = object(box(60, 120), 6700, 6500);
+
+		modelOutlineRenderer.drawOutline(a, 1, Color.RED, 0);
+		modelOutlineRenderer.drawOutline(b, 1, Color.GREEN, 0);
+		int[] single = pixels().clone();
+
+		clear();
+		modelOutlineRenderer.beginBatch();
+		modelOutlineRenderer.drawOutline(a, 1, Color.RED, 0);
+		modelOutlineRenderer.drawOutline(b, 1, Color.GREEN, 0);
+		modelOutlineRenderer.endBatch();
+
+		assertNotEquals(0, countSet(single));
+		assertArrayEquals(single, pixels());
+	}
+
+	@Test
+	public void testBatchIsCleared()
+	{
+		GraphicsObject a = object(box(100, 200), 6400, 6400);
+
+		modelOutlineRenderer.beginBatch();
+		modelOutlineRenderer.drawOutline(a, 4, Color.RED, 2);
+		modelOutlineRenderer.endBatch();
+		assertNotEquals(0, countSet(pixels()));
+
+		// an empty batch must not draw anything left over from the previous batch
+		clear();
+		modelOutlineRenderer.beginBatch();
+		modelOutlineRenderer.endBatch();
+		assertArrayEquals(new int[WIDTH * HEIGHT], pixels());
+	}
+
+	@Test
+	public void testFlushBatch()
+	{
+		GraphicsObject a = object(box(100, 200), 6200, 6400);
+		GraphicsObject b = object(box(60, 120), 6700, 6500);
+
+		modelOutlineRenderer.drawOutline(a, 2, Color.RED, 0);
+		int[] first = pixels().clone();
+		modelOutlineRenderer.drawOutline(b, 2, Color.RED, 0);
+		int[] both = pixels().clone();
+
+		// outlines queued before a flush are drawn by it, and only once
+		clear();
+		modelOutlineRenderer.beginBatch();
+		modelOutlineRenderer.drawOutline(a, 2, Color.RED, 0);
+		modelOutlineRenderer.flushBatch();
+		assertArrayEquals(first, pixels());
+
+		modelOutlineRenderer.drawOutline(b, 2, Color.RED, 0);
+		modelOutlineRenderer.endBatch();
+		assertArrayEquals(both, pixels());
+	}
+
+	@Test
+	public void testBatchMixedWidths()
+	{
+		GraphicsObject wide = object(box(100, 200), 6200, 6400);
+		GraphicsObject narrow = object(box(80, 150), 6350, 6450);
+		GraphicsObject adjacent = object(box(60, 120), 6550, 6400);
+
+		assertBatchMatchesSingle(
+			new Outline(wide, 8, Color.RED, 0),
+			new Outline(narrow, 2, Color.GREEN, 0),
+			new Outline(adjacent, 12, Color.BLUE, 0));
+		assertBatchMatchesSingle(
+			new Outline(narrow, 2, Color.GREEN, 0),
+			new Outline(adjacent, 12, Color.BLUE, 0),
+			new Outline(wide, 8, Color.RED, 0));
+	}
+
+	@Test
+	public void testBatchFeather()
+	{
+		GraphicsObject a = object(box(100, 200), 6200, 6400);
+		GraphicsObject b = object(box(80, 150), 6350, 6450);
+		GraphicsObject c = object(box(60, 120), 6700, 6500);
+
+		assertBatchMatchesSingle(
+			new Outline(a, 6, Color.RED, 3),
+			new Outline(b, 3, Color.BLUE, 2),
+			new Outline(c, 6, Color.RED, 3));
+		assertBatchMatchesSingle(
+			new Outline(b, 3, Color.BLUE, 2),
+			new Outline(a, 6, new Color(255, 0, 0, 128), 3));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final int models = 40;
+		Random random = new Random(27);
+		GraphicsObject[] objects = new GraphicsObject[models];
+		for (int i = 0; i < models; i++)
+		{
+			objects[i] = object(box(40 + random.nextInt(80), 80 + random.nextInt(200)),
+				5600 + random.nextInt(1600), 6000 + random.nextInt(1200));
+		}
+
+		for (int iteration = 0; iteration < 5; iteration++)
+		{
+			long start = System.nanoTime();
+			for (int frame = 0; frame < 50; frame++)
+			{
+				for (GraphicsObject object : objects)
+				{
+					modelOutlineRenderer.drawOutline(object, 4, Color.CYAN, 2);
+				}
+			}
+			long single = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int frame = 0; frame < 50; frame++)
+			{
+				modelOutlineRenderer.beginBatch();
+				for (GraphicsObject object : objects)
+				{
+					modelOutlineRenderer.drawOutline(object, 4, Color.CYAN, 2);
+				}
+				modelOutlineRenderer.endBatch();
+			}
+			long batch = System.nanoTime() - start;
+
+			log.info("{} models - single: {}us/frame batch: {}us/frame", models, single / 50_000, batch / 50_000);
+		}
+	}
+
+	private void assertBatchMatchesSingle(Outline... outlines)
+	{
+		clear();
+		for (Outline outline : outlines)
+		{
+			modelOutlineRenderer.drawOutline(outline.object, outline.width, outline.color, outline.feather);
+		}
+		int[] single = pixels().clone();
+
+		clear();
+		modelOutlineRenderer.beginBatch();
+		for (Outline outline : outlines)
+		{
+			modelOutlineRenderer.drawOutline(outline.object, outline.width, outline.color, outline.feather);
+		}
+		modelOutlineRenderer.endBatch();
+
+		assertNotEquals(0, countSet(single));
+		assertArrayEquals(single, pixels());
+	}
+
+	private int[] pixels()
+	{
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+	private void clear()
+	{
+		Arrays.fill(pixels(), 0);
+	}
+
+	private static int countSet(int[] pixels)
+	{
+		int count = 0;
+		for (int pixel : pixels)
+		{
+			if (pixel != 0)
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@RequiredArgsConstructor
+	private static class Outline
+	{
+		private final GraphicsObject object;
+		private final int width;
+		private final Color color;
+		private final int feather;
+	}
+
+	private static GraphicsObject object(Model model, int x, int y)
+	{
+		GraphicsObject object = mock(GraphicsObject.class);
+		when(object.getLocation()).thenReturn(new LocalPoint(x, y, -1));
+		when(object.getModel()).thenReturn(model);
+		return object;
+	}
+
+	/**
+	 * A box with each face present in both windings, so that it is never culled
+	 */
+	private static Model box(int size, int height)
+	{
+		float[] xs = new float[8];
+		float[] ys = new float[8];
+		float[] zs = new float[8];
+		for (int i = 0; i < 8; i++)
+		{
+			xs[i] = (i & 1) == 0 ? -size : size;
+			zs[i] = (i & 2) == 0 ? -size : size;
+			ys[i] = (i & 4) == 0 ? 0 : -height;
+		}
+
+		int[][] quads = {
+			{0, 1, 3, 2}, {4, 5, 7, 6},
+			{0, 1, 5, 4}, {2, 3, 7, 6},
+			{0, 2, 6, 4}, {1, 3, 7, 5},
+		};
+		int faces = quads.length * 4;
+		int[] indices1 = new int[faces];
+		int[] indices2 = new int[faces];
+		int[] indices3 = new int[faces];
+		int face = 0;
+		for (int[] quad : quads)
+		{
+			for (int[] tri : new int[][]{{quad[0], quad[1], quad[2]}, {quad[0], quad[2], quad[3]}})
+			{
+				indices1[face] = tri[0];
+				indices2[face] = tri[1];
+				indices3[face++] = tri[2];
+				indices1[face] = tri[2];
+				indices2[face] = tri[1];
+				indices3[face++] = tri[0];
+			}
+		}
+
+		Model model = mock(Model.class);
+		when(model.getVerticesCount()).thenReturn(8);
+		when(model.getVerticesX()).thenReturn(xs);
+		when(model.getVerticesY()).thenReturn(ys);
+		when(model.getVerticesZ()).thenReturn(zs);
+		when(model.getFaceCount()).thenReturn(faces);
+		when(model.getFaceIndices1()).thenReturn(indices1);
+		when(model.getFaceIndices2()).thenReturn(indices2);
+		when(model.getFaceIndices3()).thenReturn(indices3);
+		return model;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.worldmap;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WorldMapPointManagerTest
+{
+	private static final BufferedImage IMAGE = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+
+	private final WorldMapPointManager manager = new WorldMapPointManager();
+
+	@Test
+	public void testVisiblePoints()
+	{
+		WorldMapPoint lumbridge = new WorldMapPoint(new WorldPoint(3222, 3218, 0), IMAGE);
+		WorldMapPoint varrock = new WorldMapPoint(new WorldPoint(3213, 3424, 0), IMAGE);
+		WorldMapPoint upstairs = new WorldMapPoint(new WorldPoint(3205, 3209, 1), IMAGE);
+		manager.add(lumbridge);
+		manager.add(varrock);
+		manager.add(upstairs);
+
+		assertEquals(Arrays.asList(lumbridge, upstairs), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+		assertEquals(Collections.singletonList(varrock), manager.getWorldMapPoints(3150, 3400, 3300, 3500, 4f));
+		assertEquals(Collections.emptyList(), manager.getWorldMapPoints(2400, 3000, 2500, 3100, 4f));
+	}
+
+	@Test
+	public void testImageMargin()
+	{
+		// the image of a point just outside the visible area can still reach into it
+		WorldMapPoint point = new WorldMapPoint(new WorldPoint(3330, 3200, 0), IMAGE);
+		manager.add(point);
+
+		assertEquals(Collections.emptyList(), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+		assertEquals(Collections.singletonList(point), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 0.5f));
+	}
+
+	@Test
+	public void testMovedPoint()
+	{
+		WorldMapPoint point = new WorldMapPoint(new WorldPoint(3222, 3218, 0), IMAGE);
+		manager.add(point);
+
+		point.setWorldPoint(new WorldPoint(2964, 3378, 0));
+		assertEquals(Collections.emptyList(), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+		assertEquals(Collections.singletonList(point), manager.getWorldMapPoints(2900, 3300, 3000, 3400, 4f));
+	}
+
+	@Test
+	public void testUpdatedPoint()
+	{
+		// points which override their getters are refiled by update
+		WorldPoint[] location = {new WorldPoint(3222, 3218, 0)};
+		WorldMapPoint point = new WorldMapPoint(null, IMAGE)
+		{
+			@Override
+			public WorldPoint getWorldPoint()
+			{
+				return location[0];
+			}
+		};
+		manager.add(point);
+
+		location[0] = new WorldPoint(2964, 3378, 0);
+		assertEquals(Collections.singletonList(point), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+
+		manager.update(point);
+		assertEquals(Collections.emptyList(), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+		assertEquals(Collections.singletonList(point), manager.getWorldMapPoints(2900, 3300, 3000, 3400, 4f));
+	}
+
+	@Test
+	public void testImageMarginUpdated()
+	{
+		WorldMapPoint small = new WorldMapPoint(new WorldPoint(3330, 3200, 0), IMAGE);
+		WorldMapPoint large = new WorldMapPoint(new WorldPoint(3222, 3218, 0), new BufferedImage(256, 256, BufferedImage.TYPE_INT_ARGB));
+		manager.add(small);
+		manager.add(large);
+
+		// the large image widens the area enough to reach the small point
+		assertEquals(Arrays.asList(small, large), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+
+		manager.remove(large);
+		assertEquals(Collections.emptyList(), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+
+		small.setImage(new BufferedImage(256, 256, BufferedImage.TYPE_INT_ARGB));
+		assertEquals(Collections.singletonList(small), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+	}
+
+	@Test
+	public void testEdgeSnapped()
+	{
+		WorldMapPoint nearby = new WorldMapPoint(new WorldPoint(3222, 3218, 0), IMAGE);
+		WorldMapPoint snapped = new WorldMapPoint(new WorldPoint(1640, 3944, 0), IMAGE);
+		snapped.setSnapToEdge(true);
+		manager.add(snapped);
+		manager.add(nearby);
+
+		// edge snapped points are drawn wherever they are, and keep their draw order
+		assertEquals(Arrays.asList(snapped, nearby), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+
+		snapped.setSnapToEdge(false);
+		assertEquals(Collections.singletonList(nearby), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+	}
+
+	@Test
+	public void testRemove()
+	{
+		WorldMapPoint first = new WorldMapPoint(new WorldPoint(3222, 3218, 0), IMAGE);
+		WorldMapPoint second = new WorldMapPoint(new WorldPoint(3222, 3218, 0), IMAGE);
+		manager.add(first);
+		manager.add(second);
+
+		// equal points are still separate points
+		manager.remove(second);
+		List<WorldMapPoint> points = manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f);
+		assertEquals(1, points.size());
+		assertSame(first, points.get(0));
+
+		manager.add(second);
+		manager.removeIf(p -> p == first);
+		points = manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f);
+		assertEquals(1, points.size());
+		assertSame(second, points.get(0));
+
+		manager.removeIf(p -> true);
+		assertTrue(manager.isEmpty());
+
+		// a removed point is no longer refiled when it changes
+		first.setWorldPoint(new WorldPoint(3223, 3218, 0));
+		assertTrue(manager.isEmpty());
+	}
+
+	@Test
+	public void testRemoveFromCell()
+	{
+		WorldMapPoint[] points = new WorldMapPoint[5];
+		for (int i = 0; i < points.length; ++i)
+		{
+			points[i] = new WorldMapPoint(new WorldPoint(3200 + i, 3200, 0), IMAGE);
+			manager.add(points[i]);
+		}
+
+		manager.remove(points[1]);
+		manager.remove(points[3]);
+		assertEquals(Arrays.asList(points[0], points[2], points[4]), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+
+		manager.remove(points[0]);
+		points[2].setWorldPoint(new WorldPoint(2964, 3378, 0));
+		assertEquals(Collections.singletonList(points[4]), manager.getWorldMapPoints(3150, 3150, 3300, 3300, 4f));
+	}
+}
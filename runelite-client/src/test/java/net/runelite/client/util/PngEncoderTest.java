@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class PngEncoderTest
+{
+	private final AtomicInteger bandTasks = new AtomicInteger();
+	private ExecutorService executor;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newFixedThreadPool(7);
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testRoundTripRgb() throws IOException
+	{
+		for (int level : new int[]{0, 1, 4, 6, 9})
+		{
+			for (int parallelism : new int[]{1, 3})
+			{
+				BufferedImage image = synthetic(765, 503, BufferedImage.TYPE_INT_RGB, level);
+				assertRoundTrip(image, encoder(level, parallelism));
+			}
+		}
+	}
+
+	@Test
+	public void testRoundTripArgb() throws IOException
+	{
+		BufferedImage image = synthetic(1024, 768, BufferedImage.TYPE_INT_ARGB, 1);
+		assertRoundTrip(image, encoder(PngEncoder.DEFAULT_COMPRESSION_LEVEL, 4));
+		assertRoundTrip(image, new PngEncoder(9));
+	}
+
+	@Test
+	public void testRoundTripOtherTypes() throws IOException
+	{
+		// these go through getRGB instead of reading the data buffer
+		assertRoundTrip(synthetic(300, 200, BufferedImage.TYPE_3BYTE_BGR, 2), new PngEncoder());
+		assertRoundTrip(synthetic(300, 200, BufferedImage.TYPE_4BYTE_ABGR, 3), new PngEncoder());
+		assertRoundTrip(synthetic(300, 200, BufferedImage.TYPE_INT_ARGB_PRE, 4), new PngEncoder());
+	}
+
+	@Test
+	public void testRoundTripSubimage() throws IOException
+	{
+		// a subimage shares the parent's data buffer, with a different offset and stride
+		BufferedImage image = synthetic(900, 900, BufferedImage.TYPE_INT_RGB, 5);
+		assertRoundTrip(image.getSubimage(37, 101, 600, 700), encoder(6, 2));
+	}
+
+	@Test
+	public void testSmallImages() throws IOException
+	{
+		for (int size = 1; size <= 5; ++size)
+		{
+			assertRoundTrip(synthetic(size, size, BufferedImage.TYPE_INT_ARGB, size), encoder(6, 8));
+		}
+	}
+
+	@Test
+	public void testParallelBands() throws IOException
+	{
+		// large enough to be split into bands. The image repeats a strip of noise, which only compresses well across
+		// the bands if each band is primed with the end of the previous one.
+		final Random random = new Random(7);
+		final BufferedImage image = new BufferedImage(2048, 2048, BufferedImage.TYPE_INT_RGB);
+		final int[] strip = new int[2048 * 3];
+		for (int i = 0; i < strip.length; ++i)
+		{
+			strip[i] = random.nextInt();
+		}
+		for (int y = 0; y < image.getHeight(); y += 3)
+		{
+			image.setRGB(0, y, 2048, Math.min(3, image.getHeight() - y), strip, 0, 2048);
+		}
+
+		byte[] serial = assertRoundTrip(image, new PngEncoder(6));
+		assertEquals(0, bandTasks.get());
+
+		byte[] parallel = assertRoundTrip(image, encoder(6, 8));
+		assertFalse(Arrays.equals(serial, parallel));
+		assertTrue(parallel.length < serial.length * 1.05);
+
+		// every band but the first is filtered and deflated on the given executor
+		assertEquals(2 * 7, bandTasks.get());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParallelismWithoutExecutor()
+	{
+		new PngEncoder(6, 2, null);
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		final BufferedImage image = synthetic(1920, 1080, BufferedImage.TYPE_INT_RGB, 11);
+		final int iterations = 20;
+		final PngEncoder serial = new PngEncoder();
+		final PngEncoder parallel = new PngEncoder(PngEncoder.DEFAULT_COMPRESSION_LEVEL, Runtime.getRuntime().availableProcessors(), executor);
+
+		for (int warmup = 0; warmup < 5; ++warmup)
+		{
+			ImageIO.write(image, "PNG", new ByteArrayOutputStream());
+			serial.write(image, new ByteArrayOutputStream());
+			parallel.write(image, new ByteArrayOutputStream());
+		}
+
+		long start = System.nanoTime();
+		long size = 0;
+		for (int i = 0; i < iterations; ++i)
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ImageIO.write(image, "PNG", out);
+			size = out.size();
+		}
+		System.out.printf("ImageIO: %.2f ms, %d bytes%n", (System.nanoTime() - start) / 1e6 / iterations, size);
+
+		for (PngEncoder encoder : new PngEncoder[]{serial, parallel})
+		{
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				encoder.write(image, out);
+				size = out.size();
+			}
+			System.out.printf("PngEncoder: %.2f ms, %d bytes%n", (System.nanoTime() - start) / 1e6 / iterations, size);
+		}
+	}
+
+	private PngEncoder encoder(int compressionLevel, int parallelism)
+	{
+		return new PngEncoder(compressionLevel, parallelism, task ->
+		{
+			bandTasks.incrementAndGet();
+			executor.execute(task);
+		});
+	}
+
+	private static byte[] assertRoundTrip(BufferedImage image, PngEncoder encoder) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		encoder.write(image, out);
+		byte[] png = out.toByteArray();
+
+		BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+		assertNotNull(decoded);
+		assertEquals(image.getWidth(), decoded.getWidth());
+		assertEquals(image.getHeight(), decoded.getHeight());
+		assertEquals(image.getColorModel().hasAlpha(), decoded.getColorModel().hasAlpha());
+
+		int[] expected = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+		int[] actual = decoded.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+		assertArrayEquals(expected, actual);
+		return png;
+	}
+
+	/**
+	 * Creates an image with flat areas, gradients and noise, so that every filter type gets used
+	 */
+	private static BufferedImage synthetic(int width, int height, int type, long seed)
+	{
+		final Random random = new Random(seed);
+		final BufferedImage image = new BufferedImage(width, height, type);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				final int argb;
+				if (y < height / 3)
+				{
+					argb = 0xFF000000 | (x * 255 / width) << 16 | (y * 255 / height) << 8 | 0x40;
+				}
+				else if (y < height * 2 / 3)
+				{
+					argb = x < width / 2 ? 0xFF336699 : random.nextInt();
+				}
+				else
+				{
+					argb = (x + y) % 64 << 26 | 0x03FFFFFF & (x * 31 + y * 17) * 0x010101;
+				}
+				image.setRGB(x, y, argb);
+			}
+		}
+		return image;
+	}
+}
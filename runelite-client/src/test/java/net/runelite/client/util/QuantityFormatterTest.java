@@ -24,8 +24,11 @@
  */
 package net.runelite.client.util;
 
+import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import org.junit.Before;
@@ -140,4 +143,60 @@ public class QuantityFormatterTest
 		{
 		}
 	}
+
+	@Test
+	public void formatNumberMatchesNumberFormat()
+	{
+		NumberFormat numberFormat = NumberFormat.getInstance(Locale.ENGLISH);
+		long[] edges = {0, 1, -1, 999, -999, 1000, -1000, 999_999, 1_000_000, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+		for (long n : edges)
+		{
+			assertEquals(numberFormat.format(n), QuantityFormatter.formatNumber(n));
+		}
+
+		Random random = new Random(42);
+		for (int i = 0; i < 100_000; ++i)
+		{
+			// spread the values over all magnitudes
+			long n = random.nextLong() >> random.nextInt(64);
+			assertEquals(numberFormat.format(n), QuantityFormatter.formatNumber(n));
+			assertEquals(numberFormat.format(n / 1000d), QuantityFormatter.formatNumber(n / 1000d));
+		}
+	}
+
+	@Test
+	public void concurrentFormatting() throws InterruptedException
+	{
+		NumberFormat numberFormat = NumberFormat.getInstance(Locale.ENGLISH);
+		String[] expected = new String[1000];
+		for (int i = 0; i < expected.length; ++i)
+		{
+			expected[i] = numberFormat.format(i * 1234.567);
+		}
+
+		AtomicInteger failures = new AtomicInteger();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; ++t)
+		{
+			threads[t] = new Thread(() ->
+			{
+				for (int n = 0; n < 50; ++n)
+				{
+					for (int i = 0; i < expected.length; ++i)
+					{
+						if (!expected[i].equals(QuantityFormatter.formatNumber(i * 1234.567)))
+						{
+							failures.incrementAndGet();
+						}
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		assertEquals(0, failures.get());
+	}
 }
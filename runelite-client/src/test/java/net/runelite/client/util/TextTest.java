@@ -24,11 +24,18 @@
  */
 package net.runelite.client.util;
 
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class TextTest
 {
+	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+	private static final String[] FRAGMENTS = {"<", ">", "<lt>", "<gt>", "<col=ff0000>", "</col>", "<br>", "<img=2>", "a", "Zezima", " ", "\u00A0", "-"};
+
 	@Test
 	public void removeTags()
 	{
@@ -57,6 +64,54 @@ public class TextTest
 		assertEquals("Remove no tags", Text.removeFormattingTags("Remove no tags"));
 	}
 
+	@Test
+	public void removeTagsNoAllocation()
+	{
+		String str = "Remove no tags";
+		assertSame(str, Text.removeTags(str));
+		assertSame(str, Text.removeFormattingTags(str));
+
+		str = "a < b";
+		assertSame(str, Text.removeTags(str));
+		assertSame(str, Text.removeFormattingTags(str));
+	}
+
+	@Test
+	public void removeTagsMatchesRegex()
+	{
+		Random random = new Random(42);
+		for (int i = 0; i < 100_000; ++i)
+		{
+			StringBuilder sb = new StringBuilder();
+			for (int j = random.nextInt(12); j > 0; --j)
+			{
+				sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+			}
+
+			String str = sb.toString();
+			assertEquals(str, TAG_REGEXP.matcher(str).replaceAll(""), Text.removeTags(str));
+			assertEquals(str, regexRemoveFormattingTags(str), Text.removeFormattingTags(str));
+			assertEquals(str, TAG_REGEXP.matcher(str).replaceAll("").replace('\u00A0', ' ').trim().toLowerCase(), Text.standardize(str));
+		}
+	}
+
+	private static String regexRemoveFormattingTags(String str)
+	{
+		StringBuilder sb = new StringBuilder();
+		Matcher matcher = TAG_REGEXP.matcher(str);
+		while (matcher.find())
+		{
+			matcher.appendReplacement(sb, "");
+			String match = matcher.group(0);
+			if (match.equals("<lt>") || match.equals("<gt>"))
+			{
+				sb.append(match);
+			}
+		}
+		matcher.appendTail(sb);
+		return sb.toString();
+	}
+
 	@Test
 	public void toJagexName()
 	{
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal class file reader which reads the name, super class and runtime visible
+ * annotations of a class, without loading the class.
+ */
+class ClassFile
+{
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_FLOAT = 4;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_STRING = 8;
+	private static final int CONSTANT_FIELDREF = 9;
+	private static final int CONSTANT_METHODREF = 10;
+	private static final int CONSTANT_INTERFACE_METHODREF = 11;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+	private static final int CONSTANT_METHOD_TYPE = 16;
+	private static final int CONSTANT_DYNAMIC = 17;
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+	private static final int CONSTANT_MODULE = 19;
+	private static final int CONSTANT_PACKAGE = 20;
+
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+	/**
+	 * An annotation, with element values as Strings (for strings, enum constants and
+	 * class descriptors), Integers (for all primitives), Lists and nested Annotations.
+	 */
+	static class Annotation
+	{
+		final String descriptor;
+		final Map<String, Object> values = new HashMap<>();
+
+		Annotation(String descriptor)
+		{
+			this.descriptor = descriptor;
+		}
+	}
+
+	// internal names, eg. net/runelite/client/plugins/Plugin
+	String name;
+	String superName;
+	List<Annotation> annotations = Collections.emptyList();
+
+	private Object[] constants;
+
+	static ClassFile read(InputStream in) throws IOException
+	{
+		ClassFile classFile = new ClassFile();
+		classFile.parse(new DataInputStream(in));
+		return classFile;
+	}
+
+	Annotation getAnnotation(String descriptor)
+	{
+		for (Annotation annotation : annotations)
+		{
+			if (annotation.descriptor.equals(descriptor))
+			{
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	private void parse(DataInputStream in) throws IOException
+	{
+		if (in.readInt() != 0xCAFEBABE)
+		{
+			throw new IOException("not a class file");
+		}
+
+		in.readUnsignedShort(); // minor version
+		in.readUnsignedShort(); // major version
+
+		int constantCount = in.readUnsignedShort();
+		constants = new Object[constantCount];
+		for (int i = 1; i < constantCount; i++)
+		{
+			int tag = in.readUnsignedByte();
+			switch (tag)
+			{
+				case CONSTANT_UTF8:
+					constants[i] = in.readUTF();
+					break;
+				case CONSTANT_INTEGER:
+					constants[i] = in.readInt();
+					break;
+				case CONSTANT_FLOAT:
+					constants[i] = in.readFloat();
+					break;
+				case CONSTANT_LONG:
+					constants[i] = in.readLong();
+					// longs and doubles take two constant pool entries
+					i++;
+					break;
+				case CONSTANT_DOUBLE:
+					constants[i] = in.readDouble();
+					i++;
+					break;
+				case CONSTANT_CLASS:
+				case CONSTANT_STRING:
+				case CONSTANT_METHOD_TYPE:
+				case CONSTANT_MODULE:
+				case CONSTANT_PACKAGE:
+					// store the index so classes can be resolved to their name later
+					constants[i] = new int[]{in.readUnsignedShort()};
+					break;
+				case CONSTANT_FIELDREF:
+				case CONSTANT_METHODREF:
+				case CONSTANT_INTERFACE_METHODREF:
+				case CONSTANT_NAME_AND_TYPE:
+				case CONSTANT_DYNAMIC:
+				case CONSTANT_INVOKE_DYNAMIC:
+					in.readInt();
+					break;
+				case CONSTANT_METHOD_HANDLE:
+					in.readUnsignedByte();
+					in.readUnsignedShort();
+					break;
+				default:
+					throw new IOException("unknown constant pool tag " + tag);
+			}
+		}
+
+		in.readUnsignedShort(); // access flags
+		name = className(in.readUnsignedShort());
+		int superIndex = in.readUnsignedShort();
+		superName = superIndex == 0 ? null : className(superIndex);
+
+		int interfaceCount = in.readUnsignedShort();
+		skip(in, interfaceCount * 2);
+
+		// fields and methods have the same layout, and only their attributes need skipping
+		for (int member = 0; member < 2; member++)
+		{
+			int count = in.readUnsignedShort();
+			for (int i = 0; i < count; i++)
+			{
+				in.readUnsignedShort(); // access flags
+				in.readUnsignedShort(); // name
+				in.readUnsignedShort(); // descriptor
+				skipAttributes(in);
+			}
+		}
+
+		annotations = readAttributes(in);
+	}
+
+	/**
+	 * Reads an attribute table, returning the annotations from the RuntimeVisibleAnnotations attribute
+	 */
+	private List<Annotation> readAttributes(DataInputStream in) throws IOException
+	{
+		List<Annotation> result = Collections.emptyList();
+		int attributeCount = in.readUnsignedShort();
+		for (int i = 0; i < attributeCount; i++)
+		{
+			String attributeName = utf8(in.readUnsignedShort());
+			int length = in.readInt();
+			if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName))
+			{
+				int annotationCount = in.readUnsignedShort();
+				result = new ArrayList<>(annotationCount);
+				for (int j = 0; j < annotationCount; j++)
+				{
+					result.add(readAnnotation(in));
+				}
+			}
+			else
+			{
+				skip(in, length);
+			}
+		}
+		return result;
+	}
+
+	private static void skipAttributes(DataInputStream in) throws IOException
+	{
+		int attributeCount = in.readUnsignedShort();
+		for (int i = 0; i < attributeCount; i++)
+		{
+			in.readUnsignedShort(); // name
+			skip(in, in.readInt());
+		}
+	}
+
+	private Annotation readAnnotation(DataInputStream in) throws IOException
+	{
+		Annotation annotation = new Annotation(utf8(in.readUnsignedShort()));
+		int pairs = in.readUnsignedShort();
+		for (int i = 0; i < pairs; i++)
+		{
+			String elementName = utf8(in.readUnsignedShort());
+			annotation.values.put(elementName, readElementValue(in));
+		}
+		return annotation;
+	}
+
+	private Object readElementValue(DataInputStream in) throws IOException
+	{
+		int tag = in.readUnsignedByte();
+		switch (tag)
+		{
+			case 'B':
+			case 'C':
+			case 'I':
+			case 'S':
+			case 'Z':
+			case 'D':
+			case 'F':
+			case 'J':
+				return constants[in.readUnsignedShort()];
+			case 's':
+			case 'c':
+				// strings and class descriptors both reference a Utf8 constant
+				return utf8(in.readUnsignedShort());
+			case 'e':
+				in.readUnsignedShort(); // enum type
+				return utf8(in.readUnsignedShort());
+			case '@':
+				return readAnnotation(in);
+			case '[':
+			{
+				int count = in.readUnsignedShort();
+				List<Object> values = new ArrayList<>(count);
+				for (int i = 0; i < count; i++)
+				{
+					values.add(readElementValue(in));
+				}
+				return values;
+			}
+			default:
+				throw new IOException("unknown element value tag " + (char) tag);
+		}
+	}
+
+	private static void skip(DataInputStream in, int length) throws IOException
+	{
+		while (length > 0)
+		{
+			int skipped = in.skipBytes(length);
+			if (skipped <= 0)
+			{
+				throw new EOFException();
+			}
+			length -= skipped;
+		}
+	}
+
+	private String utf8(int index)
+	{
+		return (String) constants[index];
+	}
+
+	private String className(int index)
+	{
+		return utf8(((int[]) constants[index])[0]);
+	}
+}
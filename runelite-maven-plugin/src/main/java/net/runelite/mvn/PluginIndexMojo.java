@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Writes an index of the plugins in the compiled classes, so that the client can load
+ * its plugins without scanning and loading every class on the classpath.
+ * <p>
+ * The index has one line per plugin, the binary name of the plugin class followed by
+ * tab separated key=value pairs for the descriptor fields the client needs before
+ * loading the class, which is currently only whether it is a developer plugin.
+ */
+@Mojo(
+	name = "build-plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+	threadSafe = true
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN = "net/runelite/client/plugins/Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "Lnet/runelite/client/plugins/PluginDescriptor;";
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	@Parameter(defaultValue = "net.runelite.client.plugins", required = true)
+	private String pluginPackage;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	private final Log log = getLog();
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		// the client only looks for plugins in the plugin package, so nothing else needs to be read
+		Path pluginDirectory = classesDirectory.toPath().resolve(pluginPackage.replace('.', '/'));
+		List<Path> classFiles;
+		try (Stream<Path> files = Files.isDirectory(pluginDirectory) ? Files.walk(pluginDirectory) : Stream.empty())
+		{
+			classFiles = files
+				.filter(p -> p.getFileName().toString().endsWith(".class"))
+				// plugins are always top level classes
+				.filter(p -> p.getFileName().toString().indexOf('$') == -1)
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to list classes", ex);
+		}
+
+		List<String> lines = new ArrayList<>();
+		for (Path path : classFiles)
+		{
+			ClassFile classFile;
+			try (InputStream in = Files.newInputStream(path))
+			{
+				classFile = ClassFile.read(in);
+			}
+			catch (IOException ex)
+			{
+				throw new MojoExecutionException("unable to read " + path, ex);
+			}
+
+			ClassFile.Annotation descriptor = classFile.getAnnotation(PLUGIN_DESCRIPTOR);
+			if (descriptor == null)
+			{
+				continue;
+			}
+
+			if (!PLUGIN.equals(classFile.superName))
+			{
+				// the client reports this when loading the plugin
+				log.warn("Class " + classFile.name + " has a plugin descriptor, but is not a plugin");
+				continue;
+			}
+
+			lines.add(indexLine(classFile, descriptor));
+		}
+
+		try
+		{
+			Files.createDirectories(indexFile.toPath().getParent());
+			try (BufferedWriter out = Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8))
+			{
+				for (String line : lines)
+				{
+					out.write(line);
+					out.write('\n');
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to write plugin index", ex);
+		}
+
+		log.info("Indexed " + lines.size() + " plugins");
+	}
+
+	private static String indexLine(ClassFile classFile, ClassFile.Annotation descriptor)
+	{
+		return descriptorToName("L" + classFile.name + ";")
+			+ "\tdeveloperPlugin=" + flag(descriptor, "developerPlugin", false);
+	}
+
+	private static boolean flag(ClassFile.Annotation annotation, String name, boolean defaultValue)
+	{
+		Object value = annotation.values.get(name);
+		// booleans are stored in the constant pool as ints
+		return value == null ? defaultValue : (Integer) value != 0;
+	}
+
+	private static String descriptorToName(String descriptor)
+	{
+		return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+	}
+}